@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.batch.AdaptiveBatchSizer;
+import org.wso2.carbon.esb.connector.snowflake.batch.BatchExecutor;
+import org.wso2.carbon.esb.connector.snowflake.batch.BatchResult;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading parameter sets from a JSON payload, binding them and building JDBC batches for
+ * {@code batchExecute}. The stub driver answers each batch immediately, so the time is spent on the connector side.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBuildingBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private String parameterSets;
+
+    @Setup
+    public void setUp() throws SQLException {
+
+        StringBuilder json = new StringBuilder(rows * 64).append('[');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('[').append(i).append(", \"customer-").append(i % 997).append("\", ")
+                    .append(i * 0.25).append(", ").append(i % 2 == 0).append(", \"2024-03-01T10:15:30\"]");
+        }
+        parameterSets = json.append(']').toString();
+
+        StubDatabase database = new StubDatabase();
+        database.setResponder((sql, parameters) -> StubResult.updateCount(1));
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//benchmark/", new Properties());
+        statement = connection.prepareStatement(
+                "INSERT INTO ORDERS (ID, CUSTOMER, AMOUNT, PRIORITY, CREATED) VALUES (?, ?, ?, ?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public BatchResult execute() throws SQLException, IOException {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(batchSize, batchSize, 1000, batchSize),
+                Long.MAX_VALUE, false);
+        return executor.execute(statement, new StringReader(parameterSets));
+    }
+}
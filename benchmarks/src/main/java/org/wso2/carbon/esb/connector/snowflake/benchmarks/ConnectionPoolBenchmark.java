@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of borrowing a session from the pool and returning it with 1, 8, 64 and 400 threads. With
+ * {@code poolSize} 400 every thread can hold a session, so the numbers show the cost of the pool bookkeeping; with 64
+ * the larger thread counts also wait for sessions, as mediation threads do when the pool is smaller than the worker
+ * pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    @Param({"64", "400"})
+    private int poolSize;
+
+    private SnowflakeConnectionPool pool;
+
+    @Setup
+    public void setUp() {
+
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("benchmark");
+        configuration.setAccountIdentifier("benchmark");
+        configuration.setUser("benchmark");
+        configuration.setMaxActiveConnections(poolSize);
+        configuration.setMaxIdleConnections(poolSize);
+        configuration.setEvictionInterval(0);
+        configuration.setValidationInterval(Long.MAX_VALUE);
+        configuration.setMaxWaitTime(Long.MAX_VALUE);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(new StubDatabase()));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        pool.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PooledConnection borrowAndReturn() throws SQLException {
+
+        return borrowAndReturnOnce();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public PooledConnection borrowAndReturn8Threads() throws SQLException {
+
+        return borrowAndReturnOnce();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public PooledConnection borrowAndReturn64Threads() throws SQLException {
+
+        return borrowAndReturnOnce();
+    }
+
+    @Benchmark
+    @Threads(400)
+    public PooledConnection borrowAndReturn400Threads() throws SQLException {
+
+        return borrowAndReturnOnce();
+    }
+
+    private PooledConnection borrowAndReturnOnce() throws SQLException {
+
+        try (PooledConnection connection = pool.borrow()) {
+            return connection;
+        }
+    }
+}
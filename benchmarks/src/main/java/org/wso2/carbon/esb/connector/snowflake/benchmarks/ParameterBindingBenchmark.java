@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import com.google.gson.JsonArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding a JSON parameter array to a prepared statement, with and without parsing the array first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterBindingBenchmark {
+
+    private static final String PARAMETERS =
+            "[1001, \"OPEN\", 249.99, true, null, \"2024-03-01T10:15:30\", 12345678901234567890, {\"tier\": \"gold\"}]";
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private JsonArray parsed;
+
+    @Setup
+    public void setUp() throws SQLException {
+
+        connection = new StubDriver(new StubDatabase()).connect(StubDriver.URL_PREFIX + "//benchmark/",
+                new Properties());
+        statement = connection.prepareStatement("SELECT * FROM ORDERS WHERE ID = ? AND STATUS = ? AND AMOUNT < ? "
+                + "AND PRIORITY = ? AND NOTE IS ? AND CREATED > ? AND REF = ? AND ATTRIBUTES = ?");
+        parsed = ParameterBinder.parseParameters(PARAMETERS);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public PreparedStatement parseAndBind() throws SQLException {
+
+        ParameterBinder.bind(statement, ParameterBinder.parseParameters(PARAMETERS));
+        return statement;
+    }
+
+    @Benchmark
+    public PreparedStatement bind() throws SQLException {
+
+        ParameterBinder.bind(statement, parsed);
+        return statement;
+    }
+}
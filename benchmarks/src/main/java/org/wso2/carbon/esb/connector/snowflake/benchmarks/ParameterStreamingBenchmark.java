@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.batch.ParameterSetReader;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding the parameter sets of one {@code batchExecute} message, either by parsing the payload into a
+ * JSON tree first or by streaming it through {@link ParameterSetReader}. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per message. Both variants bind to the same stub statement, so the
+ * boxing the stub does to record parameters is common to both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterStreamingBenchmark {
+
+    @Param({"100"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws SQLException {
+
+        StringBuilder json = new StringBuilder(rows * 64).append('[');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('[').append(i % 100).append(", \"customer-").append(i % 997).append("\", ")
+                    .append(i * 0.25).append(", ").append(i % 2 == 0).append(", null]");
+        }
+        payload = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        StubDatabase database = new StubDatabase();
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//benchmark/", new Properties());
+        database.setResponder((sql, parameters) -> StubResult.updateCount(1));
+        statement = connection.prepareStatement(
+                "INSERT INTO ORDERS (ID, CUSTOMER, AMOUNT, PRIORITY, REGION) VALUES (?, ?, ?, ?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+
+        statement.close();
+        connection.close();
+    }
+
+    private Reader open() {
+
+        return new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int tree() throws SQLException {
+
+        int sets = 0;
+        for (JsonElement parameterSet : JsonParser.parseReader(open()).getAsJsonArray()) {
+            JsonArray parameters = parameterSet.getAsJsonArray();
+            for (int i = 0; i < parameters.size(); i++) {
+                ParameterBinder.bind(statement, i + 1, parameters.get(i));
+            }
+            sets++;
+        }
+        return sets;
+    }
+
+    @Benchmark
+    public int streaming() throws SQLException, IOException {
+
+        ParameterSetReader reader = new ParameterSetReader(open());
+        int sets = 0;
+        while (reader.bindNext(statement) >= 0) {
+            sets++;
+        }
+        return sets;
+    }
+}
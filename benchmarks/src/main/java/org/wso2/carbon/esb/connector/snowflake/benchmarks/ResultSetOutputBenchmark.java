@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetCsvWriter;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the output modes of the {@code query} operation: JSON row objects read with a typed getter per column
+ * against CSV read column by column with {@code getString}.
+ * <p>
+ * The result set comes from the in-process stub driver, so the numbers cover the connector side of a read (value
+ * access and serialization) and not the network or Arrow decoding done by the Snowflake driver. The stub keeps its
+ * values boxed, so the objects the Snowflake driver creates for {@code getObject} do not show here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultSetOutputBenchmark {
+
+    private static final String QUERY = "SELECT * FROM ORDERS";
+
+    @Param({"10000"})
+    private int rows;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+
+        List<StubColumn> columns = Arrays.asList(
+                StubColumn.of("ID", Types.BIGINT),
+                StubColumn.of("CUSTOMER", Types.VARCHAR),
+                StubColumn.of("STATUS", Types.VARCHAR),
+                StubColumn.of("AMOUNT", Types.DECIMAL),
+                StubColumn.of("DISCOUNT", Types.DOUBLE),
+                StubColumn.of("PRIORITY", Types.BOOLEAN),
+                StubColumn.of("CREATED", Types.TIMESTAMP));
+        List<Object[]> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(new Object[]{(long) i, "Customer " + (i % 997), i % 3 == 0 ? "OPEN" : "SHIPPED, \"express\"",
+                    BigDecimal.valueOf(i * 31L, 2), i / 7.0, i % 2 == 0, new Timestamp(1700000000000L + i * 1000L)});
+        }
+        StubResult result = StubResult.rows(columns, data);
+        StubDatabase database = new StubDatabase();
+        database.setResponder((sql, parameters) -> result);
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//benchmark/", new Properties());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+
+        connection.close();
+    }
+
+    @Benchmark
+    public long json() throws SQLException, IOException {
+
+        CountingWriter writer = new CountingWriter();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(QUERY)) {
+            ResultSetJsonWriter.write(resultSet, writer);
+        }
+        return writer.getCount();
+    }
+
+    @Benchmark
+    public long csv() throws SQLException, IOException {
+
+        CountingWriter writer = new CountingWriter();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(QUERY)) {
+            ResultSetCsvWriter.write(resultSet, writer, 0);
+        }
+        return writer.getCount();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+import org.wso2.carbon.esb.connector.snowflake.utils.TaskThreads;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to run 1,000 concurrent queries that each take 50 ms on the server. {@code platform} runs them on
+ * 200 platform threads, the default size of the MI worker pool; {@code virtual} runs every query on its own virtual
+ * thread, as the connector does with {@code useVirtualThreads}. On runtimes older than Java 21 {@code virtual} falls
+ * back to one platform thread per query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SlowQueryLoadBenchmark {
+
+    private static final int QUERIES = 1000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long QUERY_LATENCY = 50;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    private SnowflakeConnectionPool pool;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+
+        StubDatabase database = new StubDatabase();
+        database.setExecuteLatencyMillis(QUERY_LATENCY);
+        database.setResponder((sql, parameters) -> StubResult.singleValue("ID", Types.INTEGER, 1));
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("benchmark");
+        configuration.setAccountIdentifier("benchmark");
+        configuration.setUser("benchmark");
+        configuration.setMaxActiveConnections(QUERIES);
+        configuration.setMaxIdleConnections(QUERIES);
+        configuration.setMaxWaitTime(Long.MAX_VALUE);
+        configuration.setEvictionInterval(0);
+        configuration.setValidationInterval(Long.MAX_VALUE);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        executor = "virtual".equals(threads)
+                ? Executors.newFixedThreadPool(QUERIES, TaskThreads.factory("benchmark-virtual", true))
+                : Executors.newFixedThreadPool(PLATFORM_THREADS, TaskThreads.factory("benchmark-platform", false));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        executor.shutdownNow();
+        pool.close();
+    }
+
+    @Benchmark
+    public int thousandSlowQueries() throws Exception {
+
+        List<Future<Integer>> results = new ArrayList<>(QUERIES);
+        for (int i = 0; i < QUERIES; i++) {
+            results.add(executor.submit(() -> {
+                try (PooledConnection connection = pool.borrow();
+                     PreparedStatement statement = connection.prepareStatement("SELECT 1 AS ID");
+                     ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            }));
+        }
+        int sum = 0;
+        for (Future<Integer> result : results) {
+            sum += result.get();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.template.ParameterContext;
+import org.wso2.carbon.esb.connector.snowflake.template.SqlTemplate;
+import org.wso2.carbon.esb.connector.snowflake.template.TemplateCache;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-message cost of binding named parameters: with the template compiled for every message, with the
+ * compiled template taken from the cache, and, as the baseline, binding the same values as a positional array.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBindingBenchmark {
+
+    private static final String TEMPLATE = "SELECT * FROM ORDERS WHERE ID = :orderId AND STATUS = :status "
+            + "AND AMOUNT < :maxAmount AND PRIORITY = :priority AND REGION = :region AND CREATED > :since";
+    private static final String SOURCES = "{\"orderId\": {\"source\": \"$.order.id\", \"type\": \"INTEGER\"}, "
+            + "\"status\": \"$ctx:status\", \"maxAmount\": {\"type\": \"NUMBER\"}, "
+            + "\"region\": \"$.order.customer.region\", \"since\": {\"source\": \"$.since\", \"type\": \"TIMESTAMP\"}}";
+    private static final String VALUES = "{\"maxAmount\": 249.99, \"priority\": true}";
+    private static final String PAYLOAD = "{\"order\": {\"id\": 1001, \"customer\": {\"region\": \"EU\"}}, "
+            + "\"since\": \"2024-03-01T10:15:30\"}";
+    private static final String POSITIONAL_SQL = "SELECT * FROM ORDERS WHERE ID = ? AND STATUS = ? AND AMOUNT < ? "
+            + "AND PRIORITY = ? AND REGION = ? AND CREATED > ?";
+    private static final String POSITIONAL_VALUES = "[1001, \"OPEN\", 249.99, true, \"EU\", \"2024-03-01T10:15:30\"]";
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private TemplateCache cache;
+    private JsonElement payload;
+
+    @Setup
+    public void setUp() throws SQLException {
+
+        connection = new StubDriver(new StubDatabase()).connect(StubDriver.URL_PREFIX + "//benchmark/",
+                new Properties());
+        statement = connection.prepareStatement(POSITIONAL_SQL);
+        cache = new TemplateCache(16);
+        cache.get(TEMPLATE, SOURCES);
+        payload = JsonParser.parseString(PAYLOAD);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public PreparedStatement compileAndBind() throws SQLException {
+
+        return bind(SqlTemplate.compile(TEMPLATE, SOURCES));
+    }
+
+    @Benchmark
+    public PreparedStatement cachedTemplateBind() throws SQLException {
+
+        return bind(cache.get(TEMPLATE, SOURCES));
+    }
+
+    @Benchmark
+    public PreparedStatement positionalBind() throws SQLException {
+
+        ParameterBinder.bind(statement, ParameterBinder.parseParameters(POSITIONAL_VALUES));
+        return statement;
+    }
+
+    private PreparedStatement bind(SqlTemplate template) throws SQLException {
+
+        JsonArray values = template.resolve(new MessageContext(JsonParser.parseString(VALUES).getAsJsonObject(),
+                payload));
+        template.bind(statement, values);
+        return statement;
+    }
+
+    /**
+     * Values of one message. The payload is parsed once up front, as the message builder of the server would.
+     */
+    private static final class MessageContext implements ParameterContext {
+
+        private final JsonObject values;
+        private final JsonElement payload;
+
+        MessageContext(JsonObject values, JsonElement payload) {
+
+            this.values = values;
+            this.payload = payload;
+        }
+
+        @Override
+        public JsonElement getValue(String name) {
+
+            return values.get(name);
+        }
+
+        @Override
+        public JsonElement getPayload() {
+
+            return payload;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+
+            return "OPEN";
+        }
+    }
+}
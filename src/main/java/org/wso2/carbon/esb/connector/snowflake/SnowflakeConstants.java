@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake;
+
+/**
+ * Constants used by the Snowflake connector.
+ */
+public final class SnowflakeConstants {
+
+    public static final String CONNECTOR_NAME = "snowflake";
+    public static final String CONNECTION_NAME = "name";
+
+    // Connection parameters
+    public static final String ACCOUNT_IDENTIFIER = "accountIdentifier";
+    public static final String USER = "user";
+    public static final String PASSWORD = "password";
+    public static final String DATABASE = "database";
+    public static final String SCHEMA = "schema";
+    public static final String WAREHOUSE = "warehouse";
+    public static final String ROLE = "role";
+    public static final String AUTHENTICATOR = "authenticator";
+    public static final String PRIVATE_KEY = "privateKey";
+    public static final String TOKEN_ENDPOINT = "tokenEndpoint";
+    public static final String CLIENT_ID = "clientId";
+    public static final String CLIENT_SECRET = "clientSecret";
+    public static final String REFRESH_TOKEN = "refreshToken";
+    public static final String SCOPE = "scope";
+    public static final String TOKEN_REFRESH_MARGIN = "tokenRefreshMargin";
+    public static final String DRIVER_CLASS = "driverClass";
+
+    // Connection pool parameters
+    public static final String MAX_ACTIVE_CONNECTIONS = "maxActiveConnections";
+    public static final String MIN_IDLE_CONNECTIONS = "minIdleConnections";
+    public static final String MAX_IDLE_CONNECTIONS = "maxIdleConnections";
+    public static final String MAX_WAIT_TIME = "maxWaitTime";
+    public static final String VALIDATION_TIMEOUT = "validationTimeout";
+    public static final String VALIDATION_INTERVAL = "validationInterval";
+    public static final String EVICTION_INTERVAL = "evictionInterval";
+    public static final String MIN_EVICTABLE_IDLE_TIME = "minEvictableIdleTime";
+    public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+    public static final String MAX_OPEN_CURSORS = "maxOpenCursors";
+    public static final String RESULT_CACHE_MAX_BYTES = "resultCacheMaxBytes";
+    public static final String RESULT_CACHE_TTL = "resultCacheTtl";
+    public static final String WARM_UP_CONNECTIONS = "warmUpConnections";
+    public static final String WARM_UP_STATEMENTS = "warmUpStatements";
+    public static final String WARM_UP_TIMEOUT = "warmUpTimeout";
+    public static final String WAREHOUSES = "warehouses";
+    public static final String WAREHOUSE_ROUTING = "warehouseRouting";
+    public static final String USE_VIRTUAL_THREADS = "useVirtualThreads";
+    public static final String HEDGE_PERCENTILE = "hedgePercentile";
+    public static final String HEDGE_MIN_DELAY = "hedgeMinDelay";
+    public static final String HEDGE_MAX_PERCENT = "hedgeMaxPercent";
+    public static final String MAX_CONCURRENT_OPERATIONS = "maxConcurrentOperations";
+    public static final String MAX_QUEUED_OPERATIONS = "maxQueuedOperations";
+    public static final String OPERATION_QUEUE_TIMEOUT = "operationQueueTimeout";
+    public static final String CIRCUIT_BREAKER_FAILURE_RATE = "circuitBreakerFailureRate";
+    public static final String CIRCUIT_BREAKER_SLOW_CALL_TIME = "circuitBreakerSlowCallTime";
+    public static final String CIRCUIT_BREAKER_SLOW_CALL_RATE = "circuitBreakerSlowCallRate";
+    public static final String CIRCUIT_BREAKER_WINDOW = "circuitBreakerWindow";
+    public static final String CIRCUIT_BREAKER_OPEN_TIME = "circuitBreakerOpenTime";
+    public static final String CIRCUIT_BREAKER_PROBES = "circuitBreakerProbes";
+    public static final String REQUEST_TIMEOUT = "requestTimeout";
+    public static final String SCHEMA_CACHE_TTL = "schemaCacheTtl";
+    public static final String SCHEMA_PREFETCH_TABLES = "schemaPrefetchTables";
+
+    // Statement parameters
+    public static final String QUERY = "query";
+    public static final String PARAMETERS = "parameters";
+    public static final String PARAMETER_SOURCES = "parameterSources";
+    public static final String FETCH_SIZE = "fetchSize";
+    public static final String MAX_ROWS = "maxRows";
+    public static final String QUERY_TIMEOUT = "queryTimeout";
+    public static final String OUTPUT_FORMAT = "outputFormat";
+    public static final String STREAM_PAYLOAD = "streamPayload";
+    public static final String USE_RESULT_CACHE = "useResultCache";
+    public static final String CACHE_TTL = "cacheTtl";
+    public static final String SESSION_ROLE = "sessionRole";
+    public static final String SESSION_WAREHOUSE = "sessionWarehouse";
+    public static final String SESSION_DATABASE = "sessionDatabase";
+    public static final String SESSION_SCHEMA = "sessionSchema";
+    public static final String QUERY_TAG = "queryTag";
+    public static final String HEDGE = "hedge";
+
+    // Script parameters
+    public static final String SCRIPT = "script";
+    public static final String STATEMENT_COUNT = "statementCount";
+
+    // Parallel query parameters
+    public static final String QUERIES = "queries";
+    public static final String TIMEOUT = "timeout";
+    public static final String ON_FAILURE = "onFailure";
+    public static final String ON_FAILURE_FAIL = "fail";
+    public static final String ON_FAILURE_PARTIAL = "partial";
+
+    // Asynchronous query parameters
+    public static final String QUERY_ID = "queryId";
+    public static final String OFFSET = "offset";
+    public static final String LIMIT = "limit";
+
+    // Paging parameters
+    public static final String CURSOR = "cursor";
+    public static final String PAGE_SIZE = "pageSize";
+    public static final String CURSOR_TIMEOUT = "cursorTimeout";
+
+    // Bulk load parameters
+    public static final String TABLE = "table";
+    public static final String COLUMNS = "columns";
+    public static final String STAGE = "stage";
+    public static final String CHUNK_SIZE = "chunkSize";
+    public static final String UPLOAD_THREADS = "uploadThreads";
+    public static final String ON_ERROR = "onError";
+
+    // Describe table parameters
+    public static final String REFRESH = "refresh";
+
+    // Batch execute parameters
+    public static final String PARAMETER_SETS = "parameterSets";
+    public static final String MIN_BATCH_SIZE = "minBatchSize";
+    public static final String MAX_BATCH_SIZE = "maxBatchSize";
+    public static final String INITIAL_BATCH_SIZE = "initialBatchSize";
+    public static final String TARGET_BATCH_LATENCY = "targetBatchLatency";
+    public static final String MAX_BATCH_BYTES = "maxBatchBytes";
+    public static final String CONTINUE_ON_ERROR = "continueOnError";
+
+    // Message properties
+    public static final String ROW_COUNT_PROPERTY = "snowflake.rowCount";
+    public static final String ROWS_AFFECTED_PROPERTY = "snowflake.rowsAffected";
+    public static final String STATEMENT_COUNT_PROPERTY = "snowflake.statementCount";
+    public static final String FAILED_QUERIES_PROPERTY = "snowflake.failedQueries";
+    public static final String FAILED_ROWS_PROPERTY = "snowflake.failedRows";
+    public static final String BATCH_STATISTICS_PROPERTY = "snowflake.batchStatistics";
+    public static final String QUERY_ID_PROPERTY = "snowflake.queryId";
+    public static final String QUERY_STATUS_PROPERTY = "snowflake.queryStatus";
+    public static final String HAS_MORE_ROWS_PROPERTY = "snowflake.hasMoreRows";
+    public static final String CURSOR_PROPERTY = "snowflake.cursor";
+    public static final String RESULT_CACHE_HIT_PROPERTY = "snowflake.resultCacheHit";
+    public static final String WARM_UP_REPORT_PROPERTY = "snowflake.warmUpReport";
+    public static final String DEADLINE_PROPERTY = "snowflake.deadline";
+
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final String CSV_CONTENT_TYPE = "text/csv";
+    public static final String TEXT_MESSAGE_TYPE = "text/plain";
+
+    // Authenticators
+    public static final String AUTHENTICATOR_PASSWORD = "snowflake";
+    public static final String AUTHENTICATOR_KEY_PAIR = "snowflake_jwt";
+    public static final String AUTHENTICATOR_OAUTH = "oauth";
+
+    // Output formats
+    public static final String OUTPUT_FORMAT_JSON = "json";
+    public static final String OUTPUT_FORMAT_CSV = "csv";
+
+    // Defaults
+    public static final String DEFAULT_DRIVER_CLASS = "net.snowflake.client.jdbc.SnowflakeDriver";
+    public static final String JDBC_URL_PREFIX = "jdbc:snowflake://";
+    public static final String SNOWFLAKE_HOST_SUFFIX = ".snowflakecomputing.com";
+    public static final int DEFAULT_MAX_ACTIVE_CONNECTIONS = 10;
+    public static final int DEFAULT_MIN_IDLE_CONNECTIONS = 0;
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 10;
+    public static final long DEFAULT_MAX_WAIT_TIME = 30000;
+    public static final int DEFAULT_VALIDATION_TIMEOUT = 5;
+    public static final long DEFAULT_VALIDATION_INTERVAL = 500;
+    public static final long DEFAULT_EVICTION_INTERVAL = 60000;
+    public static final long DEFAULT_MIN_EVICTABLE_IDLE_TIME = 300000;
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 50;
+    public static final int DEFAULT_MAX_OPEN_CURSORS = 100;
+    public static final long DEFAULT_RESULT_CACHE_MAX_BYTES = 0;
+    public static final long DEFAULT_RESULT_CACHE_TTL = 60000;
+    public static final int DEFAULT_WARM_UP_CONNECTIONS = 0;
+    public static final long DEFAULT_WARM_UP_TIMEOUT = 60000;
+    public static final String DEFAULT_WAREHOUSE_ROUTING = "leastInFlight";
+    public static final int DEFAULT_HEDGE_PERCENTILE = 95;
+    public static final long DEFAULT_HEDGE_MIN_DELAY = 100;
+    public static final int DEFAULT_HEDGE_MAX_PERCENT = 10;
+    public static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 0;
+    public static final int DEFAULT_MAX_QUEUED_OPERATIONS = 0;
+    public static final long DEFAULT_OPERATION_QUEUE_TIMEOUT = 1000;
+    public static final int DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE = 0;
+    public static final long DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_TIME = 0;
+    public static final int DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE = 50;
+    public static final int DEFAULT_CIRCUIT_BREAKER_WINDOW = 20;
+    public static final long DEFAULT_CIRCUIT_BREAKER_OPEN_TIME = 30000;
+    public static final int DEFAULT_CIRCUIT_BREAKER_PROBES = 3;
+    public static final long DEFAULT_REQUEST_TIMEOUT = 0;
+    public static final long DEFAULT_SCHEMA_CACHE_TTL = 0;
+    public static final int SCHEMA_CACHE_SIZE = 256;
+    public static final long DEFAULT_TOKEN_REFRESH_MARGIN = 300000;
+    public static final long KEY_PAIR_JWT_LIFETIME = 3600000;
+    public static final int TEMPLATE_CACHE_SIZE = 512;
+    public static final int DEFAULT_FETCH_SIZE = 0;
+    public static final int DEFAULT_MAX_ROWS = 0;
+    public static final int DEFAULT_QUERY_TIMEOUT = 0;
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+    public static final long DEFAULT_CURSOR_TIMEOUT = 300000;
+    public static final int DEFAULT_CHUNK_SIZE_MB = 100;
+    public static final int DEFAULT_UPLOAD_THREADS = 4;
+    public static final String DEFAULT_ON_ERROR = "ABORT_STATEMENT";
+    public static final int DEFAULT_MIN_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 10000;
+    public static final int DEFAULT_INITIAL_BATCH_SIZE = 1000;
+    public static final long DEFAULT_TARGET_BATCH_LATENCY = 1000;
+    public static final long DEFAULT_MAX_BATCH_BYTES = 8L * 1024 * 1024;
+
+    private SnowflakeConstants() {
+
+    }
+}
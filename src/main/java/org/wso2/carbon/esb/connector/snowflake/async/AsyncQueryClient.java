@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.async;
+
+import net.snowflake.client.core.QueryStatus;
+import net.snowflake.client.jdbc.SnowflakeConnection;
+import net.snowflake.client.jdbc.SnowflakePreparedStatement;
+import net.snowflake.client.jdbc.SnowflakeResultSet;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Submits queries for asynchronous execution and fetches their results by query ID.
+ * <p>
+ * An asynchronous query keeps running in Snowflake after the session that submitted it is returned to the pool. Its
+ * result can be fetched from any session of the same user while Snowflake retains it, so neither call holds a
+ * session or a mediation thread while the warehouse is busy.
+ */
+public final class AsyncQueryClient {
+
+    private static final String CANCEL_QUERY = "SELECT SYSTEM$CANCEL_QUERY(?)";
+    private static final Pattern QUERY_ID = Pattern.compile("[0-9A-Fa-f-]+");
+    private static final long FIRST_POLL_INTERVAL = 5;
+    private static final long MAX_POLL_INTERVAL = 500;
+
+    private AsyncQueryClient() {
+
+    }
+
+    /**
+     * Submits the prepared statement with its bound parameters and returns without waiting for it to run.
+     *
+     * @param statement statement of a Snowflake session
+     * @return the Snowflake query ID
+     */
+    public static String submit(PreparedStatement statement) throws SQLException {
+
+        try (ResultSet resultSet = statement.unwrap(SnowflakePreparedStatement.class).executeAsyncQuery()) {
+            return resultSet.unwrap(SnowflakeResultSet.class).getQueryID();
+        }
+    }
+
+    /**
+     * @param queryId value to check
+     * @return whether the value has the form of a Snowflake query ID, and so can be embedded in SQL
+     */
+    public static boolean isQueryId(String queryId) {
+
+        return queryId != null && QUERY_ID.matcher(queryId).matches();
+    }
+
+    /**
+     * Builds the statement that reads a page of the result of a completed query from the result cache with
+     * {@code RESULT_SCAN}. Snowflake skips the rows before the offset, so they are not downloaded and dropped.
+     *
+     * @param queryId ID of the query, checked with {@link #isQueryId(String)}
+     * @param offset  number of rows to skip
+     * @param limit   maximum number of rows to read, or 0 for all remaining rows
+     * @return the SQL statement
+     */
+    public static String resultScan(String queryId, long offset, long limit) {
+
+        if (!isQueryId(queryId)) {
+            throw new IllegalArgumentException("Invalid query ID '" + queryId + "'");
+        }
+        return "SELECT * FROM TABLE(RESULT_SCAN('" + queryId + "')) LIMIT " + (limit > 0 ? String.valueOf(limit)
+                : "NULL") + " OFFSET " + offset;
+    }
+
+    /**
+     * Checks the status of a query and, once it succeeded, writes a page of its rows as a JSON array. Nothing is
+     * written while the query is still running or if it failed. A page after the first is read with
+     * {@link #resultScan(String, long, long)}, so fetching it does not read the rows before it.
+     *
+     * @param connection Snowflake session of the user that submitted the query
+     * @param queryId    ID returned by {@link #submit(PreparedStatement)}
+     * @param offset     number of rows to skip
+     * @param limit      maximum number of rows to write, or 0 for all remaining rows
+     * @param writer     destination of the rows
+     * @return the status of the query and the size of the page
+     */
+    public static AsyncQueryResult fetch(Connection connection, String queryId, long offset, long limit,
+                                         Writer writer) throws SQLException, IOException {
+
+        if (!isQueryId(queryId)) {
+            throw new SQLException("Invalid query ID '" + queryId + "'", "22023");
+        }
+        QueryStatus status;
+        try (ResultSet resultSet = connection.unwrap(SnowflakeConnection.class).createResultSet(queryId)) {
+            SnowflakeResultSet snowflakeResultSet = resultSet.unwrap(SnowflakeResultSet.class);
+            status = snowflakeResultSet.getStatus();
+            if (QueryStatus.isStillRunning(status)) {
+                return AsyncQueryResult.running(queryId, status.name());
+            }
+            if (QueryStatus.isAnError(status)) {
+                return AsyncQueryResult.failed(queryId, status.name(), snowflakeResultSet.getQueryErrorMessage());
+            }
+            if (offset <= 0) {
+                return writePage(queryId, status, resultSet, limit, writer);
+            }
+        }
+        // one row more than the page tells whether another page follows
+        try (Statement statement = connection.createStatement();
+             ResultSet page = statement.executeQuery(resultScan(queryId, offset, limit > 0 ? limit + 1 : 0))) {
+            return writePage(queryId, status, page, limit, writer);
+        }
+    }
+
+    private static AsyncQueryResult writePage(String queryId, QueryStatus status, ResultSet resultSet, long limit,
+                                              Writer writer) throws SQLException, IOException {
+
+        long rowCount = ResultSetJsonWriter.write(resultSet, writer, limit);
+        boolean hasMoreRows = limit > 0 && rowCount == limit && resultSet.next();
+        return AsyncQueryResult.succeeded(queryId, status.name(), rowCount, hasMoreRows);
+    }
+
+    /**
+     * Waits for a query to complete, polling its status with a growing interval, and opens its result.
+     *
+     * @param connection Snowflake session of the user that submitted the query
+     * @param queryId    ID returned by {@link #submit(PreparedStatement)}
+     * @return the result of the query; the caller must close it
+     * @throws SQLException if the query failed or was cancelled, or the waiting thread was interrupted
+     */
+    public static ResultSet await(Connection connection, String queryId) throws SQLException {
+
+        long interval = FIRST_POLL_INTERVAL;
+        while (true) {
+            ResultSet resultSet = connection.unwrap(SnowflakeConnection.class).createResultSet(queryId);
+            SnowflakeResultSet snowflakeResultSet = resultSet.unwrap(SnowflakeResultSet.class);
+            QueryStatus status = snowflakeResultSet.getStatus();
+            if (!QueryStatus.isStillRunning(status)) {
+                if (QueryStatus.isAnError(status)) {
+                    String message = snowflakeResultSet.getQueryErrorMessage();
+                    resultSet.close();
+                    throw new SQLException("Query " + queryId + " ended with status " + status.name() + ": "
+                            + message);
+                }
+                return resultSet;
+            }
+            resultSet.close();
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for query " + queryId, e);
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL);
+        }
+    }
+
+    /**
+     * Asks Snowflake to cancel a query with {@code SYSTEM$CANCEL_QUERY}. Cancelling a query that already completed
+     * has no effect.
+     *
+     * @param connection Snowflake session of the user that submitted the query
+     * @param queryId    ID of the query
+     */
+    public static void cancel(Connection connection, String queryId) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(CANCEL_QUERY)) {
+            statement.setString(1, queryId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.async;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Outcome of looking up an asynchronously submitted query: still running, failed, or a page of its rows.
+ */
+public class AsyncQueryResult {
+
+    private final String queryId;
+    private final String status;
+    private final boolean running;
+    private final String errorMessage;
+    private final long rowCount;
+    private final boolean hasMoreRows;
+
+    private AsyncQueryResult(String queryId, String status, boolean running, String errorMessage, long rowCount,
+                             boolean hasMoreRows) {
+
+        this.queryId = queryId;
+        this.status = status;
+        this.running = running;
+        this.errorMessage = errorMessage;
+        this.rowCount = rowCount;
+        this.hasMoreRows = hasMoreRows;
+    }
+
+    static AsyncQueryResult running(String queryId, String status) {
+
+        return new AsyncQueryResult(queryId, status, true, null, 0, false);
+    }
+
+    static AsyncQueryResult failed(String queryId, String status, String errorMessage) {
+
+        return new AsyncQueryResult(queryId, status, false, errorMessage, 0, false);
+    }
+
+    static AsyncQueryResult succeeded(String queryId, String status, long rowCount, boolean hasMoreRows) {
+
+        return new AsyncQueryResult(queryId, status, false, null, rowCount, hasMoreRows);
+    }
+
+    public String getQueryId() {
+
+        return queryId;
+    }
+
+    /**
+     * @return the Snowflake query status, e.g. {@code RUNNING}, {@code QUEUED}, {@code SUCCESS} or
+     * {@code FAILED_WITH_ERROR}
+     */
+    public String getStatus() {
+
+        return status;
+    }
+
+    public boolean isRunning() {
+
+        return running;
+    }
+
+    public boolean isFailed() {
+
+        return errorMessage != null;
+    }
+
+    public String getErrorMessage() {
+
+        return errorMessage;
+    }
+
+    /**
+     * @return the number of rows written for the requested page
+     */
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    /**
+     * @return whether the result has rows beyond the requested page
+     */
+    public boolean hasMoreRows() {
+
+        return hasMoreRows;
+    }
+
+    /**
+     * @return the query ID and status, plus the error message of a failed query
+     */
+    public JsonObject toJson() {
+
+        JsonObject json = new JsonObject();
+        json.addProperty("queryId", queryId);
+        json.addProperty("status", status);
+        if (errorMessage != null) {
+            json.addProperty("error", errorMessage);
+        }
+        return json;
+    }
+}
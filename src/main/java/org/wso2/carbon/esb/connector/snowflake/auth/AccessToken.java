@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.auth;
+
+/**
+ * Bearer credential with the time it stops being accepted.
+ */
+public class AccessToken {
+
+    private final String value;
+    private final long expiryTime;
+
+    /**
+     * @param value      token value
+     * @param expiryTime expiry time in epoch milliseconds, {@link Long#MAX_VALUE} if the token does not expire
+     */
+    public AccessToken(String value, long expiryTime) {
+
+        this.value = value;
+        this.expiryTime = expiryTime;
+    }
+
+    public String getValue() {
+
+        return value;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    public boolean isExpired(long now) {
+
+        return now >= expiryTime;
+    }
+
+    @Override
+    public String toString() {
+
+        // never log the token value
+        return "AccessToken[expiryTime=" + expiryTime + "]";
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.auth;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches the token of a {@link TokenSource} and renews it in the background before it expires, so that a login never
+ * waits for a token to be signed or requested. The first token is requested as soon as the manager is created.
+ * <p>
+ * A token is renewed {@code refreshMargin} milliseconds before it expires, or half way through its remaining lifetime
+ * if that is shorter. When renewal fails it is retried, and the cached token is used for as long as it is valid; only
+ * once it has expired does {@link #getToken()} fetch a token itself.
+ */
+public class CredentialManager implements TokenSource, Closeable {
+
+    private static final Log log = LogFactory.getLog(CredentialManager.class);
+
+    private static final long DEFAULT_RETRY_DELAY = 5000;
+    private static final long MIN_REFRESH_DELAY = 1000;
+
+    private final String name;
+    private final TokenSource source;
+    private final long refreshMargin;
+    private final long retryDelay;
+    // a lock rather than a monitor, so that a virtual thread waiting for a token fetch does not pin its carrier
+    private final ReentrantLock fetchLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile AccessToken token;
+
+    /**
+     * @param name          name used for the refresh thread and in log messages
+     * @param source        source of new tokens
+     * @param refreshMargin milliseconds before expiry at which a token is renewed
+     */
+    public CredentialManager(String name, TokenSource source, long refreshMargin) {
+
+        this(name, source, refreshMargin, DEFAULT_RETRY_DELAY);
+    }
+
+    CredentialManager(String name, TokenSource source, long refreshMargin, long retryDelay) {
+
+        this.name = name;
+        this.source = source;
+        this.refreshMargin = Math.max(0, refreshMargin);
+        this.retryDelay = retryDelay;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snowflake-credential-refresh-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::refresh);
+    }
+
+    /**
+     * @return the cached token, fetching a new one only if there is no valid token
+     * @throws IOException if a token had to be fetched and that failed
+     */
+    public AccessToken getToken() throws IOException {
+
+        AccessToken current = token;
+        if (current != null && !current.isExpired(System.currentTimeMillis())) {
+            return current;
+        }
+        fetchLock.lock();
+        try {
+            current = token;
+            if (current == null || current.isExpired(System.currentTimeMillis())) {
+                current = source.fetch();
+                token = current;
+                refreshes.increment();
+            }
+            return current;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    /**
+     * Same as {@link #getToken()}, so that a manager can supply cached tokens to another source.
+     */
+    @Override
+    public AccessToken fetch() throws IOException {
+
+        return getToken();
+    }
+
+    /**
+     * @return the number of tokens obtained from the source
+     */
+    public long getRefreshCount() {
+
+        return refreshes.sum();
+    }
+
+    /**
+     * @return the number of background renewals that failed
+     */
+    public long getFailureCount() {
+
+        return failures.sum();
+    }
+
+    @Override
+    public void close() {
+
+        scheduler.shutdownNow();
+    }
+
+    private void refresh() {
+
+        long delay;
+        try {
+            AccessToken fresh;
+            fetchLock.lock();
+            try {
+                fresh = source.fetch();
+                token = fresh;
+            } finally {
+                fetchLock.unlock();
+            }
+            refreshes.increment();
+            delay = refreshDelay(fresh);
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            log.warn("Unable to renew the access token of Snowflake connection '" + name + "'. Retrying in "
+                    + retryDelay + " ms.", e);
+            delay = retryDelay;
+        }
+        if (delay < 0) {
+            return;
+        }
+        try {
+            scheduler.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the manager was closed
+        }
+    }
+
+    /**
+     * @return milliseconds until the token is to be renewed, or -1 if it does not expire
+     */
+    private long refreshDelay(AccessToken token) {
+
+        if (token.getExpiryTime() == Long.MAX_VALUE) {
+            return -1;
+        }
+        long remaining = token.getExpiryTime() - System.currentTimeMillis();
+        long delay = remaining > 2 * refreshMargin ? remaining - refreshMargin : remaining / 2;
+        return Math.max(MIN_REFRESH_DELAY, delay);
+    }
+}
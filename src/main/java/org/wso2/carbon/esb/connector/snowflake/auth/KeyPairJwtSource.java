@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.auth;
+
+import com.google.gson.JsonObject;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Signs the JWTs of Snowflake key-pair authentication. The issuer is the qualified user name followed by the SHA-256
+ * fingerprint of the public key registered for the user, and the token is signed with RS256.
+ */
+public class KeyPairJwtSource implements TokenSource {
+
+    private static final String HEADER = Base64.getUrlEncoder().withoutPadding().encodeToString(
+            "{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final String subject;
+    private final String issuer;
+    private final PrivateKey privateKey;
+    private final long lifetime;
+
+    /**
+     * @param accountIdentifier account identifier or host name of the account
+     * @param user              Snowflake user name
+     * @param privateKey        RSA private key of the user
+     * @param lifetime          milliseconds a token is valid; Snowflake accepts at most one hour
+     * @throws IllegalArgumentException if the public key cannot be derived from the private key
+     */
+    public KeyPairJwtSource(String accountIdentifier, String user, PrivateKey privateKey, long lifetime) {
+
+        this.subject = accountName(accountIdentifier) + "." + user.toUpperCase(Locale.ROOT);
+        try {
+            this.issuer = subject + "." + fingerprint(privateKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Unable to compute the public key fingerprint: " + e.getMessage(), e);
+        }
+        this.privateKey = privateKey;
+        this.lifetime = lifetime;
+    }
+
+    public String getIssuer() {
+
+        return issuer;
+    }
+
+    @Override
+    public AccessToken fetch() throws IOException {
+
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiresAt = issuedAt + lifetime / 1000;
+        JsonObject claims = new JsonObject();
+        claims.addProperty("iss", issuer);
+        claims.addProperty("sub", subject);
+        claims.addProperty("iat", issuedAt);
+        claims.addProperty("exp", expiresAt);
+        String content = HEADER + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                claims.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(privateKey);
+            signature.update(content.getBytes(StandardCharsets.US_ASCII));
+            return new AccessToken(content + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    signature.sign()), expiresAt * 1000);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Unable to sign the key-pair JWT of " + subject, e);
+        }
+    }
+
+    /**
+     * Reduces an account identifier to the account name used in JWT claims: the host suffix and any region or cloud
+     * segments of an account locator are dropped and the name is upper-cased.
+     */
+    static String accountName(String accountIdentifier) {
+
+        String account = accountIdentifier;
+        if (account.endsWith(SnowflakeConstants.SNOWFLAKE_HOST_SUFFIX)) {
+            account = account.substring(0, account.length() - SnowflakeConstants.SNOWFLAKE_HOST_SUFFIX.length());
+        }
+        int dot = account.indexOf('.');
+        if (dot > 0) {
+            account = account.substring(0, dot);
+        }
+        return account.toUpperCase(Locale.ROOT);
+    }
+
+    private static String fingerprint(PrivateKey privateKey) throws GeneralSecurityException {
+
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(PrivateKeys.publicKey(privateKey).getEncoded());
+        return "SHA256:" + Base64.getEncoder().encodeToString(digest);
+    }
+}
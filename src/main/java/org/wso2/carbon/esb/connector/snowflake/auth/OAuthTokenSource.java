@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.auth;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Requests OAuth access tokens from a token endpoint with the client credentials, refresh token or JWT bearer grant.
+ * The client is authenticated with HTTP basic authentication when a client ID is configured.
+ */
+public class OAuthTokenSource implements TokenSource {
+
+    private static final String GRANT_CLIENT_CREDENTIALS = "client_credentials";
+    private static final String GRANT_REFRESH_TOKEN = "refresh_token";
+    private static final String GRANT_JWT_BEARER = "urn:ietf:params:oauth:grant-type:jwt-bearer";
+    private static final int TIMEOUT = 30000;
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final String tokenEndpoint;
+    private final String clientId;
+    private final String clientSecret;
+    private final String grantType;
+    private final String scope;
+    private final TokenSource assertionSource;
+    private volatile String refreshToken;
+
+    private OAuthTokenSource(String tokenEndpoint, String clientId, String clientSecret, String grantType,
+                             String scope, String refreshToken, TokenSource assertionSource) {
+
+        this.tokenEndpoint = tokenEndpoint;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.grantType = grantType;
+        this.scope = scope;
+        this.refreshToken = refreshToken;
+        this.assertionSource = assertionSource;
+    }
+
+    public static OAuthTokenSource clientCredentials(String tokenEndpoint, String clientId, String clientSecret,
+                                                     String scope) {
+
+        return new OAuthTokenSource(tokenEndpoint, clientId, clientSecret, GRANT_CLIENT_CREDENTIALS, scope, null,
+                null);
+    }
+
+    /**
+     * Uses a refresh token. A new refresh token returned by the endpoint replaces the current one.
+     */
+    public static OAuthTokenSource refreshToken(String tokenEndpoint, String clientId, String clientSecret,
+                                                String refreshToken, String scope) {
+
+        return new OAuthTokenSource(tokenEndpoint, clientId, clientSecret, GRANT_REFRESH_TOKEN, scope, refreshToken,
+                null);
+    }
+
+    /**
+     * Exchanges a JWT, e.g. a key-pair JWT, for an access token.
+     */
+    public static OAuthTokenSource jwtBearer(String tokenEndpoint, String clientId, String clientSecret,
+                                             TokenSource assertionSource, String scope) {
+
+        return new OAuthTokenSource(tokenEndpoint, clientId, clientSecret, GRANT_JWT_BEARER, scope, null,
+                assertionSource);
+    }
+
+    @Override
+    public AccessToken fetch() throws IOException {
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("grant_type", grantType);
+        if (refreshToken != null) {
+            form.put("refresh_token", refreshToken);
+        }
+        if (assertionSource != null) {
+            form.put("assertion", assertionSource.fetch().getValue());
+        }
+        if (scope != null) {
+            form.put("scope", scope);
+        }
+        byte[] body = encodeForm(form).getBytes(StandardCharsets.UTF_8);
+
+        long requestTime = System.currentTimeMillis();
+        HttpURLConnection connection = (HttpURLConnection) new URL(tokenEndpoint).openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+            connection.setRequestProperty("Accept", "application/json");
+            if (clientId != null) {
+                String credentials = encode(clientId) + ":" + encode(clientSecret == null ? "" : clientSecret);
+                connection.setRequestProperty("Authorization", "Basic " + Base64.getEncoder().encodeToString(
+                        credentials.getBytes(StandardCharsets.UTF_8)));
+            }
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+            int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Token endpoint " + tokenEndpoint + " returned HTTP " + status + ": "
+                        + readError(connection));
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return parseToken(readFully(in), requestTime);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private AccessToken parseToken(String response, long requestTime) throws IOException {
+
+        JsonObject json;
+        try {
+            json = JsonParser.parseString(response).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Token endpoint " + tokenEndpoint + " did not return a JSON object.", e);
+        }
+        JsonElement accessToken = json.get("access_token");
+        if (accessToken == null || !accessToken.isJsonPrimitive()) {
+            throw new IOException("Token endpoint " + tokenEndpoint + " did not return an access token.");
+        }
+        JsonElement rotatedRefreshToken = json.get("refresh_token");
+        if (refreshToken != null && rotatedRefreshToken != null && rotatedRefreshToken.isJsonPrimitive()) {
+            refreshToken = rotatedRefreshToken.getAsString();
+        }
+        JsonElement expiresIn = json.get("expires_in");
+        long expiryTime = expiresIn == null || !expiresIn.isJsonPrimitive() ? Long.MAX_VALUE
+                : requestTime + expiresIn.getAsLong() * 1000;
+        return new AccessToken(accessToken.getAsString(), expiryTime);
+    }
+
+    private static String readError(HttpURLConnection connection) throws IOException {
+
+        InputStream error = connection.getErrorStream();
+        if (error == null) {
+            return connection.getResponseMessage();
+        }
+        try (InputStream in = error) {
+            String text = readFully(in);
+            return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) + "..." : text;
+        }
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String encodeForm(Map<String, String> form) throws IOException {
+
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, String> field : form.entrySet()) {
+            if (encoded.length() > 0) {
+                encoded.append('&');
+            }
+            encoded.append(encode(field.getKey())).append('=').append(encode(field.getValue()));
+        }
+        return encoded.toString();
+    }
+
+    private static String encode(String value) throws IOException {
+
+        return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+    }
+}
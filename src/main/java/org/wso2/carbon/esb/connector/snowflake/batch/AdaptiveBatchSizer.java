@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses the number of rows sent per {@code executeBatch} call.
+ * <p>
+ * After every batch the observed throughput is used to estimate how many rows fit in the target latency. The batch size
+ * moves half way towards that estimate, grows by at most a factor of two per batch and always stays within the
+ * configured window. Instances are not thread safe; use one per batch operation.
+ */
+public class AdaptiveBatchSizer {
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetLatencyNanos;
+    private int batchSize;
+
+    /**
+     * @param minBatchSize        smallest batch size
+     * @param maxBatchSize        largest batch size
+     * @param targetLatencyMillis latency a single batch should take
+     * @param initialBatchSize    batch size of the first batch
+     */
+    public AdaptiveBatchSizer(int minBatchSize, int maxBatchSize, long targetLatencyMillis, int initialBatchSize) {
+
+        if (minBatchSize < 1 || maxBatchSize < minBatchSize) {
+            throw new IllegalArgumentException("Invalid batch size window [" + minBatchSize + ", " + maxBatchSize
+                    + "]");
+        }
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, targetLatencyMillis));
+        this.batchSize = clamp(initialBatchSize);
+    }
+
+    public int getBatchSize() {
+
+        return batchSize;
+    }
+
+    /**
+     * Adjusts the batch size from the outcome of a batch.
+     *
+     * @param rows         number of rows in the batch
+     * @param elapsedNanos time the batch took to execute
+     */
+    public void record(int rows, long elapsedNanos) {
+
+        if (rows <= 0) {
+            return;
+        }
+        double estimate = elapsedNanos <= 0 ? Double.MAX_VALUE : (double) rows * targetLatencyNanos / elapsedNanos;
+        double next = Math.min((batchSize + Math.min(estimate, Integer.MAX_VALUE)) / 2, 2.0 * batchSize);
+        batchSize = clamp((int) Math.round(next));
+    }
+
+    private int clamp(int size) {
+
+        return Math.max(minBatchSize, Math.min(maxBatchSize, size));
+    }
+}
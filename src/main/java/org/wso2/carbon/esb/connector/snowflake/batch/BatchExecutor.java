@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a prepared statement once per parameter set using JDBC batches.
+ * <p>
+ * Parameter sets are bound one at a time by a {@link ParameterSetReader}, straight from the JSON array of arrays, and
+ * added to the current batch. A batch is sent
+ * when it reaches the size chosen by the {@link AdaptiveBatchSizer} or the byte limit, whichever comes first. A batch
+ * that fails is recorded in the result; unless the executor continues on error, no further batches are sent after it.
+ */
+public class BatchExecutor {
+
+    private final AdaptiveBatchSizer sizer;
+    private final long maxBatchBytes;
+    private final boolean continueOnError;
+
+    /**
+     * @param sizer           chooses the number of rows per batch
+     * @param maxBatchBytes   approximate size of the bound values after which a batch is sent regardless of its size
+     * @param continueOnError whether to keep sending batches after one failed
+     */
+    public BatchExecutor(AdaptiveBatchSizer sizer, long maxBatchBytes, boolean continueOnError) {
+
+        this.sizer = sizer;
+        this.maxBatchBytes = maxBatchBytes;
+        this.continueOnError = continueOnError;
+    }
+
+    /**
+     * Executes the statement for every parameter set of the array.
+     *
+     * @param statement     statement to execute
+     * @param parameterSets stream of a JSON array of parameter arrays
+     * @return per-batch statistics
+     * @throws SQLException             if the statement failed other than through a batch update error
+     * @throws IllegalArgumentException if the stream is not a JSON array of arrays
+     */
+    public BatchResult execute(PreparedStatement statement, Reader parameterSets)
+            throws SQLException, IOException {
+
+        return execute(statement, parameterSets, new BatchResult());
+    }
+
+    /**
+     * Executes the statement for every parameter set of the array, recording the batches in the given result. When
+     * this throws, the result still holds the batches sent before the failure, which may have been committed.
+     *
+     * @param statement     statement to execute
+     * @param parameterSets stream of a JSON array of parameter arrays
+     * @param result        receives the statistics of every batch sent
+     * @return the result
+     * @throws SQLException             if the statement failed other than through a batch update error
+     * @throws IllegalArgumentException if the stream is not a JSON array of arrays
+     */
+    public BatchResult execute(PreparedStatement statement, Reader parameterSets, BatchResult result)
+            throws SQLException, IOException {
+
+        ParameterSetReader reader = new ParameterSetReader(parameterSets);
+        int pending = 0;
+        long pendingBytes = 0;
+        long size;
+        while ((size = reader.bindNext(statement)) >= 0) {
+            statement.addBatch();
+            pending++;
+            pendingBytes += size;
+            if (pending >= sizer.getBatchSize() || pendingBytes >= maxBatchBytes) {
+                if (!flush(statement, result, pending, pendingBytes)) {
+                    return result;
+                }
+                pending = 0;
+                pendingBytes = 0;
+            }
+        }
+        if (pending > 0) {
+            flush(statement, result, pending, pendingBytes);
+        }
+        return result;
+    }
+
+    public int getBatchSize() {
+
+        return sizer.getBatchSize();
+    }
+
+    /**
+     * Sends the pending batch.
+     *
+     * @return whether further batches should be sent
+     */
+    private boolean flush(PreparedStatement statement, BatchResult result, int size, long bytes)
+            throws SQLException {
+
+        int index = result.getBatches().size() + 1;
+        long start = System.nanoTime();
+        try {
+            int[] counts = statement.executeBatch();
+            long elapsed = System.nanoTime() - start;
+            sizer.record(size, elapsed);
+            result.add(new BatchResult.Batch(index, size, bytes, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    rowsAffected(counts), countFailures(counts, size), null));
+            return true;
+        } catch (BatchUpdateException e) {
+            statement.clearBatch();
+            int[] counts = e.getUpdateCounts() == null ? new int[0] : e.getUpdateCounts();
+            result.add(new BatchResult.Batch(index, size, bytes,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), rowsAffected(counts),
+                    countFailures(counts, size), e.getMessage()));
+            return continueOnError;
+        } catch (SQLException e) {
+            // the driver did not report per-row results, so none of the rows of the batch is known to be applied
+            result.add(new BatchResult.Batch(index, size, bytes,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), 0, size, e.getMessage()));
+            throw e;
+        }
+    }
+
+    private static long rowsAffected(int[] counts) {
+
+        long rows = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                rows += count;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Counts the rows reported as failed plus the rows the driver stopped before processing.
+     */
+    private static int countFailures(int[] counts, int size) {
+
+        int failed = Math.max(0, size - counts.length);
+        for (int count : counts) {
+            if (count == Statement.EXECUTE_FAILED) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statistics of a batch operation and of each batch it executed.
+ */
+public class BatchResult {
+
+    /**
+     * Statistics of a single {@code executeBatch} call.
+     */
+    public static class Batch {
+
+        private final int index;
+        private final int size;
+        private final long bytes;
+        private final long elapsedMillis;
+        private final long rowsAffected;
+        private final int failedRows;
+        private final String error;
+
+        Batch(int index, int size, long bytes, long elapsedMillis, long rowsAffected, int failedRows, String error) {
+
+            this.index = index;
+            this.size = size;
+            this.bytes = bytes;
+            this.elapsedMillis = elapsedMillis;
+            this.rowsAffected = rowsAffected;
+            this.failedRows = failedRows;
+            this.error = error;
+        }
+
+        public int getIndex() {
+
+            return index;
+        }
+
+        public int getSize() {
+
+            return size;
+        }
+
+        public long getBytes() {
+
+            return bytes;
+        }
+
+        public long getElapsedMillis() {
+
+            return elapsedMillis;
+        }
+
+        public long getRowsAffected() {
+
+            return rowsAffected;
+        }
+
+        public int getFailedRows() {
+
+            return failedRows;
+        }
+
+        public String getError() {
+
+            return error;
+        }
+
+        public JsonObject toJson() {
+
+            JsonObject json = new JsonObject();
+            json.addProperty("batch", index);
+            json.addProperty("size", size);
+            json.addProperty("bytes", bytes);
+            json.addProperty("elapsedMillis", elapsedMillis);
+            json.addProperty("rowsAffected", rowsAffected);
+            json.addProperty("failedRows", failedRows);
+            if (error != null) {
+                json.addProperty("error", error);
+            }
+            return json;
+        }
+    }
+
+    private final List<Batch> batches = new ArrayList<>();
+    private long rowsAffected;
+    private long rowCount;
+    private long failedRows;
+
+    void add(Batch batch) {
+
+        batches.add(batch);
+        rowCount += batch.size;
+        rowsAffected += batch.rowsAffected;
+        failedRows += batch.failedRows;
+    }
+
+    public List<Batch> getBatches() {
+
+        return Collections.unmodifiableList(batches);
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    public long getRowsAffected() {
+
+        return rowsAffected;
+    }
+
+    public long getFailedRows() {
+
+        return failedRows;
+    }
+
+    public boolean hasFailures() {
+
+        return failedRows > 0;
+    }
+
+    public JsonArray batchesToJson() {
+
+        JsonArray json = new JsonArray();
+        for (Batch batch : batches) {
+            json.add(batch.toJson());
+        }
+        return json;
+    }
+
+    public JsonObject toJson() {
+
+        JsonObject json = new JsonObject();
+        json.addProperty("batches", batches.size());
+        json.addProperty("rowCount", rowCount);
+        json.addProperty("rowsAffected", rowsAffected);
+        json.addProperty("failedRows", failedRows);
+        return json;
+    }
+}
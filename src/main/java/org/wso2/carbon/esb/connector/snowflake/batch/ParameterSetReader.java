@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Pull parser for a JSON array of parameter arrays that binds every value straight from the character stream to a
+ * prepared statement with its typed setter, the same way {@link ParameterBinder} binds JSON values: booleans with
+ * {@code setBoolean}, integers with {@code setLong}, other numbers with {@code setBigDecimal}, strings with
+ * {@code setString}, {@code null} as SQL {@code NULL}, and objects and arrays as compact JSON text.
+ * <p>
+ * No JSON tree is built and values are not boxed. Integers, booleans and {@code null} are bound without allocating;
+ * strings and decimals only allocate the {@code String} or {@code BigDecimal} the setter takes. The character buffers
+ * are reused for the whole stream.
+ */
+public class ParameterSetReader {
+
+    static final int FIXED_VALUE_SIZE = 8;
+
+    private static final int BUFFER_SIZE = 2048;
+    private static final long MAX_SAFE_DIVIDEND = Long.MAX_VALUE / 10;
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder text = new StringBuilder();
+    private char[] number = new char[32];
+    private int position;
+    private int limit;
+    private boolean started;
+    private boolean first = true;
+    private boolean finished;
+
+    /**
+     * @param reader stream of a JSON array of arrays, e.g. {@code [[1, "OPEN"], [2, "SHIPPED"]]}
+     */
+    public ParameterSetReader(Reader reader) {
+
+        this.reader = reader;
+    }
+
+    /**
+     * Binds the values of the next parameter set to the parameters of the statement, in order.
+     *
+     * @param statement statement to bind
+     * @return the approximate size of the bound values in characters, or -1 if there are no more parameter sets
+     * @throws IllegalArgumentException if the stream is not a JSON array of arrays
+     */
+    public long bindNext(PreparedStatement statement) throws SQLException, IOException {
+
+        if (finished) {
+            return -1;
+        }
+        if (!started) {
+            expect('[', "Statement parameter sets must be a JSON array");
+            started = true;
+        }
+        char c = nextNonWhitespace();
+        if (c == ']') {
+            finished = true;
+            if (peekNonWhitespace() >= 0) {
+                throw malformed("Unexpected content after the parameter sets");
+            }
+            return -1;
+        }
+        if (!first) {
+            if (c != ',') {
+                throw malformed("Expected ',' or ']' between parameter sets");
+            }
+            c = nextNonWhitespace();
+        }
+        first = false;
+        if (c != '[') {
+            throw new IllegalArgumentException("Each parameter set must be a JSON array.");
+        }
+        long size = 0;
+        int index = 1;
+        c = nextNonWhitespace();
+        if (c == ']') {
+            return 0;
+        }
+        while (true) {
+            size += bindValue(statement, index++, c);
+            c = nextNonWhitespace();
+            if (c == ']') {
+                return size;
+            }
+            if (c != ',') {
+                throw malformed("Expected ',' or ']' in a parameter set");
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    private long bindValue(PreparedStatement statement, int index, char c) throws SQLException, IOException {
+
+        switch (c) {
+            case 'n':
+                expectLiteral("ull");
+                statement.setNull(index, Types.VARCHAR);
+                return FIXED_VALUE_SIZE;
+            case 't':
+                expectLiteral("rue");
+                statement.setBoolean(index, true);
+                return FIXED_VALUE_SIZE;
+            case 'f':
+                expectLiteral("alse");
+                statement.setBoolean(index, false);
+                return FIXED_VALUE_SIZE;
+            case '"':
+                String value = readString();
+                statement.setString(index, value);
+                return value.length();
+            case '{':
+            case '[':
+                text.setLength(0);
+                text.append(c);
+                copyStructure(c);
+                statement.setString(index, text.toString());
+                return text.length();
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    bindNumber(statement, index, c);
+                    return FIXED_VALUE_SIZE;
+                }
+                throw malformed("Unexpected character '" + c + "'");
+        }
+    }
+
+    private void bindNumber(PreparedStatement statement, int index, char first) throws SQLException, IOException {
+
+        int length = 0;
+        boolean negative = first == '-';
+        boolean integral = true;
+        long value = 0;
+        char c = first;
+        while (true) {
+            if (length == number.length) {
+                char[] grown = new char[length * 2];
+                System.arraycopy(number, 0, grown, 0, length);
+                number = grown;
+            }
+            number[length++] = c;
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (value > MAX_SAFE_DIVIDEND || (value == MAX_SAFE_DIVIDEND && digit > (negative ? 8 : 7))) {
+                    integral = false;
+                } else {
+                    value = value * 10 + digit;
+                }
+            } else if (c != '-' || length > 1) {
+                integral = false;
+            }
+            int next = peek();
+            if (next < 0 || !isNumberChar((char) next)) {
+                break;
+            }
+            c = (char) next;
+            position++;
+        }
+        if (integral && length > (negative ? 1 : 0)) {
+            statement.setLong(index, negative ? -value : value);
+            return;
+        }
+        BigDecimal decimal;
+        try {
+            decimal = new BigDecimal(number, 0, length);
+        } catch (NumberFormatException e) {
+            throw malformed("Invalid number '" + new String(number, 0, length) + "'");
+        }
+        if (decimal.scale() <= 0 && decimal.compareTo(MIN_LONG) >= 0 && decimal.compareTo(MAX_LONG) <= 0) {
+            statement.setLong(index, decimal.longValue());
+        } else {
+            statement.setBigDecimal(index, decimal);
+        }
+    }
+
+    private static boolean isNumberChar(char c) {
+
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    /**
+     * Reads a string whose opening quote has been consumed. A string without escapes that lies within the buffer is
+     * created from the buffer directly.
+     */
+    private String readString() throws IOException {
+
+        int start = position;
+        while (position < limit) {
+            char c = buffer[position++];
+            if (c == '"') {
+                return new String(buffer, start, position - 1 - start);
+            }
+            if (c == '\\') {
+                position--;
+                break;
+            }
+        }
+        text.setLength(0);
+        text.append(buffer, start, position - start);
+        appendStringTail();
+        return text.toString();
+    }
+
+    /**
+     * Appends the rest of a string, decoding escapes, up to and excluding its closing quote.
+     */
+    private void appendStringTail() throws IOException {
+
+        while (true) {
+            char c = next("Unterminated string");
+            if (c == '"') {
+                return;
+            }
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+            char escaped = next("Unterminated string");
+            switch (escaped) {
+                case 'b':
+                    text.append('\b');
+                    break;
+                case 'f':
+                    text.append('\f');
+                    break;
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next("Unterminated escape"), 16);
+                        if (digit < 0) {
+                            throw malformed("Invalid unicode escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    text.append((char) code);
+                    break;
+                default:
+                    text.append(escaped);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Copies an object or array whose opening bracket has been consumed into {@link #text}, without the whitespace
+     * between tokens.
+     */
+    private void copyStructure(char open) throws IOException {
+
+        int depth = 1;
+        while (depth > 0) {
+            char c = next("Unterminated " + (open == '{' ? "object" : "array"));
+            if (c == '"') {
+                text.append(c);
+                while (true) {
+                    char s = next("Unterminated string");
+                    text.append(s);
+                    if (s == '\\') {
+                        text.append(next("Unterminated string"));
+                    } else if (s == '"') {
+                        break;
+                    }
+                }
+            } else if (!isWhitespace(c)) {
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                text.append(c);
+            }
+        }
+    }
+
+    private void expect(char expected, String message) throws IOException {
+
+        if (nextNonWhitespace() != expected) {
+            throw new IllegalArgumentException(message + ".");
+        }
+    }
+
+    private void expectLiteral(String rest) throws IOException {
+
+        for (int i = 0; i < rest.length(); i++) {
+            if (next("Unexpected end of the parameter sets") != rest.charAt(i)) {
+                throw malformed("Invalid literal");
+            }
+        }
+    }
+
+    private char nextNonWhitespace() throws IOException {
+
+        while (true) {
+            char c = next("Unexpected end of the parameter sets");
+            if (!isWhitespace(c)) {
+                return c;
+            }
+        }
+    }
+
+    private int peekNonWhitespace() throws IOException {
+
+        while (true) {
+            int c = peek();
+            if (c < 0 || !isWhitespace((char) c)) {
+                return c;
+            }
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private char next(String endMessage) throws IOException {
+
+        if (position == limit && !fill()) {
+            throw malformed(endMessage);
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private static IllegalArgumentException malformed(String message) {
+
+        return new IllegalArgumentException("Statement parameter sets are not valid JSON: " + message + ".");
+    }
+}
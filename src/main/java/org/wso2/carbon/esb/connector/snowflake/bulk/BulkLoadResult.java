@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Outcome of a bulk load.
+ */
+public class BulkLoadResult {
+
+    private final long recordCount;
+    private final int fileCount;
+    private final long rowsLoaded;
+    private final long errorsSeen;
+
+    public BulkLoadResult(long recordCount, int fileCount, long rowsLoaded, long errorsSeen) {
+
+        this.recordCount = recordCount;
+        this.fileCount = fileCount;
+        this.rowsLoaded = rowsLoaded;
+        this.errorsSeen = errorsSeen;
+    }
+
+    /**
+     * @return number of records read from the input
+     */
+    public long getRecordCount() {
+
+        return recordCount;
+    }
+
+    /**
+     * @return number of files staged and copied
+     */
+    public int getFileCount() {
+
+        return fileCount;
+    }
+
+    /**
+     * @return number of rows {@code COPY INTO} reported as loaded
+     */
+    public long getRowsLoaded() {
+
+        return rowsLoaded;
+    }
+
+    /**
+     * @return number of errors {@code COPY INTO} reported
+     */
+    public long getErrorsSeen() {
+
+        return errorsSeen;
+    }
+
+    public JsonObject toJson() {
+
+        JsonObject json = new JsonObject();
+        json.addProperty("recordCount", recordCount);
+        json.addProperty("fileCount", fileCount);
+        json.addProperty("rowsLoaded", rowsLoaded);
+        json.addProperty("errorsSeen", errorsSeen);
+        return json;
+    }
+}
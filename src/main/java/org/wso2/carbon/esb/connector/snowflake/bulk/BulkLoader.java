@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.cache.TableSchemaCache;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.utils.SqlIdentifiers;
+import org.wso2.carbon.esb.connector.snowflake.utils.TaskThreads;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Loads a JSON array of records into a table through a stage.
+ * <p>
+ * Records are streamed from the input into gzip compressed CSV chunks on local disk. Each completed chunk is uploaded
+ * to the stage by a pool of upload threads while the following chunks are still being written. Once every chunk is
+ * staged a single {@code COPY INTO} loads them all and purges them from the stage.
+ */
+public class BulkLoader {
+
+    private static final Log log = LogFactory.getLog(BulkLoader.class);
+    private static final long UPLOAD_TERMINATION_TIMEOUT = 30;
+
+    private final SnowflakeConnectionPool pool;
+    private final StageClient stageClient;
+    private final String table;
+    private final String stage;
+    private final List<String> columns;
+    private final long chunkSize;
+    private final int uploadThreads;
+    private final String onError;
+    private final ThreadFactory threadFactory;
+    private TableSchemaCache schemaCache;
+
+    public BulkLoader(SnowflakeConnectionPool pool, StageClient stageClient, String table, String stage,
+                      List<String> columns, long chunkSize, int uploadThreads, String onError) {
+
+        this(pool, stageClient, table, stage, columns, chunkSize, uploadThreads, onError,
+                TaskThreads.factory("snowflake-bulk-upload-" + pool.getName(), false));
+    }
+
+    /**
+     * @param pool          session pool used to run {@code COPY INTO}
+     * @param stageClient   client uploading chunks to the stage
+     * @param table         target table
+     * @param stage         stage reference the stage client uploads to, e.g. {@code @%ORDERS}
+     * @param columns       target columns; if empty the keys of the first record are used
+     * @param chunkSize     compressed chunk size in bytes
+     * @param uploadThreads number of concurrent uploads
+     * @param onError       {@code ON_ERROR} option of {@code COPY INTO}
+     * @param threadFactory factory of the upload threads
+     * @throws IllegalArgumentException if the table, stage, a column or the {@code ON_ERROR} option is invalid
+     */
+    public BulkLoader(SnowflakeConnectionPool pool, StageClient stageClient, String table, String stage,
+                      List<String> columns, long chunkSize, int uploadThreads, String onError,
+                      ThreadFactory threadFactory) {
+
+        for (String column : columns) {
+            SqlIdentifiers.requireName("column", column);
+        }
+        this.pool = pool;
+        this.stageClient = stageClient;
+        this.table = SqlIdentifiers.requireQualifiedName("table", table);
+        this.stage = SqlIdentifiers.requireStage(stage);
+        this.columns = columns;
+        this.chunkSize = chunkSize;
+        this.uploadThreads = Math.max(1, uploadThreads);
+        this.onError = SqlIdentifiers.requireOnError(onError);
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Makes the load check its target columns against the cached schema of the table before anything is staged,
+     * instead of failing in {@code COPY INTO} after the upload.
+     *
+     * @param schemaCache table schemas of the connection
+     */
+    public void setSchemaCache(TableSchemaCache schemaCache) {
+
+        this.schemaCache = schemaCache;
+    }
+
+    /**
+     * Loads the records of a JSON array of objects.
+     *
+     * @param input JSON array of objects; field names are matched to columns ignoring case
+     * @return load statistics
+     */
+    public BulkLoadResult load(InputStream input) throws IOException, SQLException {
+
+        String prefix = "mi_bulk_" + UUID.randomUUID().toString().replace("-", "");
+        Path workDirectory = Files.createTempDirectory("snowflake-bulk-");
+        ExecutorService uploader = Executors.newFixedThreadPool(uploadThreads, threadFactory);
+        List<Future<?>> uploads = new ArrayList<>();
+        boolean loaded = false;
+        try {
+            RecordReader reader = new RecordReader(input, columns);
+            CsvChunkWriter writer = new CsvChunkWriter(workDirectory, chunkSize, chunk -> {
+                checkUploads(uploads);
+                uploads.add(uploader.submit(() -> {
+                    stageClient.upload(chunk, prefix);
+                    Files.deleteIfExists(chunk);
+                    return null;
+                }));
+            });
+            try {
+                boolean checked = schemaCache == null;
+                while (reader.next()) {
+                    if (!checked) {
+                        schemaCache.requireColumns(table, reader.columns);
+                        checked = true;
+                    }
+                    writer.writeRecord(reader.values, reader.quoted);
+                }
+            } finally {
+                writer.close();
+            }
+            for (Future<?> upload : uploads) {
+                await(upload);
+            }
+            if (writer.getRecordCount() == 0) {
+                loaded = true;
+                return new BulkLoadResult(0, 0, 0, 0);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Staged " + writer.getRecordCount() + " records in " + writer.getChunkCount()
+                        + " chunk(s) under " + stage + "/" + prefix + ".");
+            }
+            BulkLoadResult result = copy(prefix, reader.columns, writer.getRecordCount(), writer.getChunkCount());
+            loaded = true;
+            return result;
+        } finally {
+            uploader.shutdownNow();
+            if (!loaded) {
+                awaitTermination(uploader);
+                removeStagedFiles(prefix);
+            }
+            deleteDirectory(workDirectory);
+        }
+    }
+
+    String buildCopyStatement(String prefix, String[] targetColumns) {
+
+        return "COPY INTO " + table + " (" + String.join(", ", targetColumns) + ") FROM " + stage + "/" + prefix
+                + "/ FILE_FORMAT = (TYPE = CSV COMPRESSION = GZIP FIELD_OPTIONALLY_ENCLOSED_BY = '\"' "
+                + "NULL_IF = ('\\\\N') EMPTY_FIELD_AS_NULL = FALSE) ON_ERROR = " + onError + " PURGE = TRUE";
+    }
+
+    private BulkLoadResult copy(String prefix, String[] targetColumns, long recordCount, int fileCount)
+            throws SQLException {
+
+        long rowsLoaded = 0;
+        long errorsSeen = 0;
+        try (PooledConnection connection = pool.borrow();
+             Statement statement = connection.getConnection().createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery(buildCopyStatement(prefix, targetColumns))) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int rowsLoadedColumn = findColumn(metaData, "rows_loaded");
+                int errorsSeenColumn = findColumn(metaData, "errors_seen");
+                while (resultSet.next()) {
+                    if (rowsLoadedColumn > 0) {
+                        rowsLoaded += resultSet.getLong(rowsLoadedColumn);
+                    }
+                    if (errorsSeenColumn > 0) {
+                        errorsSeen += resultSet.getLong(errorsSeenColumn);
+                    }
+                }
+            } catch (SQLException e) {
+                connection.checkFailure(e);
+                throw e;
+            }
+        }
+        return new BulkLoadResult(recordCount, fileCount, rowsLoaded, errorsSeen);
+    }
+
+    private static void awaitTermination(ExecutorService uploader) {
+
+        try {
+            if (!uploader.awaitTermination(UPLOAD_TERMINATION_TIMEOUT, TimeUnit.SECONDS)) {
+                log.warn("Stage uploads of a failed bulk load did not stop within " + UPLOAD_TERMINATION_TIMEOUT
+                        + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void removeStagedFiles(String prefix) {
+
+        try {
+            stageClient.remove(prefix);
+        } catch (SQLException | IOException e) {
+            log.warn("Unable to remove the files staged under " + stage + "/" + prefix + " by a failed bulk load.", e);
+        }
+    }
+
+    private static int findColumn(ResultSetMetaData metaData, String label) throws SQLException {
+
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (label.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Fails fast if an upload that already finished has failed.
+     */
+    private static void checkUploads(List<Future<?>> uploads) throws IOException {
+
+        for (Future<?> upload : uploads) {
+            if (upload.isDone()) {
+                try {
+                    await(upload);
+                } catch (SQLException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static void await(Future<?> upload) throws IOException, SQLException {
+
+        try {
+            upload.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for stage uploads", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Stage upload failed", cause);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("Unable to delete bulk load work directory " + directory, e);
+        }
+    }
+
+    /**
+     * Pulls records one at a time from a JSON array of objects. Only the current record is held in memory.
+     */
+    private static final class RecordReader {
+
+        private final JsonReader reader;
+        private String[] columns;
+        private Map<String, Integer> columnIndexes;
+        private String[] values;
+        private boolean[] quoted;
+
+        RecordReader(InputStream input, List<String> columns) throws IOException {
+
+            this.reader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            reader.beginArray();
+            if (!columns.isEmpty()) {
+                setColumns(columns.toArray(new String[0]));
+            }
+        }
+
+        boolean next() throws IOException {
+
+            if (!reader.hasNext()) {
+                reader.endArray();
+                return false;
+            }
+            reader.beginObject();
+            if (columns == null) {
+                readFirstRecord();
+            } else {
+                Arrays.fill(values, null);
+                while (reader.hasNext()) {
+                    Integer index = columnIndexes.get(reader.nextName());
+                    if (index == null) {
+                        reader.skipValue();
+                    } else {
+                        readValue(index);
+                    }
+                }
+            }
+            reader.endObject();
+            return true;
+        }
+
+        private void readFirstRecord() throws IOException {
+
+            List<String> names = new ArrayList<>();
+            List<String> firstValues = new ArrayList<>();
+            List<Boolean> firstQuoted = new ArrayList<>();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (!SqlIdentifiers.isIdentifier(name)) {
+                    throw new IOException("Unable to use the field '" + name + "' of the first record as a column name."
+                            + " Name the target columns explicitly.");
+                }
+                names.add(name);
+                values = new String[1];
+                quoted = new boolean[1];
+                readValue(0);
+                firstValues.add(values[0]);
+                firstQuoted.add(quoted[0]);
+            }
+            if (names.isEmpty()) {
+                throw new IOException("Unable to derive the target columns from an empty record");
+            }
+            setColumns(names.toArray(new String[0]));
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = firstValues.get(i);
+                quoted[i] = firstQuoted.get(i);
+            }
+        }
+
+        private void setColumns(String[] names) {
+
+            columns = names;
+            columnIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = 0; i < names.length; i++) {
+                columnIndexes.put(names[i], i);
+            }
+            values = new String[names.length];
+            quoted = new boolean[names.length];
+        }
+
+        private void readValue(int index) throws IOException {
+
+            JsonToken token = reader.peek();
+            switch (token) {
+                case NULL:
+                    reader.nextNull();
+                    values[index] = null;
+                    break;
+                case BOOLEAN:
+                    values[index] = String.valueOf(reader.nextBoolean());
+                    quoted[index] = false;
+                    break;
+                case NUMBER:
+                    values[index] = reader.nextString();
+                    quoted[index] = false;
+                    break;
+                case STRING:
+                    values[index] = reader.nextString();
+                    quoted[index] = true;
+                    break;
+                default:
+                    values[index] = JsonParser.parseReader(reader).toString();
+                    quoted[index] = true;
+            }
+        }
+    }
+}
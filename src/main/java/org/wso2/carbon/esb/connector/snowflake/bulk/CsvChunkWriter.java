@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes records into gzip compressed CSV files of a bounded size. A file is handed to the chunk listener as soon as it
+ * is complete, so uploading can start while later records are still being written.
+ * <p>
+ * Fields are written in the format expected by {@link BulkLoader}'s {@code COPY INTO}: text is always enclosed in
+ * double quotes, numbers and booleans are written as is and {@code null} is written as an unenclosed {@code \N}.
+ */
+class CsvChunkWriter implements Closeable {
+
+    static final String NULL_MARKER = "\\N";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Receives completed chunk files.
+     */
+    @FunctionalInterface
+    interface ChunkListener {
+
+        void chunkCompleted(Path chunk) throws IOException;
+    }
+
+    private final Path directory;
+    private final long chunkSize;
+    private final ChunkListener listener;
+    private Path currentChunk;
+    private CountingOutputStream currentStream;
+    private Writer writer;
+    private int chunkCount;
+    private long recordCount;
+
+    /**
+     * @param directory directory in which chunk files are created
+     * @param chunkSize compressed size in bytes after which a new chunk is started
+     * @param listener  receives each completed chunk
+     */
+    CsvChunkWriter(Path directory, long chunkSize, ChunkListener listener) {
+
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+        this.listener = listener;
+    }
+
+    /**
+     * Writes one record.
+     *
+     * @param values field values, {@code null} for SQL NULL
+     * @param quoted whether the field at the same position is text that has to be enclosed in quotes
+     */
+    void writeRecord(String[] values, boolean[] quoted) throws IOException {
+
+        if (writer == null) {
+            startChunk();
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                writer.write(NULL_MARKER);
+            } else if (quoted[i]) {
+                writeQuoted(value);
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write('\n');
+        recordCount++;
+        if (currentStream.count >= chunkSize) {
+            completeChunk();
+        }
+    }
+
+    int getChunkCount() {
+
+        return chunkCount;
+    }
+
+    long getRecordCount() {
+
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (writer != null) {
+            completeChunk();
+        }
+    }
+
+    private void writeQuoted(String value) throws IOException {
+
+        writer.write('"');
+        int start = 0;
+        for (int i = value.indexOf('"'); i >= 0; i = value.indexOf('"', start)) {
+            writer.write(value, start, i - start + 1);
+            writer.write('"');
+            start = i + 1;
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+
+    private void startChunk() throws IOException {
+
+        chunkCount++;
+        currentChunk = directory.resolve(String.format("chunk_%05d.csv.gz", chunkCount));
+        currentStream = new CountingOutputStream(Files.newOutputStream(currentChunk));
+        writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(currentStream, BUFFER_SIZE),
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private void completeChunk() throws IOException {
+
+        Path chunk = currentChunk;
+        try {
+            writer.close();
+        } finally {
+            writer = null;
+            currentStream = null;
+            currentChunk = null;
+        }
+        listener.chunkCompleted(chunk);
+    }
+
+    /**
+     * Tracks the number of compressed bytes written to the current chunk.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
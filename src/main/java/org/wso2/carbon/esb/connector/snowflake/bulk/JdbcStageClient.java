@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.utils.SqlIdentifiers;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Uploads files to a Snowflake internal stage with {@code PUT}. Every upload borrows its own pooled session, so
+ * uploads issued from several threads run in parallel.
+ */
+public class JdbcStageClient implements StageClient {
+
+    private final SnowflakeConnectionPool pool;
+    private final String stage;
+
+    /**
+     * @param pool  session pool used for the uploads
+     * @param stage stage reference, e.g. {@code @%ORDERS} or {@code @MY_DB.PUBLIC.LOAD_STAGE}
+     * @throws IllegalArgumentException if the stage is not a valid stage reference
+     */
+    public JdbcStageClient(SnowflakeConnectionPool pool, String stage) {
+
+        this.pool = pool;
+        this.stage = SqlIdentifiers.requireStage(stage);
+    }
+
+    @Override
+    public void upload(Path file, String prefix) throws SQLException {
+
+        String location = file.toAbsolutePath().toString().replace('\\', '/').replace("'", "\\'");
+        execute("PUT 'file://" + (location.startsWith("/") ? "" : "/") + location + "' " + stage + "/" + prefix
+                + " AUTO_COMPRESS = FALSE SOURCE_COMPRESSION = GZIP OVERWRITE = TRUE");
+    }
+
+    @Override
+    public void remove(String prefix) throws SQLException {
+
+        execute("REMOVE " + stage + "/" + prefix + "/");
+    }
+
+    private void execute(String sql) throws SQLException {
+
+        try (PooledConnection connection = pool.borrow();
+             Statement statement = connection.getConnection().createStatement()) {
+            try {
+                statement.execute(sql);
+            } catch (SQLException e) {
+                connection.checkFailure(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+/**
+ * Stand-in for a Snowflake stage backed by a local directory. It allows bulk loads to be exercised without a Snowflake
+ * account: staged files end up under {@code <root>/<prefix>/}.
+ */
+public class LocalFileSystemStageClient implements StageClient {
+
+    private final Path root;
+
+    public LocalFileSystemStageClient(Path root) {
+
+        this.root = root;
+    }
+
+    @Override
+    public void upload(Path file, String prefix) throws IOException {
+
+        Path target = root.resolve(prefix);
+        Files.createDirectories(target);
+        Files.copy(file, target.resolve(file.getFileName().toString()), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void remove(String prefix) throws IOException {
+
+        Path directory = root.resolve(prefix);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    public Path getRoot() {
+
+        return root;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Uploads data files to the stage a bulk load copies from.
+ */
+public interface StageClient {
+
+    /**
+     * Uploads a file to the stage.
+     *
+     * @param file   local file to upload
+     * @param prefix path within the stage under which the file is placed
+     */
+    void upload(Path file, String prefix) throws SQLException, IOException;
+
+    /**
+     * Removes every file staged under a prefix.
+     *
+     * @param prefix path within the stage
+     */
+    void remove(String prefix) throws SQLException, IOException;
+}
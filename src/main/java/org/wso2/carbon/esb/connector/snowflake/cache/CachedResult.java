@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * Serialized payload of a query result held by the {@link ResultCache}.
+ */
+public class CachedResult {
+
+    private final byte[] content;
+    private final long rowCount;
+    private final Set<String> tables;
+    private final long expiryTime;
+
+    CachedResult(byte[] content, long rowCount, Set<String> tables, long expiryTime) {
+
+        this.content = content;
+        this.rowCount = rowCount;
+        this.tables = tables;
+        this.expiryTime = expiryTime;
+    }
+
+    /**
+     * @return stream over the cached payload. The content is shared, so the stream does not need to be released.
+     */
+    public InputStream getInputStream() {
+
+        return new ByteArrayInputStream(content);
+    }
+
+    public int getLength() {
+
+        return content.length;
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    Set<String> getTables() {
+
+        return tables;
+    }
+
+    boolean isExpired(long now) {
+
+        return now >= expiryTime;
+    }
+}
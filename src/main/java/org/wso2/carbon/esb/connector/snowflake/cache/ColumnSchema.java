@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A column of a {@link TableSchema}, as reported by {@code DESCRIBE TABLE}.
+ */
+public final class ColumnSchema {
+
+    private final String name;
+    private final String type;
+    private final boolean nullable;
+    private final String defaultValue;
+
+    /**
+     * @param name         column name
+     * @param type         declared type, e.g. {@code NUMBER(38,0)} or {@code VARCHAR(16777216)}
+     * @param nullable     whether the column accepts {@code NULL}
+     * @param defaultValue default expression of the column, or {@code null} if it has none
+     */
+    public ColumnSchema(String name, String type, boolean nullable, String defaultValue) {
+
+        this.name = name;
+        this.type = type;
+        this.nullable = nullable;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public String getType() {
+
+        return type;
+    }
+
+    /**
+     * @return the declared type without its length, precision or scale, e.g. {@code NUMBER}
+     */
+    public String getDataType() {
+
+        int parenthesis = type.indexOf('(');
+        return parenthesis < 0 ? type : type.substring(0, parenthesis).trim();
+    }
+
+    public boolean isNullable() {
+
+        return nullable;
+    }
+
+    public String getDefaultValue() {
+
+        return defaultValue;
+    }
+
+    public JsonObject toJson() {
+
+        JsonObject json = new JsonObject();
+        json.addProperty("name", name);
+        json.addProperty("type", type);
+        json.addProperty("nullable", nullable);
+        json.addProperty("default", defaultValue);
+        return json;
+    }
+}
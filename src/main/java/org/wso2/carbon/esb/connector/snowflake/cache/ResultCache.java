@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import com.google.gson.JsonArray;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connector-side cache of query result payloads, keyed by the normalized SQL text, the bound parameters and the output
+ * format. The cache is bounded by the total size of the cached payloads, evicting the least recently used results, and
+ * every result expires after its time to live.
+ * <p>
+ * Results are invalidated when the connector itself modifies a table they were read from. Changes made outside the
+ * connector are only picked up when the result expires, so the time to live bounds how stale a result can be.
+ */
+public class ResultCache {
+
+    private static final Log log = LogFactory.getLog(ResultCache.class);
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final long maxBytes;
+    private final long defaultTtl;
+    private final Map<String, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private long size;
+    private long version;
+
+    /**
+     * @param maxBytes   maximum total size of the cached payloads
+     * @param defaultTtl milliseconds a result stays cached unless a different time to live is given
+     */
+    public ResultCache(long maxBytes, long defaultTtl) {
+
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("The result cache size must be positive.");
+        }
+        this.maxBytes = maxBytes;
+        this.defaultTtl = defaultTtl;
+    }
+
+    /**
+     * Builds the cache key of a query.
+     *
+     * @param sql        SQL text as given by the flow
+     * @param parameters bound parameters, may be {@code null}
+     * @param format     output format of the payload
+     * @param maxRows    row limit of the query, 0 for none
+     * @param session    session state requested for the query; the role, database and schema decide what the
+     *                   query text refers to
+     * @return cache key
+     */
+    public static String key(String sql, JsonArray parameters, String format, int maxRows, SessionState session) {
+
+        StringBuilder key = new StringBuilder(SqlTables.normalize(sql));
+        key.append(KEY_SEPARATOR).append(parameters == null ? "[]" : parameters.toString());
+        key.append(KEY_SEPARATOR).append(format).append(KEY_SEPARATOR).append(maxRows);
+        key.append(KEY_SEPARATOR).append(session.getRole()).append(KEY_SEPARATOR).append(session.getDatabase())
+                .append(KEY_SEPARATOR).append(session.getSchema());
+        return key.toString();
+    }
+
+    public long getDefaultTtl() {
+
+        return defaultTtl;
+    }
+
+    /**
+     * @return the largest payload that is cached. Bigger results are served uncached so that a single result cannot
+     * flush most of the cache.
+     */
+    public long getMaxEntryBytes() {
+
+        return maxBytes / 4;
+    }
+
+    /**
+     * @return the current invalidation version, to be passed to {@link #put} for a result read after this call
+     */
+    public synchronized long getVersion() {
+
+        return version;
+    }
+
+    /**
+     * @return the cached result, or {@code null} if the query is not cached or its result expired
+     */
+    public synchronized CachedResult get(String key) {
+
+        CachedResult result = entries.get(key);
+        if (result != null && result.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            result = null;
+        }
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Caches the result of a query. The result is dropped if a table was modified since {@code version} was read,
+     * since it may have been read before the modification.
+     *
+     * @param key      cache key built with {@link #key}
+     * @param sql      SQL text of the query, used to find the tables the result depends on
+     * @param content  serialized payload
+     * @param rowCount number of rows in the payload
+     * @param ttl      milliseconds to keep the result
+     * @param version  invalidation version read before the query was executed
+     * @return {@code true} if the result was cached
+     */
+    public synchronized boolean put(String key, String sql, byte[] content, long rowCount, long ttl, long version) {
+
+        if (version != this.version || content.length > getMaxEntryBytes() || ttl <= 0) {
+            return false;
+        }
+        Set<String> tables = SqlTables.readTables(SqlTables.normalize(sql));
+        remove(key);
+        entries.put(key, new CachedResult(content, rowCount, tables, System.currentTimeMillis() + ttl));
+        size += content.length;
+        Iterator<Map.Entry<String, CachedResult>> iterator = entries.entrySet().iterator();
+        while (size > maxBytes && iterator.hasNext()) {
+            size -= iterator.next().getValue().getLength();
+            iterator.remove();
+            evictions.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Invalidates the results read from any of the given tables.
+     *
+     * @param tables unqualified table names, or {@code null} to invalidate every result
+     */
+    public synchronized void invalidate(Set<String> tables) {
+
+        version++;
+        if (tables == null) {
+            invalidations.add(entries.size());
+            entries.clear();
+            size = 0;
+            return;
+        }
+        Iterator<CachedResult> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CachedResult result = iterator.next();
+            if (!Collections.disjoint(result.getTables(), tables)) {
+                size -= result.getLength();
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Invalidates the results that may be affected by a statement the connector executed.
+     *
+     * @param sql SQL text of the executed statement
+     */
+    public void invalidate(String sql) {
+
+        Set<String> tables = SqlTables.writtenTables(SqlTables.normalize(sql));
+        if (tables == null || !tables.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalidating cached results of " + (tables == null ? "all tables" : tables) + ".");
+            }
+            invalidate(tables);
+        }
+    }
+
+    public synchronized int getEntryCount() {
+
+        return entries.size();
+    }
+
+    public synchronized long getSize() {
+
+        return size;
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictions.sum();
+    }
+
+    public long getInvalidationCount() {
+
+        return invalidations.sum();
+    }
+
+    /**
+     * @return the fraction of lookups served from the cache, or 0 if there were none
+     */
+    public double getHitRatio() {
+
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+
+        return "entries=" + getEntryCount() + ", bytes=" + getSize() + ", hits=" + getHitCount() + ", misses="
+                + getMissCount() + ", evictions=" + getEvictionCount() + ", invalidations=" + getInvalidationCount();
+    }
+
+    private void remove(String key) {
+
+        CachedResult removed = entries.remove(key);
+        if (removed != null) {
+            size -= removed.getLength();
+        }
+    }
+}
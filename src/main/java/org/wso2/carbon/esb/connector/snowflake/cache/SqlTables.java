@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lightweight SQL text analysis for the result and schema caches: normalization of query text and detection of the
+ * tables a statement reads, writes or redefines.
+ * <p>
+ * This is not a SQL parser. Table detection errs on the side of invalidating too much: tables are compared by their
+ * unqualified name, and a statement whose effect cannot be determined is reported as possibly writing any table.
+ */
+public final class SqlTables {
+
+    private static final String IDENTIFIER = "(?:\"(?:[^\"]|\"\")++\"|[A-Z_][A-Z0-9_$]*+)";
+    private static final String QUALIFIED_NAME = IDENTIFIER + "(?:\\s*\\.\\s*" + IDENTIFIER + "){0,2}+";
+    private static final Pattern READ_TABLE = Pattern.compile(
+            "\\b(?:FROM|JOIN)\\s+(" + QUALIFIED_NAME + ")(?!\\s*\\()");
+    private static final Pattern FROM_LIST_CONTINUATION = Pattern.compile(
+            "\\G(?:\\s+(?:AS\\s+)?(?!WHERE\\b|GROUP\\b|ORDER\\b|HAVING\\b|LIMIT\\b|JOIN\\b|INNER\\b|LEFT\\b|RIGHT\\b"
+                    + "|FULL\\b|CROSS\\b|NATURAL\\b|UNION\\b|QUALIFY\\b|ON\\b)" + IDENTIFIER + ")?\\s*,\\s*("
+                    + QUALIFIED_NAME + ")(?!\\s*\\()");
+    private static final Pattern WRITTEN_TABLE = Pattern.compile(
+            "\\b(?:INSERT\\s+(?:OVERWRITE\\s+)?(?:ALL\\s+|FIRST\\s+)?INTO|INTO|UPDATE|DELETE\\s+FROM|MERGE\\s+INTO"
+                    + "|TRUNCATE\\s+(?:TABLE\\s+)?(?:IF\\s+EXISTS\\s+)?|COPY\\s+INTO"
+                    + "|DROP\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?"
+                    + "|ALTER\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?"
+                    + "|CREATE\\s+(?:OR\\s+REPLACE\\s+)?(?:(?:LOCAL\\s+|GLOBAL\\s+)?(?:TEMPORARY|TEMP|TRANSIENT)\\s+)?"
+                    + "TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?)\\s*(" + QUALIFIED_NAME + ")");
+    private static final Pattern REDEFINED_TABLE = Pattern.compile(
+            "\\b(?:DROP\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?|UNDROP\\s+TABLE\\s+|ALTER\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?"
+                    + "|SWAP\\s+WITH\\s+|RENAME\\s+TO\\s+"
+                    + "|CREATE\\s+(?:OR\\s+REPLACE\\s+)?(?:(?:LOCAL\\s+|GLOBAL\\s+)?(?:TEMPORARY|TEMP|TRANSIENT)\\s+)?"
+                    + "TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?)\\s*(" + QUALIFIED_NAME + ")");
+    private static final Pattern WRITING_STATEMENT = Pattern.compile(
+            "\\b(?:INSERT|UPDATE|DELETE|MERGE|TRUNCATE|COPY|DROP|ALTER|CREATE|CALL|EXECUTE|UNDROP|SWAP)\\b");
+    private static final Pattern READ_ONLY_STATEMENT = Pattern.compile(
+            "^(?:SELECT|WITH|SHOW|DESC|DESCRIBE|EXPLAIN|LIST|LS|USE|ALTER\\s+SESSION)\\b");
+
+    private SqlTables() {
+
+    }
+
+    /**
+     * Normalizes SQL text so that statements differing only in layout share a cache key: comments are removed,
+     * whitespace runs become a single space, text outside quoted literals, {@code $$} string constants and quoted
+     * identifiers is upper-cased, and a trailing semicolon is dropped.
+     */
+    public static String normalize(String sql) {
+
+        StringBuilder normalized = new StringBuilder(sql.length());
+        int length = sql.length();
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if ((c == '-' || c == '/') && i + 1 < length && sql.charAt(i + 1) == c) {
+                while (i < length && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                pendingSpace = true;
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = true;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+                pendingSpace = true;
+            } else {
+                if (pendingSpace && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                if (c == '\'' || c == '"') {
+                    int end = endOfQuoted(sql, i, c);
+                    normalized.append(sql, i, end);
+                    i = end;
+                } else if (c == '$' && sql.startsWith("$$", i)) {
+                    int end = endOfDollarQuoted(sql, i);
+                    normalized.append(sql, i, end);
+                    i = end;
+                } else {
+                    normalized.append(Character.toUpperCase(c));
+                    i++;
+                }
+            }
+        }
+        int last = normalized.length() - 1;
+        while (last >= 0 && (normalized.charAt(last) == ';' || normalized.charAt(last) == ' ')) {
+            normalized.setLength(last--);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * @param sql normalized SQL text
+     * @return the unqualified names of the tables the statement reads from
+     */
+    public static Set<String> readTables(String sql) {
+
+        String text = stripLiterals(sql);
+        Set<String> tables = new LinkedHashSet<>();
+        Matcher matcher = READ_TABLE.matcher(text);
+        Matcher continuation = FROM_LIST_CONTINUATION.matcher(text);
+        while (matcher.find()) {
+            tables.add(tableName(matcher.group(1)));
+            continuation.region(matcher.end(), text.length());
+            while (continuation.find()) {
+                tables.add(tableName(continuation.group(1)));
+                continuation.region(continuation.end(), text.length());
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * @param sql normalized SQL text
+     * @return the unqualified names of the tables the statement may modify, an empty set for statements that do not
+     * modify data, or {@code null} if the statement may modify tables that cannot be determined
+     */
+    public static Set<String> writtenTables(String sql) {
+
+        String text = stripLiterals(sql);
+        Set<String> tables = new LinkedHashSet<>();
+        Matcher matcher = WRITTEN_TABLE.matcher(text);
+        while (matcher.find()) {
+            tables.add(tableName(matcher.group(1)));
+        }
+        if (!tables.isEmpty()) {
+            return tables;
+        }
+        if (READ_ONLY_STATEMENT.matcher(text).find() && !WRITING_STATEMENT.matcher(text).find()) {
+            return Collections.emptySet();
+        }
+        return null;
+    }
+
+    /**
+     * @param sql normalized SQL text
+     * @return the unqualified names of the tables whose columns the statement may change, i.e. tables it creates,
+     * replaces, alters, renames or drops
+     */
+    public static Set<String> redefinedTables(String sql) {
+
+        Set<String> tables = new LinkedHashSet<>();
+        Matcher matcher = REDEFINED_TABLE.matcher(stripLiterals(sql));
+        while (matcher.find()) {
+            tables.add(tableName(matcher.group(1)));
+        }
+        return tables;
+    }
+
+    /**
+     * Replaces the content of string literals and {@code $$} string constants with blanks so that keywords inside them
+     * are not matched, keeping the positions of the rest of the text.
+     */
+    private static String stripLiterals(String sql) {
+
+        if (sql.indexOf('\'') < 0 && !sql.contains("$$")) {
+            return sql;
+        }
+        StringBuilder stripped = new StringBuilder(sql);
+        int i = 0;
+        while (i < stripped.length()) {
+            boolean dollarQuoted = stripped.charAt(i) == '$' && sql.startsWith("$$", i);
+            if (stripped.charAt(i) == '\'' || dollarQuoted) {
+                int end = dollarQuoted ? endOfDollarQuoted(sql, i) : endOfQuoted(sql, i, '\'');
+                int delimiter = dollarQuoted ? 2 : 1;
+                for (int j = i + delimiter; j < end - delimiter; j++) {
+                    stripped.setCharAt(j, ' ');
+                }
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return stripped.toString();
+    }
+
+    private static int endOfDollarQuoted(String sql, int start) {
+
+        int end = sql.indexOf("$$", start + 2);
+        return end < 0 ? sql.length() : end + 2;
+    }
+
+    private static int endOfQuoted(String sql, int start, char quote) {
+
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\' && quote == '\'') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    /**
+     * @param qualifiedName table name, optionally qualified by database and schema
+     * @return the unqualified name as Snowflake resolves it: unquoted names upper-cased, quoted names unquoted
+     */
+    static String tableName(String qualifiedName) {
+
+        int start = qualifiedName.length();
+        boolean quoted = false;
+        for (int i = qualifiedName.length() - 1; i >= 0; i--) {
+            char c = qualifiedName.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '.' && !quoted) {
+                break;
+            }
+            start = i;
+        }
+        String name = qualifiedName.substring(start).trim();
+        if (name.length() > 1 && name.charAt(0) == '"') {
+            return name.substring(1, name.length() - 1).replace("\"\"", "\"");
+        }
+        return name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Columns of a table as loaded by the {@link TableSchemaCache}. Column names are looked up ignoring case, as the
+ * connector matches payload fields to columns.
+ */
+public final class TableSchema {
+
+    private final String table;
+    private final List<ColumnSchema> columns;
+    private final Map<String, ColumnSchema> columnsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final long loadedAt;
+    private final long expiresAt;
+
+    /**
+     * @param table     table name as it was described
+     * @param columns   columns in table order
+     * @param loadedAt  epoch milliseconds the schema was read
+     * @param expiresAt epoch milliseconds after which the schema is read again
+     */
+    public TableSchema(String table, List<ColumnSchema> columns, long loadedAt, long expiresAt) {
+
+        this.table = table;
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        for (ColumnSchema column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
+        this.loadedAt = loadedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTable() {
+
+        return table;
+    }
+
+    public List<ColumnSchema> getColumns() {
+
+        return columns;
+    }
+
+    /**
+     * @return the column, or {@code null} if the table has no column of that name
+     */
+    public ColumnSchema getColumn(String name) {
+
+        return columnsByName.get(name);
+    }
+
+    /**
+     * @param names column names
+     * @return the names the table has no column for, in the given order
+     */
+    public List<String> getMissingColumns(String[] names) {
+
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (getColumn(name) == null) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    public long getLoadedAt() {
+
+        return loadedAt;
+    }
+
+    boolean isExpired(long now) {
+
+        return now >= expiresAt;
+    }
+
+    public JsonObject toJson() {
+
+        JsonObject json = new JsonObject();
+        json.addProperty("table", table);
+        JsonArray array = new JsonArray();
+        for (ColumnSchema column : columns) {
+            array.add(column.toJson());
+        }
+        json.add("columns", array);
+        json.addProperty("loadedAt", loadedAt);
+        return json;
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.utils.SqlIdentifiers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Table schemas of a connection, read with {@code DESCRIBE TABLE} and kept for a time to live so that operations
+ * writing to a table can validate against its columns without a round trip per message. The least recently used
+ * schemas are evicted once the cache is full.
+ * <p>
+ * Schemas are dropped when a statement run by the connector creates, alters, renames or drops their table. Changes
+ * made outside the connector are picked up when the schema expires or is refreshed.
+ */
+public class TableSchemaCache {
+
+    private static final Log log = LogFactory.getLog(TableSchemaCache.class);
+
+    private static final String KIND_COLUMN = "COLUMN";
+
+    private final SnowflakeConnectionPool pool;
+    private final long ttl;
+    private final Map<String, TableSchema> schemas;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private long version;
+
+    /**
+     * @param pool    session pool the schemas are read with
+     * @param ttl     milliseconds a schema is kept; 0 to read the schema on every lookup
+     * @param maxSize maximum number of schemas kept
+     */
+    public TableSchemaCache(SnowflakeConnectionPool pool, long ttl, int maxSize) {
+
+        this.pool = pool;
+        this.ttl = ttl;
+        this.schemas = new LinkedHashMap<String, TableSchema>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TableSchema> eldest) {
+
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return whether schemas are kept between lookups
+     */
+    public boolean isEnabled() {
+
+        return ttl > 0;
+    }
+
+    /**
+     * Returns the schema of a table, reading it if it is not cached or has expired. An unqualified name is resolved
+     * in the default database and schema of the connection.
+     *
+     * @param table table name, optionally qualified by database and schema
+     * @return the schema of the table
+     * @throws SQLException if the name is not a valid table name, the table does not exist or the schema could not be
+     *                      read
+     */
+    public TableSchema get(String table) throws SQLException {
+
+        return get(table, SessionState.NONE);
+    }
+
+    /**
+     * Returns the schema of a table, reading it if it is not cached or has expired.
+     *
+     * @param table   table name, optionally qualified by database and schema
+     * @param session session state of the request; its database and schema, or else the defaults of the connection,
+     *                qualify a partially qualified name
+     * @return the schema of the table
+     * @throws SQLException if the name is not a valid table name or cannot be fully qualified, the table does not
+     *                      exist or the schema could not be read
+     */
+    public TableSchema get(String table, SessionState session) throws SQLException {
+
+        String qualifiedTable = qualify(table, session);
+        String key = SqlTables.normalize(qualifiedTable);
+        synchronized (this) {
+            TableSchema schema = schemas.get(key);
+            if (schema != null && !schema.isExpired(System.currentTimeMillis())) {
+                hits.increment();
+                return schema;
+            }
+        }
+        misses.increment();
+        return load(qualifiedTable, key);
+    }
+
+    /**
+     * Reads the schema of a table again, replacing the cached one. An unqualified name is resolved in the default
+     * database and schema of the connection.
+     *
+     * @param table table name, optionally qualified by database and schema
+     * @return the schema of the table
+     * @throws SQLException if the name is not a valid table name, the table does not exist or the schema could not be
+     *                      read
+     */
+    public TableSchema refresh(String table) throws SQLException {
+
+        return refresh(table, SessionState.NONE);
+    }
+
+    /**
+     * Reads the schema of a table again, replacing the cached one.
+     *
+     * @param table   table name, optionally qualified by database and schema
+     * @param session session state of the request, see {@link #get(String, SessionState)}
+     * @return the schema of the table
+     * @throws SQLException if the name is not a valid table name or cannot be fully qualified, the table does not
+     *                      exist or the schema could not be read
+     */
+    public TableSchema refresh(String table, SessionState session) throws SQLException {
+
+        String qualifiedTable = qualify(table, session);
+        return load(qualifiedTable, SqlTables.normalize(qualifiedTable));
+    }
+
+    /**
+     * Returns the schema of a table after checking that it has the given columns. A cached schema that lacks some of
+     * them is read again before the columns are reported missing, since the table may have been altered since. An
+     * unqualified name is resolved in the default database and schema of the connection.
+     *
+     * @param table   table name, optionally qualified by database and schema
+     * @param columns column names, matched ignoring case
+     * @return the schema of the table
+     * @throws SQLException if a column does not exist or the schema could not be read
+     */
+    public TableSchema requireColumns(String table, String[] columns) throws SQLException {
+
+        TableSchema schema = get(table);
+        List<String> missing = schema.getMissingColumns(columns);
+        if (!missing.isEmpty() && isEnabled()) {
+            schema = refresh(table);
+            missing = schema.getMissingColumns(columns);
+        }
+        if (!missing.isEmpty()) {
+            throw new SQLException("Table " + table + " has no column(s) " + String.join(", ", missing) + ".",
+                    "42703");
+        }
+        return schema;
+    }
+
+    /**
+     * Reads the schemas of the given tables ahead of their first use. Tables that cannot be described are logged and
+     * skipped.
+     *
+     * @param tables table names, optionally qualified by database and schema
+     * @return the number of schemas read
+     */
+    public int prefetch(List<String> tables) {
+
+        int loaded = 0;
+        for (String table : tables) {
+            try {
+                refresh(table);
+                loaded++;
+            } catch (SQLException e) {
+                log.warn("Unable to prefetch the schema of table " + table + ": " + e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the schemas of the tables whose columns a statement executed by the connector may have changed.
+     *
+     * @param sql SQL text of the executed statement
+     */
+    public void invalidate(String sql) {
+
+        Set<String> tables = SqlTables.redefinedTables(SqlTables.normalize(sql));
+        if (!tables.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalidating cached schemas of " + tables + ".");
+            }
+            invalidate(tables);
+        }
+    }
+
+    /**
+     * Drops the schemas of the given tables.
+     *
+     * @param tables unqualified table names
+     */
+    public synchronized void invalidate(Set<String> tables) {
+
+        version++;
+        Iterator<TableSchema> iterator = schemas.values().iterator();
+        while (iterator.hasNext()) {
+            if (tables.contains(SqlTables.tableName(iterator.next().getTable()))) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized int size() {
+
+        return schemas.size();
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getLoadCount() {
+
+        return loads.sum();
+    }
+
+    public long getInvalidationCount() {
+
+        return invalidations.sum();
+    }
+
+    @Override
+    public String toString() {
+
+        return "tables=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", loads="
+                + getLoadCount() + ", invalidations=" + getInvalidationCount();
+    }
+
+    private TableSchema load(String table, String key) throws SQLException {
+
+        long startVersion;
+        synchronized (this) {
+            startVersion = version;
+        }
+        List<ColumnSchema> columns = describe(table);
+        long now = System.currentTimeMillis();
+        TableSchema schema = new TableSchema(table, columns, now, isEnabled() ? now + ttl : now);
+        loads.increment();
+        synchronized (this) {
+            // a schema read while its table was being redefined may already be stale
+            if (isEnabled() && startVersion == version) {
+                schemas.put(key, schema);
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Qualifies a table name with the database and schema it resolves to, so that the same name used with different
+     * current schemas maps to different cache entries and is described in the right place.
+     */
+    private String qualify(String table, SessionState session) throws SQLException {
+
+        List<String> parts;
+        try {
+            parts = SqlIdentifiers.parts(SqlIdentifiers.requireQualifiedName("table", table));
+        } catch (IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), "42602", e);
+        }
+        if (parts.size() == 3) {
+            return table;
+        }
+        SessionState defaults = pool.getInitialSessionState();
+        String database = session.getDatabase() != null ? session.getDatabase() : defaults.getDatabase();
+        // a session that switches database without naming a schema does not use the default schema
+        String schema = session.getSchema() != null ? session.getSchema()
+                : session.getDatabase() == null ? defaults.getSchema() : null;
+        if (database == null || parts.size() == 1 && schema == null) {
+            throw new SQLException("Table name " + table + " must be qualified by "
+                    + (parts.size() == 1 ? "database and schema" : "database")
+                    + ", as the connection has no default to resolve it in.", "42602");
+        }
+        return parts.size() == 2 ? database + "." + table : database + "." + schema + "." + table;
+    }
+
+    private List<ColumnSchema> describe(String table) throws SQLException {
+
+        List<ColumnSchema> columns = new ArrayList<>();
+        try (PooledConnection connection = pool.borrow();
+             Statement statement = connection.getConnection().createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("DESCRIBE TABLE " + table)) {
+                int name = resultSet.findColumn("name");
+                int type = resultSet.findColumn("type");
+                int kind = resultSet.findColumn("kind");
+                int nullable = resultSet.findColumn("null?");
+                int defaultValue = resultSet.findColumn("default");
+                while (resultSet.next()) {
+                    if (KIND_COLUMN.equalsIgnoreCase(resultSet.getString(kind))) {
+                        columns.add(new ColumnSchema(resultSet.getString(name), resultSet.getString(type),
+                                "Y".equalsIgnoreCase(resultSet.getString(nullable)),
+                                resultSet.getString(defaultValue)));
+                    }
+                }
+            } catch (SQLException e) {
+                connection.checkFailure(e);
+                throw e;
+            }
+        }
+        return columns;
+    }
+}
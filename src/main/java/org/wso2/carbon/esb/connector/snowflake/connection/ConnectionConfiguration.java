@@ -0,0 +1,636 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+
+import java.security.PrivateKey;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Settings of a named Snowflake connection, as configured through the {@code init} operation.
+ */
+public class ConnectionConfiguration {
+
+    private String connectionName;
+    private String accountIdentifier;
+    private String user;
+    private String password;
+    private String database;
+    private String schema;
+    private String warehouse;
+    private String role;
+    private String authenticator = SnowflakeConstants.AUTHENTICATOR_PASSWORD;
+    private PrivateKey privateKey;
+    private String tokenEndpoint;
+    private String clientId;
+    private String clientSecret;
+    private String refreshToken;
+    private String scope;
+    private long tokenRefreshMargin = SnowflakeConstants.DEFAULT_TOKEN_REFRESH_MARGIN;
+    private String driverClass = SnowflakeConstants.DEFAULT_DRIVER_CLASS;
+    private int maxActiveConnections = SnowflakeConstants.DEFAULT_MAX_ACTIVE_CONNECTIONS;
+    private int minIdleConnections = SnowflakeConstants.DEFAULT_MIN_IDLE_CONNECTIONS;
+    private int maxIdleConnections = SnowflakeConstants.DEFAULT_MAX_IDLE_CONNECTIONS;
+    private long maxWaitTime = SnowflakeConstants.DEFAULT_MAX_WAIT_TIME;
+    private int validationTimeout = SnowflakeConstants.DEFAULT_VALIDATION_TIMEOUT;
+    private long validationInterval = SnowflakeConstants.DEFAULT_VALIDATION_INTERVAL;
+    private long evictionInterval = SnowflakeConstants.DEFAULT_EVICTION_INTERVAL;
+    private long minEvictableIdleTime = SnowflakeConstants.DEFAULT_MIN_EVICTABLE_IDLE_TIME;
+    private int statementCacheSize = SnowflakeConstants.DEFAULT_STATEMENT_CACHE_SIZE;
+    private int maxOpenCursors = SnowflakeConstants.DEFAULT_MAX_OPEN_CURSORS;
+    private long resultCacheMaxBytes = SnowflakeConstants.DEFAULT_RESULT_CACHE_MAX_BYTES;
+    private long resultCacheTtl = SnowflakeConstants.DEFAULT_RESULT_CACHE_TTL;
+    private int warmUpConnections = SnowflakeConstants.DEFAULT_WARM_UP_CONNECTIONS;
+    private List<String> warmUpStatements = Collections.emptyList();
+    private long warmUpTimeout = SnowflakeConstants.DEFAULT_WARM_UP_TIMEOUT;
+    private List<String> warehouses = Collections.emptyList();
+    private String warehouseRouting = SnowflakeConstants.DEFAULT_WAREHOUSE_ROUTING;
+    private boolean useVirtualThreads;
+    private int hedgePercentile = SnowflakeConstants.DEFAULT_HEDGE_PERCENTILE;
+    private long hedgeMinDelay = SnowflakeConstants.DEFAULT_HEDGE_MIN_DELAY;
+    private int hedgeMaxPercent = SnowflakeConstants.DEFAULT_HEDGE_MAX_PERCENT;
+    private int maxConcurrentOperations = SnowflakeConstants.DEFAULT_MAX_CONCURRENT_OPERATIONS;
+    private int maxQueuedOperations = SnowflakeConstants.DEFAULT_MAX_QUEUED_OPERATIONS;
+    private long operationQueueTimeout = SnowflakeConstants.DEFAULT_OPERATION_QUEUE_TIMEOUT;
+    private int circuitBreakerFailureRate = SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE;
+    private long circuitBreakerSlowCallTime = SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_TIME;
+    private int circuitBreakerSlowCallRate = SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE;
+    private int circuitBreakerWindow = SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_WINDOW;
+    private long circuitBreakerOpenTime = SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_OPEN_TIME;
+    private int circuitBreakerProbes = SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_PROBES;
+    private long requestTimeout = SnowflakeConstants.DEFAULT_REQUEST_TIMEOUT;
+    private long schemaCacheTtl = SnowflakeConstants.DEFAULT_SCHEMA_CACHE_TTL;
+    private List<String> schemaPrefetchTables = Collections.emptyList();
+
+    public String getConnectionName() {
+
+        return connectionName;
+    }
+
+    public void setConnectionName(String connectionName) {
+
+        this.connectionName = connectionName;
+    }
+
+    public String getAccountIdentifier() {
+
+        return accountIdentifier;
+    }
+
+    public void setAccountIdentifier(String accountIdentifier) {
+
+        this.accountIdentifier = accountIdentifier;
+    }
+
+    public String getUser() {
+
+        return user;
+    }
+
+    public void setUser(String user) {
+
+        this.user = user;
+    }
+
+    public String getPassword() {
+
+        return password;
+    }
+
+    public void setPassword(String password) {
+
+        this.password = password;
+    }
+
+    public String getDatabase() {
+
+        return database;
+    }
+
+    public void setDatabase(String database) {
+
+        this.database = database;
+    }
+
+    public String getSchema() {
+
+        return schema;
+    }
+
+    public void setSchema(String schema) {
+
+        this.schema = schema;
+    }
+
+    public String getWarehouse() {
+
+        return warehouse;
+    }
+
+    public void setWarehouse(String warehouse) {
+
+        this.warehouse = warehouse;
+    }
+
+    public String getRole() {
+
+        return role;
+    }
+
+    public void setRole(String role) {
+
+        this.role = role;
+    }
+
+    public String getDriverClass() {
+
+        return driverClass;
+    }
+
+    public void setDriverClass(String driverClass) {
+
+        this.driverClass = driverClass;
+    }
+
+    public int getMaxActiveConnections() {
+
+        return maxActiveConnections;
+    }
+
+    public void setMaxActiveConnections(int maxActiveConnections) {
+
+        this.maxActiveConnections = maxActiveConnections;
+    }
+
+    public int getMinIdleConnections() {
+
+        return minIdleConnections;
+    }
+
+    public void setMinIdleConnections(int minIdleConnections) {
+
+        this.minIdleConnections = minIdleConnections;
+    }
+
+    public int getMaxIdleConnections() {
+
+        return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(int maxIdleConnections) {
+
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public long getMaxWaitTime() {
+
+        return maxWaitTime;
+    }
+
+    public void setMaxWaitTime(long maxWaitTime) {
+
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    public int getValidationTimeout() {
+
+        return validationTimeout;
+    }
+
+    public void setValidationTimeout(int validationTimeout) {
+
+        this.validationTimeout = validationTimeout;
+    }
+
+    public long getValidationInterval() {
+
+        return validationInterval;
+    }
+
+    public void setValidationInterval(long validationInterval) {
+
+        this.validationInterval = validationInterval;
+    }
+
+    public long getEvictionInterval() {
+
+        return evictionInterval;
+    }
+
+    public void setEvictionInterval(long evictionInterval) {
+
+        this.evictionInterval = evictionInterval;
+    }
+
+    public long getMinEvictableIdleTime() {
+
+        return minEvictableIdleTime;
+    }
+
+    public void setMinEvictableIdleTime(long minEvictableIdleTime) {
+
+        this.minEvictableIdleTime = minEvictableIdleTime;
+    }
+
+    public int getStatementCacheSize() {
+
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(int statementCacheSize) {
+
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public int getMaxOpenCursors() {
+
+        return maxOpenCursors;
+    }
+
+    public void setMaxOpenCursors(int maxOpenCursors) {
+
+        this.maxOpenCursors = maxOpenCursors;
+    }
+
+    public long getResultCacheMaxBytes() {
+
+        return resultCacheMaxBytes;
+    }
+
+    public void setResultCacheMaxBytes(long resultCacheMaxBytes) {
+
+        this.resultCacheMaxBytes = resultCacheMaxBytes;
+    }
+
+    public long getResultCacheTtl() {
+
+        return resultCacheTtl;
+    }
+
+    public void setResultCacheTtl(long resultCacheTtl) {
+
+        this.resultCacheTtl = resultCacheTtl;
+    }
+
+    public int getWarmUpConnections() {
+
+        return warmUpConnections;
+    }
+
+    public void setWarmUpConnections(int warmUpConnections) {
+
+        this.warmUpConnections = warmUpConnections;
+    }
+
+    public List<String> getWarmUpStatements() {
+
+        return warmUpStatements;
+    }
+
+    public void setWarmUpStatements(List<String> warmUpStatements) {
+
+        this.warmUpStatements = warmUpStatements;
+    }
+
+    public long getWarmUpTimeout() {
+
+        return warmUpTimeout;
+    }
+
+    public void setWarmUpTimeout(long warmUpTimeout) {
+
+        this.warmUpTimeout = warmUpTimeout;
+    }
+
+    /**
+     * @return equivalent warehouses statements are spread over; empty to run every statement on the session warehouse
+     */
+    public List<String> getWarehouses() {
+
+        return warehouses;
+    }
+
+    public void setWarehouses(List<String> warehouses) {
+
+        this.warehouses = warehouses;
+    }
+
+    public String getWarehouseRouting() {
+
+        return warehouseRouting;
+    }
+
+    public void setWarehouseRouting(String warehouseRouting) {
+
+        this.warehouseRouting = warehouseRouting;
+    }
+
+    /**
+     * @return whether blocking work started by the connector runs on virtual threads when the runtime supports them
+     */
+    public boolean isUseVirtualThreads() {
+
+        return useVirtualThreads;
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public int getHedgePercentile() {
+
+        return hedgePercentile;
+    }
+
+    public void setHedgePercentile(int hedgePercentile) {
+
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    public long getHedgeMinDelay() {
+
+        return hedgeMinDelay;
+    }
+
+    public void setHedgeMinDelay(long hedgeMinDelay) {
+
+        this.hedgeMinDelay = hedgeMinDelay;
+    }
+
+    public int getHedgeMaxPercent() {
+
+        return hedgeMaxPercent;
+    }
+
+    public void setHedgeMaxPercent(int hedgeMaxPercent) {
+
+        this.hedgeMaxPercent = hedgeMaxPercent;
+    }
+
+    public int getMaxConcurrentOperations() {
+
+        return maxConcurrentOperations;
+    }
+
+    public void setMaxConcurrentOperations(int maxConcurrentOperations) {
+
+        this.maxConcurrentOperations = maxConcurrentOperations;
+    }
+
+    public int getMaxQueuedOperations() {
+
+        return maxQueuedOperations;
+    }
+
+    public void setMaxQueuedOperations(int maxQueuedOperations) {
+
+        this.maxQueuedOperations = maxQueuedOperations;
+    }
+
+    public long getOperationQueueTimeout() {
+
+        return operationQueueTimeout;
+    }
+
+    public void setOperationQueueTimeout(long operationQueueTimeout) {
+
+        this.operationQueueTimeout = operationQueueTimeout;
+    }
+
+    public int getCircuitBreakerFailureRate() {
+
+        return circuitBreakerFailureRate;
+    }
+
+    public void setCircuitBreakerFailureRate(int circuitBreakerFailureRate) {
+
+        this.circuitBreakerFailureRate = circuitBreakerFailureRate;
+    }
+
+    public long getCircuitBreakerSlowCallTime() {
+
+        return circuitBreakerSlowCallTime;
+    }
+
+    public void setCircuitBreakerSlowCallTime(long circuitBreakerSlowCallTime) {
+
+        this.circuitBreakerSlowCallTime = circuitBreakerSlowCallTime;
+    }
+
+    public int getCircuitBreakerSlowCallRate() {
+
+        return circuitBreakerSlowCallRate;
+    }
+
+    public void setCircuitBreakerSlowCallRate(int circuitBreakerSlowCallRate) {
+
+        this.circuitBreakerSlowCallRate = circuitBreakerSlowCallRate;
+    }
+
+    public int getCircuitBreakerWindow() {
+
+        return circuitBreakerWindow;
+    }
+
+    public void setCircuitBreakerWindow(int circuitBreakerWindow) {
+
+        this.circuitBreakerWindow = circuitBreakerWindow;
+    }
+
+    public long getCircuitBreakerOpenTime() {
+
+        return circuitBreakerOpenTime;
+    }
+
+    public void setCircuitBreakerOpenTime(long circuitBreakerOpenTime) {
+
+        this.circuitBreakerOpenTime = circuitBreakerOpenTime;
+    }
+
+    public int getCircuitBreakerProbes() {
+
+        return circuitBreakerProbes;
+    }
+
+    public void setCircuitBreakerProbes(int circuitBreakerProbes) {
+
+        this.circuitBreakerProbes = circuitBreakerProbes;
+    }
+
+    public long getRequestTimeout() {
+
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(long requestTimeout) {
+
+        this.requestTimeout = requestTimeout;
+    }
+
+    public long getSchemaCacheTtl() {
+
+        return schemaCacheTtl;
+    }
+
+    public void setSchemaCacheTtl(long schemaCacheTtl) {
+
+        this.schemaCacheTtl = schemaCacheTtl;
+    }
+
+    public List<String> getSchemaPrefetchTables() {
+
+        return schemaPrefetchTables;
+    }
+
+    public void setSchemaPrefetchTables(List<String> schemaPrefetchTables) {
+
+        this.schemaPrefetchTables = schemaPrefetchTables;
+    }
+
+    public String getAuthenticator() {
+
+        return authenticator;
+    }
+
+    public void setAuthenticator(String authenticator) {
+
+        this.authenticator = authenticator;
+    }
+
+    public PrivateKey getPrivateKey() {
+
+        return privateKey;
+    }
+
+    public void setPrivateKey(PrivateKey privateKey) {
+
+        this.privateKey = privateKey;
+    }
+
+    public String getTokenEndpoint() {
+
+        return tokenEndpoint;
+    }
+
+    public void setTokenEndpoint(String tokenEndpoint) {
+
+        this.tokenEndpoint = tokenEndpoint;
+    }
+
+    public String getClientId() {
+
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+
+        this.clientId = clientId;
+    }
+
+    public String getClientSecret() {
+
+        return clientSecret;
+    }
+
+    public void setClientSecret(String clientSecret) {
+
+        this.clientSecret = clientSecret;
+    }
+
+    public String getRefreshToken() {
+
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+
+        this.refreshToken = refreshToken;
+    }
+
+    public String getScope() {
+
+        return scope;
+    }
+
+    public void setScope(String scope) {
+
+        this.scope = scope;
+    }
+
+    public long getTokenRefreshMargin() {
+
+        return tokenRefreshMargin;
+    }
+
+    public void setTokenRefreshMargin(long tokenRefreshMargin) {
+
+        this.tokenRefreshMargin = tokenRefreshMargin;
+    }
+
+    /**
+     * Builds the JDBC URL of the account. A fully qualified host name is used as is, otherwise the account
+     * identifier is resolved against the default Snowflake domain.
+     *
+     * @return JDBC connection URL
+     */
+    public String getConnectionUrl() {
+
+        String host = accountIdentifier;
+        if (!host.endsWith(SnowflakeConstants.SNOWFLAKE_HOST_SUFFIX)) {
+            host = host + SnowflakeConstants.SNOWFLAKE_HOST_SUFFIX;
+        }
+        return SnowflakeConstants.JDBC_URL_PREFIX + host + "/";
+    }
+
+    /**
+     * Builds the driver properties used to log in.
+     *
+     * @return JDBC connection properties
+     */
+    public Properties getConnectionProperties() {
+
+        Properties properties = new Properties();
+        setIfPresent(properties, "user", user);
+        if (SnowflakeConstants.AUTHENTICATOR_KEY_PAIR.equals(authenticator)) {
+            properties.setProperty("authenticator", "SNOWFLAKE_JWT");
+            properties.put("privateKey", privateKey);
+        } else if (SnowflakeConstants.AUTHENTICATOR_OAUTH.equals(authenticator)) {
+            // the access token is added for every login by the pool
+            properties.setProperty("authenticator", "OAUTH");
+        } else {
+            setIfPresent(properties, "password", password);
+        }
+        setIfPresent(properties, "db", database);
+        setIfPresent(properties, "schema", schema);
+        setIfPresent(properties, "warehouse", warehouse);
+        setIfPresent(properties, "role", role);
+        return properties;
+    }
+
+    private static void setIfPresent(Properties properties, String key, String value) {
+
+        if (value != null && !value.isEmpty()) {
+            properties.setProperty(key, value);
+        }
+    }
+}
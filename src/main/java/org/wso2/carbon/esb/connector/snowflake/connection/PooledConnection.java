@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import net.snowflake.client.jdbc.SnowflakeStatement;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.routing.WarehouseRouter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A physical Snowflake session owned by a {@link SnowflakeConnectionPool}. Borrowers use it through
+ * try-with-resources; closing it hands the session back to the pool instead of logging out.
+ */
+public class PooledConnection implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(PooledConnection.class);
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    private static final String MULTI_STATEMENT_COUNT = "MULTI_STATEMENT_COUNT";
+
+    // states of the session within its pool
+    static final int IDLE = 0;
+    static final int IN_USE = 1;
+    static final int REMOVED = 2;
+
+    private final SnowflakeConnectionPool pool;
+    private final Connection connection;
+    private final StatementCache statementCache;
+    private final long createdTime;
+    private final AtomicBoolean borrowed = new AtomicBoolean();
+    private final AtomicInteger poolState = new AtomicInteger(IN_USE);
+    private volatile long lastUsedTime;
+    private volatile boolean broken;
+    private volatile SessionState sessionState;
+    private volatile WarehouseRouter.Route route;
+
+    PooledConnection(SnowflakeConnectionPool pool, Connection connection, int statementCacheSize,
+                     StatementCacheStatistics statementCacheStatistics, SessionState sessionState) {
+
+        this.pool = pool;
+        this.sessionState = sessionState;
+        this.connection = connection;
+        this.statementCache = statementCacheSize > 0
+                ? new StatementCache(statementCacheSize, statementCacheStatistics) : null;
+        this.createdTime = System.currentTimeMillis();
+        this.lastUsedTime = createdTime;
+    }
+
+    /**
+     * @return the underlying JDBC connection. It must not be closed by the caller.
+     */
+    public Connection getConnection() {
+
+        return connection;
+    }
+
+    /**
+     * Prepares a statement, reusing the one cached for the same SQL text on this session when statement caching is
+     * enabled. The statement must be closed by the caller as usual; closing a cached statement keeps it open for reuse.
+     * The tracked session state is forgotten if the statement may change it, see
+     * {@link SessionState#isSessionStatement(String)}.
+     *
+     * @param sql SQL text of the statement
+     * @return a prepared statement with no parameters bound
+     */
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+
+        if (SessionState.isSessionStatement(sql)) {
+            forgetSessionState();
+        }
+        if (statementCache == null) {
+            return connection.prepareStatement(sql);
+        }
+        return statementCache.prepare(connection, sql);
+    }
+
+    int getCachedStatementCount() {
+
+        return statementCache == null ? 0 : statementCache.size();
+    }
+
+    /**
+     * @return the tracked state of the session; fields that are not known are {@code null}
+     */
+    public SessionState getSessionState() {
+
+        return sessionState;
+    }
+
+    /**
+     * Forgets the tracked session state. Call this when running a statement that may change it, such as a
+     * {@code USE} statement given by a flow, without {@link #prepareStatement(String)}.
+     */
+    public void forgetSessionState() {
+
+        sessionState = SessionState.NONE;
+    }
+
+    /**
+     * Brings the session to the requested state, sending only the statements for the fields that differ from the
+     * tracked state. Several statements are sent together as one multi-statement request.
+     *
+     * @param requested requested state
+     * @return the number of statements that were sent
+     */
+    int applySessionState(SessionState requested) throws SQLException {
+
+        if (requested.isEmpty()) {
+            return 0;
+        }
+        List<String> statements = sessionState.statementsToReach(requested);
+        if (statements.isEmpty()) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement()) {
+            if (statements.size() > 1 && statement.isWrapperFor(SnowflakeStatement.class)) {
+                statement.unwrap(SnowflakeStatement.class).setParameter(MULTI_STATEMENT_COUNT, statements.size());
+                statement.execute(String.join(";\n", statements));
+            } else {
+                for (String sql : statements) {
+                    statement.execute(sql);
+                }
+            }
+        } catch (SQLException e) {
+            forgetSessionState();
+            checkFailure(e);
+            throw e;
+        }
+        sessionState = sessionState.apply(requested);
+        return statements.size();
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public long getLastUsedTime() {
+
+        return lastUsedTime;
+    }
+
+    /**
+     * Marks the session as unusable so that it is discarded instead of being returned to the idle set. Call this
+     * when the connection failed in a way that may have left it in an unknown state.
+     */
+    public void invalidate() {
+
+        broken = true;
+    }
+
+    /**
+     * Invalidates the session if the given error shows that the connection itself failed, as opposed to the statement
+     * that was executed on it.
+     *
+     * @param e error raised while using the session
+     */
+    public void checkFailure(SQLException e) {
+
+        String sqlState = e.getSQLState();
+        if (e instanceof SQLNonTransientConnectionException || e instanceof SQLRecoverableException
+                || (sqlState != null && sqlState.startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS))) {
+            invalidate();
+        }
+    }
+
+    public boolean isBroken() {
+
+        return broken;
+    }
+
+    int getPoolState() {
+
+        return poolState.get();
+    }
+
+    void setPoolState(int state) {
+
+        poolState.set(state);
+    }
+
+    /**
+     * Moves the session from one pool state to another. Borrowers, the evictor and the pool itself claim idle sessions
+     * this way without holding a lock.
+     */
+    boolean compareAndSetPoolState(int expected, int state) {
+
+        return poolState.compareAndSet(expected, state);
+    }
+
+    boolean markBorrowed() {
+
+        return borrowed.compareAndSet(false, true);
+    }
+
+    /**
+     * @param route warehouse route of the current borrower, completed when the session is returned
+     */
+    void setRoute(WarehouseRouter.Route route) {
+
+        this.route = route;
+    }
+
+    void touch() {
+
+        lastUsedTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Restores the session defaults a borrower may have changed. A session that cannot be reset is invalidated.
+     */
+    void reset() {
+
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+        } catch (SQLException e) {
+            log.debug("Discarding Snowflake connection that could not be reset.", e);
+            invalidate();
+        }
+    }
+
+    void closePhysicalConnection() {
+
+        if (statementCache != null) {
+            statementCache.clear();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error while closing Snowflake connection.", e);
+        }
+    }
+
+    /**
+     * Returns the session to its pool. Calling this more than once has no effect.
+     */
+    @Override
+    public void close() {
+
+        if (borrowed.compareAndSet(true, false)) {
+            WarehouseRouter.Route completed = route;
+            if (completed != null) {
+                route = null;
+                completed.close();
+            }
+            pool.release(this);
+        }
+    }
+}
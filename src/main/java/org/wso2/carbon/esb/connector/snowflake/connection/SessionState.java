@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Role, warehouse, database, schema and query tag of a Snowflake session. A {@code null} field is either not
+ * requested or, for the tracked state of a session, not known.
+ * <p>
+ * Unquoted identifiers are upper-cased as Snowflake resolves them, so that {@code my_wh} and {@code MY_WH} are
+ * recognized as the same warehouse.
+ */
+public final class SessionState {
+
+    /**
+     * No requirements, or nothing known about a session.
+     */
+    public static final SessionState NONE = new SessionState(null, null, null, null, null, false);
+
+    private static final String IDENTIFIER = "(?:[A-Za-z_][A-Za-z0-9_$]*|\"(?:[^\"]|\"\")+\")";
+    private static final Pattern NAME = Pattern.compile(IDENTIFIER + "(?:\\." + IDENTIFIER + ")?");
+    // statements that change the session, or may run one: procedures with caller's rights and anonymous blocks
+    private static final Set<String> SESSION_STATEMENTS = new HashSet<>(Arrays.asList("USE", "CALL", "BEGIN",
+            "DECLARE"));
+
+    private final String role;
+    private final String warehouse;
+    private final String database;
+    private final String schema;
+    private final String queryTag;
+
+    /**
+     * @throws IllegalArgumentException if a name is not a valid Snowflake identifier
+     */
+    public SessionState(String role, String warehouse, String database, String schema, String queryTag) {
+
+        this(role, warehouse, database, schema, queryTag, true);
+    }
+
+    private SessionState(String role, String warehouse, String database, String schema, String queryTag,
+                         boolean validate) {
+
+        this.role = normalize("role", role, validate);
+        this.warehouse = normalize("warehouse", warehouse, validate);
+        this.database = normalize("database", database, validate);
+        this.schema = normalize("schema", schema, validate);
+        this.queryTag = queryTag;
+    }
+
+    /**
+     * @return the state a new session of the configuration logs in with, as far as it is known
+     */
+    static SessionState initial(ConnectionConfiguration configuration) {
+
+        try {
+            return new SessionState(configuration.getRole(), configuration.getWarehouse(),
+                    configuration.getDatabase(), configuration.getSchema(), null);
+        } catch (IllegalArgumentException e) {
+            return NONE;
+        }
+    }
+
+    /**
+     * Tells whether SQL text may change the role, warehouse, database, schema or query tag of the session it runs on.
+     * Every statement of the text is checked, skipping comments and string literals: {@code USE} and
+     * {@code ALTER SESSION} change the session, and {@code CALL}, {@code EXECUTE IMMEDIATE} and anonymous blocks may
+     * run statements that do.
+     *
+     * @param sql SQL text of one statement or of a script
+     * @return whether the tracked state of the session must be forgotten after running the text
+     */
+    public static boolean isSessionStatement(String sql) {
+
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            int start = skipBlank(sql, i);
+            int end = wordEnd(sql, start);
+            String keyword = sql.substring(start, end).toUpperCase(Locale.ROOT);
+            if (SESSION_STATEMENTS.contains(keyword)) {
+                return true;
+            }
+            if ("ALTER".equals(keyword) || "EXECUTE".equals(keyword)) {
+                int next = skipBlank(sql, end);
+                String second = sql.substring(next, wordEnd(sql, next));
+                if ("ALTER".equals(keyword) ? "SESSION".equalsIgnoreCase(second)
+                        : "IMMEDIATE".equalsIgnoreCase(second)) {
+                    return true;
+                }
+            }
+            i = statementEnd(sql, end);
+        }
+        return false;
+    }
+
+    private static int skipBlank(String sql, int start) {
+
+        int i = start;
+        while (i < sql.length()) {
+            if (Character.isWhitespace(sql.charAt(i))) {
+                i++;
+            } else if (sql.startsWith("--", i) || sql.startsWith("//", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end + 1;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static int wordEnd(String sql, int start) {
+
+        int i = start;
+        while (i < sql.length() && Character.isLetter(sql.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return the position after the semicolon that ends the statement, skipping comments and literals
+     */
+    private static int statementEnd(String sql, int start) {
+
+        int length = sql.length();
+        int i = start;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == ';') {
+                return i + 1;
+            } else if (c == '\'' || c == '"') {
+                i = endOfQuoted(sql, i, c);
+            } else if (c == '$' && sql.startsWith("$$", i)) {
+                int end = sql.indexOf("$$", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '-' || c == '/') {
+                int end = skipBlank(sql, i);
+                i = end > i ? end : i + 1;
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static int endOfQuoted(String sql, int start, char quote) {
+
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\' && quote == '\'') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    public String getRole() {
+
+        return role;
+    }
+
+    public String getWarehouse() {
+
+        return warehouse;
+    }
+
+    public String getDatabase() {
+
+        return database;
+    }
+
+    public String getSchema() {
+
+        return schema;
+    }
+
+    public String getQueryTag() {
+
+        return queryTag;
+    }
+
+    /**
+     * @return a copy of this state that requests the given warehouse
+     * @throws IllegalArgumentException if the name is not a valid Snowflake identifier
+     */
+    public SessionState withWarehouse(String warehouse) {
+
+        return new SessionState(role, warehouse, database, schema, queryTag);
+    }
+
+    public boolean isEmpty() {
+
+        return role == null && warehouse == null && database == null && schema == null && queryTag == null;
+    }
+
+    /**
+     * @return the number of fields requested by {@code requested}
+     */
+    int requestedCount() {
+
+        int count = 0;
+        for (String field : new String[]{role, warehouse, database, schema, queryTag}) {
+            if (field != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of fields of the requested state this state already has
+     */
+    int matchCount(SessionState requested) {
+
+        int count = 0;
+        count += matches(role, requested.role) ? 1 : 0;
+        count += matches(warehouse, requested.warehouse) ? 1 : 0;
+        count += matches(database, requested.database) ? 1 : 0;
+        count += matches(schema, requested.schema) ? 1 : 0;
+        count += matches(queryTag, requested.queryTag) ? 1 : 0;
+        return count;
+    }
+
+    /**
+     * Lists the statements that take a session from this state to the requested one, in the order they must run: the
+     * role decides which warehouses and databases can be used, and changing the database resets the schema.
+     */
+    List<String> statementsToReach(SessionState requested) {
+
+        List<String> statements = new ArrayList<>(5);
+        if (requested.role != null && !requested.role.equals(role)) {
+            statements.add("USE ROLE " + requested.role);
+        }
+        if (requested.warehouse != null && !requested.warehouse.equals(warehouse)) {
+            statements.add("USE WAREHOUSE " + requested.warehouse);
+        }
+        boolean databaseChanged = requested.database != null && !requested.database.equals(database);
+        if (databaseChanged) {
+            statements.add("USE DATABASE " + requested.database);
+        }
+        if (requested.schema != null && (databaseChanged || !requested.schema.equals(schema))) {
+            statements.add("USE SCHEMA " + requested.schema);
+        }
+        if (requested.queryTag != null && !requested.queryTag.equals(queryTag)) {
+            statements.add("ALTER SESSION SET QUERY_TAG = '" + requested.queryTag.replace("\\", "\\\\")
+                    .replace("'", "\\'") + "'");
+        }
+        return statements;
+    }
+
+    /**
+     * @return the state of a session in this state after the requested state was applied
+     */
+    SessionState apply(SessionState requested) {
+
+        boolean databaseChanged = requested.database != null && !requested.database.equals(database);
+        String newSchema = requested.schema != null ? requested.schema : databaseChanged ? null : schema;
+        String newDatabase = requested.database != null ? requested.database : database;
+        if (requested.schema != null && requested.schema.indexOf('.') >= 0) {
+            // a qualified schema name may switch the database as well
+            newDatabase = null;
+        }
+        return new SessionState(requested.role != null ? requested.role : role,
+                requested.warehouse != null ? requested.warehouse : warehouse, newDatabase, newSchema,
+                requested.queryTag != null ? requested.queryTag : queryTag, false);
+    }
+
+    private static boolean matches(String current, String requested) {
+
+        return requested != null && requested.equals(current);
+    }
+
+    private static String normalize(String kind, String name, boolean validate) {
+
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        if (!validate) {
+            return name;
+        }
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid " + kind + " name '" + name + "'");
+        }
+        return name.indexOf('"') < 0 ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SessionState)) {
+            return false;
+        }
+        SessionState that = (SessionState) o;
+        return Objects.equals(role, that.role) && Objects.equals(warehouse, that.warehouse)
+                && Objects.equals(database, that.database) && Objects.equals(schema, that.schema)
+                && Objects.equals(queryTag, that.queryTag);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(role, warehouse, database, schema, queryTag);
+    }
+
+    @Override
+    public String toString() {
+
+        return "role=" + role + ", warehouse=" + warehouse + ", database=" + database + ", schema=" + schema
+                + ", queryTag=" + queryTag;
+    }
+}
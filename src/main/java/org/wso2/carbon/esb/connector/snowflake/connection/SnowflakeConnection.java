@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.connector.core.connection.Connection;
+import org.wso2.carbon.connector.core.connection.ConnectionConfig;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.auth.CredentialManager;
+import org.wso2.carbon.esb.connector.snowflake.auth.KeyPairJwtSource;
+import org.wso2.carbon.esb.connector.snowflake.auth.OAuthTokenSource;
+import org.wso2.carbon.esb.connector.snowflake.auth.TokenSource;
+import org.wso2.carbon.esb.connector.snowflake.cache.ResultCache;
+import org.wso2.carbon.esb.connector.snowflake.cache.TableSchemaCache;
+import org.wso2.carbon.esb.connector.snowflake.deadline.QueryCanceller;
+import org.wso2.carbon.esb.connector.snowflake.hedge.HedgedReader;
+import org.wso2.carbon.esb.connector.snowflake.paging.CursorRegistry;
+import org.wso2.carbon.esb.connector.snowflake.paging.QueryPager;
+import org.wso2.carbon.esb.connector.snowflake.parallel.ParallelQueryRunner;
+import org.wso2.carbon.esb.connector.snowflake.resilience.Bulkhead;
+import org.wso2.carbon.esb.connector.snowflake.resilience.CircuitBreaker;
+import org.wso2.carbon.esb.connector.snowflake.resilience.OperationGuard;
+import org.wso2.carbon.esb.connector.snowflake.template.TemplateCache;
+import org.wso2.carbon.esb.connector.snowflake.utils.TaskThreads;
+import org.wso2.carbon.esb.connector.snowflake.warmup.ConnectionWarmer;
+import org.wso2.carbon.esb.connector.snowflake.warmup.WarmUpReport;
+
+import java.sql.Driver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Snowflake connection registered with the connector-core {@code ConnectionHandler}. One instance exists per named
+ * connection and it owns the session pool, the open query cursors, the result and schema caches and the cached login
+ * credentials shared by every operation that uses that connection.
+ */
+public class SnowflakeConnection implements Connection {
+
+    private static final Log log = LogFactory.getLog(SnowflakeConnection.class);
+
+    private final ConnectionConfiguration configuration;
+    private final List<CredentialManager> credentialManagers = new ArrayList<>();
+    private final CredentialManager credentialManager;
+    private final SnowflakeConnectionPool pool;
+    private final CursorRegistry cursorRegistry;
+    private final QueryPager pager;
+    private final QueryCanceller queryCanceller;
+    private final ResultCache resultCache;
+    private final HedgedReader hedgedReader;
+    private final OperationGuard operationGuard;
+    private final ParallelQueryRunner parallelQueryRunner;
+    private final TemplateCache templateCache = new TemplateCache(SnowflakeConstants.TEMPLATE_CACHE_SIZE);
+    private final TableSchemaCache schemaCache;
+    private volatile WarmUpReport warmUpReport;
+
+    public SnowflakeConnection(ConnectionConfiguration configuration) throws ConnectException {
+
+        this(configuration, loadDriver(configuration.getDriverClass()));
+    }
+
+    public SnowflakeConnection(ConnectionConfiguration configuration, Driver driver) {
+
+        this.configuration = configuration;
+        this.credentialManager = createCredentialManager(configuration);
+        this.pool = new SnowflakeConnectionPool(configuration, driver, credentialManager);
+        // every open cursor holds a session, so at least half of the pool is left for other requests
+        this.cursorRegistry = new CursorRegistry(configuration.getConnectionName(),
+                Math.min(configuration.getMaxOpenCursors(), configuration.getMaxActiveConnections() / 2),
+                configuration.getEvictionInterval());
+        this.queryCanceller = new QueryCanceller(newThreadFactory("query-canceller"));
+        this.pager = new QueryPager(pool, cursorRegistry, queryCanceller);
+        this.resultCache = configuration.getResultCacheMaxBytes() > 0 ? new ResultCache(
+                configuration.getResultCacheMaxBytes(), configuration.getResultCacheTtl()) : null;
+        this.schemaCache = new TableSchemaCache(pool, configuration.getSchemaCacheTtl(),
+                SnowflakeConstants.SCHEMA_CACHE_SIZE);
+        // a primary and a hedge for every session of the pool
+        this.hedgedReader = new HedgedReader(pool, newThreadFactory("hedged-read"),
+                2 * configuration.getMaxActiveConnections(), configuration.getHedgePercentile(),
+                configuration.getHedgeMinDelay(), configuration.getHedgeMaxPercent());
+        this.operationGuard = createOperationGuard(configuration);
+        this.parallelQueryRunner = new ParallelQueryRunner(pool, newThreadFactory("parallel-query"));
+        if (configuration.isUseVirtualThreads() && !TaskThreads.isVirtualThreadSupported()) {
+            log.warn("Virtual threads are not supported by this Java runtime. Snowflake connection '"
+                    + configuration.getConnectionName() + "' uses platform threads.");
+        }
+    }
+
+    @Override
+    public void connect(ConnectionConfig connectionConfig) {
+        // sessions are opened lazily by the pool
+    }
+
+    @Override
+    public void close() {
+
+        cursorRegistry.close();
+        hedgedReader.close();
+        parallelQueryRunner.close();
+        queryCanceller.close();
+        pool.close();
+        for (CredentialManager manager : credentialManagers) {
+            manager.close();
+        }
+    }
+
+    public ConnectionConfiguration getConfiguration() {
+
+        return configuration;
+    }
+
+    public SnowflakeConnectionPool getPool() {
+
+        return pool;
+    }
+
+    public CursorRegistry getCursorRegistry() {
+
+        return cursorRegistry;
+    }
+
+    public QueryPager getPager() {
+
+        return pager;
+    }
+
+    /**
+     * @return the result cache of the connection, or {@code null} if result caching is not enabled
+     */
+    public ResultCache getResultCache() {
+
+        return resultCache;
+    }
+
+    /**
+     * @return the reader that runs the reads of {@code query} with {@code hedge} set
+     */
+    public HedgedReader getHedgedReader() {
+
+        return hedgedReader;
+    }
+
+    /**
+     * @return the runner of the queries of {@code parallelQuery}
+     */
+    public ParallelQueryRunner getParallelQueryRunner() {
+
+        return parallelQueryRunner;
+    }
+
+    /**
+     * @return the canceller of the asynchronous queries that outlive the deadline of their message
+     */
+    public QueryCanceller getQueryCanceller() {
+
+        return queryCanceller;
+    }
+
+    /**
+     * @return the compiled statements with named parameters of this connection
+     */
+    public TemplateCache getTemplateCache() {
+
+        return templateCache;
+    }
+
+    /**
+     * @return the table schemas of this connection; they are only kept between lookups if {@code schemaCacheTtl} is
+     * set
+     */
+    public TableSchemaCache getSchemaCache() {
+
+        return schemaCache;
+    }
+
+    /**
+     * @return the guard that admits the operations run on this connection through its bulkhead and circuit breaker
+     */
+    public OperationGuard getOperationGuard() {
+
+        return operationGuard;
+    }
+
+    /**
+     * Invalidates the cached results and table schemas that may be affected by a statement executed on this
+     * connection.
+     *
+     * @param sql SQL text of the executed statement
+     */
+    public void invalidateCaches(String sql) {
+
+        if (resultCache != null) {
+            resultCache.invalidate(sql);
+        }
+        if (schemaCache.isEnabled()) {
+            schemaCache.invalidate(sql);
+        }
+    }
+
+    /**
+     * Reads the schemas of the {@code schemaPrefetchTables} into the schema cache, so that the first messages writing
+     * to those tables do not wait for them.
+     *
+     * @return the number of schemas read
+     */
+    public int prefetchSchemas() {
+
+        int loaded = schemaCache.prefetch(configuration.getSchemaPrefetchTables());
+        if (log.isDebugEnabled()) {
+            log.debug("Prefetched " + loaded + " of " + configuration.getSchemaPrefetchTables().size()
+                    + " table schema(s) of Snowflake connection '" + configuration.getConnectionName() + "'.");
+        }
+        return loaded;
+    }
+
+    /**
+     * Opens {@code warmUpConnections} sessions in parallel, prepares the warm-up statements on each of them and primes
+     * the result writers. At most {@code maxIdleConnections} sessions are opened, since further sessions would not be
+     * kept by the pool.
+     *
+     * @return the outcome of the warm-up
+     */
+    public WarmUpReport warmUp() {
+
+        int sessions = Math.min(configuration.getWarmUpConnections(), Math.min(configuration.getMaxIdleConnections(),
+                configuration.getMaxActiveConnections()));
+        warmUpReport = new ConnectionWarmer(pool, Math.max(0, sessions), configuration.getWarmUpStatements(),
+                configuration.getWarmUpTimeout(), newThreadFactory("warm-up")).warmUp();
+        return warmUpReport;
+    }
+
+    /**
+     * Creates a factory for the threads that run blocking work of this connection, such as stage uploads. The threads
+     * are virtual threads if {@code useVirtualThreads} is set and the runtime supports them.
+     *
+     * @param purpose part of the thread names that describes the work, e.g. {@code bulk-upload}
+     * @return thread factory
+     */
+    public ThreadFactory newThreadFactory(String purpose) {
+
+        return TaskThreads.factory("snowflake-" + purpose + "-" + configuration.getConnectionName(),
+                configuration.isUseVirtualThreads());
+    }
+
+    /**
+     * @return the outcome of the last warm-up, or {@code null} if the connection was not warmed up
+     */
+    public WarmUpReport getWarmUpReport() {
+
+        return warmUpReport;
+    }
+
+    /**
+     * @return the manager of the OAuth access token used to log in, or {@code null} if the connection does not use
+     * OAuth
+     */
+    public CredentialManager getCredentialManager() {
+
+        return credentialManager;
+    }
+
+    private static OperationGuard createOperationGuard(ConnectionConfiguration configuration) {
+
+        Bulkhead bulkhead = configuration.getMaxConcurrentOperations() > 0 ? new Bulkhead(
+                configuration.getMaxConcurrentOperations(), configuration.getMaxQueuedOperations(),
+                configuration.getOperationQueueTimeout()) : null;
+        CircuitBreaker circuitBreaker = configuration.getCircuitBreakerFailureRate() > 0
+                || configuration.getCircuitBreakerSlowCallTime() > 0 ? new CircuitBreaker(
+                configuration.getCircuitBreakerFailureRate(), configuration.getCircuitBreakerSlowCallTime(),
+                configuration.getCircuitBreakerSlowCallRate(), configuration.getCircuitBreakerWindow(),
+                configuration.getCircuitBreakerOpenTime(), configuration.getCircuitBreakerProbes()) : null;
+        return new OperationGuard(configuration.getConnectionName(), bulkhead, circuitBreaker);
+    }
+
+    private CredentialManager createCredentialManager(ConnectionConfiguration configuration) {
+
+        if (!SnowflakeConstants.AUTHENTICATOR_OAUTH.equals(configuration.getAuthenticator())) {
+            return null;
+        }
+        String name = configuration.getConnectionName();
+        long refreshMargin = configuration.getTokenRefreshMargin();
+        OAuthTokenSource source;
+        if (configuration.getPrivateKey() != null) {
+            TokenSource jwtSource = new KeyPairJwtSource(configuration.getAccountIdentifier(),
+                    configuration.getUser(), configuration.getPrivateKey(), SnowflakeConstants.KEY_PAIR_JWT_LIFETIME);
+            CredentialManager assertions = new CredentialManager(name + "-jwt", jwtSource, refreshMargin);
+            credentialManagers.add(assertions);
+            source = OAuthTokenSource.jwtBearer(configuration.getTokenEndpoint(), configuration.getClientId(),
+                    configuration.getClientSecret(), assertions, configuration.getScope());
+        } else if (configuration.getRefreshToken() != null) {
+            source = OAuthTokenSource.refreshToken(configuration.getTokenEndpoint(), configuration.getClientId(),
+                    configuration.getClientSecret(), configuration.getRefreshToken(), configuration.getScope());
+        } else {
+            source = OAuthTokenSource.clientCredentials(configuration.getTokenEndpoint(), configuration.getClientId(),
+                    configuration.getClientSecret(), configuration.getScope());
+        }
+        CredentialManager manager = new CredentialManager(name, source, refreshMargin);
+        credentialManagers.add(manager);
+        return manager;
+    }
+
+    private static Driver loadDriver(String driverClass) throws ConnectException {
+
+        try {
+            Class<?> clazz = Class.forName(driverClass, true, SnowflakeConnection.class.getClassLoader());
+            return (Driver) clazz.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new ConnectException(e, "Unable to load the Snowflake JDBC driver " + driverClass);
+        }
+    }
+}
@@ -0,0 +1,698 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.auth.CredentialManager;
+import org.wso2.carbon.esb.connector.snowflake.routing.WarehouseRouter;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded pool of Snowflake sessions for a single named connection.
+ * <p>
+ * At most {@code maxActiveConnections} physical sessions exist at any time. Borrowing and returning a session takes no
+ * lock while a session is available: a thread first tries the session it returned last, then claims an idle session
+ * from the shared session array with a compare-and-set, starting at a position derived from the thread so that
+ * concurrent borrowers do not race for the same session. Only borrowers that have to wait for a session take the lock.
+ * A session that has been idle for longer than the validation interval is checked with
+ * {@link Connection#isValid(int)} before it is handed out again.
+ * <p>
+ * The pool tracks the role, warehouse, database, schema and query tag of every session. A borrower that requests a
+ * {@link SessionState} is given the idle session that already matches most of it, and only the {@code USE} and
+ * {@code ALTER SESSION} statements for the fields that still differ are sent.
+ * <p>
+ * When the connection lists equivalent {@code warehouses}, a borrower that does not request a warehouse is routed to
+ * one of them by a {@link WarehouseRouter}, and the session counts towards the load of that warehouse until it is
+ * returned.
+ */
+public class SnowflakeConnectionPool {
+
+    private static final Log log = LogFactory.getLog(SnowflakeConnectionPool.class);
+
+    private final String name;
+    private final Driver driver;
+    private final String url;
+    private final Properties properties;
+    private final CredentialManager credentials;
+    private final int maxActive;
+    private final int maxIdle;
+    private final int minIdle;
+    private final long maxWaitNanos;
+    private final int validationTimeout;
+    private final long validationInterval;
+    private final long minEvictableIdleTime;
+    private final int statementCacheSize;
+    private final StatementCacheStatistics statementCacheStatistics = new StatementCacheStatistics();
+    private final SessionState initialSessionState;
+    private final WarehouseRouter router;
+    private final LongAdder sessionStatementsSent = new LongAdder();
+    private final LongAdder sessionStatementsSkipped = new LongAdder();
+
+    private final LongAdder threadAffineBorrows = new LongAdder();
+
+    // every open session, replaced on change so that borrowers can scan it without a lock
+    private volatile PooledConnection[] sessions = new PooledConnection[0];
+    private final ThreadLocal<WeakReference<PooledConnection>> lastReleased = new ThreadLocal<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    // guards changes to the session array and lets borrowers wait for a session
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    public SnowflakeConnectionPool(ConnectionConfiguration configuration, Driver driver) {
+
+        this(configuration, driver, null);
+    }
+
+    /**
+     * @param configuration connection settings
+     * @param driver        Snowflake JDBC driver
+     * @param credentials   source of the access token sent with every login, or {@code null} if the connection
+     *                      properties hold all credentials
+     */
+    public SnowflakeConnectionPool(ConnectionConfiguration configuration, Driver driver,
+                                   CredentialManager credentials) {
+
+        if (configuration.getMaxActiveConnections() < 1) {
+            throw new IllegalArgumentException("maxActiveConnections must be at least 1 but was "
+                    + configuration.getMaxActiveConnections());
+        }
+        this.name = configuration.getConnectionName();
+        this.driver = driver;
+        this.url = configuration.getConnectionUrl();
+        this.properties = configuration.getConnectionProperties();
+        this.credentials = credentials;
+        this.maxActive = configuration.getMaxActiveConnections();
+        this.maxIdle = Math.max(0, Math.min(configuration.getMaxIdleConnections(), maxActive));
+        this.minIdle = Math.max(0, Math.min(configuration.getMinIdleConnections(), maxIdle));
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, configuration.getMaxWaitTime()));
+        this.validationTimeout = Math.max(0, configuration.getValidationTimeout());
+        this.validationInterval = configuration.getValidationInterval();
+        this.minEvictableIdleTime = configuration.getMinEvictableIdleTime();
+        this.statementCacheSize = Math.max(0, configuration.getStatementCacheSize());
+        this.initialSessionState = SessionState.initial(configuration);
+        this.router = createRouter(configuration);
+
+        long evictionInterval = configuration.getEvictionInterval();
+        if (evictionInterval > 0) {
+            evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "snowflake-pool-evictor-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            evictor.scheduleWithFixedDelay(this::runEviction, evictionInterval, evictionInterval,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            evictor = null;
+        }
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * @return the role, warehouse, database and schema new sessions are opened with
+     */
+    public SessionState getInitialSessionState() {
+
+        return initialSessionState;
+    }
+
+    /**
+     * Borrows a session, logging in a new one if no idle session is available and the pool is not exhausted.
+     *
+     * @return a validated session; close it to return it to the pool
+     * @throws SQLTransientConnectionException if no session became available within the maximum wait time
+     * @throws SQLException                    if a new session could not be opened
+     */
+    public PooledConnection borrow() throws SQLException {
+
+        return borrow(SessionState.NONE);
+    }
+
+    /**
+     * Borrows a session in the requested state. Among the idle sessions the one whose tracked state matches most of
+     * the requested fields is chosen, and the statements needed for the remaining fields are sent before it is
+     * returned.
+     *
+     * @param requested requested session state; {@link SessionState#NONE} for any session
+     * @return a validated session in the requested state; close it to return it to the pool
+     * @throws SQLTransientConnectionException if no session became available within the maximum wait time
+     * @throws SQLException                    if a new session could not be opened or the state could not be set
+     */
+    public PooledConnection borrow(SessionState requested) throws SQLException {
+
+        WarehouseRouter.Route route = null;
+        if (router != null) {
+            if (requested.getWarehouse() == null) {
+                route = router.route();
+                requested = requested.withWarehouse(route.getWarehouse());
+            } else {
+                route = router.routeTo(requested.getWarehouse());
+            }
+        }
+        PooledConnection connection;
+        try {
+            connection = borrowSession(requested);
+        } catch (SQLException | RuntimeException e) {
+            if (route != null) {
+                route.close();
+            }
+            throw e;
+        }
+        connection.setRoute(route);
+        try {
+            int sent = connection.applySessionState(requested);
+            sessionStatementsSent.add(sent);
+            sessionStatementsSkipped.add(requested.requestedCount() - sent);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private PooledConnection borrowSession(SessionState requested) throws SQLException {
+
+        long start = System.nanoTime();
+        while (true) {
+            ensureOpen();
+            PooledConnection candidate = claimIdle(requested);
+            if (candidate == null) {
+                if (reserveSlot()) {
+                    return openBorrowed();
+                }
+                candidate = awaitIdle(requested, maxWaitNanos - (System.nanoTime() - start));
+                if (candidate == null) {
+                    // a slot became free
+                    continue;
+                }
+            }
+            if (isUsable(candidate)) {
+                candidate.markBorrowed();
+                return candidate;
+            }
+            discard(candidate);
+        }
+    }
+
+    /**
+     * Claims an idle session, preferring the one the current thread returned last if it is in the requested state,
+     * and otherwise the idle session whose state matches most of the requested fields.
+     *
+     * @return the claimed session, or {@code null} if no session is idle
+     */
+    private PooledConnection claimIdle(SessionState requested) {
+
+        int wanted = requested.requestedCount();
+        WeakReference<PooledConnection> reference = lastReleased.get();
+        PooledConnection affine = reference == null ? null : reference.get();
+        if (affine != null && affine.getPoolState() == PooledConnection.IDLE
+                && (wanted == 0 || affine.getSessionState().matchCount(requested) == wanted)
+                && affine.compareAndSetPoolState(PooledConnection.IDLE, PooledConnection.IN_USE)) {
+            threadAffineBorrows.increment();
+            return claimed(affine);
+        }
+        while (true) {
+            PooledConnection[] snapshot = sessions;
+            int size = snapshot.length;
+            if (size == 0) {
+                return null;
+            }
+            int offset = (int) (Thread.currentThread().getId() % size);
+            PooledConnection best = null;
+            int bestMatches = -1;
+            for (int i = 0; i < size && bestMatches < wanted; i++) {
+                PooledConnection connection = snapshot[(offset + i) % size];
+                if (connection.getPoolState() == PooledConnection.IDLE) {
+                    int matches = wanted == 0 ? 0 : connection.getSessionState().matchCount(requested);
+                    if (matches > bestMatches) {
+                        best = connection;
+                        bestMatches = matches;
+                    }
+                }
+            }
+            if (best == null) {
+                return null;
+            }
+            if (best.compareAndSetPoolState(PooledConnection.IDLE, PooledConnection.IN_USE)) {
+                return claimed(best);
+            }
+            // another borrower claimed it first
+        }
+    }
+
+    private PooledConnection claimed(PooledConnection connection) {
+
+        idleCount.decrementAndGet();
+        borrowed.incrementAndGet();
+        return connection;
+    }
+
+    /**
+     * Reserves a slot for a new session if the pool is not exhausted.
+     */
+    private boolean reserveSlot() {
+
+        while (true) {
+            int current = total.get();
+            if (current >= maxActive) {
+                return false;
+            }
+            if (total.compareAndSet(current, current + 1)) {
+                borrowed.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    private PooledConnection openBorrowed() throws SQLException {
+
+        PooledConnection connection;
+        try {
+            connection = open();
+        } catch (SQLException | RuntimeException e) {
+            discard(null);
+            throw e;
+        }
+        addSession(connection);
+        connection.markBorrowed();
+        return connection;
+    }
+
+    /**
+     * Waits until a session is returned or a slot becomes free.
+     *
+     * @return the claimed session, or {@code null} if a slot became free
+     */
+    private PooledConnection awaitIdle(SessionState requested, long remaining) throws SQLException {
+
+        // registered before looking for a session, so that a session returned after the look signals this borrower
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            while (true) {
+                ensureOpen();
+                PooledConnection candidate = claimIdle(requested);
+                if (candidate != null) {
+                    return candidate;
+                }
+                if (total.get() < maxActive) {
+                    return null;
+                }
+                if (remaining <= 0) {
+                    throw new SQLTransientConnectionException("Timed out after "
+                            + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms waiting for a connection from "
+                            + "Snowflake connection pool '" + name + "' (active: " + borrowed.get() + ", max: "
+                            + maxActive + ")");
+                }
+                remaining = available.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection from "
+                    + "Snowflake connection pool '" + name + "'", e);
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    private void signalWaiter() {
+
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns a borrowed session. Sessions that are broken, beyond the idle limit or returned after the pool was
+     * closed are logged out.
+     */
+    void release(PooledConnection connection) {
+
+        connection.reset();
+        connection.touch();
+        if (connection.isBroken() || closed || !reserveIdle()) {
+            discard(connection);
+            return;
+        }
+        borrowed.decrementAndGet();
+        connection.setPoolState(PooledConnection.IDLE);
+        WeakReference<PooledConnection> reference = lastReleased.get();
+        if (reference == null || reference.get() != connection) {
+            lastReleased.set(new WeakReference<>(connection));
+        }
+        if (closed && connection.compareAndSetPoolState(PooledConnection.IDLE, PooledConnection.REMOVED)) {
+            // the pool was closed while the session was being returned
+            idleCount.decrementAndGet();
+            remove(connection);
+            return;
+        }
+        signalWaiter();
+    }
+
+    /**
+     * Counts a returned session as idle unless the idle limit is reached and nobody waits for a session.
+     */
+    private boolean reserveIdle() {
+
+        while (true) {
+            int current = idleCount.get();
+            if (current >= maxIdle && waiters.get() == 0) {
+                return false;
+            }
+            if (idleCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Logs out idle sessions that exceeded the minimum evictable idle time while keeping at least
+     * {@code minIdleConnections} sessions, then opens sessions until the minimum is reached again.
+     */
+    public void evict() {
+
+        PooledConnection[] snapshot = sessions;
+        // sort on a snapshot of the last used times; borrowers keep touching the sessions while this runs
+        long[] lastUsedTimes = new long[snapshot.length];
+        Integer[] oldestFirst = new Integer[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            lastUsedTimes[i] = snapshot[i].getLastUsedTime();
+            oldestFirst[i] = i;
+        }
+        Arrays.sort(oldestFirst, Comparator.comparingLong(i -> lastUsedTimes[i]));
+        long threshold = System.currentTimeMillis() - minEvictableIdleTime;
+        int evicted = 0;
+        for (int index : oldestFirst) {
+            if (idleCount.get() <= minIdle) {
+                break;
+            }
+            PooledConnection connection = snapshot[index];
+            if (connection.getLastUsedTime() <= threshold
+                    && connection.compareAndSetPoolState(PooledConnection.IDLE, PooledConnection.REMOVED)) {
+                idleCount.decrementAndGet();
+                remove(connection);
+                evicted++;
+            }
+        }
+        if (evicted > 0 && log.isDebugEnabled()) {
+            log.debug("Evicted " + evicted + " idle connection(s) from Snowflake connection pool '" + name + "'.");
+        }
+        ensureMinIdle();
+    }
+
+    private void runEviction() {
+
+        // an exception escaping a periodic task silently cancels all its later runs
+        try {
+            evict();
+        } catch (Throwable e) {
+            log.error("Eviction of idle connections failed for Snowflake connection pool '" + name + "'.", e);
+        }
+    }
+
+    private void ensureMinIdle() {
+
+        while (!closed && idleCount.get() < minIdle) {
+            int current = total.get();
+            if (current >= maxActive) {
+                return;
+            }
+            if (!total.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            PooledConnection connection;
+            try {
+                connection = open();
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Unable to open an idle connection for Snowflake connection pool '" + name + "'.", e);
+                total.decrementAndGet();
+                signalWaiter();
+                return;
+            }
+            idleCount.incrementAndGet();
+            connection.setPoolState(PooledConnection.IDLE);
+            addSession(connection);
+            if (closed && connection.compareAndSetPoolState(PooledConnection.IDLE, PooledConnection.REMOVED)) {
+                idleCount.decrementAndGet();
+                remove(connection);
+                return;
+            }
+            signalWaiter();
+        }
+    }
+
+    /**
+     * Closes the pool. Idle sessions are logged out immediately and borrowed sessions when they are returned.
+     */
+    public void close() {
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        for (PooledConnection connection : sessions) {
+            if (connection.compareAndSetPoolState(PooledConnection.IDLE, PooledConnection.REMOVED)) {
+                idleCount.decrementAndGet();
+                remove(connection);
+            }
+        }
+    }
+
+    public boolean isClosed() {
+
+        return closed;
+    }
+
+    public int getActiveCount() {
+
+        return borrowed.get();
+    }
+
+    public int getIdleCount() {
+
+        return idleCount.get();
+    }
+
+    public int getTotalCount() {
+
+        return total.get();
+    }
+
+    /**
+     * @return the number of borrows served by the session the borrowing thread returned last
+     */
+    public long getThreadAffineBorrows() {
+
+        return threadAffineBorrows.sum();
+    }
+
+    /**
+     * @return the prepared statement cache counters of all sessions of the pool
+     */
+    public StatementCacheStatistics getStatementCacheStatistics() {
+
+        return statementCacheStatistics;
+    }
+
+    /**
+     * @return the number of {@code USE} and {@code ALTER SESSION} statements sent to bring sessions to the state
+     * requested by borrowers
+     */
+    public long getSessionStatementsSent() {
+
+        return sessionStatementsSent.sum();
+    }
+
+    /**
+     * @return the number of requested session state fields that sessions already had, so no statement was sent
+     */
+    public long getSessionStatementsSkipped() {
+
+        return sessionStatementsSkipped.sum();
+    }
+
+    /**
+     * @return the router spreading statements over the equivalent warehouses of the connection, or {@code null} if
+     * no warehouses are configured
+     */
+    public WarehouseRouter getWarehouseRouter() {
+
+        return router;
+    }
+
+    private static WarehouseRouter createRouter(ConnectionConfiguration configuration) {
+
+        if (configuration.getWarehouses().isEmpty()) {
+            return null;
+        }
+        List<String> warehouses = new ArrayList<>();
+        for (String warehouse : configuration.getWarehouses()) {
+            // same spelling as requested session warehouses, so that idle sessions on a warehouse are recognized
+            warehouses.add(new SessionState(null, warehouse, null, null, null).getWarehouse());
+        }
+        return new WarehouseRouter(warehouses,
+                WarehouseRouter.Strategy.fromParameter(configuration.getWarehouseRouting()));
+    }
+
+    private PooledConnection open() throws SQLException {
+
+        Connection connection = driver.connect(url, loginProperties());
+        if (connection == null) {
+            throw new SQLNonTransientConnectionException("Driver " + driver.getClass().getName()
+                    + " does not accept URL " + url);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Opened a new connection for Snowflake connection pool '" + name + "'.");
+        }
+        return new PooledConnection(this, connection, statementCacheSize, statementCacheStatistics,
+                initialSessionState);
+    }
+
+    private Properties loginProperties() throws SQLException {
+
+        if (credentials == null) {
+            return properties;
+        }
+        Properties withToken = new Properties();
+        withToken.putAll(properties);
+        try {
+            withToken.setProperty("token", credentials.getToken().getValue());
+        } catch (IOException e) {
+            throw new SQLTransientConnectionException("Unable to obtain an access token for Snowflake connection '"
+                    + name + "': " + e.getMessage(), e);
+        }
+        return withToken;
+    }
+
+    private boolean isUsable(PooledConnection connection) {
+
+        if (System.currentTimeMillis() - connection.getLastUsedTime() < validationInterval) {
+            return true;
+        }
+        try {
+            return connection.getConnection().isValid(validationTimeout);
+        } catch (SQLException e) {
+            log.debug("Validation of a pooled Snowflake connection failed.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Gives up the slot of a borrowed session and logs it out.
+     */
+    private void discard(PooledConnection connection) {
+
+        borrowed.decrementAndGet();
+        if (connection == null) {
+            total.decrementAndGet();
+            signalWaiter();
+        } else {
+            connection.setPoolState(PooledConnection.REMOVED);
+            remove(connection);
+        }
+    }
+
+    private void addSession(PooledConnection connection) {
+
+        lock.lock();
+        try {
+            PooledConnection[] current = sessions;
+            PooledConnection[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = connection;
+            sessions = updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops a session that was moved to the removed state from the pool, gives up its slot and logs it out.
+     */
+    private void remove(PooledConnection connection) {
+
+        lock.lock();
+        try {
+            PooledConnection[] current = sessions;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == connection) {
+                    PooledConnection[] updated = new PooledConnection[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, updated.length - i);
+                    sessions = updated;
+                    break;
+                }
+            }
+            total.decrementAndGet();
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        connection.closePhysicalConnection();
+    }
+
+    private void ensureOpen() throws SQLException {
+
+        if (closed) {
+            throw new SQLNonTransientConnectionException("Snowflake connection pool '" + name + "' is closed");
+        }
+    }
+}
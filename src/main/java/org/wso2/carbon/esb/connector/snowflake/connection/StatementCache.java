@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of the prepared statements of one session, keyed by SQL text.
+ * <p>
+ * Callers receive a proxy of the cached statement. Closing the proxy clears the parameters, batch and limits of the
+ * statement and makes it available for the next borrower of the session instead of closing it, so that Snowflake does
+ * not parse and describe the same text again. A statement evicted while it is in use is closed when its proxy is
+ * closed. A session uses its cache from one thread at a time, so the cache is not thread safe.
+ */
+class StatementCache {
+
+    private static final Log log = LogFactory.getLog(StatementCache.class);
+
+    private final int capacity;
+    private final StatementCacheStatistics statistics;
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(int capacity, StatementCacheStatistics statistics) {
+
+        this.capacity = capacity;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns the cached statement for the SQL text, preparing and caching it on a miss. If the cached statement is
+     * already in use by the current borrower an uncached statement is prepared instead.
+     */
+    PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+
+        CachedStatement cached = statements.get(sql);
+        if (cached != null && !cached.inUse) {
+            statistics.recordHit();
+            cached.inUse = true;
+            return cached.proxy;
+        }
+        statistics.recordMiss();
+        PreparedStatement statement = connection.prepareStatement(sql);
+        if (cached != null) {
+            return statement;
+        }
+        cached = new CachedStatement(sql, statement);
+        cached.inUse = true;
+        statements.put(sql, cached);
+        evictOverflow();
+        return cached.proxy;
+    }
+
+    int size() {
+
+        return statements.size();
+    }
+
+    /**
+     * Closes every cached statement. Called before the session is logged out.
+     */
+    void clear() {
+
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.statement);
+        }
+        statements.clear();
+    }
+
+    private void evictOverflow() {
+
+        Iterator<CachedStatement> eldestFirst = statements.values().iterator();
+        while (statements.size() > capacity && eldestFirst.hasNext()) {
+            CachedStatement eldest = eldestFirst.next();
+            eldestFirst.remove();
+            statistics.recordEviction();
+            if (!eldest.inUse) {
+                closeQuietly(eldest.statement);
+            }
+        }
+    }
+
+    /**
+     * Called when the borrower closes the proxy of a cached statement.
+     */
+    private void release(CachedStatement cached) {
+
+        if (!cached.inUse) {
+            return;
+        }
+        cached.inUse = false;
+        if (statements.get(cached.sql) != cached) {
+            closeQuietly(cached.statement);
+            return;
+        }
+        try {
+            PreparedStatement statement = cached.statement;
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+            statement.setMaxRows(0);
+            statement.setFetchSize(0);
+            statement.setQueryTimeout(0);
+        } catch (SQLException e) {
+            log.debug("Discarding cached Snowflake statement that could not be reset.", e);
+            statements.remove(cached.sql);
+            closeQuietly(cached.statement);
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            log.debug("Error while closing cached Snowflake statement.", e);
+        }
+    }
+
+    private final class CachedStatement implements InvocationHandler {
+
+        private final String sql;
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private boolean inUse;
+
+        CachedStatement(String sql, PreparedStatement statement) {
+
+            this.sql = sql;
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            switch (method.getName()) {
+                case "close":
+                    release(this);
+                    return null;
+                case "isClosed":
+                    return !inUse || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached " + statement;
+                default:
+                    try {
+                        return method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.deadline;
+
+/**
+ * Point in time by which the mediation of a message must be done, in milliseconds since the epoch. Statements run for
+ * the message get a query timeout no longer than the time that is left, so that Snowflake stops working on a request
+ * the caller has already given up on.
+ */
+public final class Deadline {
+
+    /**
+     * No deadline; statements keep their configured timeout.
+     */
+    public static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * @param epochMillis milliseconds since the epoch at which the deadline expires
+     * @return the deadline
+     */
+    public static Deadline at(long epochMillis) {
+
+        return new Deadline(epochMillis);
+    }
+
+    /**
+     * @param millis milliseconds from now; 0 or less means no deadline
+     * @return the deadline
+     */
+    public static Deadline after(long millis) {
+
+        return millis > 0 ? new Deadline(System.currentTimeMillis() + millis) : NONE;
+    }
+
+    public boolean isSet() {
+
+        return expiresAt != Long.MAX_VALUE;
+    }
+
+    public long getExpiresAt() {
+
+        return expiresAt;
+    }
+
+    /**
+     * @return milliseconds left before the deadline, 0 if it has passed, or {@link Long#MAX_VALUE} if it is not set
+     */
+    public long remainingMillis() {
+
+        return isSet() ? Math.max(0, expiresAt - System.currentTimeMillis()) : Long.MAX_VALUE;
+    }
+
+    /**
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public void check() throws DeadlineExceededException {
+
+        if (isSet() && remainingMillis() == 0) {
+            throw new DeadlineExceededException("The deadline of the message passed "
+                    + (System.currentTimeMillis() - expiresAt) + " ms ago.");
+        }
+    }
+
+    /**
+     * Caps a timeout in milliseconds to the time left.
+     *
+     * @param timeout configured timeout in milliseconds, 0 for none
+     * @return the timeout to use, 0 only if neither the timeout nor the deadline is set
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public long timeoutMillis(long timeout) throws DeadlineExceededException {
+
+        if (!isSet()) {
+            return timeout;
+        }
+        check();
+        long remaining = remainingMillis();
+        return timeout > 0 ? Math.min(timeout, remaining) : remaining;
+    }
+
+    /**
+     * Caps a JDBC query timeout to the time left, rounded up to whole seconds.
+     *
+     * @param queryTimeout configured query timeout in seconds, 0 for none
+     * @return the query timeout to set on the statement
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public int queryTimeout(int queryTimeout) throws DeadlineExceededException {
+
+        if (!isSet()) {
+            return queryTimeout;
+        }
+        long remaining = (timeoutMillis(0) + 999) / 1000;
+        return queryTimeout > 0 && queryTimeout < remaining ? queryTimeout : (int) Math.min(remaining,
+                Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+
+        return isSet() ? "Deadline[" + remainingMillis() + " ms left]" : "Deadline[none]";
+    }
+}
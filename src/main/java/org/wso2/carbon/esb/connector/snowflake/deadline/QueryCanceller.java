@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.deadline;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cancels asynchronous queries in Snowflake by query ID once the deadline of the message that submitted them passes.
+ * <p>
+ * A statement executed synchronously is cancelled by the driver when its query timeout, which is capped to the
+ * deadline, expires. A query submitted asynchronously is not bound to a statement, so without a watch it would keep
+ * running, and the session polling for it would stay busy, after the caller gave up. The cancellation is sent with
+ * {@code SYSTEM$CANCEL_QUERY} on the session that submitted the query, which the caller holds until the watch is
+ * closed, so a cancellation never waits for a session of an exhausted pool. That makes the poller fail right away and
+ * return its session. Cancellations are sent by a few threads, so one slow request does not hold back the others.
+ */
+public class QueryCanceller implements Closeable {
+
+    private static final Log log = LogFactory.getLog(QueryCanceller.class);
+
+    private static final int CANCELLATION_THREADS = 4;
+    private static final long IDLE_THREAD_TIMEOUT = 60000;
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder cancellationFailures = new LongAdder();
+
+    /**
+     * @param threadFactory factory of the threads that send the cancellations
+     */
+    public QueryCanceller(ThreadFactory threadFactory) {
+
+        this.scheduler = new ScheduledThreadPoolExecutor(CANCELLATION_THREADS, threadFactory);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler.setKeepAliveTime(IDLE_THREAD_TIMEOUT, TimeUnit.MILLISECONDS);
+        this.scheduler.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Cancels a query when the deadline passes, unless the returned watch is closed first.
+     *
+     * @param queryId  Snowflake query ID
+     * @param session  session that submitted the query; it must stay open until the watch is closed
+     * @param deadline deadline of the message that submitted the query
+     * @return the watch; close it once the query completed
+     */
+    public Watch watch(String queryId, Connection session, Deadline deadline) {
+
+        if (!deadline.isSet()) {
+            return Watch.NONE;
+        }
+        ScheduledFuture<?> cancellation = scheduler.schedule(() -> cancel(queryId, session),
+                deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        return () -> cancellation.cancel(false);
+    }
+
+    private void cancel(String queryId, Connection session) {
+
+        try {
+            AsyncQueryClient.cancel(session, queryId);
+            cancellations.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Cancelled Snowflake query " + queryId + " that was still running at the deadline.");
+            }
+        } catch (SQLException | RuntimeException e) {
+            cancellationFailures.increment();
+            log.warn("Unable to cancel Snowflake query " + queryId + " after its deadline passed.", e);
+        }
+    }
+
+    /**
+     * @return the number of queries cancelled because their deadline passed
+     */
+    public long getCancellationCount() {
+
+        return cancellations.sum();
+    }
+
+    public long getCancellationFailureCount() {
+
+        return cancellationFailures.sum();
+    }
+
+    @Override
+    public void close() {
+
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Pending cancellation of a query. Closing it after the query completed withdraws the cancellation.
+     */
+    public interface Watch extends AutoCloseable {
+
+        /**
+         * Watch that never cancels anything.
+         */
+        Watch NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+}
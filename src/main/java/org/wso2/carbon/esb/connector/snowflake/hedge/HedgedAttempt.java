@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.hedge;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * One execution of a read that may run more than once at the same time.
+ *
+ * @param <T> result of the read
+ */
+@FunctionalInterface
+public interface HedgedAttempt<T> {
+
+    /**
+     * Runs the read.
+     *
+     * @param queryIds receives the Snowflake query ID as soon as the query is submitted, so that the attempt can be
+     *                 cancelled in Snowflake if another attempt completes first
+     * @return the result
+     */
+    T run(Consumer<String> queryIds) throws SQLException, IOException;
+}
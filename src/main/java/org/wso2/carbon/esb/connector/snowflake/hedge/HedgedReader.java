@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.hedge;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Runs idempotent reads with hedging. When a read has not completed after the configured percentile of the recent
+ * latencies of the same statement, a second attempt is started on another pooled session, which the warehouse router
+ * may place on another warehouse. The first attempt to complete wins and the other one is cancelled in Snowflake by
+ * its query ID.
+ * <p>
+ * Hedging only starts once a statement has {@value #MIN_SAMPLES} latency samples, and at most {@code maxPercent}
+ * percent of the hedgeable reads are hedged, so that a slow warehouse is not flooded with duplicate queries.
+ */
+public class HedgedReader implements Closeable {
+
+    private static final Log log = LogFactory.getLog(HedgedReader.class);
+
+    static final int MIN_SAMPLES = 20;
+    private static final int WINDOW_SIZE = 200;
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+    private static final long IDLE_THREAD_TIMEOUT = 60;
+
+    private final SnowflakeConnectionPool pool;
+    private final ExecutorService executor;
+    private final int percentile;
+    private final long minDelay;
+    private final int maxPercent;
+    private final Map<String, LatencyTracker> trackers =
+            new LinkedHashMap<String, LatencyTracker>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LatencyTracker> eldest) {
+
+                    return size() > MAX_TRACKED_STATEMENTS;
+                }
+            };
+    private final LongAdder reads = new LongAdder();
+    private final AtomicLong hedges = new AtomicLong();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder cancellationFailures = new LongAdder();
+
+    /**
+     * @param pool          pool the cancellations are sent through
+     * @param threadFactory factory of the threads that run the attempts
+     * @param maxThreads    maximum number of attempts and cancellations running at once; more are queued
+     * @param percentile    latency percentile after which a read is hedged
+     * @param minDelay      minimum milliseconds before a read is hedged
+     * @param maxPercent    maximum percentage of reads that are hedged
+     */
+    public HedgedReader(SnowflakeConnectionPool pool, ThreadFactory threadFactory, int maxThreads, int percentile,
+                        long minDelay, int maxPercent) {
+
+        this.pool = pool;
+        ThreadPoolExecutor threads = new ThreadPoolExecutor(Math.max(1, maxThreads), Math.max(1, maxThreads),
+                IDLE_THREAD_TIMEOUT, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        threads.allowCoreThreadTimeOut(true);
+        this.executor = threads;
+        this.percentile = percentile;
+        this.minDelay = Math.max(0, minDelay);
+        this.maxPercent = maxPercent;
+    }
+
+    /**
+     * Runs a read, hedging it if it is slow.
+     *
+     * @param statement key of the latency samples, usually the SQL text
+     * @param attempt   the read; it is run once or twice, possibly at the same time
+     * @param discard   releases the result of an attempt that completed after another one had won
+     * @param <T>       result of the read
+     * @return the result of the attempt that completed first
+     */
+    public <T> T read(String statement, HedgedAttempt<T> attempt, Consumer<T> discard)
+            throws SQLException, IOException {
+
+        reads.increment();
+        long start = System.nanoTime();
+        LatencyTracker tracker = tracker(statement);
+        long delay = tracker.percentile(percentile, MIN_SAMPLES);
+        AtomicReference<Attempt<T>> winner = new AtomicReference<>();
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Attempt<T> primary = new Attempt<>(this, attempt, winner, discard, tracker, start);
+        Attempt<T> hedge = null;
+        primary.future = completion.submit(primary);
+        try {
+            Future<T> done = delay < 0 ? completion.take()
+                    : completion.poll(Math.max(delay, minDelay), TimeUnit.MILLISECONDS);
+            int pending = 1;
+            if (done == null) {
+                if (reserveHedge()) {
+                    hedge = new Attempt<>(this, attempt, winner, discard, tracker, start);
+                    hedge.future = completion.submit(hedge);
+                    pending++;
+                    if (log.isDebugEnabled()) {
+                        log.debug("Hedging a Snowflake query that is still running after " + Math.max(delay, minDelay)
+                                + " ms.");
+                    }
+                } else {
+                    rateLimited.increment();
+                }
+                done = completion.take();
+            }
+            Throwable failure = null;
+            while (true) {
+                try {
+                    T result = done.get();
+                    Attempt<T> won = winner.get();
+                    if (won == hedge) {
+                        hedgeWins.increment();
+                    }
+                    cancelOthers(won, primary, hedge);
+                    return result;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    if (--pending == 0) {
+                        throw failure;
+                    }
+                    done = completion.take();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // claim the read so that an attempt completing later releases its result
+            winner.compareAndSet(null, new Attempt<>(this, attempt, winner, discard, tracker, start));
+            cancelOthers(null, primary, hedge);
+            throw new SQLException("Interrupted while waiting for a Snowflake query", e);
+        } catch (SQLException | IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    private LatencyTracker tracker(String statement) {
+
+        synchronized (trackers) {
+            return trackers.computeIfAbsent(statement, key -> new LatencyTracker(WINDOW_SIZE));
+        }
+    }
+
+    private boolean reserveHedge() {
+
+        while (true) {
+            long current = hedges.get();
+            if ((current + 1) * 100 > (long) maxPercent * reads.sum()) {
+                return false;
+            }
+            if (hedges.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void cancelOthers(Attempt<?> won, Attempt<?> primary, Attempt<?> hedge) {
+
+        for (Attempt<?> attempt : new Attempt<?>[]{primary, hedge}) {
+            if (attempt != null && attempt != won) {
+                attempt.cancel();
+            }
+        }
+    }
+
+    private void cancelQueryLater(String queryId) {
+
+        try {
+            executor.execute(() -> cancelQuery(queryId));
+        } catch (RejectedExecutionException e) {
+            cancellationFailures.increment();
+            log.debug("Unable to cancel Snowflake query " + queryId + " as the reader is closed.", e);
+        }
+    }
+
+    private void cancelQuery(String queryId) {
+
+        try (PooledConnection connection = pool.borrow()) {
+            AsyncQueryClient.cancel(connection.getConnection(), queryId);
+            cancellations.increment();
+        } catch (SQLException | RuntimeException e) {
+            cancellationFailures.increment();
+            log.debug("Unable to cancel Snowflake query " + queryId + ".", e);
+        }
+    }
+
+    /**
+     * @return the number of reads run through the reader
+     */
+    public long getReadCount() {
+
+        return reads.sum();
+    }
+
+    /**
+     * @return the number of second attempts started
+     */
+    public long getHedgeCount() {
+
+        return hedges.get();
+    }
+
+    /**
+     * @return the number of reads won by the second attempt
+     */
+    public long getHedgeWinCount() {
+
+        return hedgeWins.sum();
+    }
+
+    /**
+     * @return the number of slow reads that were not hedged because the hedge rate cap was reached
+     */
+    public long getRateLimitedCount() {
+
+        return rateLimited.sum();
+    }
+
+    /**
+     * @return the number of losing queries cancelled in Snowflake
+     */
+    public long getCancellationCount() {
+
+        return cancellations.sum();
+    }
+
+    public long getCancellationFailureCount() {
+
+        return cancellationFailures.sum();
+    }
+
+    @Override
+    public void close() {
+
+        executor.shutdownNow();
+    }
+
+    private static final class Attempt<T> implements Callable<T> {
+
+        private final HedgedReader reader;
+        private final HedgedAttempt<T> attempt;
+        private final AtomicReference<Attempt<T>> winner;
+        private final Consumer<T> discard;
+        private final LatencyTracker tracker;
+        private final long readStart;
+        private final AtomicBoolean queryCancelled = new AtomicBoolean();
+        private volatile Future<T> future;
+        private volatile String queryId;
+        private volatile boolean cancelled;
+
+        Attempt(HedgedReader reader, HedgedAttempt<T> attempt, AtomicReference<Attempt<T>> winner,
+                Consumer<T> discard, LatencyTracker tracker, long readStart) {
+
+            this.reader = reader;
+            this.attempt = attempt;
+            this.winner = winner;
+            this.discard = discard;
+            this.tracker = tracker;
+            this.readStart = readStart;
+        }
+
+        @Override
+        public T call() throws Exception {
+
+            if (cancelled) {
+                throw new CancellationException("Another attempt completed first");
+            }
+            T result = attempt.run(this::submitted);
+            // every completed attempt is a sample of how long the read takes, whether it won or not
+            tracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - readStart));
+            if (!winner.compareAndSet(null, this)) {
+                discard.accept(result);
+                throw new IllegalStateException("Another attempt completed first");
+            }
+            return result;
+        }
+
+        /**
+         * Cancels the attempt, and its query in Snowflake if it was already submitted. A query submitted after this is
+         * cancelled as soon as its ID is known.
+         */
+        void cancel() {
+
+            cancelled = true;
+            if (future != null) {
+                future.cancel(true);
+            }
+            cancelQuery();
+        }
+
+        private void submitted(String id) {
+
+            queryId = id;
+            if (cancelled) {
+                cancelQuery();
+                throw new CancellationException("Another attempt completed first");
+            }
+        }
+
+        private void cancelQuery() {
+
+            String id = queryId;
+            if (id != null && queryCancelled.compareAndSet(false, true)) {
+                reader.cancelQueryLater(id);
+            }
+        }
+    }
+}
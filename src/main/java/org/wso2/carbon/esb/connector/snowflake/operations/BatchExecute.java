@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.batch.AdaptiveBatchSizer;
+import org.wso2.carbon.esb.connector.snowflake.batch.BatchExecutor;
+import org.wso2.carbon.esb.connector.snowflake.batch.BatchResult;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code batchExecute} operation. A statement is executed for each parameter set of a JSON array of
+ * arrays, taken from the {@code parameterSets} parameter or from the payload, using JDBC batches whose size adapts to
+ * the observed latency.
+ * <p>
+ * The statistics of every batch are set in the {@code snowflake.batchStatistics} property so that flows can react to
+ * partial failures. They are set when the operation fails as well, since the batches sent before the failure may have
+ * been committed.
+ */
+public class BatchExecute extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String query = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERY);
+        String parameterSets = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PARAMETER_SETS);
+        boolean continueOnError = SnowflakeUtils.getBooleanParameter(messageContext,
+                SnowflakeConstants.CONTINUE_ON_ERROR, false);
+        BatchExecutor executor = new BatchExecutor(createSizer(messageContext), SnowflakeUtils.getLongParameter(
+                messageContext, SnowflakeConstants.MAX_BATCH_BYTES, SnowflakeConstants.DEFAULT_MAX_BATCH_BYTES),
+                continueOnError);
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        Deadline deadline = SnowflakeUtils.getDeadline(messageContext);
+
+        BatchResult result = new BatchResult();
+        try (Reader input = parameterSets != null ? new StringReader(parameterSets) : new InputStreamReader(
+                SnowflakeUtils.getJsonPayloadStream(messageContext), StandardCharsets.UTF_8);
+             PooledConnection pooledConnection = connection.getPool().borrow(session)) {
+            try (PreparedStatement statement = pooledConnection.prepareStatement(query)) {
+                statement.setQueryTimeout(deadline.queryTimeout(0));
+                executor.execute(statement, input, result);
+            } catch (SQLException e) {
+                pooledConnection.checkFailure(e);
+                throw e;
+            }
+        } catch (SQLException | IOException | IllegalArgumentException e) {
+            // batches sent before the failure may have been committed
+            setStatistics(messageContext, result);
+            handleException("Error while executing Snowflake batch after " + result.getRowsAffected()
+                    + " affected rows: " + e.getMessage(), e, messageContext);
+            return;
+        } finally {
+            connection.invalidateCaches(query);
+        }
+
+        setStatistics(messageContext, result);
+        if (result.hasFailures() && !continueOnError) {
+            handleException("Snowflake batch failed after " + result.getRowsAffected() + " affected rows; "
+                    + result.getFailedRows() + " rows were not applied.", messageContext);
+        }
+        try {
+            SnowflakeUtils.setJsonPayload(messageContext, result.toJson().toString());
+        } catch (IOException e) {
+            handleException("Error while setting the batch result as the payload.", e, messageContext);
+        }
+    }
+
+    private static void setStatistics(MessageContext messageContext, BatchResult result) {
+
+        messageContext.setProperty(SnowflakeConstants.BATCH_STATISTICS_PROPERTY, result.batchesToJson().toString());
+        messageContext.setProperty(SnowflakeConstants.ROWS_AFFECTED_PROPERTY, result.getRowsAffected());
+        messageContext.setProperty(SnowflakeConstants.FAILED_ROWS_PROPERTY, result.getFailedRows());
+    }
+
+    private static AdaptiveBatchSizer createSizer(MessageContext messageContext) throws ConnectException {
+
+        int minBatchSize = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.MIN_BATCH_SIZE,
+                SnowflakeConstants.DEFAULT_MIN_BATCH_SIZE);
+        int maxBatchSize = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.MAX_BATCH_SIZE,
+                SnowflakeConstants.DEFAULT_MAX_BATCH_SIZE);
+        int initialBatchSize = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.INITIAL_BATCH_SIZE,
+                SnowflakeConstants.DEFAULT_INITIAL_BATCH_SIZE);
+        long targetLatency = SnowflakeUtils.getLongParameter(messageContext, SnowflakeConstants.TARGET_BATCH_LATENCY,
+                SnowflakeConstants.DEFAULT_TARGET_BATCH_LATENCY);
+        try {
+            return new AdaptiveBatchSizer(minBatchSize, maxBatchSize, targetLatency, initialBatchSize);
+        } catch (IllegalArgumentException e) {
+            throw new ConnectException(e, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.bulk.BulkLoadResult;
+import org.wso2.carbon.esb.connector.snowflake.bulk.BulkLoader;
+import org.wso2.carbon.esb.connector.snowflake.bulk.JdbcStageClient;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+import org.wso2.carbon.esb.connector.snowflake.utils.SqlIdentifiers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code bulkLoad} operation. The JSON array in the payload is staged as compressed CSV files with
+ * {@code PUT} and loaded with a single {@code COPY INTO}. When the schema cache of the connection is enabled, the
+ * target columns are checked against the cached schema of the table before anything is staged.
+ */
+public class BulkLoad extends SnowflakeOperation {
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String table = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.TABLE);
+        String stage = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.STAGE);
+        String onError = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.ON_ERROR);
+        int chunkSize = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.CHUNK_SIZE,
+                SnowflakeConstants.DEFAULT_CHUNK_SIZE_MB);
+        int uploadThreads = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.UPLOAD_THREADS,
+                SnowflakeConstants.DEFAULT_UPLOAD_THREADS);
+        if (chunkSize < 1 || uploadThreads < 1) {
+            throw new ConnectException("Parameters '" + SnowflakeConstants.CHUNK_SIZE + "' and '"
+                    + SnowflakeConstants.UPLOAD_THREADS + "' must be at least 1.");
+        }
+
+        BulkLoader loader;
+        try {
+            if (stage == null) {
+                stage = SqlIdentifiers.tableStage(table);
+            }
+            loader = new BulkLoader(connection.getPool(), new JdbcStageClient(connection.getPool(), stage),
+                    table, stage, SnowflakeUtils.splitList(SnowflakeUtils.lookupParameter(messageContext,
+                    SnowflakeConstants.COLUMNS)), chunkSize * BYTES_PER_MB, uploadThreads,
+                    onError == null ? SnowflakeConstants.DEFAULT_ON_ERROR : onError,
+                    connection.newThreadFactory("bulk-upload"));
+        } catch (IllegalArgumentException e) {
+            throw new ConnectException(e, e.getMessage());
+        }
+        if (connection.getSchemaCache().isEnabled()) {
+            loader.setSchemaCache(connection.getSchemaCache());
+        }
+        try (InputStream payload = SnowflakeUtils.getJsonPayloadStream(messageContext)) {
+            BulkLoadResult result = loader.load(payload);
+            SnowflakeUtils.setJsonPayload(messageContext, result.toJson().toString());
+            messageContext.setProperty(SnowflakeConstants.ROW_COUNT_PROPERTY, result.getRowsLoaded());
+        } catch (SQLException | IOException e) {
+            handleException("Error while bulk loading into Snowflake table " + table + ": " + e.getMessage(), e,
+                    messageContext);
+        } finally {
+            // even a failed load may have committed rows, depending on onError
+            connection.invalidateCaches("COPY INTO " + table);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.cache.TableSchema;
+import org.wso2.carbon.esb.connector.snowflake.cache.TableSchemaCache;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code describeTable} operation. The payload is replaced with the columns of the table, served from
+ * the schema cache of the connection when it is enabled. With {@code refresh} set the schema is read again and the
+ * cached one replaced, e.g. after the table was altered outside the connector. An unqualified table name is resolved
+ * in {@code sessionDatabase} and {@code sessionSchema}, or else in the database and schema of the connection.
+ */
+public class DescribeTable extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String table = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.TABLE);
+        boolean refresh = SnowflakeUtils.getBooleanParameter(messageContext, SnowflakeConstants.REFRESH, false);
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        TableSchemaCache schemaCache = connection.getSchemaCache();
+        try {
+            TableSchema schema = refresh ? schemaCache.refresh(table, session) : schemaCache.get(table, session);
+            SnowflakeUtils.setJsonPayload(messageContext, schema.toJson().toString());
+        } catch (SQLException | IOException e) {
+            handleException("Error while describing Snowflake table " + table + ": " + e.getMessage(), e,
+                    messageContext);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.template.SqlTemplate;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code execute} operation. A DML or DDL statement is executed once and the number of affected rows
+ * is set in the {@code snowflake.rowsAffected} property and in the payload. The statement may use named parameters,
+ * see {@link SqlTemplate}.
+ */
+public class Execute extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String query = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERY);
+        String parameters = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PARAMETERS);
+        String parameterSources = SnowflakeUtils.lookupParameter(messageContext,
+                SnowflakeConstants.PARAMETER_SOURCES);
+        int queryTimeout = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.QUERY_TIMEOUT,
+                SnowflakeConstants.DEFAULT_QUERY_TIMEOUT);
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        Deadline deadline = SnowflakeUtils.getDeadline(messageContext);
+
+        SqlTemplate template;
+        JsonArray parameterValues;
+        try {
+            template = connection.getTemplateCache().get(query, parameterSources);
+            parameterValues = SnowflakeUtils.resolveParameters(messageContext, template, parameters);
+        } catch (IllegalArgumentException e) {
+            handleException("Invalid Snowflake statement parameters: " + e.getMessage(), e, messageContext);
+            return;
+        }
+
+        long rowsAffected;
+        try (PooledConnection pooledConnection = connection.getPool().borrow(session)) {
+            try (PreparedStatement statement = pooledConnection.prepareStatement(template.getSql())) {
+                if (parameterValues != null) {
+                    template.bind(statement, parameterValues);
+                }
+                statement.setQueryTimeout(deadline.queryTimeout(queryTimeout));
+                rowsAffected = Math.max(0, statement.executeLargeUpdate());
+            } catch (SQLException e) {
+                pooledConnection.checkFailure(e);
+                throw e;
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            handleException("Error while executing Snowflake statement: " + e.getMessage(), e, messageContext);
+            return;
+        } finally {
+            connection.invalidateCaches(query);
+        }
+
+        messageContext.setProperty(SnowflakeConstants.ROWS_AFFECTED_PROPERTY, rowsAffected);
+        JsonObject result = new JsonObject();
+        result.addProperty("rowsAffected", rowsAffected);
+        try {
+            SnowflakeUtils.setJsonPayload(messageContext, result.toString());
+        } catch (IOException e) {
+            handleException("Error while setting the statement result as the payload.", e, messageContext);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import net.snowflake.client.jdbc.SnowflakeStatement;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.result.ScriptResultWriter;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code executeScript} operation. The statements of the script are sent to Snowflake in one request
+ * using {@code MULTI_STATEMENT_COUNT}, and the result of each statement is written to the payload by the
+ * {@link ScriptResultWriter}. The number of statements is set in the {@code snowflake.statementCount} property and the
+ * total of their update counts in {@code snowflake.rowsAffected}.
+ */
+public class ExecuteScript extends SnowflakeOperation {
+
+    private static final String MULTI_STATEMENT_COUNT = "MULTI_STATEMENT_COUNT";
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String script = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.SCRIPT);
+        String parameters = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PARAMETERS);
+        int statementCount = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.STATEMENT_COUNT, 0);
+        int maxRows = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.MAX_ROWS,
+                SnowflakeConstants.DEFAULT_MAX_ROWS);
+        int queryTimeout = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.QUERY_TIMEOUT,
+                SnowflakeConstants.DEFAULT_QUERY_TIMEOUT);
+        if (statementCount < 0) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.STATEMENT_COUNT
+                    + "' must not be negative.");
+        }
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        Deadline deadline = SnowflakeUtils.getDeadline(messageContext);
+
+        PayloadBuffer buffer = new PayloadBuffer(".json");
+        ScriptResultWriter.Summary result;
+        try (PooledConnection pooledConnection = connection.getPool().borrow(session)) {
+            // scripts are not cached: they are rarely repeated verbatim and carry a statement parameter
+            try (PreparedStatement statement = pooledConnection.getConnection().prepareStatement(script)) {
+                statement.unwrap(SnowflakeStatement.class).setParameter(MULTI_STATEMENT_COUNT, statementCount);
+                if (parameters != null) {
+                    ParameterBinder.bind(statement, ParameterBinder.parseParameters(parameters));
+                }
+                statement.setMaxRows(maxRows);
+                statement.setQueryTimeout(deadline.queryTimeout(queryTimeout));
+                try (Writer writer = buffer.getWriter()) {
+                    result = ScriptResultWriter.write(statement, statement.execute(), writer, maxRows);
+                }
+            } catch (SQLException e) {
+                pooledConnection.checkFailure(e);
+                throw e;
+            } finally {
+                if (SessionState.isSessionStatement(script)) {
+                    pooledConnection.forgetSessionState();
+                }
+            }
+        } catch (SQLException | IOException | IllegalArgumentException e) {
+            buffer.release();
+            handleException("Error while executing Snowflake script: " + e.getMessage(), e, messageContext);
+            return;
+        } finally {
+            // statements that completed before a failing one have taken effect
+            connection.invalidateCaches(script);
+        }
+
+        messageContext.setProperty(SnowflakeConstants.STATEMENT_COUNT_PROPERTY, result.getStatements());
+        messageContext.setProperty(SnowflakeConstants.ROWS_AFFECTED_PROPERTY, result.getRowsAffected());
+        try {
+            SnowflakeUtils.setJsonPayload(messageContext, buffer);
+        } catch (IOException e) {
+            buffer.release();
+            handleException("Error while setting the script results as the payload.", e, messageContext);
+        }
+    }
+}
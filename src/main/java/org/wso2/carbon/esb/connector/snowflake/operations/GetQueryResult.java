@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryResult;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code getQueryResult} operation for queries started with {@code submitQuery}. The operation never
+ * waits for the query: while it is still running the payload is replaced with its status, and once it succeeded with
+ * the requested page of rows as a JSON array. The status is always set in the {@code snowflake.queryStatus} property.
+ */
+public class GetQueryResult extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String queryId = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERY_ID);
+        long offset = SnowflakeUtils.getLongParameter(messageContext, SnowflakeConstants.OFFSET, 0);
+        long limit = SnowflakeUtils.getLongParameter(messageContext, SnowflakeConstants.LIMIT, 0);
+
+        PayloadBuffer buffer = new PayloadBuffer(".json");
+        AsyncQueryResult result;
+        try (PooledConnection pooledConnection = connection.getPool().borrow()) {
+            try (Writer writer = buffer.getWriter()) {
+                result = AsyncQueryClient.fetch(pooledConnection.getConnection(), queryId, offset, limit, writer);
+            } catch (SQLException e) {
+                pooledConnection.checkFailure(e);
+                throw e;
+            }
+        } catch (SQLException | IOException e) {
+            buffer.release();
+            handleException("Error while fetching the result of Snowflake query " + queryId + ": "
+                    + e.getMessage(), e, messageContext);
+            return;
+        }
+
+        messageContext.setProperty(SnowflakeConstants.QUERY_ID_PROPERTY, queryId);
+        messageContext.setProperty(SnowflakeConstants.QUERY_STATUS_PROPERTY, result.getStatus());
+        try {
+            if (result.isFailed()) {
+                buffer.release();
+                handleException("Snowflake query " + queryId + " failed: " + result.getErrorMessage(),
+                        messageContext);
+            } else if (result.isRunning()) {
+                buffer.release();
+                SnowflakeUtils.setJsonPayload(messageContext, result.toJson().toString());
+            } else {
+                SnowflakeUtils.setJsonPayload(messageContext, buffer);
+                messageContext.setProperty(SnowflakeConstants.ROW_COUNT_PROPERTY, result.getRowCount());
+                messageContext.setProperty(SnowflakeConstants.HAS_MORE_ROWS_PROPERTY, result.hasMoreRows());
+            }
+        } catch (IOException e) {
+            buffer.release();
+            handleException("Error while setting the query result as the payload.", e, messageContext);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.deadline.DeadlineExceededException;
+import org.wso2.carbon.esb.connector.snowflake.parallel.NamedQuery;
+import org.wso2.carbon.esb.connector.snowflake.parallel.ParallelQueryRunner;
+import org.wso2.carbon.esb.connector.snowflake.parallel.QueryOutcome;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implements the {@code parallelQuery} operation. The named queries are run concurrently by the
+ * {@link ParallelQueryRunner} of the connection and their rows are merged into one JSON object keyed by query name,
+ * e.g. {@code {"orders": [...], "customer": [...]}}. The buffered rows of each query are read in turn into the JSON
+ * payload, which Synapse holds in memory, and every buffer is released once the payload is set.
+ * <p>
+ * With {@code onFailure} set to {@code fail}, the default, the operation fails as soon as one query fails and the
+ * other queries are cancelled. With {@code partial}, every query runs to completion or to the deadline, a failed query
+ * is merged as {@code {"error": "..."}} and the names of the failed queries are set in the
+ * {@code snowflake.failedQueries} property. The deadline is the earlier of {@code timeout} and the deadline of the
+ * message.
+ */
+public class ParallelQuery extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String queries = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERIES);
+        long timeout = SnowflakeUtils.getLongParameter(messageContext, SnowflakeConstants.TIMEOUT, 0);
+        int maxRows = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.MAX_ROWS,
+                SnowflakeConstants.DEFAULT_MAX_ROWS);
+        String onFailure = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.ON_FAILURE);
+        boolean partial = SnowflakeConstants.ON_FAILURE_PARTIAL.equalsIgnoreCase(onFailure);
+        if (onFailure != null && !partial && !SnowflakeConstants.ON_FAILURE_FAIL.equalsIgnoreCase(onFailure)) {
+            throw new ConnectException("Unsupported value '" + onFailure + "' for parameter '"
+                    + SnowflakeConstants.ON_FAILURE + "'. Use '" + SnowflakeConstants.ON_FAILURE_FAIL + "' or '"
+                    + SnowflakeConstants.ON_FAILURE_PARTIAL + "'.");
+        }
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        Deadline deadline = SnowflakeUtils.getDeadline(messageContext);
+
+        List<QueryOutcome> outcomes;
+        try {
+            outcomes = connection.getParallelQueryRunner().run(NamedQuery.parse(queries, maxRows), session,
+                    deadline.timeoutMillis(timeout), !partial);
+        } catch (DeadlineExceededException e) {
+            handleException(e.getMessage(), e, messageContext);
+            return;
+        } catch (IllegalArgumentException e) {
+            handleException("Invalid parallel queries: " + e.getMessage(), e, messageContext);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleException("Interrupted while running parallel Snowflake queries.", e, messageContext);
+            return;
+        }
+
+        List<String> failedQueries = new ArrayList<>();
+        long rowCount = 0;
+        for (QueryOutcome outcome : outcomes) {
+            if (outcome.isFailed()) {
+                failedQueries.add(outcome.getQuery().getName());
+            }
+            rowCount += outcome.getRowCount();
+        }
+        if (!partial && !failedQueries.isEmpty()) {
+            QueryOutcome failed = firstFailure(outcomes);
+            release(outcomes);
+            handleException("Snowflake query '" + failed.getQuery().getName() + "' failed: "
+                    + failed.getFailure().getMessage(), failed.getFailure(), messageContext);
+            return;
+        }
+
+        messageContext.setProperty(SnowflakeConstants.ROW_COUNT_PROPERTY, rowCount);
+        messageContext.setProperty(SnowflakeConstants.FAILED_QUERIES_PROPERTY, String.join(",", failedQueries));
+        try {
+            SnowflakeUtils.setJsonPayload(messageContext, merge(outcomes));
+        } catch (IOException e) {
+            handleException("Error while setting the parallel query results as the payload.", e, messageContext);
+        } finally {
+            release(outcomes);
+        }
+    }
+
+    /**
+     * Streams the results as one JSON object keyed by query name. The buffers of the queries are released when the
+     * returned stream is closed.
+     */
+    private static InputStream merge(List<QueryOutcome> outcomes) throws IOException {
+
+        List<InputStream> parts = new ArrayList<>(outcomes.size() * 2 + 1);
+        StringBuilder json = new StringBuilder("{");
+        for (QueryOutcome outcome : outcomes) {
+            if (json.length() > 1 || !parts.isEmpty()) {
+                json.append(',');
+            }
+            json.append(new JsonPrimitive(outcome.getQuery().getName())).append(':');
+            if (outcome.isFailed()) {
+                json.append(toJson(outcome.getFailure()));
+            } else {
+                parts.add(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+                json.setLength(0);
+                parts.add(outcome.getRows().getInputStream());
+            }
+        }
+        json.append('}');
+        parts.add(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+        return new SequenceInputStream(Collections.enumeration(parts));
+    }
+
+    private static JsonObject toJson(Exception failure) {
+
+        JsonObject error = new JsonObject();
+        error.addProperty("error", failure.getMessage());
+        if (failure instanceof SQLException && ((SQLException) failure).getSQLState() != null) {
+            error.addProperty("sqlState", ((SQLException) failure).getSQLState());
+        }
+        return error;
+    }
+
+    private static QueryOutcome firstFailure(List<QueryOutcome> outcomes) {
+
+        for (QueryOutcome outcome : outcomes) {
+            // a query cancelled because another one failed is not the cause
+            if (outcome.isFailed() && !outcome.isCancelled()) {
+                return outcome;
+            }
+        }
+        for (QueryOutcome outcome : outcomes) {
+            if (outcome.isFailed()) {
+                return outcome;
+            }
+        }
+        throw new IllegalStateException("No query failed.");
+    }
+
+    private static void release(List<QueryOutcome> outcomes) {
+
+        for (QueryOutcome outcome : outcomes) {
+            outcome.release();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import com.google.gson.JsonArray;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.cache.CachedResult;
+import org.wso2.carbon.esb.connector.snowflake.cache.ResultCache;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.deadline.QueryCanceller;
+import org.wso2.carbon.esb.connector.snowflake.hedge.HedgedReader;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetCsvWriter;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+import org.wso2.carbon.esb.connector.snowflake.template.SqlTemplate;
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code query} operation. The rows of the result are streamed from the cursor into a spill-over
+ * {@link PayloadBuffer}, either as a JSON array of row objects or, with {@code outputFormat} set to {@code csv}, as CSV
+ * text read column by column from the driver. The query may use named parameters, see {@link SqlTemplate}.
+ * <p>
+ * A CSV result is streamed from the buffer when the message is written, so the heap used does not grow with the number
+ * of rows. A JSON result is by default set as the JSON payload of the message, which Synapse keeps in memory so that
+ * mediators can read it, and then takes heap in proportion to its size. With {@code streamPayload} set, the JSON result
+ * is instead streamed from the buffer when the message is written, like a CSV result, with content type
+ * {@code application/json}. The message then carries a text payload that later mediators cannot read as JSON.
+ * <p>
+ * With {@code useResultCache} set, and a result cache configured for the connection, the payload of a query is cached
+ * and served again for the same statement and parameters until it expires or the connector modifies a table it reads.
+ * <p>
+ * With {@code hedge} set, the query is submitted asynchronously and hedged by the {@link HedgedReader} of the
+ * connection: if it is slower than usual, a duplicate runs on another session and the first result is used. The
+ * asynchronous attempts are cancelled in Snowflake by query ID if they are still running at the deadline of the
+ * message.
+ */
+public class Query extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String query = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERY);
+        String parameters = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PARAMETERS);
+        String parameterSources = SnowflakeUtils.lookupParameter(messageContext,
+                SnowflakeConstants.PARAMETER_SOURCES);
+        int fetchSize = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.FETCH_SIZE,
+                SnowflakeConstants.DEFAULT_FETCH_SIZE);
+        int maxRows = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.MAX_ROWS,
+                SnowflakeConstants.DEFAULT_MAX_ROWS);
+        int queryTimeout = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.QUERY_TIMEOUT,
+                SnowflakeConstants.DEFAULT_QUERY_TIMEOUT);
+        boolean csv = isCsvOutput(messageContext);
+        boolean stream = SnowflakeUtils.getBooleanParameter(messageContext, SnowflakeConstants.STREAM_PAYLOAD, false);
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        ResultCache cache = SnowflakeUtils.getBooleanParameter(messageContext, SnowflakeConstants.USE_RESULT_CACHE,
+                false) ? connection.getResultCache() : null;
+
+        boolean hedge = SnowflakeUtils.getBooleanParameter(messageContext, SnowflakeConstants.HEDGE, false);
+        Deadline deadline = SnowflakeUtils.getDeadline(messageContext);
+
+        PayloadBuffer buffer = null;
+        try {
+            SqlTemplate template = connection.getTemplateCache().get(query, parameterSources);
+            JsonArray parameterValues = SnowflakeUtils.resolveParameters(messageContext, template, parameters);
+            String cacheKey = null;
+            long cacheVersion = 0;
+            if (cache != null) {
+                cacheKey = ResultCache.key(template.getSql(), parameterValues, csv
+                        ? SnowflakeConstants.OUTPUT_FORMAT_CSV : SnowflakeConstants.OUTPUT_FORMAT_JSON, maxRows,
+                        session);
+                CachedResult cached = cache.get(cacheKey);
+                messageContext.setProperty(SnowflakeConstants.RESULT_CACHE_HIT_PROPERTY, cached != null);
+                if (cached != null) {
+                    setPayload(messageContext, cached.getInputStream(), csv, stream);
+                    messageContext.setProperty(SnowflakeConstants.ROW_COUNT_PROPERTY, cached.getRowCount());
+                    return;
+                }
+                cacheVersion = cache.getVersion();
+            }
+            long rowCount;
+            if (hedge) {
+                BufferedResult result = executeHedged(connection, session, template, parameterValues, maxRows,
+                        queryTimeout, deadline, csv);
+                buffer = result.buffer;
+                rowCount = result.rowCount;
+            } else {
+                buffer = new PayloadBuffer(csv ? ".csv" : ".json");
+                rowCount = execute(connection, session, template, parameterValues, fetchSize, maxRows,
+                        deadline.queryTimeout(queryTimeout), csv, buffer);
+            }
+            if (cache != null && buffer.getLength() <= cache.getMaxEntryBytes()) {
+                cache.put(cacheKey, query, buffer.toByteArray(), rowCount, SnowflakeUtils.getLongParameter(
+                        messageContext, SnowflakeConstants.CACHE_TTL, cache.getDefaultTtl()), cacheVersion);
+            }
+            setPayload(messageContext, buffer.getInputStream(), csv, stream);
+            messageContext.setProperty(SnowflakeConstants.ROW_COUNT_PROPERTY, rowCount);
+        } catch (SQLException | IOException | IllegalArgumentException e) {
+            if (buffer != null) {
+                buffer.release();
+            }
+            handleException("Error while executing Snowflake query: " + e.getMessage(), e, messageContext);
+        }
+    }
+
+    private static long execute(SnowflakeConnection connection, SessionState session, SqlTemplate template,
+                                JsonArray parameters, int fetchSize, int maxRows, int queryTimeout, boolean csv,
+                                PayloadBuffer buffer) throws SQLException, IOException {
+
+        try (PooledConnection pooledConnection = connection.getPool().borrow(session)) {
+            try (PreparedStatement statement = pooledConnection.prepareStatement(template.getSql())) {
+                if (parameters != null) {
+                    template.bind(statement, parameters);
+                }
+                statement.setFetchSize(fetchSize);
+                statement.setMaxRows(maxRows);
+                statement.setQueryTimeout(queryTimeout);
+                try (ResultSet resultSet = statement.executeQuery(); Writer writer = buffer.getWriter()) {
+                    return csv ? ResultSetCsvWriter.write(resultSet, writer, 0)
+                            : ResultSetJsonWriter.write(resultSet, writer);
+                }
+            } catch (SQLException e) {
+                pooledConnection.checkFailure(e);
+                throw e;
+            }
+        }
+    }
+
+    private static BufferedResult executeHedged(SnowflakeConnection connection, SessionState session,
+                                                SqlTemplate template, JsonArray parameters, int maxRows,
+                                                int queryTimeout, Deadline deadline, boolean csv)
+            throws SQLException, IOException {
+
+        return connection.getHedgedReader().read(template.getSql(), queryIds -> {
+            PayloadBuffer buffer = new PayloadBuffer(csv ? ".csv" : ".json");
+            try (PooledConnection pooledConnection = connection.getPool().borrow(session)) {
+                try (PreparedStatement statement = pooledConnection.prepareStatement(template.getSql())) {
+                    if (parameters != null) {
+                        template.bind(statement, parameters);
+                    }
+                    statement.setQueryTimeout(deadline.queryTimeout(queryTimeout));
+                    String queryId = AsyncQueryClient.submit(statement);
+                    queryIds.accept(queryId);
+                    try (QueryCanceller.Watch watch = connection.getQueryCanceller()
+                            .watch(queryId, pooledConnection.getConnection(), deadline);
+                         ResultSet resultSet = AsyncQueryClient.await(pooledConnection.getConnection(), queryId);
+                         Writer writer = buffer.getWriter()) {
+                        long rowCount = csv ? ResultSetCsvWriter.write(resultSet, writer, maxRows)
+                                : ResultSetJsonWriter.write(resultSet, writer, maxRows);
+                        return new BufferedResult(buffer, rowCount);
+                    }
+                } catch (SQLException e) {
+                    pooledConnection.checkFailure(e);
+                    throw e;
+                }
+            } catch (SQLException | IOException | RuntimeException e) {
+                buffer.release();
+                throw e;
+            }
+        }, result -> result.buffer.release());
+    }
+
+    private static void setPayload(MessageContext messageContext, InputStream payload, boolean csv, boolean stream)
+            throws IOException {
+
+        if (csv) {
+            SnowflakeUtils.setTextPayload(messageContext, payload, SnowflakeConstants.CSV_CONTENT_TYPE);
+        } else if (stream) {
+            SnowflakeUtils.setTextPayload(messageContext, payload, SnowflakeConstants.JSON_CONTENT_TYPE);
+        } else {
+            SnowflakeUtils.setJsonPayload(messageContext, payload);
+        }
+    }
+
+    private static boolean isCsvOutput(MessageContext messageContext) throws ConnectException {
+
+        String outputFormat = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.OUTPUT_FORMAT);
+        if (outputFormat == null || SnowflakeConstants.OUTPUT_FORMAT_JSON.equalsIgnoreCase(outputFormat)) {
+            return false;
+        }
+        if (SnowflakeConstants.OUTPUT_FORMAT_CSV.equalsIgnoreCase(outputFormat)) {
+            return true;
+        }
+        throw new ConnectException("Unsupported output format '" + outputFormat + "'. Use '"
+                + SnowflakeConstants.OUTPUT_FORMAT_JSON + "' or '" + SnowflakeConstants.OUTPUT_FORMAT_CSV + "'.");
+    }
+
+    private static final class BufferedResult {
+
+        private final PayloadBuffer buffer;
+        private final long rowCount;
+
+        BufferedResult(PayloadBuffer buffer, long rowCount) {
+
+            this.buffer = buffer;
+            this.rowCount = rowCount;
+        }
+    }
+}
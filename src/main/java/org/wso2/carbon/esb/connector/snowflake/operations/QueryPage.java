@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.paging.Page;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code queryPage} operation. Without a {@code cursor} the query is run and its first page is
+ * returned; with the cursor returned by a previous page the next page is read from the cursor kept open by the
+ * connection. The page replaces the payload as a JSON array, and the cursor of the following page is set in the
+ * {@code snowflake.cursor} property.
+ */
+public class QueryPage extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String cursor = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.CURSOR);
+        String query = cursor == null
+                ? SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERY) : null;
+        String parameters = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PARAMETERS);
+        int pageSize = SnowflakeUtils.getIntParameter(messageContext, SnowflakeConstants.PAGE_SIZE,
+                SnowflakeConstants.DEFAULT_PAGE_SIZE);
+        long cursorTimeout = SnowflakeUtils.getLongParameter(messageContext, SnowflakeConstants.CURSOR_TIMEOUT,
+                SnowflakeConstants.DEFAULT_CURSOR_TIMEOUT);
+        if (pageSize < 1) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.PAGE_SIZE + "' must be at least 1.");
+        }
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+        Deadline deadline = SnowflakeUtils.getDeadline(messageContext);
+
+        PayloadBuffer buffer = new PayloadBuffer(".json");
+        try {
+            Page page;
+            try (Writer writer = buffer.getWriter()) {
+                if (cursor == null) {
+                    page = connection.getPager().firstPage(query, parameters != null
+                            ? ParameterBinder.parseParameters(parameters) : null, session, deadline, pageSize,
+                            cursorTimeout, writer);
+                } else {
+                    page = connection.getPager().nextPage(cursor, pageSize, cursorTimeout, writer);
+                }
+            }
+            SnowflakeUtils.setJsonPayload(messageContext, buffer);
+            messageContext.setProperty(SnowflakeConstants.QUERY_ID_PROPERTY, page.getQueryId());
+            messageContext.setProperty(SnowflakeConstants.ROW_COUNT_PROPERTY, page.getRowCount());
+            messageContext.setProperty(SnowflakeConstants.HAS_MORE_ROWS_PROPERTY, page.hasMoreRows());
+            messageContext.setProperty(SnowflakeConstants.CURSOR_PROPERTY, page.getNextCursor());
+        } catch (SQLException | IOException | IllegalArgumentException e) {
+            buffer.release();
+            handleException("Error while reading a page of Snowflake query results: " + e.getMessage(), e,
+                    messageContext);
+        }
+    }
+}
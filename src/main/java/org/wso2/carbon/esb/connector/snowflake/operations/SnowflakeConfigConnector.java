@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.AbstractConnector;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.connector.core.connection.ConnectionHandler;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.auth.PrivateKeys;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.routing.WarehouseRouter;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+import org.wso2.carbon.esb.connector.snowflake.warmup.WarmUpReport;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Implements the {@code init} operation. The first invocation for a connection name creates the session pool of
+ * that connection and registers it with the {@link ConnectionHandler}; later invocations reuse it. When
+ * {@code warmUpConnections} is set, the invocation that creates the connection also warms it up and sets the outcome
+ * in the {@code snowflake.warmUpReport} property. The schemas of the {@code schemaPrefetchTables} are read into the
+ * schema cache of a new connection as well.
+ */
+public class SnowflakeConfigConnector extends AbstractConnector {
+
+    private static final Object REGISTRATION_LOCK = new Object();
+
+    @Override
+    public void connect(MessageContext messageContext) throws ConnectException {
+
+        String connectionName = SnowflakeUtils.getRequiredParameter(messageContext,
+                SnowflakeConstants.CONNECTION_NAME);
+        ConnectionHandler handler = ConnectionHandler.getConnectionHandler();
+        if (handler.checkIfConnectionExists(SnowflakeConstants.CONNECTOR_NAME, connectionName)) {
+            return;
+        }
+        SnowflakeConnection created = null;
+        synchronized (REGISTRATION_LOCK) {
+            if (!handler.checkIfConnectionExists(SnowflakeConstants.CONNECTOR_NAME, connectionName)) {
+                ConnectionConfiguration configuration = getConnectionConfiguration(messageContext, connectionName);
+                created = new SnowflakeConnection(configuration);
+                handler.createConnection(SnowflakeConstants.CONNECTOR_NAME, connectionName, created);
+                if (log.isDebugEnabled()) {
+                    log.debug("Created Snowflake connection '" + connectionName + "'.");
+                }
+            }
+        }
+        // warm up outside the lock so that other connections can be created meanwhile
+        if (created != null && created.getConfiguration().getWarmUpConnections() > 0) {
+            WarmUpReport report = created.warmUp();
+            messageContext.setProperty(SnowflakeConstants.WARM_UP_REPORT_PROPERTY, report.toJson().toString());
+        }
+        if (created != null && !created.getConfiguration().getSchemaPrefetchTables().isEmpty()) {
+            created.prefetchSchemas();
+        }
+    }
+
+    private ConnectionConfiguration getConnectionConfiguration(MessageContext messageContext, String connectionName)
+            throws ConnectException {
+
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName(connectionName);
+        configuration.setAccountIdentifier(SnowflakeUtils.getRequiredParameter(messageContext,
+                SnowflakeConstants.ACCOUNT_IDENTIFIER));
+        configuration.setUser(SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.USER));
+        configuration.setPassword(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PASSWORD));
+        configuration.setDatabase(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.DATABASE));
+        configuration.setSchema(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.SCHEMA));
+        configuration.setWarehouse(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.WAREHOUSE));
+        configuration.setRole(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.ROLE));
+        setWarehouseRouting(messageContext, configuration);
+        setAuthentication(messageContext, configuration);
+        String driverClass = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.DRIVER_CLASS);
+        if (driverClass != null) {
+            configuration.setDriverClass(driverClass);
+        }
+
+        configuration.setMaxActiveConnections(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.MAX_ACTIVE_CONNECTIONS, SnowflakeConstants.DEFAULT_MAX_ACTIVE_CONNECTIONS));
+        configuration.setMinIdleConnections(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.MIN_IDLE_CONNECTIONS, SnowflakeConstants.DEFAULT_MIN_IDLE_CONNECTIONS));
+        configuration.setMaxIdleConnections(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.MAX_IDLE_CONNECTIONS, SnowflakeConstants.DEFAULT_MAX_IDLE_CONNECTIONS));
+        configuration.setMaxWaitTime(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.MAX_WAIT_TIME, SnowflakeConstants.DEFAULT_MAX_WAIT_TIME));
+        configuration.setValidationTimeout(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.VALIDATION_TIMEOUT, SnowflakeConstants.DEFAULT_VALIDATION_TIMEOUT));
+        configuration.setValidationInterval(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.VALIDATION_INTERVAL, SnowflakeConstants.DEFAULT_VALIDATION_INTERVAL));
+        configuration.setEvictionInterval(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.EVICTION_INTERVAL, SnowflakeConstants.DEFAULT_EVICTION_INTERVAL));
+        configuration.setMinEvictableIdleTime(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.MIN_EVICTABLE_IDLE_TIME, SnowflakeConstants.DEFAULT_MIN_EVICTABLE_IDLE_TIME));
+        configuration.setStatementCacheSize(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.STATEMENT_CACHE_SIZE, SnowflakeConstants.DEFAULT_STATEMENT_CACHE_SIZE));
+        configuration.setMaxOpenCursors(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.MAX_OPEN_CURSORS, SnowflakeConstants.DEFAULT_MAX_OPEN_CURSORS));
+        configuration.setResultCacheMaxBytes(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.RESULT_CACHE_MAX_BYTES, SnowflakeConstants.DEFAULT_RESULT_CACHE_MAX_BYTES));
+        configuration.setResultCacheTtl(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.RESULT_CACHE_TTL, SnowflakeConstants.DEFAULT_RESULT_CACHE_TTL));
+        configuration.setWarmUpConnections(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.WARM_UP_CONNECTIONS, SnowflakeConstants.DEFAULT_WARM_UP_CONNECTIONS));
+        configuration.setWarmUpStatements(getWarmUpStatements(messageContext));
+        configuration.setWarmUpTimeout(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.WARM_UP_TIMEOUT, SnowflakeConstants.DEFAULT_WARM_UP_TIMEOUT));
+        configuration.setUseVirtualThreads(SnowflakeUtils.getBooleanParameter(messageContext,
+                SnowflakeConstants.USE_VIRTUAL_THREADS, false));
+        configuration.setHedgePercentile(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.HEDGE_PERCENTILE, SnowflakeConstants.DEFAULT_HEDGE_PERCENTILE));
+        configuration.setHedgeMinDelay(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.HEDGE_MIN_DELAY, SnowflakeConstants.DEFAULT_HEDGE_MIN_DELAY));
+        configuration.setHedgeMaxPercent(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.HEDGE_MAX_PERCENT, SnowflakeConstants.DEFAULT_HEDGE_MAX_PERCENT));
+        if (configuration.getHedgePercentile() < 1 || configuration.getHedgePercentile() > 100
+                || configuration.getHedgeMaxPercent() < 0 || configuration.getHedgeMaxPercent() > 100) {
+            throw new ConnectException("Parameters '" + SnowflakeConstants.HEDGE_PERCENTILE + "' and '"
+                    + SnowflakeConstants.HEDGE_MAX_PERCENT + "' must be between 1 and 100, and 0 and 100.");
+        }
+        setOperationLimits(messageContext, configuration);
+        setSchemaCache(messageContext, configuration);
+        if (configuration.getMaxActiveConnections() < 1) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.MAX_ACTIVE_CONNECTIONS
+                    + "' must be at least 1.");
+        }
+        return configuration;
+    }
+
+    private static void setAuthentication(MessageContext messageContext, ConnectionConfiguration configuration)
+            throws ConnectException {
+
+        String authenticator = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.AUTHENTICATOR);
+        authenticator = authenticator == null ? SnowflakeConstants.AUTHENTICATOR_PASSWORD
+                : authenticator.toLowerCase(Locale.ROOT);
+        if (!SnowflakeConstants.AUTHENTICATOR_PASSWORD.equals(authenticator)
+                && !SnowflakeConstants.AUTHENTICATOR_KEY_PAIR.equals(authenticator)
+                && !SnowflakeConstants.AUTHENTICATOR_OAUTH.equals(authenticator)) {
+            throw new ConnectException("Unsupported authenticator '" + authenticator + "'. Use '"
+                    + SnowflakeConstants.AUTHENTICATOR_PASSWORD + "', '" + SnowflakeConstants.AUTHENTICATOR_KEY_PAIR
+                    + "' or '" + SnowflakeConstants.AUTHENTICATOR_OAUTH + "'.");
+        }
+        configuration.setAuthenticator(authenticator);
+
+        String privateKey = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PRIVATE_KEY);
+        if (privateKey != null) {
+            configuration.setPrivateKey(parsePrivateKey(privateKey));
+        } else if (SnowflakeConstants.AUTHENTICATOR_KEY_PAIR.equals(authenticator)) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.PRIVATE_KEY + "' is required for the '"
+                    + SnowflakeConstants.AUTHENTICATOR_KEY_PAIR + "' authenticator.");
+        }
+        if (SnowflakeConstants.AUTHENTICATOR_OAUTH.equals(authenticator)) {
+            configuration.setTokenEndpoint(SnowflakeUtils.getRequiredParameter(messageContext,
+                    SnowflakeConstants.TOKEN_ENDPOINT));
+            configuration.setClientId(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.CLIENT_ID));
+            configuration.setClientSecret(SnowflakeUtils.lookupParameter(messageContext,
+                    SnowflakeConstants.CLIENT_SECRET));
+            configuration.setRefreshToken(SnowflakeUtils.lookupParameter(messageContext,
+                    SnowflakeConstants.REFRESH_TOKEN));
+            configuration.setScope(SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.SCOPE));
+            configuration.setTokenRefreshMargin(SnowflakeUtils.getLongParameter(messageContext,
+                    SnowflakeConstants.TOKEN_REFRESH_MARGIN, SnowflakeConstants.DEFAULT_TOKEN_REFRESH_MARGIN));
+        }
+    }
+
+    private static void setWarehouseRouting(MessageContext messageContext, ConnectionConfiguration configuration)
+            throws ConnectException {
+
+        List<String> warehouses = SnowflakeUtils.splitList(SnowflakeUtils.lookupParameter(messageContext,
+                SnowflakeConstants.WAREHOUSES));
+        try {
+            for (String warehouse : warehouses) {
+                new SessionState(null, warehouse, null, null, null);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ConnectException(e, "Parameter '" + SnowflakeConstants.WAREHOUSES + "' is invalid. "
+                    + e.getMessage());
+        }
+        configuration.setWarehouses(warehouses);
+
+        String routing = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.WAREHOUSE_ROUTING);
+        if (routing != null) {
+            try {
+                configuration.setWarehouseRouting(WarehouseRouter.Strategy.fromParameter(routing)
+                        .getParameterValue());
+            } catch (IllegalArgumentException e) {
+                throw new ConnectException(e, e.getMessage());
+            }
+        }
+    }
+
+    private static void setOperationLimits(MessageContext messageContext, ConnectionConfiguration configuration)
+            throws ConnectException {
+
+        configuration.setMaxConcurrentOperations(getNonNegative(messageContext,
+                SnowflakeConstants.MAX_CONCURRENT_OPERATIONS, SnowflakeConstants.DEFAULT_MAX_CONCURRENT_OPERATIONS));
+        configuration.setMaxQueuedOperations(getNonNegative(messageContext, SnowflakeConstants.MAX_QUEUED_OPERATIONS,
+                SnowflakeConstants.DEFAULT_MAX_QUEUED_OPERATIONS));
+        configuration.setOperationQueueTimeout(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.OPERATION_QUEUE_TIMEOUT, SnowflakeConstants.DEFAULT_OPERATION_QUEUE_TIMEOUT));
+        configuration.setCircuitBreakerFailureRate(getPercentage(messageContext,
+                SnowflakeConstants.CIRCUIT_BREAKER_FAILURE_RATE,
+                SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE));
+        configuration.setCircuitBreakerSlowCallTime(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.CIRCUIT_BREAKER_SLOW_CALL_TIME,
+                SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_TIME));
+        configuration.setCircuitBreakerSlowCallRate(getPercentage(messageContext,
+                SnowflakeConstants.CIRCUIT_BREAKER_SLOW_CALL_RATE,
+                SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_SLOW_CALL_RATE));
+        configuration.setCircuitBreakerWindow(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.CIRCUIT_BREAKER_WINDOW, SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_WINDOW));
+        configuration.setCircuitBreakerOpenTime(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.CIRCUIT_BREAKER_OPEN_TIME, SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_OPEN_TIME));
+        configuration.setCircuitBreakerProbes(SnowflakeUtils.getIntParameter(messageContext,
+                SnowflakeConstants.CIRCUIT_BREAKER_PROBES, SnowflakeConstants.DEFAULT_CIRCUIT_BREAKER_PROBES));
+        if (configuration.getCircuitBreakerWindow() < 1 || configuration.getCircuitBreakerProbes() < 1) {
+            throw new ConnectException("Parameters '" + SnowflakeConstants.CIRCUIT_BREAKER_WINDOW + "' and '"
+                    + SnowflakeConstants.CIRCUIT_BREAKER_PROBES + "' must be at least 1.");
+        }
+        configuration.setRequestTimeout(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.REQUEST_TIMEOUT, SnowflakeConstants.DEFAULT_REQUEST_TIMEOUT));
+        if (configuration.getRequestTimeout() < 0) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.REQUEST_TIMEOUT
+                    + "' must not be negative.");
+        }
+    }
+
+    private static void setSchemaCache(MessageContext messageContext, ConnectionConfiguration configuration)
+            throws ConnectException {
+
+        configuration.setSchemaCacheTtl(SnowflakeUtils.getLongParameter(messageContext,
+                SnowflakeConstants.SCHEMA_CACHE_TTL, SnowflakeConstants.DEFAULT_SCHEMA_CACHE_TTL));
+        configuration.setSchemaPrefetchTables(SnowflakeUtils.splitList(SnowflakeUtils.lookupParameter(messageContext,
+                SnowflakeConstants.SCHEMA_PREFETCH_TABLES)));
+        if (configuration.getSchemaCacheTtl() < 0) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.SCHEMA_CACHE_TTL
+                    + "' must not be negative.");
+        }
+        if (configuration.getSchemaCacheTtl() == 0 && !configuration.getSchemaPrefetchTables().isEmpty()) {
+            throw new ConnectException("Parameter '" + SnowflakeConstants.SCHEMA_PREFETCH_TABLES + "' requires '"
+                    + SnowflakeConstants.SCHEMA_CACHE_TTL + "' to be set.");
+        }
+    }
+
+    private static int getNonNegative(MessageContext messageContext, String name, int defaultValue)
+            throws ConnectException {
+
+        int value = SnowflakeUtils.getIntParameter(messageContext, name, defaultValue);
+        if (value < 0) {
+            throw new ConnectException("Parameter '" + name + "' must not be negative.");
+        }
+        return value;
+    }
+
+    private static int getPercentage(MessageContext messageContext, String name, int defaultValue)
+            throws ConnectException {
+
+        int value = SnowflakeUtils.getIntParameter(messageContext, name, defaultValue);
+        if (value < 0 || value > 100) {
+            throw new ConnectException("Parameter '" + name + "' must be between 0 and 100.");
+        }
+        return value;
+    }
+
+    private static List<String> getWarmUpStatements(MessageContext messageContext) throws ConnectException {
+
+        String value = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.WARM_UP_STATEMENTS);
+        List<String> statements = new ArrayList<>();
+        if (value == null) {
+            return statements;
+        }
+        try {
+            for (JsonElement statement : JsonParser.parseString(value).getAsJsonArray()) {
+                statements.add(statement.getAsString());
+            }
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            throw new ConnectException(e, "Parameter '" + SnowflakeConstants.WARM_UP_STATEMENTS
+                    + "' must be a JSON array of SQL strings.");
+        }
+        return statements;
+    }
+
+    private static PrivateKey parsePrivateKey(String pem) throws ConnectException {
+
+        try {
+            PrivateKey privateKey = PrivateKeys.parse(pem);
+            PrivateKeys.publicKey(privateKey);
+            return privateKey;
+        } catch (GeneralSecurityException e) {
+            throw new ConnectException(e, "Invalid value for parameter '" + SnowflakeConstants.PRIVATE_KEY + "': "
+                    + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.AbstractConnector;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.resilience.OperationGuard;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.sql.SQLException;
+
+/**
+ * Base class of the operations that run on a Snowflake connection. An operation is only run once the bulkhead and
+ * circuit breaker of the connection admit it, and its outcome is reported back to the circuit breaker.
+ * <p>
+ * The first operation of a mediation starts its deadline, {@code requestTimeout} milliseconds later, unless the flow
+ * set the {@code snowflake.deadline} property. Operations are not started once the deadline has passed, and the
+ * statements they run time out when it passes.
+ */
+public abstract class SnowflakeOperation extends AbstractConnector {
+
+    @Override
+    public final void connect(MessageContext messageContext) throws ConnectException {
+
+        SnowflakeConnection connection = SnowflakeUtils.getConnection(messageContext);
+        OperationGuard.Permit permit;
+        Deadline deadline;
+        try {
+            deadline = SnowflakeUtils.startDeadline(messageContext,
+                    connection.getConfiguration().getRequestTimeout());
+            deadline.check();
+            permit = connection.getOperationGuard().acquire();
+        } catch (SQLException | ConnectException e) {
+            handleException(e.getMessage(), e, messageContext);
+            return;
+        }
+        try {
+            connect(messageContext, connection);
+        } catch (ConnectException | RuntimeException e) {
+            // a statement timed out or cancelled by the caller's own deadline says nothing about Snowflake
+            permit.failed(e, deadline.isSet() && deadline.remainingMillis() == 0);
+            throw e;
+        } finally {
+            permit.close();
+        }
+    }
+
+    /**
+     * Runs the operation.
+     *
+     * @param messageContext message context
+     * @param connection     connection the operation runs on
+     */
+    protected abstract void connect(MessageContext messageContext, SnowflakeConnection connection)
+            throws ConnectException;
+}
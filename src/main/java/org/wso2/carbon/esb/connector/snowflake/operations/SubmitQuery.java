@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.operations;
+
+import com.google.gson.JsonObject;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+import org.wso2.carbon.esb.connector.snowflake.utils.SnowflakeUtils;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Implements the {@code submitQuery} operation. The query is submitted for asynchronous execution and the operation
+ * returns as soon as Snowflake has accepted it. The query ID is set in the {@code snowflake.queryId} property and in
+ * the payload, to be passed to {@code getQueryResult} later.
+ */
+public class SubmitQuery extends SnowflakeOperation {
+
+    @Override
+    protected void connect(MessageContext messageContext, SnowflakeConnection connection) throws ConnectException {
+
+        String query = SnowflakeUtils.getRequiredParameter(messageContext, SnowflakeConstants.QUERY);
+        String parameters = SnowflakeUtils.lookupParameter(messageContext, SnowflakeConstants.PARAMETERS);
+        SessionState session = SnowflakeUtils.getSessionState(messageContext);
+
+        String queryId;
+        try (PooledConnection pooledConnection = connection.getPool().borrow(session)) {
+            try (PreparedStatement statement = pooledConnection.prepareStatement(query)) {
+                if (parameters != null) {
+                    ParameterBinder.bind(statement, ParameterBinder.parseParameters(parameters));
+                }
+                queryId = AsyncQueryClient.submit(statement);
+            } catch (SQLException e) {
+                pooledConnection.checkFailure(e);
+                throw e;
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            handleException("Error while submitting Snowflake query: " + e.getMessage(), e, messageContext);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Submitted Snowflake query " + queryId + ".");
+        }
+        messageContext.setProperty(SnowflakeConstants.QUERY_ID_PROPERTY, queryId);
+        JsonObject result = new JsonObject();
+        result.addProperty("queryId", queryId);
+        try {
+            SnowflakeUtils.setJsonPayload(messageContext, result.toString());
+        } catch (IOException e) {
+            handleException("Error while setting the query ID as the payload.", e, messageContext);
+        }
+    }
+}
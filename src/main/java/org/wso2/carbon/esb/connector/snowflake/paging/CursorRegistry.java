@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.paging;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open query cursors kept between page requests, keyed by query ID.
+ * <p>
+ * A cursor is taken out of the registry while a page is read from it and offered back afterwards, so that it is never
+ * used by two requests at once. Cursors that are not offered back within their time to live are closed by a periodic
+ * sweep, or without a sweep interval on every take and offer, and when the registry is full the cursor that was used
+ * least recently is closed to make room.
+ */
+public class CursorRegistry {
+
+    private static final Log log = LogFactory.getLog(CursorRegistry.class);
+
+    private final int maxCursors;
+    private final LinkedHashMap<String, QueryCursor> cursors = new LinkedHashMap<>(16, 0.75f, true);
+    private final ScheduledExecutorService sweeper;
+    private boolean closed;
+
+    /**
+     * @param name          name of the connection, used for the sweeper thread
+     * @param maxCursors    maximum number of open cursors
+     * @param sweepInterval interval in milliseconds between sweeps of expired cursors, or 0 to sweep on every take and
+     *                      offer instead
+     */
+    public CursorRegistry(String name, int maxCursors, long sweepInterval) {
+
+        this.maxCursors = Math.max(0, maxCursors);
+        if (sweepInterval > 0) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "snowflake-cursor-sweeper-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(this::evictExpired, sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+        } else {
+            sweeper = null;
+        }
+    }
+
+    /**
+     * Removes the cursor of a query from the registry for exclusive use.
+     *
+     * @return the cursor, or {@code null} if there is no live cursor for the query
+     */
+    QueryCursor take(String queryId) {
+
+        if (sweeper == null) {
+            evictExpired();
+        }
+        QueryCursor cursor;
+        synchronized (this) {
+            cursor = cursors.remove(queryId);
+        }
+        if (cursor != null && cursor.getExpiryTime() <= System.currentTimeMillis()) {
+            cursor.close();
+            return null;
+        }
+        return cursor;
+    }
+
+    /**
+     * Puts a cursor back after use and extends its time to live. A cursor offered after the registry was closed, or
+     * while another cursor of the same query is registered, is closed instead.
+     */
+    void offer(QueryCursor cursor, long timeToLive) {
+
+        if (sweeper == null) {
+            evictExpired();
+        }
+        cursor.extend(timeToLive);
+        List<QueryCursor> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (closed || maxCursors == 0 || cursors.containsKey(cursor.getQueryId())) {
+                toClose.add(cursor);
+            } else {
+                cursors.put(cursor.getQueryId(), cursor);
+                Iterator<QueryCursor> leastRecentFirst = cursors.values().iterator();
+                while (cursors.size() > maxCursors && leastRecentFirst.hasNext()) {
+                    toClose.add(leastRecentFirst.next());
+                    leastRecentFirst.remove();
+                }
+            }
+        }
+        for (QueryCursor abandoned : toClose) {
+            abandoned.close();
+        }
+    }
+
+    /**
+     * Closes the cursors whose time to live has passed.
+     */
+    public void evictExpired() {
+
+        long now = System.currentTimeMillis();
+        List<QueryCursor> expired = new ArrayList<>();
+        synchronized (this) {
+            Iterator<QueryCursor> iterator = cursors.values().iterator();
+            while (iterator.hasNext()) {
+                QueryCursor cursor = iterator.next();
+                if (cursor.getExpiryTime() <= now) {
+                    expired.add(cursor);
+                    iterator.remove();
+                }
+            }
+        }
+        for (QueryCursor cursor : expired) {
+            cursor.close();
+        }
+        if (!expired.isEmpty() && log.isDebugEnabled()) {
+            log.debug("Closed " + expired.size() + " expired Snowflake query cursor(s).");
+        }
+    }
+
+    public synchronized int size() {
+
+        return cursors.size();
+    }
+
+    /**
+     * Closes all cursors. Cursors in use are closed when they are offered back.
+     */
+    public void close() {
+
+        List<QueryCursor> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<>(cursors.values());
+            cursors.clear();
+        }
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        for (QueryCursor cursor : toClose) {
+            cursor.close();
+        }
+    }
+}
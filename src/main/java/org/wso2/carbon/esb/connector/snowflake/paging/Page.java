@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.paging;
+
+/**
+ * A page of rows read by the {@link QueryPager}.
+ */
+public class Page {
+
+    static final char CURSOR_SEPARATOR = ':';
+
+    private final String queryId;
+    private final long offset;
+    private final long rowCount;
+    private final boolean hasMoreRows;
+
+    Page(String queryId, long offset, long rowCount, boolean hasMoreRows) {
+
+        this.queryId = queryId;
+        this.offset = offset;
+        this.rowCount = rowCount;
+        this.hasMoreRows = hasMoreRows;
+    }
+
+    public String getQueryId() {
+
+        return queryId;
+    }
+
+    /**
+     * @return the offset of the first row of the page
+     */
+    public long getOffset() {
+
+        return offset;
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    public boolean hasMoreRows() {
+
+        return hasMoreRows;
+    }
+
+    /**
+     * @return the token that requests the page after this one, or {@code null} if this is the last page
+     */
+    public String getNextCursor() {
+
+        return hasMoreRows ? toCursor(queryId, offset + rowCount) : null;
+    }
+
+    static String toCursor(String queryId, long offset) {
+
+        return queryId + CURSOR_SEPARATOR + offset;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.paging;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * An open, forward-only cursor over the result of a query. The cursor keeps the session it reads from borrowed, so
+ * that the session is neither evicted nor used by another request while the cursor is open, and returns it to the pool
+ * when it is closed.
+ */
+class QueryCursor {
+
+    private static final Log log = LogFactory.getLog(QueryCursor.class);
+
+    private final String queryId;
+    private final PooledConnection connection;
+    private final Statement statement;
+    private final ResultSet resultSet;
+    private long position;
+    private boolean onRow;
+    private volatile long expiryTime;
+
+    /**
+     * @param queryId    ID of the query whose result is read
+     * @param connection borrowed session the result is read from, returned to the pool when the cursor is closed
+     * @param statement  statement that opened the result, or {@code null} if the result was opened by query ID
+     * @param resultSet  result of the query
+     */
+    QueryCursor(String queryId, PooledConnection connection, Statement statement, ResultSet resultSet) {
+
+        this.queryId = queryId;
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+    }
+
+    String getQueryId() {
+
+        return queryId;
+    }
+
+    ResultSet getResultSet() {
+
+        return resultSet;
+    }
+
+    /**
+     * @return the offset of the next row to be returned
+     */
+    long getPosition() {
+
+        return position;
+    }
+
+    void setPosition(long position) {
+
+        this.position = position;
+    }
+
+    /**
+     * @return whether the result set is positioned on the row at {@link #getPosition()}, which has not been returned
+     */
+    boolean isOnRow() {
+
+        return onRow;
+    }
+
+    void setOnRow(boolean onRow) {
+
+        this.onRow = onRow;
+    }
+
+    long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    void extend(long timeToLive) {
+
+        expiryTime = System.currentTimeMillis() + timeToLive;
+    }
+
+    /**
+     * Marks the session of the cursor as broken if the error shows it can no longer be used.
+     */
+    void checkFailure(SQLException e) {
+
+        connection.checkFailure(e);
+    }
+
+    void close() {
+
+        try {
+            resultSet.close();
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException e) {
+            log.debug("Error while closing the cursor of Snowflake query " + queryId + ".", e);
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.paging;
+
+import com.google.gson.JsonArray;
+import net.snowflake.client.jdbc.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.deadline.QueryCanceller;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Serves the result of a query page by page from an open cursor.
+ * <p>
+ * The first page submits the query and opens its result by query ID. The cursor keeps the session it was opened on
+ * borrowed from the pool and is kept in the {@link CursorRegistry} until the next page is requested, so each further
+ * page costs only reading its own rows. If the cursor expired, or a page other than the next one is requested, the
+ * result is read again from Snowflake's result cache with {@code RESULT_SCAN}, starting at the requested offset.
+ */
+public class QueryPager {
+
+
+    private final SnowflakeConnectionPool pool;
+    private final CursorRegistry registry;
+    private final QueryCanceller canceller;
+
+    public QueryPager(SnowflakeConnectionPool pool, CursorRegistry registry) {
+
+        this(pool, registry, null);
+    }
+
+    /**
+     * @param pool      pool the queries run on
+     * @param registry  registry of the cursors kept open between pages
+     * @param canceller cancels the queries of first pages that are still running at their deadline, or {@code null}
+     */
+    public QueryPager(SnowflakeConnectionPool pool, CursorRegistry registry, QueryCanceller canceller) {
+
+        this.pool = pool;
+        this.registry = registry;
+        this.canceller = canceller;
+    }
+
+    /**
+     * Runs a query and writes its first page.
+     *
+     * @param sql         query text
+     * @param parameters  positional parameters, or {@code null}
+     * @param pageSize    number of rows per page
+     * @param cursorTtl   milliseconds the cursor is kept open for the next page
+     * @param writer      destination of the page as a JSON array
+     * @return the page, with the cursor of the next page if there is one
+     */
+    public Page firstPage(String sql, JsonArray parameters, int pageSize, long cursorTtl, Writer writer)
+            throws SQLException, IOException {
+
+        return firstPage(sql, parameters, SessionState.NONE, pageSize, cursorTtl, writer);
+    }
+
+    /**
+     * Runs a query on a session in the requested state and writes its first page. Later pages are read by query ID
+     * and do not depend on the session state.
+     *
+     * @param sql         query text
+     * @param parameters  positional parameters, or {@code null}
+     * @param session     session state to run the query in
+     * @param pageSize    number of rows per page
+     * @param cursorTtl   milliseconds the cursor is kept open for the next page
+     * @param writer      destination of the page as a JSON array
+     * @return the page, with the cursor of the next page if there is one
+     */
+    public Page firstPage(String sql, JsonArray parameters, SessionState session, int pageSize, long cursorTtl,
+                          Writer writer) throws SQLException, IOException {
+
+        return firstPage(sql, parameters, session, Deadline.NONE, pageSize, cursorTtl, writer);
+    }
+
+    /**
+     * Runs a query on a session in the requested state and writes its first page. If the query is still running when
+     * the deadline passes, it is cancelled in Snowflake.
+     *
+     * @param sql         query text
+     * @param parameters  positional parameters, or {@code null}
+     * @param session     session state to run the query in
+     * @param deadline    deadline of the message that requested the page
+     * @param pageSize    number of rows per page
+     * @param cursorTtl   milliseconds the cursor is kept open for the next page
+     * @param writer      destination of the page as a JSON array
+     * @return the page, with the cursor of the next page if there is one
+     */
+    public Page firstPage(String sql, JsonArray parameters, SessionState session, Deadline deadline, int pageSize,
+                          long cursorTtl, Writer writer) throws SQLException, IOException {
+
+        deadline.check();
+        QueryCursor cursor;
+        QueryCanceller.Watch watch = QueryCanceller.Watch.NONE;
+        PooledConnection connection = pool.borrow(session);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (parameters != null) {
+                ParameterBinder.bind(statement, parameters);
+            }
+            String queryId = AsyncQueryClient.submit(statement);
+            if (canceller != null) {
+                watch = canceller.watch(queryId, connection.getConnection(), deadline);
+            }
+            ResultSet resultSet = connection.getConnection().unwrap(SnowflakeConnection.class)
+                    .createResultSet(queryId);
+            cursor = new QueryCursor(queryId, connection, null, resultSet);
+        } catch (SQLException | RuntimeException e) {
+            watch.close();
+            if (e instanceof SQLException) {
+                connection.checkFailure((SQLException) e);
+            }
+            connection.close();
+            throw e;
+        }
+        try {
+            return read(cursor, pageSize, cursorTtl, writer);
+        } finally {
+            watch.close();
+        }
+    }
+
+    /**
+     * Writes the page that starts at the offset encoded in the cursor token.
+     *
+     * @param cursorToken token returned with the previous page
+     * @param pageSize    number of rows per page
+     * @param cursorTtl   milliseconds the cursor is kept open for the next page
+     * @param writer      destination of the page as a JSON array
+     * @return the page, with the cursor of the next page if there is one
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public Page nextPage(String cursorToken, int pageSize, long cursorTtl, Writer writer)
+            throws SQLException, IOException {
+
+        int separator = cursorToken.lastIndexOf(Page.CURSOR_SEPARATOR);
+        long offset;
+        try {
+            offset = separator > 0 ? Long.parseLong(cursorToken.substring(separator + 1)) : -1;
+        } catch (NumberFormatException e) {
+            offset = -1;
+        }
+        String queryId = separator > 0 ? cursorToken.substring(0, separator) : "";
+        if (offset < 0 || !AsyncQueryClient.isQueryId(queryId)) {
+            throw new IllegalArgumentException("Invalid cursor '" + cursorToken + "'");
+        }
+
+        QueryCursor cursor = registry.take(queryId);
+        if (cursor != null && cursor.getPosition() != offset) {
+            cursor.close();
+            cursor = null;
+        }
+        if (cursor == null) {
+            cursor = reopen(queryId, offset);
+        }
+        return read(cursor, pageSize, cursorTtl, writer);
+    }
+
+    /**
+     * Opens the result of a query again from the result cache, starting at the offset, so that the rows before it are
+     * skipped by Snowflake instead of being read and dropped.
+     */
+    private QueryCursor reopen(String queryId, long offset) throws SQLException {
+
+        PooledConnection connection = pool.borrow();
+        Statement statement = null;
+        try {
+            statement = connection.getConnection().createStatement();
+            ResultSet resultSet = statement.executeQuery(AsyncQueryClient.resultScan(queryId, offset, 0));
+            QueryCursor cursor = new QueryCursor(queryId, connection, statement, resultSet);
+            cursor.setPosition(offset);
+            return cursor;
+        } catch (SQLException | RuntimeException e) {
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            if (e instanceof SQLException) {
+                connection.checkFailure((SQLException) e);
+            }
+            connection.close();
+            throw e;
+        }
+    }
+
+    private Page read(QueryCursor cursor, int pageSize, long cursorTtl, Writer writer)
+            throws SQLException, IOException {
+
+        long offset = cursor.getPosition();
+        boolean hasMoreRows;
+        long rowCount;
+        try {
+            ResultSet resultSet = cursor.getResultSet();
+            rowCount = ResultSetJsonWriter.write(resultSet, writer, pageSize, cursor.isOnRow());
+            hasMoreRows = rowCount == pageSize && resultSet.next();
+        } catch (SQLException | IOException | RuntimeException e) {
+            if (e instanceof SQLException) {
+                cursor.checkFailure((SQLException) e);
+            }
+            cursor.close();
+            throw e;
+        }
+        if (hasMoreRows) {
+            cursor.setPosition(offset + rowCount);
+            cursor.setOnRow(true);
+            registry.offer(cursor, cursorTtl);
+        } else {
+            cursor.close();
+        }
+        return new Page(cursor.getQueryId(), offset, rowCount, hasMoreRows);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.parallel;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A query of a {@code parallelQuery} operation and the name its result is merged under.
+ */
+public class NamedQuery {
+
+    private static final String QUERY = "query";
+    private static final String PARAMETERS = "parameters";
+    private static final String MAX_ROWS = "maxRows";
+
+    private final String name;
+    private final String sql;
+    private final JsonArray parameters;
+    private final int maxRows;
+
+    public NamedQuery(String name, String sql, JsonArray parameters, int maxRows) {
+
+        this.name = name;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Parses the queries of a {@code parallelQuery} operation. Each member of the JSON object is a query, given either
+     * as the SQL text or as an object with {@code query}, and optionally {@code parameters} and {@code maxRows}.
+     *
+     * @param json           JSON object of named queries
+     * @param defaultMaxRows row limit of queries that do not set {@code maxRows}
+     * @return the queries in the order they are given
+     * @throws IllegalArgumentException if the JSON is not valid or a query is malformed
+     */
+    public static List<NamedQuery> parse(String json, int defaultMaxRows) {
+
+        JsonElement element;
+        try {
+            element = JsonParser.parseString(json);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Queries are not valid JSON: " + e.getMessage(), e);
+        }
+        if (!element.isJsonObject() || element.getAsJsonObject().size() == 0) {
+            throw new IllegalArgumentException("Queries must be a non-empty JSON object of named queries.");
+        }
+        List<NamedQuery> queries = new ArrayList<>();
+        for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+            JsonElement value = entry.getValue();
+            if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+                queries.add(new NamedQuery(entry.getKey(), value.getAsString(), null, defaultMaxRows));
+                continue;
+            }
+            if (!value.isJsonObject()) {
+                throw new IllegalArgumentException("Query '" + entry.getKey() + "' must be SQL text or an object.");
+            }
+            JsonObject query = value.getAsJsonObject();
+            JsonElement sql = query.get(QUERY);
+            JsonElement parameters = query.get(PARAMETERS);
+            JsonElement maxRows = query.get(MAX_ROWS);
+            if (sql == null || !sql.isJsonPrimitive()) {
+                throw new IllegalArgumentException("Query '" + entry.getKey() + "' has no '" + QUERY + "'.");
+            }
+            if (parameters != null && !parameters.isJsonNull() && !parameters.isJsonArray()) {
+                throw new IllegalArgumentException("The '" + PARAMETERS + "' of query '" + entry.getKey()
+                        + "' must be a JSON array.");
+            }
+            try {
+                queries.add(new NamedQuery(entry.getKey(), sql.getAsString(),
+                        parameters != null && parameters.isJsonArray() ? parameters.getAsJsonArray() : null,
+                        maxRows != null ? maxRows.getAsInt() : defaultMaxRows));
+            } catch (NumberFormatException | UnsupportedOperationException e) {
+                throw new IllegalArgumentException("The '" + MAX_ROWS + "' of query '" + entry.getKey()
+                        + "' must be an integer.", e);
+            }
+        }
+        return queries;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public String getSql() {
+
+        return sql;
+    }
+
+    /**
+     * @return positional parameter values, or {@code null} if the query has none
+     */
+    public JsonArray getParameters() {
+
+        return parameters;
+    }
+
+    /**
+     * @return maximum number of rows returned, or 0 for no limit
+     */
+    public int getMaxRows() {
+
+        return maxRows;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.parallel;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a set of queries concurrently, each on its own pooled session, under a deadline shared by all of them. The
+ * remaining time until the deadline is set as the query timeout of every statement, and queries still running when it
+ * passes are cancelled. The rows of each query are buffered so that the results can be merged in the order the
+ * queries were given, whatever order they complete in.
+ */
+public class ParallelQueryRunner implements Closeable {
+
+    private static final Log log = LogFactory.getLog(ParallelQueryRunner.class);
+
+    private final SnowflakeConnectionPool pool;
+    private final ExecutorService executor;
+
+    /**
+     * @param pool          pool the queries borrow their sessions from
+     * @param threadFactory factory of the threads that run the queries
+     */
+    public ParallelQueryRunner(SnowflakeConnectionPool pool, ThreadFactory threadFactory) {
+
+        this.pool = pool;
+        this.executor = Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * Runs the queries and waits until all of them completed, the deadline passed, or, with {@code failFast}, one of
+     * them failed. Queries that did not complete are cancelled and reported as failed.
+     *
+     * @param queries  queries to run
+     * @param session  session state the queries run with
+     * @param timeout  milliseconds the queries may take together, or 0 for no deadline
+     * @param failFast whether to cancel the other queries as soon as one fails
+     * @return the outcome of every query, in the order of {@code queries}
+     * @throws InterruptedException if the thread is interrupted while it waits; the queries are cancelled
+     */
+    public List<QueryOutcome> run(List<NamedQuery> queries, SessionState session, long timeout, boolean failFast)
+            throws InterruptedException {
+
+        long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+        CompletionService<QueryOutcome> completion = new ExecutorCompletionService<>(executor);
+        List<Task> tasks = new ArrayList<>(queries.size());
+        for (NamedQuery query : queries) {
+            Task task = new Task(query, session, deadline);
+            tasks.add(task);
+            task.future = completion.submit(task);
+        }
+
+        QueryOutcome[] outcomes = new QueryOutcome[tasks.size()];
+        boolean failed = false;
+        try {
+            for (int pending = tasks.size(); pending > 0 && !(failed && failFast); pending--) {
+                Future<QueryOutcome> done = deadline == 0 ? completion.take()
+                        : completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    break;
+                }
+                QueryOutcome outcome = getOutcome(done);
+                outcomes[queries.indexOf(outcome.getQuery())] = outcome;
+                failed |= outcome.isFailed();
+            }
+        } catch (InterruptedException e) {
+            for (int i = 0; i < outcomes.length; i++) {
+                QueryOutcome outcome = outcomes[i] != null ? outcomes[i] : tasks.get(i).abandon();
+                if (outcome != null) {
+                    outcome.release();
+                }
+            }
+            throw e;
+        }
+        List<QueryOutcome> result = new ArrayList<>(outcomes.length);
+        for (int i = 0; i < outcomes.length; i++) {
+            QueryOutcome outcome = outcomes[i] != null ? outcomes[i] : tasks.get(i).abandon();
+            result.add(outcome != null ? outcome : cancelled(queries.get(i), failed && failFast, timeout));
+        }
+        return result;
+    }
+
+    private static QueryOutcome cancelled(NamedQuery query, boolean afterFailure, long timeout) {
+
+        if (afterFailure) {
+            return new QueryOutcome(query, new SQLException("Query '" + query.getName()
+                    + "' was cancelled because another query failed."), true);
+        }
+        return new QueryOutcome(query, new SQLTimeoutException("Query '" + query.getName()
+                + "' did not complete within " + timeout + " ms."), false);
+    }
+
+    private static QueryOutcome getOutcome(Future<QueryOutcome> future) throws InterruptedException {
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // tasks report their failures as outcomes
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+
+        executor.shutdownNow();
+    }
+
+    private final class Task implements Callable<QueryOutcome> {
+
+        private final NamedQuery query;
+        private final SessionState session;
+        private final long deadline;
+        private volatile Future<QueryOutcome> future;
+        private volatile Statement statement;
+        private QueryOutcome outcome;
+        private boolean abandoned;
+
+        Task(NamedQuery query, SessionState session, long deadline) {
+
+            this.query = query;
+            this.session = session;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public QueryOutcome call() {
+
+            PayloadBuffer buffer = new PayloadBuffer(".json");
+            QueryOutcome result;
+            try {
+                result = new QueryOutcome(query, buffer, execute(buffer));
+            } catch (SQLException | IOException | RuntimeException e) {
+                buffer.release();
+                result = new QueryOutcome(query, e, false);
+            }
+            synchronized (this) {
+                if (abandoned) {
+                    result.release();
+                    return result;
+                }
+                outcome = result;
+            }
+            return result;
+        }
+
+        private long execute(PayloadBuffer buffer) throws SQLException, IOException {
+
+            try (PooledConnection pooledConnection = pool.borrow(session)) {
+                try (PreparedStatement prepared = pooledConnection.prepareStatement(query.getSql())) {
+                    if (query.getParameters() != null) {
+                        ParameterBinder.bind(prepared, query.getParameters());
+                    }
+                    prepared.setMaxRows(query.getMaxRows());
+                    prepared.setQueryTimeout(remainingSeconds());
+                    statement = prepared;
+                    synchronized (this) {
+                        if (abandoned) {
+                            throw new SQLException("Query '" + query.getName() + "' was cancelled.");
+                        }
+                    }
+                    try (ResultSet resultSet = prepared.executeQuery(); Writer writer = buffer.getWriter()) {
+                        return ResultSetJsonWriter.write(resultSet, writer);
+                    }
+                } catch (SQLException e) {
+                    pooledConnection.checkFailure(e);
+                    throw e;
+                } finally {
+                    statement = null;
+                }
+            }
+        }
+
+        private int remainingSeconds() throws SQLTimeoutException {
+
+            if (deadline == 0) {
+                return 0;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new SQLTimeoutException("Query '" + query.getName() + "' did not start before the deadline.");
+            }
+            return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        /**
+         * Cancels the query unless it has already completed.
+         *
+         * @return the outcome of the query if it completed before it was abandoned, otherwise {@code null}
+         */
+        QueryOutcome abandon() {
+
+            synchronized (this) {
+                if (outcome != null) {
+                    return outcome;
+                }
+                abandoned = true;
+            }
+            future.cancel(true);
+            Statement running = statement;
+            if (running != null) {
+                try {
+                    running.cancel();
+                } catch (SQLException e) {
+                    log.debug("Unable to cancel Snowflake query '" + query.getName() + "'.", e);
+                }
+            }
+            return null;
+        }
+    }
+}
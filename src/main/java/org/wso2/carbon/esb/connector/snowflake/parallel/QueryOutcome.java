@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.parallel;
+
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+
+/**
+ * Outcome of one query run by the {@link ParallelQueryRunner}: either its rows as a JSON array in a buffer, or the
+ * reason it failed.
+ */
+public class QueryOutcome {
+
+    private final NamedQuery query;
+    private final PayloadBuffer rows;
+    private final long rowCount;
+    private final Exception failure;
+    private final boolean cancelled;
+
+    QueryOutcome(NamedQuery query, PayloadBuffer rows, long rowCount) {
+
+        this.query = query;
+        this.rows = rows;
+        this.rowCount = rowCount;
+        this.failure = null;
+        this.cancelled = false;
+    }
+
+    QueryOutcome(NamedQuery query, Exception failure, boolean cancelled) {
+
+        this.query = query;
+        this.rows = null;
+        this.rowCount = 0;
+        this.failure = failure;
+        this.cancelled = cancelled;
+    }
+
+    public NamedQuery getQuery() {
+
+        return query;
+    }
+
+    public boolean isFailed() {
+
+        return failure != null;
+    }
+
+    /**
+     * @return buffer holding the rows as a JSON array, or {@code null} if the query failed
+     */
+    public PayloadBuffer getRows() {
+
+        return rows;
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    /**
+     * @return whether the query was cancelled because another query failed
+     */
+    public boolean isCancelled() {
+
+        return cancelled;
+    }
+
+    /**
+     * @return the reason the query failed, or {@code null} if it succeeded
+     */
+    public Exception getFailure() {
+
+        return failure;
+    }
+
+    /**
+     * Discards the rows of a query whose result is not used.
+     */
+    public void release() {
+
+        if (rows != null) {
+            rows.release();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of operations that run on a connection at the same time. An operation that finds every slot
+ * taken waits for one in a bounded queue; when the queue is full, or no slot frees up within the queue timeout, the
+ * operation is rejected instead of blocking another mediation thread.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long queueTimeout;
+    private final Semaphore slots;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queueRejections = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param maxConcurrent maximum number of operations running at the same time
+     * @param maxQueued     maximum number of operations waiting for a slot
+     * @param queueTimeout  maximum milliseconds an operation waits for a slot
+     */
+    public Bulkhead(int maxConcurrent, int maxQueued, long queueTimeout) {
+
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("A bulkhead needs at least one slot and a queue of zero or more.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.queueTimeout = Math.max(0, queueTimeout);
+        this.slots = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Takes a slot, waiting in the queue if none is free.
+     *
+     * @return {@code true} if a slot was taken, {@code false} if the operation is rejected
+     * @throws InterruptedException if the thread is interrupted while it waits
+     */
+    public boolean acquire() throws InterruptedException {
+
+        if (slots.tryAcquire()) {
+            admitted.increment();
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            queueRejections.increment();
+            return false;
+        }
+        try {
+            if (slots.tryAcquire(queueTimeout, TimeUnit.MILLISECONDS)) {
+                admitted.increment();
+                return true;
+            }
+            timeouts.increment();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+
+        slots.release();
+    }
+
+    public int getMaxConcurrent() {
+
+        return maxConcurrent;
+    }
+
+    public int getMaxQueued() {
+
+        return maxQueued;
+    }
+
+    /**
+     * @return the number of operations holding a slot
+     */
+    public int getActiveCount() {
+
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    /**
+     * @return the number of operations waiting for a slot
+     */
+    public int getQueuedCount() {
+
+        return queued.get();
+    }
+
+    /**
+     * @return the number of operations that were given a slot
+     */
+    public long getAdmittedCount() {
+
+        return admitted.sum();
+    }
+
+    /**
+     * @return the number of operations rejected because the queue was full
+     */
+    public long getQueueRejectionCount() {
+
+        return queueRejections.sum();
+    }
+
+    /**
+     * @return the number of operations rejected because no slot freed up within the queue timeout
+     */
+    public long getTimeoutCount() {
+
+        return timeouts.sum();
+    }
+
+    @Override
+    public String toString() {
+
+        return "Bulkhead{active=" + getActiveCount() + "/" + maxConcurrent + ", queued=" + getQueuedCount() + "/"
+                + maxQueued + ", admitted=" + getAdmittedCount() + ", queueRejections=" + getQueueRejectionCount()
+                + ", timeouts=" + getTimeoutCount() + '}';
+    }
+}
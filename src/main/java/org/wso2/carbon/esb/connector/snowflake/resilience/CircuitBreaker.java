@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stops sending operations to Snowflake while too many of the recent ones failed or were slow.
+ * <p>
+ * The breaker keeps the outcomes of the last {@code windowSize} operations. Once at least half the window is filled,
+ * it opens when the failure rate or the slow call rate reaches its threshold, and every operation is rejected for
+ * {@code openTime} milliseconds. It then lets {@code probes} operations through (half-open): if all of them succeed
+ * in time it closes again, otherwise it opens for another {@code openTime}. Outcomes of operations admitted before
+ * the last change of state are ignored.
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final long slowCallTime;
+    private final int slowCallRateThreshold;
+    private final long openTimeNanos;
+    private final int probes;
+    private final int minimumCalls;
+
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failed;
+    private int slow;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCallCount = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder openings = new LongAdder();
+
+    /**
+     * @param failureRateThreshold  percentage of failed operations that opens the breaker, 0 to ignore failures
+     * @param slowCallTime          milliseconds after which an operation is slow, 0 to ignore latency
+     * @param slowCallRateThreshold percentage of slow operations that opens the breaker
+     * @param windowSize            number of recent operations the rates are computed over
+     * @param openTime              milliseconds the breaker stays open before it probes
+     * @param probes                number of operations let through while half-open
+     */
+    public CircuitBreaker(int failureRateThreshold, long slowCallTime, int slowCallRateThreshold, int windowSize,
+                          long openTime, int probes) {
+
+        if (windowSize < 1 || probes < 1) {
+            throw new IllegalArgumentException("The window and the number of probes of a circuit breaker must be at "
+                    + "least 1.");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallTime = slowCallTime;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openTimeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, openTime));
+        this.probes = probes;
+        this.minimumCalls = Math.max(1, windowSize / 2);
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    /**
+     * Asks whether an operation may run.
+     *
+     * @return a ticket to pass to {@link #record} when the operation completes, or -1 if it is rejected
+     */
+    public synchronized long tryAcquire() {
+
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openTimeNanos) {
+                rejections.increment();
+                return -1;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted == probes) {
+                rejections.increment();
+                return -1;
+            }
+            probesStarted++;
+        }
+        return generation;
+    }
+
+    /**
+     * Gives back a ticket of an operation that did not run, e.g. because the bulkhead rejected it.
+     */
+    public synchronized void cancel(long ticket) {
+
+        if (ticket == generation && state == State.HALF_OPEN) {
+            probesStarted--;
+        }
+    }
+
+    /**
+     * Records the outcome of an operation.
+     *
+     * @param ticket  ticket returned by {@link #tryAcquire()}
+     * @param failure whether the operation failed in a way that points to Snowflake or the network
+     * @param elapsed milliseconds the operation took
+     */
+    public synchronized void record(long ticket, boolean failure, long elapsed) {
+
+        boolean slowCall = slowCallTime > 0 && elapsed >= slowCallTime;
+        if (failure) {
+            failures.increment();
+        } else {
+            successes.increment();
+        }
+        if (slowCall) {
+            slowCallCount.increment();
+        }
+        if (ticket != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (failure || slowCall) {
+                transition(State.OPEN);
+            } else if (++probesSucceeded == probes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (recorded == failedCalls.length) {
+            failed -= failedCalls[next] ? 1 : 0;
+            slow -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failure;
+        slowCalls[next] = slowCall;
+        failed += failure ? 1 : 0;
+        slow += slowCall ? 1 : 0;
+        next = (next + 1) % failedCalls.length;
+        if (recorded >= minimumCalls && (exceeds(failed, failureRateThreshold)
+                || (slowCallTime > 0 && exceeds(slow, slowCallRateThreshold)))) {
+            transition(State.OPEN);
+        }
+    }
+
+    private boolean exceeds(int count, int threshold) {
+
+        return threshold > 0 && count * 100 >= threshold * recorded;
+    }
+
+    private void transition(State target) {
+
+        state = target;
+        generation++;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (target == State.OPEN) {
+            openedAt = System.nanoTime();
+            openings.increment();
+        } else if (target == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failed = 0;
+            slow = 0;
+        }
+    }
+
+    public synchronized State getState() {
+
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openTimeNanos) {
+            // reported as half-open once the next operation would be let through as a probe
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return percentage of failed operations in the current window
+     */
+    public synchronized float getFailureRate() {
+
+        return recorded == 0 ? 0 : failed * 100f / recorded;
+    }
+
+    /**
+     * @return percentage of slow operations in the current window
+     */
+    public synchronized float getSlowCallRate() {
+
+        return recorded == 0 ? 0 : slow * 100f / recorded;
+    }
+
+    public long getSuccessCount() {
+
+        return successes.sum();
+    }
+
+    public long getFailureCount() {
+
+        return failures.sum();
+    }
+
+    public long getSlowCallCount() {
+
+        return slowCallCount.sum();
+    }
+
+    /**
+     * @return the number of operations rejected while the breaker was open or half-open
+     */
+    public long getRejectionCount() {
+
+        return rejections.sum();
+    }
+
+    /**
+     * @return the number of times the breaker opened
+     */
+    public long getOpenCount() {
+
+        return openings.sum();
+    }
+
+    @Override
+    public String toString() {
+
+        return "CircuitBreaker{state=" + getState() + ", failureRate=" + getFailureRate() + ", slowCallRate="
+                + getSlowCallRate() + ", rejections=" + getRejectionCount() + ", openings=" + getOpenCount() + '}';
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.resilience;
+
+import org.wso2.carbon.esb.connector.snowflake.deadline.DeadlineExceededException;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits the operations of a connection through its {@link Bulkhead} and {@link CircuitBreaker}, either of which may
+ * be absent. Every admitted operation holds a {@link Permit} until it completes.
+ */
+public class OperationGuard {
+
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+
+    private final String connectionName;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Permit unguarded = new Permit(-1);
+
+    /**
+     * @param connectionName name of the connection, used in rejection messages
+     * @param bulkhead       bulkhead of the connection, or {@code null}
+     * @param circuitBreaker circuit breaker of the connection, or {@code null}
+     */
+    public OperationGuard(String connectionName, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+
+        this.connectionName = connectionName;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Admits an operation.
+     *
+     * @return permit to close when the operation completes
+     * @throws OperationRejectedException if the circuit breaker is open or the bulkhead is full
+     * @throws SQLException               if the thread is interrupted while it waits for the bulkhead
+     */
+    public Permit acquire() throws SQLException {
+
+        if (bulkhead == null && circuitBreaker == null) {
+            return unguarded;
+        }
+        long ticket = -1;
+        if (circuitBreaker != null) {
+            ticket = circuitBreaker.tryAcquire();
+            if (ticket < 0) {
+                throw new OperationRejectedException("The circuit breaker of Snowflake connection '" + connectionName
+                        + "' is open after too many failed or slow operations.");
+            }
+        }
+        if (bulkhead != null) {
+            boolean admitted;
+            try {
+                admitted = bulkhead.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel(ticket);
+                throw new SQLException("Interrupted while waiting to run an operation on Snowflake connection '"
+                        + connectionName + "'.", e);
+            }
+            if (!admitted) {
+                cancel(ticket);
+                throw new OperationRejectedException("Snowflake connection '" + connectionName + "' is running "
+                        + bulkhead.getMaxConcurrent() + " operations and " + bulkhead.getMaxQueued()
+                        + " more are waiting.");
+            }
+        }
+        return new Permit(ticket);
+    }
+
+    private void cancel(long ticket) {
+
+        if (circuitBreaker != null) {
+            circuitBreaker.cancel(ticket);
+        }
+    }
+
+    /**
+     * @return the bulkhead of the connection, or {@code null} if it has none
+     */
+    public Bulkhead getBulkhead() {
+
+        return bulkhead;
+    }
+
+    /**
+     * @return the circuit breaker of the connection, or {@code null} if it has none
+     */
+    public CircuitBreaker getCircuitBreaker() {
+
+        return circuitBreaker;
+    }
+
+    /**
+     * Tells whether a failure points to Snowflake or the network being unavailable or overloaded, as opposed to a
+     * problem with the statement itself, such as a syntax error or a missing table.
+     *
+     * @param failure failure of an operation
+     * @return {@code true} if the failure counts towards opening the circuit breaker
+     */
+    public static boolean isServiceFailure(Throwable failure) {
+
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OperationRejectedException || cause instanceof DeadlineExceededException) {
+                return false;
+            }
+            if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String sqlState = ((SQLException) cause).getSQLState();
+                if (sqlState != null && (sqlState.startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS)
+                        || QUERY_CANCELED_SQL_STATE.equals(sqlState))) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param failure failure of an operation
+     * @return whether the failure is a statement timeout or cancellation
+     */
+    public static boolean isTimeout(Throwable failure) {
+
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTimeoutException || cause instanceof SQLException
+                    && QUERY_CANCELED_SQL_STATE.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Admission of one operation. Closing it frees the bulkhead slot and records the outcome with the circuit
+     * breaker; an operation that did not call {@link #failed(Throwable)} counts as a success.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long ticket;
+        private final long start = System.nanoTime();
+        private boolean failure;
+        private boolean closed;
+
+        private Permit(long ticket) {
+
+            this.ticket = ticket;
+        }
+
+        /**
+         * Reports that the operation failed.
+         *
+         * @param cause failure of the operation
+         */
+        public void failed(Throwable cause) {
+
+            failed(cause, false);
+        }
+
+        /**
+         * Reports that the operation failed. A timeout or cancellation after the deadline of the caller has passed
+         * was caused by that deadline rather than by Snowflake, and does not count towards opening the circuit
+         * breaker.
+         *
+         * @param cause          failure of the operation
+         * @param deadlinePassed whether the deadline of the caller had passed when the operation failed
+         */
+        public void failed(Throwable cause, boolean deadlinePassed) {
+
+            failure |= !(deadlinePassed && isTimeout(cause)) && isServiceFailure(cause);
+        }
+
+        @Override
+        public void close() {
+
+            if (this == unguarded || closed) {
+                return;
+            }
+            closed = true;
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            if (circuitBreaker != null) {
+                circuitBreaker.record(ticket, failure, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+    }
+}
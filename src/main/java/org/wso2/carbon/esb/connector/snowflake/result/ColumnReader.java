@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Base64;
+
+/**
+ * Reads a column of the current row with the getter that suits its SQL type and writes it as a JSON value. Numbers
+ * and booleans are passed to the writer as primitives, so no wrapper object is created per value as with
+ * {@link ResultSet#getObject(int)}. The values written are the same as those of
+ * {@link ResultSetJsonWriter#writeValue(JsonWriter, Object)} for the object the driver would have returned.
+ */
+enum ColumnReader {
+
+    /**
+     * Integers that are known to fit a {@code long}.
+     */
+    LONG {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            long value = resultSet.getLong(column);
+            if (resultSet.wasNull()) {
+                json.nullValue();
+            } else {
+                json.value(value);
+            }
+        }
+    },
+
+    /**
+     * Integers declared wider than a {@code long}, such as the default {@code NUMBER(38, 0)}. The Snowflake driver
+     * refuses to convert a value that does not fit, so those values are read again as a {@link BigDecimal}.
+     */
+    WIDE_INTEGER {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            long value;
+            try {
+                value = resultSet.getLong(column);
+            } catch (SQLException e) {
+                DECIMAL.write(resultSet, column, json);
+                return;
+            }
+            if (resultSet.wasNull()) {
+                json.nullValue();
+            } else {
+                json.value(value);
+            }
+        }
+    },
+
+    DECIMAL {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            BigDecimal value = resultSet.getBigDecimal(column);
+            if (value == null) {
+                json.nullValue();
+            } else {
+                json.value(value);
+            }
+        }
+    },
+
+    DOUBLE {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            double value = resultSet.getDouble(column);
+            if (resultSet.wasNull()) {
+                json.nullValue();
+            } else if (Double.isNaN(value) || Double.isInfinite(value)) {
+                json.value(String.valueOf(value));
+            } else {
+                json.value(value);
+            }
+        }
+    },
+
+    BOOLEAN {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            boolean value = resultSet.getBoolean(column);
+            if (resultSet.wasNull()) {
+                json.nullValue();
+            } else {
+                json.value(value);
+            }
+        }
+    },
+
+    STRING {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            json.value(resultSet.getString(column));
+        }
+    },
+
+    DATE {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            Date value = resultSet.getDate(column);
+            json.value(value == null ? null : value.toLocalDate().toString());
+        }
+    },
+
+    TIME {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            Time value = resultSet.getTime(column);
+            json.value(value == null ? null : value.toLocalTime().toString());
+        }
+    },
+
+    TIMESTAMP {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            Timestamp value = resultSet.getTimestamp(column);
+            json.value(value == null ? null : value.toLocalDateTime().toString());
+        }
+    },
+
+    BINARY {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            byte[] value = resultSet.getBytes(column);
+            json.value(value == null ? null : Base64.getEncoder().encodeToString(value));
+        }
+    },
+
+    /**
+     * Any other type, read with {@link ResultSet#getObject(int)} and written by its class.
+     */
+    OBJECT {
+        @Override
+        void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException {
+
+            ResultSetJsonWriter.writeValue(json, resultSet.getObject(column));
+        }
+    };
+
+    private static final int MAX_LONG_PRECISION = 18;
+
+    /**
+     * Writes the value of a column of the current row.
+     *
+     * @param resultSet result set positioned on a row
+     * @param column    column index, starting at 1
+     * @param json      destination
+     */
+    abstract void write(ResultSet resultSet, int column, JsonWriter json) throws SQLException, IOException;
+
+    /**
+     * @param metaData metadata of the result set
+     * @return the reader of each column, by column index starting at 0
+     */
+    static ColumnReader[] forColumns(ResultSetMetaData metaData) throws SQLException {
+
+        ColumnReader[] readers = new ColumnReader[metaData.getColumnCount()];
+        for (int i = 0; i < readers.length; i++) {
+            readers[i] = forColumn(metaData, i + 1);
+        }
+        return readers;
+    }
+
+    static ColumnReader forColumn(ResultSetMetaData metaData, int column) throws SQLException {
+
+        switch (metaData.getColumnType(column)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return LONG;
+            case Types.BIGINT:
+                return integer(metaData.getPrecision(column));
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return metaData.getScale(column) == 0 ? integer(metaData.getPrecision(column)) : DECIMAL;
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return DOUBLE;
+            case Types.BOOLEAN:
+            case Types.BIT:
+                return BOOLEAN;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return STRING;
+            case Types.DATE:
+                return DATE;
+            case Types.TIME:
+                return TIME;
+            case Types.TIMESTAMP:
+                return TIMESTAMP;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return BINARY;
+            default:
+                return OBJECT;
+        }
+    }
+
+    private static ColumnReader integer(int precision) {
+
+        return precision > 0 && precision <= MAX_LONG_PRECISION ? LONG : WIDE_INTEGER;
+    }
+}
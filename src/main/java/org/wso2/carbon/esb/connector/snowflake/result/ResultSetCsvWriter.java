@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Streams a {@link ResultSet} as RFC 4180 CSV with a header line of column labels.
+ * <p>
+ * Every value is read with {@link ResultSet#getString(int)} and written straight to the output. With the Arrow result
+ * format the Snowflake driver renders the string directly from the column vector of the current chunk, so no
+ * intermediate Java object is created per value and no row is materialized. {@code NULL} is written as an empty field
+ * and an empty string as {@code ""}, so the two can be told apart.
+ */
+public final class ResultSetCsvWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_END = "\r\n";
+
+    private ResultSetCsvWriter() {
+
+    }
+
+    /**
+     * Writes the header line and at most {@code maxRows} of the remaining rows of the result set.
+     *
+     * @param resultSet result set positioned before the first row to write
+     * @param writer    destination; it is flushed but not closed
+     * @param maxRows   maximum number of rows to write, or 0 for all remaining rows
+     * @return number of rows written
+     */
+    public static long write(ResultSet resultSet, Writer writer, long maxRows) throws SQLException, IOException {
+
+        String[] labels = ResultSetJsonWriter.getColumnLabels(resultSet.getMetaData());
+        for (int i = 0; i < labels.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(writer, labels[i]);
+        }
+        writer.write(LINE_END);
+
+        long rows = 0;
+        while ((maxRows <= 0 || rows < maxRows) && resultSet.next()) {
+            for (int i = 1; i <= labels.length; i++) {
+                if (i > 1) {
+                    writer.write(SEPARATOR);
+                }
+                String value = resultSet.getString(i);
+                if (value != null) {
+                    writeField(writer, value);
+                }
+            }
+            writer.write(LINE_END);
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+
+        if (!needsQuotes(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == QUOTE) {
+                writer.write(value, start, i - start + 1);
+                writer.write(QUOTE);
+                start = i + 1;
+            }
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String value) {
+
+        if (value.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Streams a {@link ResultSet} as a JSON array of row objects keyed by column label.
+ * <p>
+ * Rows are written token by token while the cursor is walked, so only the current row is ever held in memory
+ * regardless of the size of the result. Each column is read with a {@link ColumnReader} chosen once from the metadata
+ * of the result set, which passes numbers and booleans to the writer without boxing them.
+ */
+public final class ResultSetJsonWriter {
+
+    private ResultSetJsonWriter() {
+
+    }
+
+    /**
+     * Writes all remaining rows of the result set.
+     *
+     * @param resultSet result set positioned before the first row to write
+     * @param writer    destination; it is flushed but not closed
+     * @return number of rows written
+     */
+    public static long write(ResultSet resultSet, Writer writer) throws SQLException, IOException {
+
+        return write(resultSet, writer, 0);
+    }
+
+    /**
+     * Writes at most {@code maxRows} of the remaining rows of the result set. The cursor is left on the last row
+     * written, so the caller can continue from the next one.
+     *
+     * @param resultSet result set positioned before the first row to write
+     * @param writer    destination; it is flushed but not closed
+     * @param maxRows   maximum number of rows to write, or 0 for all remaining rows
+     * @return number of rows written
+     */
+    public static long write(ResultSet resultSet, Writer writer, long maxRows) throws SQLException, IOException {
+
+        return write(resultSet, writer, maxRows, false);
+    }
+
+    /**
+     * Writes at most {@code maxRows} rows, optionally starting with the row the cursor is already positioned on. This
+     * lets a caller look ahead with {@link ResultSet#next()} to find out whether more rows exist without losing the
+     * row it moved to.
+     *
+     * @param resultSet         result set to write
+     * @param writer            destination; it is flushed but not closed
+     * @param maxRows           maximum number of rows to write, or 0 for all remaining rows
+     * @param startOnCurrentRow whether the cursor is positioned on a row that has not been written yet
+     * @return number of rows written
+     */
+    public static long write(ResultSet resultSet, Writer writer, long maxRows, boolean startOnCurrentRow)
+            throws SQLException, IOException {
+
+        JsonWriter json = new JsonWriter(writer);
+        json.setSerializeNulls(true);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        String[] labels = getColumnLabels(metaData);
+        ColumnReader[] readers = ColumnReader.forColumns(metaData);
+        long rows = 0;
+        json.beginArray();
+        boolean onRow = startOnCurrentRow;
+        while ((maxRows <= 0 || rows < maxRows) && (onRow || resultSet.next())) {
+            onRow = false;
+            json.beginObject();
+            for (int i = 0; i < labels.length; i++) {
+                json.name(labels[i]);
+                readers[i].write(resultSet, i + 1, json);
+            }
+            json.endObject();
+            rows++;
+        }
+        json.endArray();
+        json.flush();
+        return rows;
+    }
+
+    static String[] getColumnLabels(ResultSetMetaData metaData) throws SQLException {
+
+        String[] labels = new String[metaData.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+        }
+        return labels;
+    }
+
+    static void writeValue(JsonWriter json, Object value) throws IOException {
+
+        if (value == null) {
+            json.nullValue();
+        } else if (value instanceof String) {
+            json.value((String) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            json.value(((Number) value).longValue());
+        } else if (value instanceof BigDecimal) {
+            json.value((BigDecimal) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                json.value(String.valueOf(number));
+            } else {
+                json.value(number);
+            }
+        } else if (value instanceof Number) {
+            json.value((Number) value);
+        } else if (value instanceof Boolean) {
+            json.value((Boolean) value);
+        } else if (value instanceof Timestamp) {
+            json.value(((Timestamp) value).toLocalDateTime().toString());
+        } else if (value instanceof Date) {
+            json.value(((Date) value).toLocalDate().toString());
+        } else if (value instanceof Time) {
+            json.value(((Time) value).toLocalTime().toString());
+        } else if (value instanceof byte[]) {
+            json.value(Base64.getEncoder().encodeToString((byte[]) value));
+        } else {
+            json.value(value.toString());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Streams the results of a multi-statement request as JSON. Each result is read in turn with
+ * {@link Statement#getMoreResults()} and written as one object of the {@code results} array: a statement that returned
+ * rows as {@code {"statement": 4, "rows": [...], "rowCount": 2}}, any other statement as
+ * {@code {"statement": 1, "rowsAffected": 0}}.
+ */
+public final class ScriptResultWriter {
+
+    private ScriptResultWriter() {
+
+    }
+
+    /**
+     * Writes the results of an executed statement.
+     *
+     * @param statement   executed statement
+     * @param isResultSet the value returned by {@code execute}
+     * @param writer      destination; it is flushed but not closed
+     * @param maxRows     maximum number of rows written per result set, or 0 for all rows
+     * @return summary of the results
+     */
+    public static Summary write(Statement statement, boolean isResultSet, Writer writer, long maxRows)
+            throws SQLException, IOException {
+
+        Summary summary = new Summary();
+        writer.write("{\"results\":[");
+        boolean hasResultSet = isResultSet;
+        while (true) {
+            int updateCount = hasResultSet ? -1 : statement.getUpdateCount();
+            if (!hasResultSet && updateCount == -1) {
+                break;
+            }
+            if (summary.statements > 0) {
+                writer.write(',');
+            }
+            summary.statements++;
+            writer.write("{\"statement\":");
+            writer.write(Integer.toString(summary.statements));
+            if (hasResultSet) {
+                try (ResultSet resultSet = statement.getResultSet()) {
+                    writer.write(",\"rows\":");
+                    long rowCount = ResultSetJsonWriter.write(resultSet, writer, maxRows);
+                    writer.write(",\"rowCount\":");
+                    writer.write(Long.toString(rowCount));
+                }
+            } else {
+                summary.rowsAffected += updateCount;
+                writer.write(",\"rowsAffected\":");
+                writer.write(Integer.toString(updateCount));
+            }
+            writer.write('}');
+            hasResultSet = statement.getMoreResults();
+        }
+        writer.write("]}");
+        writer.flush();
+        return summary;
+    }
+
+    /**
+     * Number of statements in a script and the rows they affected.
+     */
+    public static final class Summary {
+
+        private int statements;
+        private long rowsAffected;
+
+        public int getStatements() {
+
+            return statements;
+        }
+
+        /**
+         * @return the sum of the update counts of the statements that did not return rows
+         */
+        public long getRowsAffected() {
+
+            return rowsAffected;
+        }
+    }
+}
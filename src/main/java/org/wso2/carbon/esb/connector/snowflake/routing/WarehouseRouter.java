@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.routing;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Spreads statements over equivalent warehouses. Each statement is routed to the warehouse with the fewest statements
+ * in flight, or with the lowest expected latency, so that no warehouse queues while another one is idle.
+ * <p>
+ * The latency of a warehouse is the moving average of the time sessions routed to it were held by a borrower, which
+ * covers running the statement and reading its result.
+ */
+public class WarehouseRouter {
+
+    private static final Log log = LogFactory.getLog(WarehouseRouter.class);
+
+    /**
+     * How a warehouse is chosen.
+     */
+    public enum Strategy {
+
+        /**
+         * Fewest statements in flight; ties go to the lower average latency.
+         */
+        LEAST_IN_FLIGHT("leastInFlight"),
+
+        /**
+         * Lowest average latency weighted by the statements in flight, so a fast warehouse is only preferred while
+         * it is not busier than its speed advantage. Warehouses without samples are tried first.
+         */
+        LOWEST_LATENCY("lowestLatency");
+
+        private final String parameterValue;
+
+        Strategy(String parameterValue) {
+
+            this.parameterValue = parameterValue;
+        }
+
+        public String getParameterValue() {
+
+            return parameterValue;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the value does not name a strategy
+         */
+        public static Strategy fromParameter(String value) {
+
+            for (Strategy strategy : values()) {
+                if (strategy.parameterValue.equalsIgnoreCase(value)) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported warehouse routing '" + value + "'. Use '"
+                    + LEAST_IN_FLIGHT.parameterValue + "' or '" + LOWEST_LATENCY.parameterValue + "'.");
+        }
+    }
+
+    /**
+     * A statement routed to a warehouse. Closing it records the latency and ends the statement.
+     */
+    public static final class Route implements AutoCloseable {
+
+        private final WarehouseStatistics statistics;
+        private final long startTime = System.nanoTime();
+        private boolean closed;
+
+        private Route(WarehouseStatistics statistics) {
+
+            this.statistics = statistics;
+        }
+
+        public String getWarehouse() {
+
+            return statistics.getWarehouse();
+        }
+
+        @Override
+        public synchronized void close() {
+
+            if (!closed) {
+                closed = true;
+                statistics.completed((System.nanoTime() - startTime) / 1000000);
+            }
+        }
+    }
+
+    private final List<WarehouseStatistics> warehouses;
+    private final Strategy strategy;
+    private int next;
+
+    /**
+     * @param warehouses names of equivalent warehouses
+     * @param strategy   how to choose among them
+     */
+    public WarehouseRouter(List<String> warehouses, Strategy strategy) {
+
+        if (warehouses.isEmpty()) {
+            throw new IllegalArgumentException("At least one warehouse is required.");
+        }
+        List<WarehouseStatistics> statistics = new ArrayList<>(warehouses.size());
+        for (String warehouse : warehouses) {
+            statistics.add(new WarehouseStatistics(warehouse));
+        }
+        this.warehouses = Collections.unmodifiableList(statistics);
+        this.strategy = strategy;
+    }
+
+    public Strategy getStrategy() {
+
+        return strategy;
+    }
+
+    /**
+     * Routes a statement to a warehouse.
+     *
+     * @return the route; close it when the statement completed
+     */
+    public synchronized Route route() {
+
+        WarehouseStatistics best = null;
+        double bestScore = Double.MAX_VALUE;
+        int size = warehouses.size();
+        // start at a rotating position so that ties are spread evenly
+        for (int i = 0; i < size; i++) {
+            WarehouseStatistics candidate = warehouses.get((next + i) % size);
+            double score = score(candidate);
+            if (score < bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        next = (next + 1) % size;
+        best.started();
+        if (log.isDebugEnabled()) {
+            log.debug("Routed statement to warehouse " + best);
+        }
+        return new Route(best);
+    }
+
+    /**
+     * Records a statement that was sent to a given warehouse by its caller, so that it counts towards the load of the
+     * warehouse.
+     *
+     * @param warehouse name of the warehouse
+     * @return the route, or {@code null} if the warehouse is not one of the routed warehouses
+     */
+    public Route routeTo(String warehouse) {
+
+        for (WarehouseStatistics candidate : warehouses) {
+            if (candidate.getWarehouse().equals(warehouse)) {
+                candidate.started();
+                return new Route(candidate);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the statistics of every warehouse, in configuration order
+     */
+    public List<WarehouseStatistics> getStatistics() {
+
+        return warehouses;
+    }
+
+    private double score(WarehouseStatistics warehouse) {
+
+        double latency = warehouse.getAverageLatency();
+        int inFlight = warehouse.getInFlight();
+        if (strategy == Strategy.LEAST_IN_FLIGHT) {
+            // in-flight count first, average latency as the tie breaker
+            return inFlight * 1e9 + (Double.isNaN(latency) ? 0 : Math.min(latency, 1e8));
+        }
+        return Double.isNaN(latency) ? inFlight - 1e9 : (latency + 1) * (inFlight + 1);
+    }
+}
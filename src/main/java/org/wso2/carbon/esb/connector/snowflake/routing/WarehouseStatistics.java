@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.routing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load and latency figures of one warehouse of a {@link WarehouseRouter}.
+ */
+public class WarehouseStatistics {
+
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final String warehouse;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder routed = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private volatile double averageLatency = Double.NaN;
+    private volatile long lastLatency;
+
+    WarehouseStatistics(String warehouse) {
+
+        this.warehouse = warehouse;
+    }
+
+    void started() {
+
+        inFlight.incrementAndGet();
+        routed.increment();
+    }
+
+    synchronized void completed(long latencyMillis) {
+
+        inFlight.decrementAndGet();
+        completed.increment();
+        lastLatency = latencyMillis;
+        averageLatency = Double.isNaN(averageLatency) ? latencyMillis
+                : averageLatency + LATENCY_WEIGHT * (latencyMillis - averageLatency);
+    }
+
+    public String getWarehouse() {
+
+        return warehouse;
+    }
+
+    /**
+     * @return the number of statements currently running on the warehouse
+     */
+    public int getInFlight() {
+
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of statements routed to the warehouse
+     */
+    public long getRoutedCount() {
+
+        return routed.sum();
+    }
+
+    public long getCompletedCount() {
+
+        return completed.sum();
+    }
+
+    /**
+     * @return the exponentially weighted moving average of the latency in milliseconds, or {@code NaN} before the
+     * first statement completed
+     */
+    public double getAverageLatency() {
+
+        return averageLatency;
+    }
+
+    public long getLastLatency() {
+
+        return lastLatency;
+    }
+
+    @Override
+    public String toString() {
+
+        return warehouse + ": inFlight=" + getInFlight() + ", routed=" + getRoutedCount() + ", completed="
+                + getCompletedCount() + ", averageLatency=" + (Double.isNaN(averageLatency) ? "n/a"
+                : String.format("%.1f ms", averageLatency));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled JSONPath expression that selects one value by object member names and array indexes, e.g.
+ * {@code $.order.lines[0].sku} or {@code $['order id']}. Wildcards, slices and filters are not supported.
+ */
+final class JsonPath {
+
+    private final String expression;
+    private final Object[] segments;
+
+    private JsonPath(String expression, Object[] segments) {
+
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * @param expression JSONPath expression starting with {@code $}
+     * @return the compiled path
+     * @throws IllegalArgumentException if the expression is not supported
+     */
+    static JsonPath compile(String expression) {
+
+        if (!expression.startsWith("$")) {
+            throw invalid(expression, "it must start with '$'");
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < length && expression.charAt(i) != '.' && expression.charAt(i) != '[') {
+                    i++;
+                }
+                String name = expression.substring(start, i);
+                if (name.isEmpty() || "*".equals(name)) {
+                    throw invalid(expression, "member names must not be empty or wildcards");
+                }
+                segments.add(name);
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw invalid(expression, "a ']' is missing");
+                }
+                String selector = expression.substring(i + 1, end).trim();
+                if (selector.length() >= 2 && (selector.charAt(0) == '\'' || selector.charAt(0) == '"')
+                        && selector.charAt(selector.length() - 1) == selector.charAt(0)) {
+                    segments.add(selector.substring(1, selector.length() - 1));
+                } else {
+                    try {
+                        segments.add(Integer.valueOf(selector));
+                    } catch (NumberFormatException e) {
+                        throw invalid(expression, "only quoted names and array indexes may be used in brackets");
+                    }
+                }
+                i = end + 1;
+            } else {
+                throw invalid(expression, "unexpected '" + c + "' at position " + i);
+            }
+        }
+        return new JsonPath(expression, segments.toArray());
+    }
+
+    private static IllegalArgumentException invalid(String expression, String reason) {
+
+        return new IllegalArgumentException("Unsupported JSONPath '" + expression + "': " + reason + ".");
+    }
+
+    /**
+     * @param root document to read from
+     * @return the selected value, or {@code null} if the document has no value at the path
+     */
+    JsonElement read(JsonElement root) {
+
+        JsonElement current = root;
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                if (current == null || !current.isJsonObject()) {
+                    return null;
+                }
+                current = ((JsonObject) current).get((String) segment);
+            } else {
+                int index = (Integer) segment;
+                if (current == null || !current.isJsonArray() || index < 0
+                        || index >= ((JsonArray) current).size()) {
+                    return null;
+                }
+                current = ((JsonArray) current).get(index);
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+
+        return expression;
+    }
+}
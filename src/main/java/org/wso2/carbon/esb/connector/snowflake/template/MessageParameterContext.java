@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Looks up named parameter values in the {@code parameters} object, the JSON payload and the properties of a message.
+ * The payload is parsed on first use, at most once per operation.
+ */
+public class MessageParameterContext implements ParameterContext {
+
+    private final MessageContext messageContext;
+    private final JsonObject values;
+    private JsonElement payload;
+
+    /**
+     * @param messageContext message context
+     * @param values         value of the {@code parameters} parameter, a JSON object keyed by parameter name, or
+     *                       {@code null}
+     * @throws IllegalArgumentException if the values are not a JSON object
+     */
+    public MessageParameterContext(MessageContext messageContext, String values) {
+
+        this.messageContext = messageContext;
+        this.values = values != null ? parseValues(values) : null;
+    }
+
+    private static JsonObject parseValues(String values) {
+
+        try {
+            JsonElement element = JsonParser.parseString(values);
+            if (!element.isJsonObject()) {
+                throw new IllegalArgumentException("The parameters of a statement with named parameters must be a "
+                        + "JSON object: " + values);
+            }
+            return element.getAsJsonObject();
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Statement parameters are not valid JSON: " + values, e);
+        }
+    }
+
+    @Override
+    public JsonElement getValue(String name) {
+
+        return values != null ? values.get(name) : null;
+    }
+
+    @Override
+    public JsonElement getPayload() {
+
+        if (payload == null) {
+            org.apache.axis2.context.MessageContext axis2MessageContext =
+                    ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+            InputStream stream = JsonUtil.hasAJsonPayload(axis2MessageContext)
+                    ? JsonUtil.getJsonPayload(axis2MessageContext) : null;
+            if (stream == null) {
+                throw new IllegalArgumentException("A named parameter is read from the payload, but the message "
+                        + "does not have a JSON payload.");
+            }
+            try {
+                payload = JsonParser.parseReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            } catch (JsonParseException e) {
+                throw new IllegalArgumentException("The JSON payload cannot be parsed: " + e.getMessage(), e);
+            }
+        }
+        return payload;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+
+        return messageContext.getProperty(name);
+    }
+}
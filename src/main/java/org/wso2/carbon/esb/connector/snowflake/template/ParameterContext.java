@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Where the values of the named parameters of a message are looked up.
+ */
+public interface ParameterContext {
+
+    /**
+     * @param name parameter name
+     * @return the value given for the name in the {@code parameters} object, or {@code null} if there is none
+     */
+    JsonElement getValue(String name);
+
+    /**
+     * @return the JSON payload of the message
+     * @throws IllegalArgumentException if the message does not carry a JSON payload
+     */
+    JsonElement getPayload();
+
+    /**
+     * @param name property name
+     * @return the value of the message property, or {@code null} if it is not set
+     */
+    Object getProperty(String name);
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Declared type of a named parameter, which decides the JDBC setter its value is bound with. Parameters without a
+ * declared type are bound by the type of their JSON value, as positional parameters are.
+ */
+public enum ParameterType {
+
+    ANY(Types.VARCHAR),
+    VARCHAR(Types.VARCHAR),
+    NUMBER(Types.DECIMAL),
+    INTEGER(Types.BIGINT),
+    FLOAT(Types.DOUBLE),
+    BOOLEAN(Types.BOOLEAN),
+    DATE(Types.DATE),
+    TIME(Types.TIME),
+    TIMESTAMP(Types.TIMESTAMP),
+    VARIANT(Types.VARCHAR);
+
+    private static final Map<String, ParameterType> NAMES = new HashMap<>();
+
+    static {
+        for (ParameterType type : values()) {
+            NAMES.put(type.name(), type);
+        }
+        NAMES.put("STRING", VARCHAR);
+        NAMES.put("TEXT", VARCHAR);
+        NAMES.put("CHAR", VARCHAR);
+        NAMES.put("DECIMAL", NUMBER);
+        NAMES.put("NUMERIC", NUMBER);
+        NAMES.put("INT", INTEGER);
+        NAMES.put("BIGINT", INTEGER);
+        NAMES.put("SMALLINT", INTEGER);
+        NAMES.put("DOUBLE", FLOAT);
+        NAMES.put("REAL", FLOAT);
+        NAMES.put("DATETIME", TIMESTAMP);
+        NAMES.put("TIMESTAMP_NTZ", TIMESTAMP);
+        NAMES.put("OBJECT", VARIANT);
+        NAMES.put("ARRAY", VARIANT);
+    }
+
+    private final int sqlType;
+
+    ParameterType(int sqlType) {
+
+        this.sqlType = sqlType;
+    }
+
+    /**
+     * @param name Snowflake or JDBC type name, case-insensitive
+     * @return the parameter type
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    public static ParameterType fromName(String name) {
+
+        ParameterType type = NAMES.get(name.trim().toUpperCase(Locale.ROOT));
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported parameter type '" + name + "'.");
+        }
+        return type;
+    }
+
+    /**
+     * @return the {@link Types} constant the parameter is bound as
+     */
+    public int getSqlType() {
+
+        return sqlType;
+    }
+
+    /**
+     * Binds a value to a statement parameter. {@code VARIANT} parameters receive the JSON text of the value, e.g. for
+     * {@code PARSE_JSON(?)}.
+     *
+     * @param statement statement to bind
+     * @param index     parameter index, starting at 1
+     * @param value     value, or {@code null} for SQL {@code NULL}
+     * @throws IllegalArgumentException if the value cannot be converted to the type
+     */
+    void bind(PreparedStatement statement, int index, JsonElement value) throws SQLException {
+
+        if (this == ANY) {
+            ParameterBinder.bind(statement, index, value);
+            return;
+        }
+        if (value == null || value.isJsonNull()) {
+            statement.setNull(index, sqlType);
+            return;
+        }
+        if (this == VARIANT) {
+            statement.setString(index, value.toString());
+            return;
+        }
+        if (!value.isJsonPrimitive()) {
+            throw new IllegalArgumentException("A " + name() + " value is expected, but an object or array was given.");
+        }
+        JsonPrimitive primitive = value.getAsJsonPrimitive();
+        switch (this) {
+            case VARCHAR:
+                statement.setString(index, primitive.getAsString());
+                break;
+            case NUMBER:
+                statement.setBigDecimal(index, primitive.getAsBigDecimal());
+                break;
+            case INTEGER:
+                statement.setLong(index, primitive.isNumber() ? primitive.getAsBigDecimal().longValueExact()
+                        : Long.parseLong(primitive.getAsString().trim()));
+                break;
+            case FLOAT:
+                statement.setDouble(index, primitive.getAsDouble());
+                break;
+            case BOOLEAN:
+                statement.setBoolean(index, toBoolean(primitive));
+                break;
+            case DATE:
+                statement.setDate(index, Date.valueOf(primitive.getAsString().trim()));
+                break;
+            case TIME:
+                statement.setTime(index, Time.valueOf(primitive.getAsString().trim()));
+                break;
+            default:
+                statement.setTimestamp(index, Timestamp.valueOf(primitive.getAsString().trim().replace('T', ' ')));
+                break;
+        }
+    }
+
+    private static boolean toBoolean(JsonPrimitive primitive) {
+
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        String text = primitive.getAsString().trim();
+        if ("true".equalsIgnoreCase(text)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(text)) {
+            return false;
+        }
+        throw new IllegalArgumentException("A BOOLEAN value is expected, but '" + text + "' was given.");
+    }
+}
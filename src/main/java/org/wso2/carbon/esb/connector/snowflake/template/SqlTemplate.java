@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statement with named parameters such as {@code :orderId}, compiled once into the JDBC statement text and a
+ * binding plan. The plan holds, for every {@code ?} of the JDBC text, the parameter it takes its value from, where that
+ * value is looked up and the type it is bound as, so that a message only resolves and binds its values.
+ * <p>
+ * The value of a parameter comes from the {@code parameters} JSON object by default. A parameter source maps a name to
+ * a JSONPath into the JSON payload, e.g. {@code $.order.id}, or to a message property, e.g. {@code $ctx:status}, and
+ * may declare a {@link ParameterType}.
+ * <p>
+ * A colon starts a parameter only where an expression can start, so {@code ::} casts and semi-structured paths such
+ * as {@code src:customer.name} are left alone, as are string literals, quoted identifiers, comments and {@code $$}
+ * blocks. A statement without named parameters is used as is with positional parameters.
+ */
+public final class SqlTemplate {
+
+    private static final String PROPERTY_PREFIX = "$ctx:";
+    private static final String SOURCE = "source";
+    private static final String TYPE = "type";
+
+    private final String sql;
+    private final Binding[] bindings;
+    private final int[] positions;
+
+    private SqlTemplate(String sql, Binding[] bindings, int[] positions) {
+
+        this.sql = sql;
+        this.bindings = bindings;
+        this.positions = positions;
+    }
+
+    /**
+     * Compiles a statement.
+     *
+     * @param text    SQL text with named or positional parameters
+     * @param sources JSON object of parameter sources keyed by parameter name, or {@code null}
+     * @return the compiled template
+     * @throws IllegalArgumentException if named and positional parameters are mixed, or a source is invalid
+     */
+    public static SqlTemplate compile(String text, String sources) {
+
+        StringBuilder sql = new StringBuilder(text.length());
+        Map<String, Integer> names = new LinkedHashMap<>();
+        List<Integer> positions = new ArrayList<>();
+        boolean positional = false;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int end;
+            if (c == '\'' || c == '"') {
+                end = endOfQuoted(text, i, c);
+            } else if ((c == '-' && text.startsWith("--", i)) || (c == '/' && text.startsWith("//", i))) {
+                end = text.indexOf('\n', i);
+                end = end < 0 ? length : end;
+            } else if (c == '/' && text.startsWith("/*", i)) {
+                end = text.indexOf("*/", i + 2);
+                end = end < 0 ? length : end + 2;
+            } else if (c == '$' && text.startsWith("$$", i)) {
+                end = text.indexOf("$$", i + 2);
+                end = end < 0 ? length : end + 2;
+            } else if (c == ':' && i + 1 < length && text.charAt(i + 1) == ':') {
+                end = i + 2;
+            } else if (c == ':' && i + 1 < length && isIdentifierStart(text.charAt(i + 1))
+                    && (i == 0 || !isPathTarget(text.charAt(i - 1)))) {
+                end = i + 2;
+                while (end < length && isIdentifierPart(text.charAt(end))) {
+                    end++;
+                }
+                String name = text.substring(i + 1, end);
+                Integer index = names.get(name);
+                if (index == null) {
+                    index = names.size();
+                    names.put(name, index);
+                }
+                positions.add(index);
+                sql.append('?');
+                i = end;
+                continue;
+            } else {
+                positional |= c == '?';
+                end = i + 1;
+            }
+            sql.append(text, i, end);
+            i = end;
+        }
+        if (names.isEmpty()) {
+            if (sources != null) {
+                throw new IllegalArgumentException("Parameter sources are given, but the statement has no named "
+                        + "parameters.");
+            }
+            return new SqlTemplate(text, null, null);
+        }
+        if (positional) {
+            throw new IllegalArgumentException("Named parameters and ? parameters cannot be used in the same "
+                    + "statement.");
+        }
+        Binding[] bindings = new Binding[names.size()];
+        for (Map.Entry<String, Integer> name : names.entrySet()) {
+            bindings[name.getValue()] = new Binding(name.getKey(), null, ParameterType.ANY);
+        }
+        if (sources != null) {
+            for (Map.Entry<String, JsonElement> source : parseSources(sources).entrySet()) {
+                Integer index = names.get(source.getKey());
+                if (index == null) {
+                    throw new IllegalArgumentException("The statement has no parameter ':" + source.getKey() + "'.");
+                }
+                bindings[index] = Binding.of(source.getKey(), source.getValue());
+            }
+        }
+        int[] positionArray = new int[positions.size()];
+        for (int p = 0; p < positionArray.length; p++) {
+            positionArray[p] = positions.get(p);
+        }
+        return new SqlTemplate(sql.toString(), bindings, positionArray);
+    }
+
+    private static JsonObject parseSources(String sources) {
+
+        try {
+            JsonElement element = JsonParser.parseString(sources);
+            if (!element.isJsonObject()) {
+                throw new IllegalArgumentException("Parameter sources must be a JSON object: " + sources);
+            }
+            return element.getAsJsonObject();
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Parameter sources are not valid JSON: " + sources, e);
+        }
+    }
+
+    private static int endOfQuoted(String sql, int start, char quote) {
+
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\' && quote == '\'') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static boolean isIdentifierStart(char c) {
+
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Tells whether a colon after the character reads a path of a semi-structured value, e.g. {@code src:name} or
+     * {@code "Src":name}, rather than a parameter.
+     */
+    private static boolean isPathTarget(char c) {
+
+        return isIdentifierPart(c) || c == '"' || c == ']' || c == ')';
+    }
+
+    /**
+     * @return the JDBC statement text with a {@code ?} for every parameter occurrence
+     */
+    public String getSql() {
+
+        return sql;
+    }
+
+    /**
+     * @return {@code true} if the statement has named parameters
+     */
+    public boolean isNamed() {
+
+        return bindings != null;
+    }
+
+    /**
+     * @return the names of the parameters in order of first occurrence
+     */
+    public List<String> getParameterNames() {
+
+        if (bindings == null) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>(bindings.length);
+        for (Binding binding : bindings) {
+            names.add(binding.name);
+        }
+        return names;
+    }
+
+    /**
+     * Looks up the value of every parameter occurrence.
+     *
+     * @param context values, payload and properties of the message
+     * @return the values in the order of the {@code ?} of {@link #getSql()}
+     * @throws IllegalArgumentException if a parameter read from the {@code parameters} object has no value
+     */
+    public JsonArray resolve(ParameterContext context) {
+
+        JsonElement[] values = new JsonElement[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            values[i] = bindings[i].resolve(context);
+        }
+        JsonArray resolved = new JsonArray(positions.length);
+        for (int position : positions) {
+            resolved.add(values[position]);
+        }
+        return resolved;
+    }
+
+    /**
+     * Binds resolved values, each with the declared type of its parameter. Without named parameters the values are
+     * bound positionally by their JSON type.
+     *
+     * @param statement statement prepared from {@link #getSql()}
+     * @param values    values returned by {@link #resolve(ParameterContext)}, or positional values
+     * @throws IllegalArgumentException if a value cannot be converted to the declared type of its parameter
+     */
+    public void bind(PreparedStatement statement, JsonArray values) throws SQLException {
+
+        if (bindings == null) {
+            ParameterBinder.bind(statement, values);
+            return;
+        }
+        for (int i = 0; i < positions.length; i++) {
+            Binding binding = bindings[positions[i]];
+            try {
+                binding.type.bind(statement, i + 1, values.get(i));
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                throw new IllegalArgumentException("Invalid value for parameter ':" + binding.name + "'. "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Source and type of one named parameter.
+     */
+    private static final class Binding {
+
+        private final String name;
+        private final JsonPath path;
+        private final String property;
+        private final ParameterType type;
+
+        private Binding(String name, String source, ParameterType type) {
+
+            this.name = name;
+            this.type = type;
+            if (source == null) {
+                this.path = null;
+                this.property = null;
+            } else if (source.startsWith(PROPERTY_PREFIX)) {
+                this.path = null;
+                this.property = source.substring(PROPERTY_PREFIX.length());
+            } else {
+                this.path = JsonPath.compile(source);
+                this.property = null;
+            }
+        }
+
+        static Binding of(String name, JsonElement source) {
+
+            if (source.isJsonPrimitive()) {
+                return new Binding(name, source.getAsString().trim(), ParameterType.ANY);
+            }
+            if (source.isJsonObject()) {
+                JsonObject object = source.getAsJsonObject();
+                JsonElement sourceText = object.get(SOURCE);
+                JsonElement typeName = object.get(TYPE);
+                return new Binding(name, sourceText != null && !sourceText.isJsonNull()
+                        ? sourceText.getAsString().trim() : null, typeName != null && !typeName.isJsonNull()
+                        ? ParameterType.fromName(typeName.getAsString()) : ParameterType.ANY);
+            }
+            throw new IllegalArgumentException("The source of parameter ':" + name + "' must be a string or an "
+                    + "object with 'source' and 'type'.");
+        }
+
+        JsonElement resolve(ParameterContext context) {
+
+            if (path != null) {
+                return path.read(context.getPayload());
+            }
+            if (property != null) {
+                return toJson(context.getProperty(property));
+            }
+            JsonElement value = context.getValue(name);
+            if (value == null) {
+                throw new IllegalArgumentException("No value is given for parameter ':" + name + "'.");
+            }
+            return value;
+        }
+
+        private static JsonElement toJson(Object value) {
+
+            if (value == null) {
+                return JsonNull.INSTANCE;
+            }
+            if (value instanceof JsonElement) {
+                return (JsonElement) value;
+            }
+            if (value instanceof Number) {
+                return new JsonPrimitive((Number) value);
+            }
+            if (value instanceof Boolean) {
+                return new JsonPrimitive((Boolean) value);
+            }
+            return new JsonPrimitive(value.toString());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compiled {@link SqlTemplate}s of a connection, keyed by the statement text and its parameter sources. The least
+ * recently used templates are evicted once the cache is full.
+ */
+public class TemplateCache {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, SqlTemplate> templates;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize maximum number of compiled templates kept
+     */
+    public TemplateCache(int maxSize) {
+
+        this.templates = new LinkedHashMap<String, SqlTemplate>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SqlTemplate> eldest) {
+
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled template of a statement, compiling it on first use.
+     *
+     * @param text    SQL text
+     * @param sources JSON object of parameter sources, or {@code null}
+     * @return the compiled template
+     * @throws IllegalArgumentException if the statement or its sources are invalid
+     */
+    public SqlTemplate get(String text, String sources) {
+
+        String key = sources == null ? text : text + KEY_SEPARATOR + sources;
+        synchronized (templates) {
+            SqlTemplate template = templates.get(key);
+            if (template != null) {
+                hits.increment();
+                return template;
+            }
+        }
+        misses.increment();
+        SqlTemplate template = SqlTemplate.compile(text, sources);
+        synchronized (templates) {
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public int size() {
+
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Binds positional statement parameters supplied as a JSON array.
+ */
+public final class ParameterBinder {
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private ParameterBinder() {
+
+    }
+
+    /**
+     * Parses a JSON array of parameter values.
+     *
+     * @param json JSON array text, e.g. {@code [42, "OPEN", null]}
+     * @return parsed array
+     * @throws IllegalArgumentException if the text is not a JSON array
+     */
+    public static JsonArray parseParameters(String json) {
+
+        try {
+            JsonElement element = JsonParser.parseString(json);
+            if (!element.isJsonArray()) {
+                throw new IllegalArgumentException("Statement parameters must be a JSON array: " + json);
+            }
+            return element.getAsJsonArray();
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Statement parameters are not valid JSON: " + json, e);
+        }
+    }
+
+    /**
+     * Binds each element of the array to the parameter at the same position.
+     *
+     * @param statement  statement to bind
+     * @param parameters parameter values
+     */
+    public static void bind(PreparedStatement statement, JsonArray parameters) throws SQLException {
+
+        for (int i = 0; i < parameters.size(); i++) {
+            bind(statement, i + 1, parameters.get(i));
+        }
+    }
+
+    /**
+     * Binds a JSON value by its type: booleans, integers, decimals and strings with the matching setter, {@code null}
+     * as SQL {@code NULL}, and objects and arrays as JSON text.
+     *
+     * @param statement statement to bind
+     * @param index     parameter index, starting at 1
+     * @param value     value to bind, may be {@code null}
+     */
+    public static void bind(PreparedStatement statement, int index, JsonElement value) throws SQLException {
+
+        if (value == null || value.isJsonNull()) {
+            statement.setNull(index, Types.VARCHAR);
+        } else if (value.isJsonPrimitive()) {
+            JsonPrimitive primitive = value.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                statement.setBoolean(index, primitive.getAsBoolean());
+            } else if (primitive.isNumber()) {
+                BigDecimal number = primitive.getAsBigDecimal();
+                if (number.scale() <= 0 && number.compareTo(MIN_LONG) >= 0 && number.compareTo(MAX_LONG) <= 0) {
+                    statement.setLong(index, number.longValue());
+                } else {
+                    statement.setBigDecimal(index, number);
+                }
+            } else {
+                statement.setString(index, primitive.getAsString());
+            }
+        } else {
+            // objects and arrays are passed as JSON text, e.g. for PARSE_JSON(?)
+            statement.setString(index, value.toString());
+        }
+    }
+}
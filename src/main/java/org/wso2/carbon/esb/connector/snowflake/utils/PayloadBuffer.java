@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import org.apache.axiom.util.blob.OverflowBlob;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffer for large response payloads. The first megabyte is kept in memory and anything beyond it spills over to a
+ * temporary file, so producing a payload never needs heap proportional to its size.
+ */
+public class PayloadBuffer {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int IN_MEMORY_CHUNKS = 16;
+    private static final int WRITER_BUFFER_SIZE = 8 * 1024;
+
+    private final OverflowBlob data;
+
+    public PayloadBuffer(String suffix) {
+
+        this.data = new OverflowBlob(IN_MEMORY_CHUNKS, CHUNK_SIZE, "snowflake", suffix);
+    }
+
+    /**
+     * @return UTF-8 writer appending to the buffer. Closing it completes the payload.
+     */
+    public Writer getWriter() {
+
+        return new BufferedWriter(new OutputStreamWriter(data.getOutputStream(), StandardCharsets.UTF_8),
+                WRITER_BUFFER_SIZE);
+    }
+
+    public long getLength() {
+
+        return data.getLength();
+    }
+
+    /**
+     * Opens the buffered content for reading. The buffer, including any temporary file, is released once the returned
+     * stream is closed.
+     *
+     * @return stream over the buffered content
+     */
+    public InputStream getInputStream() throws IOException {
+
+        return new FilterInputStream(data.getInputStream()) {
+
+            @Override
+            public void close() throws IOException {
+
+                try {
+                    super.close();
+                } finally {
+                    data.release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Copies the buffered content into a byte array, keeping the buffer.
+     *
+     * @return buffered content
+     */
+    public byte[] toByteArray() throws IOException {
+
+        ByteArrayOutputStream copy = new ByteArrayOutputStream((int) data.getLength());
+        data.writeTo(copy);
+        return copy.toByteArray();
+    }
+
+    /**
+     * Discards the buffered content.
+     */
+    public void release() {
+
+        data.release();
+    }
+}
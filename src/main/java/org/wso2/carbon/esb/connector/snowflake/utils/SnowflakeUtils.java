@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import com.google.gson.JsonArray;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.ds.WrappedTextNodeOMDataSourceFromReader;
+import org.apache.axiom.soap.SOAPBody;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.wso2.carbon.connector.core.ConnectException;
+import org.wso2.carbon.connector.core.connection.ConnectionHandler;
+import org.wso2.carbon.connector.core.util.ConnectorUtils;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnection;
+import org.wso2.carbon.esb.connector.snowflake.deadline.Deadline;
+import org.wso2.carbon.esb.connector.snowflake.template.MessageParameterContext;
+import org.wso2.carbon.esb.connector.snowflake.template.SqlTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Helpers shared by the Snowflake connector operations.
+ */
+public final class SnowflakeUtils {
+
+    private static final QName TEXT_WRAPPER = new QName("http://ws.apache.org/commons/ns/payload", "text");
+
+    private SnowflakeUtils() {
+
+    }
+
+    /**
+     * Reads a template parameter.
+     *
+     * @param messageContext message context
+     * @param name           parameter name
+     * @return trimmed parameter value, or {@code null} if the parameter is not set or is blank
+     */
+    public static String lookupParameter(MessageContext messageContext, String name) {
+
+        Object value = ConnectorUtils.lookupTemplateParamater(messageContext, name);
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    public static String getRequiredParameter(MessageContext messageContext, String name) throws ConnectException {
+
+        String value = lookupParameter(messageContext, name);
+        if (value == null) {
+            throw new ConnectException("Mandatory parameter '" + name + "' is not set.");
+        }
+        return value;
+    }
+
+    public static int getIntParameter(MessageContext messageContext, String name, int defaultValue)
+            throws ConnectException {
+
+        String value = lookupParameter(messageContext, name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ConnectException(e, "Invalid value '" + value + "' for parameter '" + name
+                    + "'. An integer is expected.");
+        }
+    }
+
+    public static long getLongParameter(MessageContext messageContext, String name, long defaultValue)
+            throws ConnectException {
+
+        String value = lookupParameter(messageContext, name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ConnectException(e, "Invalid value '" + value + "' for parameter '" + name
+                    + "'. An integer is expected.");
+        }
+    }
+
+    public static boolean getBooleanParameter(MessageContext messageContext, String name, boolean defaultValue) {
+
+        String value = lookupParameter(messageContext, name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Resolves the Snowflake connection configured by the {@code init} operation of the current invocation.
+     *
+     * @param messageContext message context
+     * @return registered Snowflake connection
+     * @throws ConnectException if the connection has not been initialized
+     */
+    public static SnowflakeConnection getConnection(MessageContext messageContext) throws ConnectException {
+
+        String connectionName = getRequiredParameter(messageContext, SnowflakeConstants.CONNECTION_NAME);
+        ConnectionHandler handler = ConnectionHandler.getConnectionHandler();
+        if (!handler.checkIfConnectionExists(SnowflakeConstants.CONNECTOR_NAME, connectionName)) {
+            throw new ConnectException("Snowflake connection '" + connectionName + "' has not been initialized.");
+        }
+        return (SnowflakeConnection) handler.getConnection(SnowflakeConstants.CONNECTOR_NAME, connectionName);
+    }
+
+    /**
+     * Reads the session state requested by the {@code sessionRole}, {@code sessionWarehouse}, {@code sessionDatabase},
+     * {@code sessionSchema} and {@code queryTag} parameters of an operation.
+     *
+     * @param messageContext message context
+     * @return requested session state, {@link SessionState#NONE} if none of the parameters is set
+     * @throws ConnectException if a name is not a valid Snowflake identifier
+     */
+    public static SessionState getSessionState(MessageContext messageContext) throws ConnectException {
+
+        String role = lookupParameter(messageContext, SnowflakeConstants.SESSION_ROLE);
+        String warehouse = lookupParameter(messageContext, SnowflakeConstants.SESSION_WAREHOUSE);
+        String database = lookupParameter(messageContext, SnowflakeConstants.SESSION_DATABASE);
+        String schema = lookupParameter(messageContext, SnowflakeConstants.SESSION_SCHEMA);
+        String queryTag = lookupParameter(messageContext, SnowflakeConstants.QUERY_TAG);
+        if (role == null && warehouse == null && database == null && schema == null && queryTag == null) {
+            return SessionState.NONE;
+        }
+        try {
+            return new SessionState(role, warehouse, database, schema, queryTag);
+        } catch (IllegalArgumentException e) {
+            throw new ConnectException(e, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the values of the parameters of a statement. For a statement with named parameters they are looked up as
+     * its template declares, otherwise {@code parameters} is read as a JSON array of positional values.
+     *
+     * @param messageContext message context
+     * @param template       compiled statement
+     * @param parameters     value of the {@code parameters} parameter, may be {@code null}
+     * @return the values in the order of the {@code ?} of the statement, or {@code null} if it has none
+     * @throws IllegalArgumentException if the parameters are invalid or a named parameter has no value
+     */
+    public static JsonArray resolveParameters(MessageContext messageContext, SqlTemplate template,
+                                              String parameters) {
+
+        if (template.isNamed()) {
+            return template.resolve(new MessageParameterContext(messageContext, parameters));
+        }
+        return parameters != null ? ParameterBinder.parseParameters(parameters) : null;
+    }
+
+    /**
+     * Reads the deadline of the message from the {@code snowflake.deadline} property, in milliseconds since the epoch.
+     *
+     * @param messageContext message context
+     * @return the deadline, {@link Deadline#NONE} if the property is not set
+     * @throws ConnectException if the property is not a number
+     */
+    public static Deadline getDeadline(MessageContext messageContext) throws ConnectException {
+
+        Object value = messageContext.getProperty(SnowflakeConstants.DEADLINE_PROPERTY);
+        if (value instanceof Number) {
+            return Deadline.at(((Number) value).longValue());
+        }
+        if (value == null || value.toString().trim().isEmpty()) {
+            return Deadline.NONE;
+        }
+        try {
+            return Deadline.at(Long.parseLong(value.toString().trim()));
+        } catch (NumberFormatException e) {
+            throw new ConnectException(e, "Invalid value '" + value + "' for property '"
+                    + SnowflakeConstants.DEADLINE_PROPERTY + "'. Milliseconds since the epoch are expected.");
+        }
+    }
+
+    /**
+     * Reads the deadline of the message and, if it has none, sets one {@code requestTimeout} milliseconds from now so
+     * that the later operations of the same mediation share the remaining time.
+     *
+     * @param messageContext message context
+     * @param requestTimeout milliseconds a message may spend in Snowflake operations, 0 for no limit
+     * @return the deadline of the message
+     * @throws ConnectException if the {@code snowflake.deadline} property is not a number
+     */
+    public static Deadline startDeadline(MessageContext messageContext, long requestTimeout) throws ConnectException {
+
+        Deadline deadline = getDeadline(messageContext);
+        if (!deadline.isSet() && requestTimeout > 0) {
+            deadline = Deadline.after(requestTimeout);
+            messageContext.setProperty(SnowflakeConstants.DEADLINE_PROPERTY, deadline.getExpiresAt());
+        }
+        return deadline;
+    }
+
+    /**
+     * Replaces the message payload with the JSON document held in the buffer. The document is copied into the message
+     * and the buffer, including any temporary file, is released before returning.
+     *
+     * @param messageContext message context
+     * @param buffer         buffer holding a complete JSON document
+     */
+    public static void setJsonPayload(MessageContext messageContext, PayloadBuffer buffer)
+            throws AxisFault, IOException {
+
+        try {
+            setJsonPayload(messageContext, buffer.getInputStream());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Replaces the message payload with the JSON document read from the stream. Synapse copies the document into the
+     * message, so the payload takes heap in proportion to its size. The stream is closed before returning, which
+     * releases any buffer behind it.
+     *
+     * @param messageContext message context
+     * @param json           stream over a complete UTF-8 JSON document
+     */
+    public static void setJsonPayload(MessageContext messageContext, InputStream json) throws IOException {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        try (InputStream payload = json) {
+            JsonUtil.getNewJsonPayload(axis2MessageContext, payload, true, true);
+        }
+        axis2MessageContext.setProperty(Constants.Configuration.MESSAGE_TYPE, SnowflakeConstants.JSON_CONTENT_TYPE);
+        axis2MessageContext.setProperty(Constants.Configuration.CONTENT_TYPE, SnowflakeConstants.JSON_CONTENT_TYPE);
+    }
+
+    /**
+     * Replaces the message payload with the text held in the buffer, wrapped in the standard text payload element.
+     * The text is streamed from the buffer when the message is serialized, and the buffer is released when it has been
+     * read.
+     *
+     * @param messageContext message context
+     * @param buffer         buffer holding UTF-8 text
+     * @param contentType    content type of the text, e.g. {@code text/csv}
+     */
+    public static void setTextPayload(MessageContext messageContext, PayloadBuffer buffer, String contentType)
+            throws AxisFault, IOException {
+
+        setTextPayload(messageContext, buffer.getInputStream(), contentType);
+    }
+
+    /**
+     * Replaces the message payload with the text read from the stream, wrapped in the standard text payload element.
+     *
+     * @param messageContext message context
+     * @param text           stream over UTF-8 text
+     * @param contentType    content type of the text, e.g. {@code text/csv}
+     */
+    public static void setTextPayload(MessageContext messageContext, InputStream text, String contentType)
+            throws AxisFault {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        JsonUtil.removeJsonPayload(axis2MessageContext);
+        OMElement wrapper = OMAbstractFactory.getOMFactory().createOMElement(new WrappedTextNodeOMDataSourceFromReader(
+                TEXT_WRAPPER, new InputStreamReader(text, StandardCharsets.UTF_8)), TEXT_WRAPPER);
+        SOAPBody body = messageContext.getEnvelope().getBody();
+        OMElement child;
+        while ((child = body.getFirstElement()) != null) {
+            child.detach();
+        }
+        body.addChild(wrapper);
+        axis2MessageContext.setProperty(Constants.Configuration.MESSAGE_TYPE, SnowflakeConstants.TEXT_MESSAGE_TYPE);
+        axis2MessageContext.setProperty(Constants.Configuration.CONTENT_TYPE, contentType);
+    }
+
+    /**
+     * Replaces the message payload with a JSON document.
+     *
+     * @param messageContext message context
+     * @param json           JSON document
+     */
+    public static void setJsonPayload(MessageContext messageContext, String json) throws AxisFault {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        JsonUtil.getNewJsonPayload(axis2MessageContext, json, true, true);
+        axis2MessageContext.setProperty(Constants.Configuration.MESSAGE_TYPE, SnowflakeConstants.JSON_CONTENT_TYPE);
+        axis2MessageContext.setProperty(Constants.Configuration.CONTENT_TYPE, SnowflakeConstants.JSON_CONTENT_TYPE);
+    }
+
+    /**
+     * Opens the JSON payload of the message as a stream.
+     *
+     * @param messageContext message context
+     * @return payload stream
+     * @throws ConnectException if the message does not carry a JSON payload
+     */
+    public static InputStream getJsonPayloadStream(MessageContext messageContext) throws ConnectException {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        InputStream payload = JsonUtil.hasAJsonPayload(axis2MessageContext)
+                ? JsonUtil.getJsonPayload(axis2MessageContext) : null;
+        if (payload == null) {
+            throw new ConnectException("The message does not have a JSON payload.");
+        }
+        return payload;
+    }
+
+    /**
+     * Splits a comma separated parameter value.
+     *
+     * @param value comma separated list, may be {@code null}
+     * @return trimmed, non-empty items
+     */
+    public static List<String> splitList(String value) {
+
+        List<String> items = new ArrayList<>();
+        if (value != null) {
+            for (String item : value.split(",")) {
+                String trimmed = item.trim();
+                if (!trimmed.isEmpty()) {
+                    items.add(trimmed);
+                }
+            }
+        }
+        return items;
+    }
+}
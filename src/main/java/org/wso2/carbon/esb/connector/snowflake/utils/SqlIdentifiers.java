@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the names and options the connector writes into SQL text, such as table, stage and column names, so that a
+ * value from the message cannot add SQL of its own.
+ */
+public final class SqlIdentifiers {
+
+    private static final String IDENTIFIER = "(?:[A-Za-z_][A-Za-z0-9_$]*|\"(?:[^\"]|\"\")+\")";
+    private static final Pattern NAME = Pattern.compile(IDENTIFIER);
+    private static final Pattern QUALIFIED_NAME = Pattern.compile(IDENTIFIER + "(?:\\." + IDENTIFIER + "){0,2}");
+    private static final Pattern STAGE = Pattern.compile(
+            "@(?:~|(?:" + IDENTIFIER + "\\.){0,2}%?" + IDENTIFIER + ")(?:/[A-Za-z0-9_\\-./=]*)?");
+    private static final Pattern ON_ERROR = Pattern.compile("CONTINUE|SKIP_FILE(?:_[0-9]+%?)?|ABORT_STATEMENT");
+
+    private SqlIdentifiers() {
+
+    }
+
+    /**
+     * @return whether the text is a single unquoted or double-quoted identifier
+     */
+    public static boolean isIdentifier(String name) {
+
+        return name != null && NAME.matcher(name).matches();
+    }
+
+    /**
+     * @param kind what the name refers to, for the error message, e.g. {@code column}
+     * @param name single identifier
+     * @return the name
+     * @throws IllegalArgumentException if the name is not a valid identifier
+     */
+    public static String requireName(String kind, String name) {
+
+        if (!isIdentifier(name)) {
+            throw new IllegalArgumentException("Invalid " + kind + " name '" + name + "'.");
+        }
+        return name;
+    }
+
+    /**
+     * @param kind what the name refers to, for the error message, e.g. {@code table}
+     * @param name identifier, optionally qualified by schema and database
+     * @return the name
+     * @throws IllegalArgumentException if the name is not a valid, optionally qualified, identifier
+     */
+    public static String requireQualifiedName(String kind, String name) {
+
+        if (name == null || !QUALIFIED_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid " + kind + " name '" + name + "'.");
+        }
+        return name;
+    }
+
+    /**
+     * @param name identifier, optionally qualified by schema and database
+     * @return the parts of the name, database first, each as written
+     * @throws IllegalArgumentException if the name is not a valid, optionally qualified, identifier
+     */
+    public static List<String> parts(String name) {
+
+        requireQualifiedName("name", name);
+        List<String> parts = new ArrayList<>(3);
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '.' && !quoted) {
+                parts.add(name.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(name.substring(start));
+        return parts;
+    }
+
+    /**
+     * @param stage stage reference, e.g. {@code @%ORDERS}, {@code @~} or {@code @LOAD_DB.PUBLIC.LOAD_STAGE/daily}
+     * @return the stage reference
+     * @throws IllegalArgumentException if the text is not a stage reference
+     */
+    public static String requireStage(String stage) {
+
+        if (stage == null || !STAGE.matcher(stage).matches()) {
+            throw new IllegalArgumentException("Invalid stage '" + stage + "'.");
+        }
+        return stage;
+    }
+
+    /**
+     * @param table table name, optionally qualified by schema and database
+     * @return the table stage of the table, e.g. {@code @SALES.PUBLIC.%ORDERS} for {@code SALES.PUBLIC.ORDERS}
+     * @throws IllegalArgumentException if the name is not a valid table name
+     */
+    public static String tableStage(String table) {
+
+        List<String> parts = parts(requireQualifiedName("table", table));
+        String name = parts.remove(parts.size() - 1);
+        parts.add("%" + name);
+        return "@" + String.join(".", parts);
+    }
+
+    /**
+     * @param onError {@code ON_ERROR} option of {@code COPY INTO}, case-insensitive
+     * @return the option upper-cased
+     * @throws IllegalArgumentException if the value is not one of {@code CONTINUE}, {@code SKIP_FILE},
+     *                                  {@code SKIP_FILE_n}, {@code SKIP_FILE_n%} or {@code ABORT_STATEMENT}
+     */
+    public static String requireOnError(String onError) {
+
+        String value = onError == null ? null : onError.trim().toUpperCase(Locale.ROOT);
+        if (value == null || !ON_ERROR.matcher(value).matches()) {
+            throw new IllegalArgumentException("Invalid ON_ERROR option '" + onError
+                    + "'. Use CONTINUE, SKIP_FILE, SKIP_FILE_<n>, SKIP_FILE_<n>% or ABORT_STATEMENT.");
+        }
+        return value;
+    }
+}
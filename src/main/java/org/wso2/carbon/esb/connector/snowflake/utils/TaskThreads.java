@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads the connector runs blocking work on, such as stage uploads and warm-up logins.
+ * <p>
+ * On a Java 21 or later runtime the threads can be virtual threads, so that a thread blocked on a Snowflake call does
+ * not hold a platform thread. The connector is built for Java 8, so virtual threads are created reflectively.
+ */
+public final class TaskThreads {
+
+    private static final MethodHandle VIRTUAL_THREAD_FACTORY = findVirtualThreadFactory();
+
+    private TaskThreads() {
+
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Creates a thread factory.
+     *
+     * @param name    prefix of the thread names
+     * @param virtual whether to create virtual threads; ignored if the runtime does not support them
+     * @return factory creating virtual threads, or daemon platform threads
+     */
+    public static ThreadFactory factory(String name, boolean virtual) {
+
+        if (virtual && VIRTUAL_THREAD_FACTORY != null) {
+            try {
+                return (ThreadFactory) VIRTUAL_THREAD_FACTORY.invoke(name + "-", 1L);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to create a virtual thread factory.", e);
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Looks up {@code (prefix, start) -> Thread.ofVirtual().name(prefix, start).factory()}.
+     */
+    private static MethodHandle findVirtualThreadFactory() {
+
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(builderClass));
+            MethodHandle name = lookup.findVirtual(builderClass, "name",
+                    MethodType.methodType(builderClass, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderClass, "factory",
+                    MethodType.methodType(ThreadFactory.class));
+            // factory(name(ofVirtual(), prefix, start))
+            MethodHandle named = MethodHandles.collectArguments(name, 0, ofVirtual);
+            MethodHandle handle = MethodHandles.collectArguments(factory, 0, named);
+            // a preview runtime without --enable-preview fails here
+            handle.invoke("probe-", 1L);
+            return handle;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.warmup;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetCsvWriter;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+import org.wso2.carbon.esb.connector.snowflake.utils.TaskThreads;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warms up a connection before it serves traffic. Sessions are logged in in parallel, each session prepares the
+ * configured statements so that they are in its statement cache, and meanwhile the result writers are run over
+ * synthetic rows so that the JIT has compiled them before the first real result arrives.
+ * <p>
+ * Every warm-up session is held until all of them are open, so each one is a separate login, and then returned to the
+ * pool as an idle session.
+ */
+public class ConnectionWarmer {
+
+    private static final Log log = LogFactory.getLog(ConnectionWarmer.class);
+
+    private static final int PRIMING_ROUNDS = 200;
+    private static final int PRIMING_ROWS = 100;
+
+    private final SnowflakeConnectionPool pool;
+    private final int sessions;
+    private final List<String> statements;
+    private final long timeout;
+    private final ThreadFactory threadFactory;
+
+    public ConnectionWarmer(SnowflakeConnectionPool pool, int sessions, List<String> statements, long timeout) {
+
+        this(pool, sessions, statements, timeout, TaskThreads.factory("snowflake-warm-up-" + pool.getName(), false));
+    }
+
+    /**
+     * @param pool          pool to warm up
+     * @param sessions      number of sessions to open
+     * @param statements    SQL statements to prepare on every session
+     * @param timeout       milliseconds to wait for the warm-up to complete
+     * @param threadFactory factory of the threads that open the sessions
+     */
+    public ConnectionWarmer(SnowflakeConnectionPool pool, int sessions, List<String> statements, long timeout,
+                            ThreadFactory threadFactory) {
+
+        this.pool = pool;
+        this.sessions = sessions;
+        this.statements = statements;
+        this.timeout = timeout;
+        this.threadFactory = threadFactory;
+    }
+
+    public WarmUpReport warmUp() {
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger prepared = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicLong sessionNanos = new AtomicLong();
+        AtomicLong primingNanos = new AtomicLong();
+        CountDownLatch sessionsReady = new CountDownLatch(sessions);
+        CountDownLatch done = new CountDownLatch(sessions + 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions + 1, threadFactory);
+        try {
+            executor.execute(() -> {
+                try {
+                    long primingStart = System.nanoTime();
+                    primeWriters();
+                    primingNanos.set(System.nanoTime() - primingStart);
+                } finally {
+                    done.countDown();
+                }
+            });
+            for (int i = 0; i < sessions; i++) {
+                executor.execute(() -> {
+                    try {
+                        warmSession(opened, prepared, failed, sessionsReady, deadline);
+                        sessionNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            boolean completed = done.await(timeout, TimeUnit.MILLISECONDS);
+            WarmUpReport report = new WarmUpReport(sessions, opened.get(), prepared.get(), failed.get(),
+                    (long) PRIMING_ROUNDS * PRIMING_ROWS, TimeUnit.NANOSECONDS.toMillis(sessionNanos.get()),
+                    TimeUnit.NANOSECONDS.toMillis(primingNanos.get()),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), !completed);
+            log.info("Warmed up Snowflake connection '" + pool.getName() + "': " + report);
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new WarmUpReport(sessions, opened.get(), prepared.get(), failed.get(), 0, 0, 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
+        } finally {
+            // sessions still logging in after a timeout finish in the background
+            executor.shutdown();
+        }
+    }
+
+    private void warmSession(AtomicInteger opened, AtomicInteger prepared, AtomicInteger failed,
+                             CountDownLatch sessionsReady, long deadline) {
+
+        PooledConnection connection;
+        try {
+            connection = pool.borrow();
+        } catch (SQLException e) {
+            log.warn("Unable to open a warm-up session for Snowflake connection '" + pool.getName() + "'.", e);
+            sessionsReady.countDown();
+            return;
+        }
+        try {
+            opened.incrementAndGet();
+            for (String sql : statements) {
+                try (PreparedStatement ignored = connection.prepareStatement(sql)) {
+                    prepared.incrementAndGet();
+                } catch (SQLException e) {
+                    failed.incrementAndGet();
+                    connection.checkFailure(e);
+                    log.warn("Unable to prepare warm-up statement '" + sql + "' for Snowflake connection '"
+                            + pool.getName() + "'.", e);
+                    if (connection.isBroken()) {
+                        break;
+                    }
+                }
+            }
+            sessionsReady.countDown();
+            sessionsReady.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Runs the JSON and CSV writers over synthetic rows until their hot paths are compiled.
+     */
+    static void primeWriters() {
+
+        Writer discard = new DiscardingWriter();
+        try {
+            for (int round = 0; round < PRIMING_ROUNDS; round++) {
+                try (ResultSet json = SyntheticResultSet.create(PRIMING_ROWS);
+                     ResultSet csv = SyntheticResultSet.create(PRIMING_ROWS)) {
+                    ResultSetJsonWriter.write(json, discard);
+                    ResultSetCsvWriter.write(csv, discard, 0);
+                }
+            }
+        } catch (SQLException | IOException | RuntimeException e) {
+            log.debug("Priming the result writers failed.", e);
+        }
+    }
+
+    private static final class DiscardingWriter extends Writer {
+
+        @Override
+        public void write(int c) {
+
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+
+        }
+
+        @Override
+        public void flush() {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+}
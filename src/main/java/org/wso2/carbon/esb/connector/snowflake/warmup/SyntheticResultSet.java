@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * In-memory result set of generated rows covering the value types Snowflake returns, used to run the result writers
+ * without a query. Only the methods the writers use are implemented.
+ */
+final class SyntheticResultSet {
+
+    private static final String[] LABELS = {"ID", "NAME", "AMOUNT", "RATIO", "ACTIVE", "CREATED_AT", "DUE_ON",
+            "NOTE"};
+    private static final int[] TYPES = {Types.BIGINT, Types.VARCHAR, Types.DECIMAL, Types.DOUBLE, Types.BOOLEAN,
+            Types.TIMESTAMP, Types.DATE, Types.VARCHAR};
+    private static final String[] CLASS_NAMES = {Long.class.getName(), String.class.getName(),
+            BigDecimal.class.getName(), Double.class.getName(), Boolean.class.getName(), Timestamp.class.getName(),
+            Date.class.getName(), String.class.getName()};
+    private static final int[] PRECISIONS = {38, 16777216, 38, 38, 1, 0, 0, 16777216};
+    private static final int[] SCALES = {0, 0, 2, 0, 0, 9, 0, 0};
+    private static final long BASE_TIME = 1700000000000L;
+
+    private SyntheticResultSet() {
+
+    }
+
+    /**
+     * @param rows number of rows
+     * @return result set positioned before the first row
+     */
+    static ResultSet create(int rows) {
+
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                SyntheticResultSet.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                SyntheticResultSet::metaData);
+        return (ResultSet) Proxy.newProxyInstance(SyntheticResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new Rows(rows, metaData));
+    }
+
+    private static Object metaData(Object proxy, Method method, Object[] args) {
+
+        switch (method.getName()) {
+            case "getColumnCount":
+                return LABELS.length;
+            case "getColumnLabel":
+            case "getColumnName":
+                return LABELS[(Integer) args[0] - 1];
+            case "getColumnType":
+                return TYPES[(Integer) args[0] - 1];
+            case "getColumnClassName":
+                return CLASS_NAMES[(Integer) args[0] - 1];
+            case "getPrecision":
+                return PRECISIONS[(Integer) args[0] - 1];
+            case "getScale":
+                return SCALES[(Integer) args[0] - 1];
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    static Object value(long row, int column) {
+
+        switch (column) {
+            case 1:
+                return row;
+            case 2:
+                return "Customer \"" + row + "\"";
+            case 3:
+                return BigDecimal.valueOf(row * 1234, 2);
+            case 4:
+                return row / 7.0;
+            case 5:
+                return (row & 1) == 0;
+            case 6:
+                return new Timestamp(BASE_TIME + row * 60000);
+            case 7:
+                return new Date(BASE_TIME + row * 86400000);
+            default:
+                return row % 3 == 0 ? null : "line one\nline two, with a comma";
+        }
+    }
+
+    private static final class Rows implements InvocationHandler {
+
+        private final int rows;
+        private final ResultSetMetaData metaData;
+        private int row;
+        private boolean wasNull;
+
+        Rows(int rows, ResultSetMetaData metaData) {
+
+            this.rows = rows;
+            this.metaData = metaData;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+
+            switch (method.getName()) {
+                case "next":
+                    return ++row <= rows;
+                case "getMetaData":
+                    return metaData;
+                case "getObject":
+                case "getBigDecimal":
+                case "getTimestamp":
+                case "getDate":
+                    return read(args);
+                case "getString": {
+                    Object value = read(args);
+                    return value == null ? null : value.toString();
+                }
+                case "getLong": {
+                    Object value = read(args);
+                    return value == null ? 0L : ((Number) value).longValue();
+                }
+                case "getDouble": {
+                    Object value = read(args);
+                    return value == null ? 0.0 : ((Number) value).doubleValue();
+                }
+                case "getBoolean":
+                    return Boolean.TRUE.equals(read(args));
+                case "wasNull":
+                    return wasNull;
+                case "close":
+                    return null;
+                case "isClosed":
+                    return row > rows;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+        private Object read(Object[] args) {
+
+            Object value = value(row, (Integer) args[0]);
+            wasNull = value == null;
+            return value;
+        }
+    }
+}
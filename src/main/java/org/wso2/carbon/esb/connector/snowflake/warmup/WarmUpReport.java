@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.warmup;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Outcome of warming up a connection.
+ */
+public class WarmUpReport {
+
+    private final int sessionsRequested;
+    private final int sessionsOpened;
+    private final int statementsPrepared;
+    private final int statementsFailed;
+    private final long primedRows;
+    private final long sessionMillis;
+    private final long primingMillis;
+    private final long elapsedMillis;
+    private final boolean timedOut;
+
+    WarmUpReport(int sessionsRequested, int sessionsOpened, int statementsPrepared, int statementsFailed,
+                 long primedRows, long sessionMillis, long primingMillis, long elapsedMillis, boolean timedOut) {
+
+        this.sessionsRequested = sessionsRequested;
+        this.sessionsOpened = sessionsOpened;
+        this.statementsPrepared = statementsPrepared;
+        this.statementsFailed = statementsFailed;
+        this.primedRows = primedRows;
+        this.sessionMillis = sessionMillis;
+        this.primingMillis = primingMillis;
+        this.elapsedMillis = elapsedMillis;
+        this.timedOut = timedOut;
+    }
+
+    public int getSessionsRequested() {
+
+        return sessionsRequested;
+    }
+
+    public int getSessionsOpened() {
+
+        return sessionsOpened;
+    }
+
+    public int getStatementsPrepared() {
+
+        return statementsPrepared;
+    }
+
+    public int getStatementsFailed() {
+
+        return statementsFailed;
+    }
+
+    /**
+     * @return the number of synthetic rows written by each result writer
+     */
+    public long getPrimedRows() {
+
+        return primedRows;
+    }
+
+    /**
+     * @return milliseconds until all sessions were open and their statements prepared
+     */
+    public long getSessionMillis() {
+
+        return sessionMillis;
+    }
+
+    /**
+     * @return milliseconds spent running the result writers over synthetic rows
+     */
+    public long getPrimingMillis() {
+
+        return primingMillis;
+    }
+
+    /**
+     * @return total milliseconds of the warm-up; sessions and writers are warmed up in parallel
+     */
+    public long getElapsedMillis() {
+
+        return elapsedMillis;
+    }
+
+    /**
+     * @return whether the warm-up was still running when its timeout expired
+     */
+    public boolean isTimedOut() {
+
+        return timedOut;
+    }
+
+    public JsonObject toJson() {
+
+        JsonObject json = new JsonObject();
+        json.addProperty("sessionsRequested", sessionsRequested);
+        json.addProperty("sessionsOpened", sessionsOpened);
+        json.addProperty("statementsPrepared", statementsPrepared);
+        json.addProperty("statementsFailed", statementsFailed);
+        json.addProperty("primedRows", primedRows);
+        json.addProperty("sessionMillis", sessionMillis);
+        json.addProperty("primingMillis", primingMillis);
+        json.addProperty("elapsedMillis", elapsedMillis);
+        json.addProperty("timedOut", timedOut);
+        return json;
+    }
+
+    @Override
+    public String toString() {
+
+        return sessionsOpened + "/" + sessionsRequested + " sessions open in " + sessionMillis + " ms, "
+                + statementsPrepared + " statements prepared (" + statementsFailed + " failed), result writers primed "
+                + "with " + primedRows + " rows in " + primingMillis + " ms, " + elapsedMillis + " ms in total"
+                + (timedOut ? " (timed out)" : "");
+    }
+}
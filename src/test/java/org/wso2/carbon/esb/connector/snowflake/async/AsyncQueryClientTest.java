@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.async;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests for {@link AsyncQueryClient}.
+ */
+public class AsyncQueryClientTest {
+
+    private static final String QUERY = "SELECT ID FROM ORDERS WHERE REGION = ?";
+    private static final Pattern RESULT_SCAN = Pattern.compile(
+            "SELECT \\* FROM TABLE\\(RESULT_SCAN\\('[0-9a-f-]+'\\)\\) LIMIT (\\d+|NULL) OFFSET (\\d+)");
+
+    private StubDatabase database;
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            Matcher resultScan = RESULT_SCAN.matcher(sql);
+            if (resultScan.matches()) {
+                int offset = Math.min(Integer.parseInt(resultScan.group(2)), 25);
+                int limit = "NULL".equals(resultScan.group(1)) ? 25 : Integer.parseInt(resultScan.group(1));
+                return StubResult.rows(Collections.singletonList(StubColumn.of("ID", Types.BIGINT)),
+                        Math.min(limit, 25 - offset), row -> new Object[]{(long) (row + offset)});
+            }
+            if (!"EU".equals(parameters.get(0))) {
+                throw new SQLException("Unknown region " + parameters.get(0), "42000");
+            }
+            return StubResult.rows(Collections.singletonList(StubColumn.of("ID", Types.BIGINT)), 25,
+                    row -> new Object[]{(long) row});
+        });
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+    }
+
+    private String submit(String region) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(QUERY)) {
+            statement.setString(1, region);
+            return AsyncQueryClient.submit(statement);
+        }
+    }
+
+    @Test
+    public void testRunningQueryReturnsStatusOnly() throws Exception {
+
+        database.setHoldAsyncQueries(true);
+        String queryId = submit("EU");
+        Assert.assertEquals(database.getQuery(queryId).getSql(), QUERY);
+
+        StringWriter writer = new StringWriter();
+        AsyncQueryResult result = AsyncQueryClient.fetch(connection, queryId, 0, 0, writer);
+        Assert.assertTrue(result.isRunning());
+        Assert.assertEquals(result.getStatus(), "RUNNING");
+        Assert.assertEquals(writer.toString(), "");
+
+        database.completeAsyncQueries();
+        result = AsyncQueryClient.fetch(connection, queryId, 0, 0, writer);
+        Assert.assertFalse(result.isRunning());
+        Assert.assertEquals(result.getStatus(), "SUCCESS");
+        Assert.assertEquals(result.getRowCount(), 25);
+        Assert.assertEquals(JsonParser.parseString(writer.toString()).getAsJsonArray().size(), 25);
+    }
+
+    @Test
+    public void testResultIsPaged() throws Exception {
+
+        String queryId = submit("EU");
+        StringWriter writer = new StringWriter();
+        AsyncQueryResult result = AsyncQueryClient.fetch(connection, queryId, 10, 10, writer);
+        JsonArray rows = JsonParser.parseString(writer.toString()).getAsJsonArray();
+        Assert.assertEquals(result.getRowCount(), 10);
+        Assert.assertTrue(result.hasMoreRows());
+        Assert.assertEquals(rows.get(0).getAsJsonObject().get("ID").getAsLong(), 10);
+
+        writer = new StringWriter();
+        result = AsyncQueryClient.fetch(connection, queryId, 20, 10, writer);
+        Assert.assertEquals(result.getRowCount(), 5);
+        Assert.assertFalse(result.hasMoreRows());
+
+        writer = new StringWriter();
+        result = AsyncQueryClient.fetch(connection, queryId, 100, 10, writer);
+        Assert.assertEquals(result.getRowCount(), 0);
+        Assert.assertEquals(writer.toString(), "[]");
+
+        Assert.assertEquals(database.getExecutedStatements().subList(1, 4), Arrays.asList(
+                AsyncQueryClient.resultScan(queryId, 10, 11), AsyncQueryClient.resultScan(queryId, 20, 11),
+                AsyncQueryClient.resultScan(queryId, 100, 11)));
+    }
+
+    @Test
+    public void testInvalidQueryIdIsRejected() {
+
+        Assert.assertThrows(SQLException.class, () -> AsyncQueryClient.fetch(connection, "1'); DROP TABLE ORDERS; --",
+                10, 10, new StringWriter()));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AsyncQueryClient.resultScan("x')", 0, 0));
+        Assert.assertTrue(database.getExecutedStatements().isEmpty());
+    }
+
+    @Test
+    public void testFailedQueryReportsError() throws Exception {
+
+        String queryId = submit("MARS");
+        StringWriter writer = new StringWriter();
+        AsyncQueryResult result = AsyncQueryClient.fetch(connection, queryId, 0, 0, writer);
+        Assert.assertTrue(result.isFailed());
+        Assert.assertEquals(result.getStatus(), "FAILED_WITH_ERROR");
+        Assert.assertEquals(result.getErrorMessage(), "Unknown region MARS");
+        Assert.assertEquals(result.toJson().get("error").getAsString(), "Unknown region MARS");
+        Assert.assertEquals(writer.toString(), "");
+    }
+
+    @Test(expectedExceptions = SQLException.class)
+    public void testUnknownQueryId() throws Exception {
+
+        AsyncQueryClient.fetch(connection, "01b0a1c2-0000-4000-8000-999999999999", 0, 0, new StringWriter());
+    }
+}
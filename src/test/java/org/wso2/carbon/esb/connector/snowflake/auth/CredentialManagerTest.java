@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.auth;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.SnowflakeConstants;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubTokenEndpoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests for {@link CredentialManager} and {@link OAuthTokenSource} against a local token endpoint.
+ */
+public class CredentialManagerTest {
+
+    private StubTokenEndpoint endpoint;
+    private CredentialManager manager;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+
+        endpoint = new StubTokenEndpoint();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (manager != null) {
+            manager.close();
+        }
+        endpoint.close();
+    }
+
+    private static void await(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("Condition not met within " + timeoutMillis + " ms");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void testTokenIsFetchedAheadAndCached() throws Exception {
+
+        manager = new CredentialManager("test", OAuthTokenSource.clientCredentials(endpoint.getUrl(), "client",
+                "s3cret", "session:role:ANALYST"), 60000);
+        await(() -> manager.getRefreshCount() == 1, 5000);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(manager.getToken().getValue(), "token-1");
+        }
+        Assert.assertEquals(endpoint.getIssuedCount(), 1);
+        Assert.assertEquals(endpoint.getRequests().get(0).get("grant_type"), "client_credentials");
+        Assert.assertEquals(endpoint.getRequests().get(0).get("scope"), "session:role:ANALYST");
+        Assert.assertEquals(endpoint.getAuthorizations().get(0), "Basic "
+                + Base64.getEncoder().encodeToString("client:s3cret".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testTokenIsRenewedInTheBackgroundBeforeExpiry() throws Exception {
+
+        endpoint.setExpiresIn(2);
+        manager = new CredentialManager("test", OAuthTokenSource.clientCredentials(endpoint.getUrl(), null, null,
+                null), 1500);
+        await(() -> manager.getRefreshCount() >= 2, 5000);
+
+        AccessToken token = manager.getToken();
+        Assert.assertFalse(token.isExpired(System.currentTimeMillis()));
+        Assert.assertNotEquals(token.getValue(), "token-1");
+        Assert.assertTrue(endpoint.getAuthorizations().isEmpty());
+    }
+
+    @Test
+    public void testFailedRenewalIsRetriedWhileTheTokenIsKept() throws Exception {
+
+        endpoint.setStatus(503);
+        manager = new CredentialManager("test", OAuthTokenSource.clientCredentials(endpoint.getUrl(), null, null,
+                null), 60000, 100);
+        await(() -> manager.getFailureCount() >= 2, 5000);
+        try {
+            manager.getToken();
+            Assert.fail("No token can be obtained while the endpoint fails");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().contains("HTTP 503"), e.getMessage());
+        }
+
+        endpoint.setStatus(200);
+        await(() -> manager.getRefreshCount() == 1, 5000);
+        Assert.assertEquals(manager.getToken().getValue(), "token-1");
+    }
+
+    @Test
+    public void testJwtBearerGrantUsesTheCachedAssertion() throws Exception {
+
+        TokenSource assertions = () -> new AccessToken("signed-jwt", Long.MAX_VALUE);
+        manager = new CredentialManager("test", OAuthTokenSource.jwtBearer(endpoint.getUrl(), null, null,
+                assertions, null), 60000);
+
+        Assert.assertEquals(manager.getToken().getValue(), "token-1");
+        Assert.assertEquals(endpoint.getRequests().get(0).get("grant_type"),
+                "urn:ietf:params:oauth:grant-type:jwt-bearer");
+        Assert.assertEquals(endpoint.getRequests().get(0).get("assertion"), "signed-jwt");
+    }
+
+    @Test
+    public void testPoolLogsInWithTheCachedToken() throws Exception {
+
+        manager = new CredentialManager("test", OAuthTokenSource.clientCredentials(endpoint.getUrl(), null, null,
+                null), 60000);
+        StubDatabase database = new StubDatabase();
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setAuthenticator(SnowflakeConstants.AUTHENTICATOR_OAUTH);
+        configuration.setEvictionInterval(0);
+        SnowflakeConnectionPool pool = new SnowflakeConnectionPool(configuration, new StubDriver(database), manager);
+        try (PooledConnection connection = pool.borrow()) {
+            Properties login = database.getLastLoginProperties();
+            Assert.assertEquals(login.getProperty("authenticator"), "OAUTH");
+            Assert.assertEquals(login.getProperty("token"), "token-1");
+        } finally {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link AdaptiveBatchSizer}.
+ */
+public class AdaptiveBatchSizerTest {
+
+    @Test
+    public void testGrowsAtMostTwofoldWhenBatchesAreFast() {
+
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 10000, 1000, 100);
+        sizer.record(100, TimeUnit.MILLISECONDS.toNanos(10));
+        Assert.assertEquals(sizer.getBatchSize(), 200);
+        sizer.record(200, TimeUnit.MILLISECONDS.toNanos(20));
+        Assert.assertEquals(sizer.getBatchSize(), 400);
+    }
+
+    @Test
+    public void testShrinksTowardsTargetWhenBatchesAreSlow() {
+
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(10, 10000, 1000, 1000);
+        sizer.record(1000, TimeUnit.MILLISECONDS.toNanos(4000));
+        Assert.assertEquals(sizer.getBatchSize(), 625);
+        for (int i = 0; i < 20; i++) {
+            sizer.record(sizer.getBatchSize(), TimeUnit.MILLISECONDS.toNanos(4 * sizer.getBatchSize()));
+        }
+        Assert.assertEquals(sizer.getBatchSize(), 250, 1);
+    }
+
+    @Test
+    public void testStaysWithinWindow() {
+
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(50, 500, 100, 5000);
+        Assert.assertEquals(sizer.getBatchSize(), 500);
+        sizer.record(500, TimeUnit.SECONDS.toNanos(60));
+        sizer.record(250, TimeUnit.SECONDS.toNanos(60));
+        sizer.record(125, TimeUnit.SECONDS.toNanos(60));
+        sizer.record(62, TimeUnit.SECONDS.toNanos(60));
+        Assert.assertEquals(sizer.getBatchSize(), 50);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsInvalidWindow() {
+
+        new AdaptiveBatchSizer(100, 10, 1000, 50);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link BatchExecutor}.
+ */
+public class BatchExecutorTest {
+
+    private static final String INSERT = "INSERT INTO ORDERS (ID, STATUS) VALUES (?, ?)";
+
+    private StubDatabase database;
+    private List<List<Object>> inserted;
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+
+        database = new StubDatabase();
+        inserted = new CopyOnWriteArrayList<>();
+        database.setResponder((sql, parameters) -> {
+            if ("FAIL".equals(parameters.get(1))) {
+                throw new SQLException("Numeric value 'FAIL' is not recognized", "22018");
+            }
+            inserted.add(parameters);
+            return StubResult.updateCount(1);
+        });
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+    }
+
+    private static String parameterSets(int count, int failAt) {
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('[').append(i).append(", \"").append(i == failAt ? "FAIL" : "OPEN").append("\"]");
+        }
+        return json.append(']').toString();
+    }
+
+    private BatchResult execute(BatchExecutor executor, String parameterSets) throws Exception {
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            return executor.execute(statement, new StringReader(parameterSets));
+        }
+    }
+
+    @Test
+    public void testSendsRowsInBatches() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(10, 10, 1000, 10), Long.MAX_VALUE, false);
+        BatchResult result = execute(executor, parameterSets(25, -1));
+
+        Assert.assertEquals(result.getBatches().size(), 3);
+        Assert.assertEquals(result.getBatches().get(2).getSize(), 5);
+        Assert.assertEquals(result.getRowCount(), 25);
+        Assert.assertEquals(result.getRowsAffected(), 25);
+        Assert.assertFalse(result.hasFailures());
+        Assert.assertEquals(inserted.size(), 25);
+        Assert.assertEquals(database.getExecutedStatements().size(), 3);
+    }
+
+    @Test
+    public void testByteLimitSplitsBatches() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(1, 1000, 1000, 1000), 24, false);
+        BatchResult result = execute(executor, parameterSets(6, -1));
+        Assert.assertEquals(result.getBatches().size(), 3);
+        Assert.assertEquals(result.getBatches().get(0).getBytes(), 24);
+    }
+
+    @Test
+    public void testStopsAfterFailedBatch() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(10, 10, 1000, 10), Long.MAX_VALUE, false);
+        BatchResult result = execute(executor, parameterSets(30, 13));
+
+        Assert.assertEquals(result.getBatches().size(), 2);
+        BatchResult.Batch failed = result.getBatches().get(1);
+        Assert.assertEquals(failed.getRowsAffected(), 3);
+        Assert.assertEquals(failed.getFailedRows(), 7);
+        Assert.assertNotNull(failed.getError());
+        Assert.assertEquals(result.getRowsAffected(), 13);
+        Assert.assertEquals(inserted.size(), 13);
+    }
+
+    @Test
+    public void testContinuesAfterFailedBatch() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(10, 10, 1000, 10), Long.MAX_VALUE, true);
+        BatchResult result = execute(executor, parameterSets(30, 13));
+
+        Assert.assertEquals(result.getBatches().size(), 3);
+        Assert.assertEquals(result.getFailedRows(), 7);
+        Assert.assertEquals(result.getRowsAffected(), 23);
+        Assert.assertEquals(result.batchesToJson().get(1).getAsJsonObject().get("failedRows").getAsInt(), 7);
+    }
+
+    @Test
+    public void testKeepsSentBatchesWhenParameterSetIsMalformed() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(10, 10, 1000, 10), Long.MAX_VALUE, false);
+        String parameterSets = parameterSets(15, -1).replace("[12, \"OPEN\"]", "{\"id\": 12}");
+        BatchResult result = new BatchResult();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            Assert.assertThrows(IllegalArgumentException.class,
+                    () -> executor.execute(statement, new StringReader(parameterSets), result));
+        }
+        Assert.assertEquals(result.getBatches().size(), 1);
+        Assert.assertEquals(result.getRowsAffected(), 10);
+    }
+
+    @Test
+    public void testRecordsBatchFailingWithoutUpdateCounts() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(10, 10, 1000, 10), Long.MAX_VALUE, true);
+        BatchResult result = new BatchResult();
+        try (PreparedStatement target = connection.prepareStatement(INSERT)) {
+            AtomicInteger batches = new AtomicInteger();
+            PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, arguments) -> {
+                        if ("executeBatch".equals(method.getName()) && batches.incrementAndGet() == 2) {
+                            target.clearBatch();
+                            throw new SQLException("JDBC driver encountered communication error", "08006");
+                        }
+                        try {
+                            return method.invoke(target, arguments);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+            Assert.assertThrows(SQLException.class,
+                    () -> executor.execute(statement, new StringReader(parameterSets(25, -1)), result));
+        }
+
+        Assert.assertEquals(result.getBatches().size(), 2);
+        Assert.assertEquals(result.getRowsAffected(), 10);
+        BatchResult.Batch failed = result.getBatches().get(1);
+        Assert.assertEquals(failed.getFailedRows(), 10);
+        Assert.assertNotNull(failed.getError());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsNonArrayParameterSet() throws Exception {
+
+        BatchExecutor executor = new BatchExecutor(new AdaptiveBatchSizer(10, 10, 1000, 10), Long.MAX_VALUE, false);
+        execute(executor, "[{\"id\": 1}]");
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.batch;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+import org.wso2.carbon.esb.connector.snowflake.utils.ParameterBinder;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Tests for {@link ParameterSetReader}.
+ */
+public class ParameterSetReaderTest {
+
+    private final List<List<Object>> bound = new ArrayList<>();
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+
+        bound.clear();
+        StubDatabase database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            bound.add(parameters);
+            return StubResult.updateCount(1);
+        });
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+    }
+
+    private List<Long> bindAll(String json, String sql) throws Exception {
+
+        List<Long> sizes = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            ParameterSetReader reader = new ParameterSetReader(new StringReader(json));
+            long size;
+            while ((size = reader.bindNext(statement)) >= 0) {
+                sizes.add(size);
+                statement.executeUpdate();
+            }
+        }
+        return sizes;
+    }
+
+    @Test
+    public void testBindsValuesAsTheTreeBinderDoes() throws Exception {
+
+        String set = "[42, -7, 12.5, 1e3, 99999999999999999999, -9223372036854775808, \"OPEN\", true, false, null, "
+                + "{\"tier\": \"gold\", \"tags\": [1, 2]}]";
+        List<Long> sizes = bindAll(" [ " + set + " ] ", "INSERT INTO T VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        List<Object> expected;
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO T VALUES (?)")) {
+            ParameterBinder.bind(statement, ParameterBinder.parseParameters(set));
+            statement.executeUpdate();
+            expected = bound.get(1);
+        }
+        Assert.assertEquals(bound.get(0), expected);
+        Assert.assertEquals(bound.get(0), Arrays.asList(42L, -7L, new BigDecimal("12.5"), 1000L,
+                new BigDecimal("99999999999999999999"), Long.MIN_VALUE, "OPEN", true, false, null,
+                "{\"tier\":\"gold\",\"tags\":[1,2]}"));
+        Assert.assertEquals(sizes, Collections.singletonList(8L * 9 + 4 + 28));
+    }
+
+    @Test
+    public void testDecodesEscapesAndStringsAcrossBufferBoundaries() throws Exception {
+
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longValue.append((char) ('a' + i % 26));
+        }
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 3; i++) {
+            json.append(i > 0 ? "," : "").append("[\"").append(longValue)
+                    .append("\", \"line\\n\\\"quoted\\\" \\u00e9\"]");
+        }
+        bindAll(json.append(']').toString(), "INSERT INTO T VALUES (?, ?)");
+
+        Assert.assertEquals(bound.size(), 3);
+        for (List<Object> parameters : bound) {
+            Assert.assertEquals(parameters, Arrays.asList(longValue.toString(), "line\n\"quoted\" \u00e9"));
+        }
+    }
+
+    @Test
+    public void testEmptyArrayHasNoParameterSets() throws Exception {
+
+        Assert.assertTrue(bindAll("[]", "INSERT INTO T VALUES (?)").isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsParameterSetThatIsNotAnArray() throws Exception {
+
+        bindAll("[[1], {\"id\": 2}]", "INSERT INTO T VALUES (?)");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsTruncatedInput() throws Exception {
+
+        bindAll("[[1, \"OP", "INSERT INTO T VALUES (?, ?)");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsContentAfterTheArray() throws Exception {
+
+        bindAll("[[1]] [[2]]", "INSERT INTO T VALUES (?)");
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.bulk;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.cache.TableSchemaCache;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Tests for {@link BulkLoader} using the local file system stage.
+ */
+public class BulkLoaderTest {
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+    private Path stageDirectory;
+    private LocalFileSystemStageClient stage;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            if (sql.startsWith("COPY INTO")) {
+                return StubResult.rows(Arrays.asList(StubColumn.of("file", Types.VARCHAR),
+                        StubColumn.of("rows_loaded", Types.BIGINT), StubColumn.of("errors_seen", Types.BIGINT)),
+                        Collections.singletonList(new Object[]{"chunk_00001.csv.gz", 3L, 0L}));
+            }
+            return StubResult.updateCount(0);
+        });
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("bulk");
+        configuration.setAccountIdentifier("stub");
+        configuration.setDatabase("SALES");
+        configuration.setSchema("PUBLIC");
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        stageDirectory = Files.createTempDirectory("stage");
+        stage = new LocalFileSystemStageClient(stageDirectory);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        pool.close();
+        try (Stream<Path> paths = Files.walk(stageDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static InputStream json(String json) {
+
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> stagedLines() throws IOException {
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(stageDirectory)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        List<String> lines = new ArrayList<>();
+        for (Path file : files) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                reader.lines().forEach(lines::add);
+            }
+        }
+        return lines;
+    }
+
+    @Test
+    public void testStagesCsvAndCopiesOnce() throws Exception {
+
+        BulkLoader loader = new BulkLoader(pool, stage, "ORDERS", "@%ORDERS", Collections.emptyList(), 1024, 2,
+                "ABORT_STATEMENT");
+        BulkLoadResult result = loader.load(json("[{\"ID\": 1, \"NAME\": \"a \\\"quoted\\\" name\", \"OK\": true},"
+                + "{\"name\": \"second\", \"id\": 2, \"extra\": \"ignored\"},"
+                + "{\"ID\": 3, \"NAME\": null, \"OK\": false, \"TAGS\": [1, 2]}]"));
+
+        Assert.assertEquals(result.getRecordCount(), 3);
+        Assert.assertEquals(result.getFileCount(), 1);
+        Assert.assertEquals(result.getRowsLoaded(), 3);
+        Assert.assertEquals(stagedLines(), Arrays.asList("1,\"a \"\"quoted\"\" name\",true", "2,\"second\",\\N",
+                "3,\\N,false"));
+
+        List<String> statements = database.getExecutedStatements();
+        Assert.assertEquals(statements.size(), 1);
+        Assert.assertTrue(statements.get(0).startsWith("COPY INTO ORDERS (ID, NAME, OK) FROM @%ORDERS/mi_bulk_"),
+                statements.get(0));
+        Assert.assertTrue(statements.get(0).endsWith("ON_ERROR = ABORT_STATEMENT PURGE = TRUE"));
+    }
+
+    @Test
+    public void testSplitsLargeInputIntoChunks() throws Exception {
+
+        StringBuilder input = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                input.append(',');
+            }
+            input.append("{\"ID\": ").append(i).append(", \"NOTE\": \"").append(Integer.toHexString(i * 7919))
+                    .append(i * 31).append("\"}");
+        }
+        input.append(']');
+        BulkLoader loader = new BulkLoader(pool, stage, "EVENTS", "@%EVENTS", Arrays.asList("ID", "NOTE"), 4096, 4,
+                "CONTINUE");
+        BulkLoadResult result = loader.load(json(input.toString()));
+
+        Assert.assertEquals(result.getRecordCount(), 5000);
+        Assert.assertTrue(result.getFileCount() > 1, "Expected more than one chunk");
+        List<String> lines = stagedLines();
+        Assert.assertEquals(lines.size(), 5000);
+        Assert.assertEquals(lines.get(4999), "4999,\"" + Integer.toHexString(4999 * 7919) + (4999 * 31) + "\"");
+    }
+
+    @Test
+    public void testFailedCopyRemovesStagedFiles() throws IOException {
+
+        database.setResponder((sql, parameters) -> {
+            throw new SQLException("Table 'MISSING' does not exist", "42S02");
+        });
+        BulkLoader loader = new BulkLoader(pool, stage, "MISSING", "@%MISSING", Collections.emptyList(), 1024, 1,
+                "ABORT_STATEMENT");
+        Assert.assertThrows(SQLException.class, () -> loader.load(json("[{\"ID\": 1}]")));
+        Assert.assertTrue(stagedLines().isEmpty());
+    }
+
+    @Test
+    public void testUnknownColumnFailsBeforeStaging() throws Exception {
+
+        database.setResponder((sql, parameters) -> StubResult.rows(Arrays.asList(
+                StubColumn.of("name", Types.VARCHAR), StubColumn.of("type", Types.VARCHAR),
+                StubColumn.of("kind", Types.VARCHAR), StubColumn.of("null?", Types.VARCHAR),
+                StubColumn.of("default", Types.VARCHAR)), Arrays.asList(
+                new Object[]{"ID", "NUMBER(38,0)", "COLUMN", "N", null},
+                new Object[]{"NAME", "VARCHAR(100)", "COLUMN", "Y", null})));
+        BulkLoader loader = new BulkLoader(pool, stage, "ORDERS", "@%ORDERS", Collections.emptyList(), 1024, 1,
+                "ABORT_STATEMENT");
+        loader.setSchemaCache(new TableSchemaCache(pool, 60000, 10));
+
+        SQLException error = Assert.expectThrows(SQLException.class,
+                () -> loader.load(json("[{\"id\": 1, \"nmae\": \"typo\"}]")));
+        Assert.assertEquals(error.getMessage(), "Table ORDERS has no column(s) nmae.");
+        Assert.assertTrue(stagedLines().isEmpty());
+        Assert.assertFalse(database.getExecutedStatements().stream().anyMatch(sql -> sql.startsWith("COPY INTO")));
+    }
+
+    @Test
+    public void testInvalidFieldNameFailsBeforeStaging() {
+
+        BulkLoader loader = new BulkLoader(pool, stage, "ORDERS", "@%ORDERS", Collections.emptyList(), 1024, 1,
+                "ABORT_STATEMENT");
+        IOException error = Assert.expectThrows(IOException.class,
+                () -> loader.load(json("[{\"ID\": 1, \"NAME) FROM @%X; DROP TABLE ORDERS; --\": \"x\"}]")));
+        Assert.assertTrue(error.getMessage().contains("as a column name"), error.getMessage());
+        Assert.assertTrue(database.getExecutedStatements().isEmpty());
+    }
+
+    @Test
+    public void testInvalidOptionsAreRejected() {
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BulkLoader(pool, stage, "ORDERS", "@%ORDERS",
+                Collections.emptyList(), 1024, 1, "ABORT_STATEMENT PURGE = FALSE"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BulkLoader(pool, stage, "ORDERS; DROP",
+                "@%ORDERS", Collections.emptyList(), 1024, 1, "CONTINUE"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BulkLoader(pool, stage, "ORDERS", "@%ORDERS",
+                Arrays.asList("ID", "NAME)"), 1024, 1, "CONTINUE"));
+    }
+
+    @Test
+    public void testEmptyInputSkipsCopy() throws Exception {
+
+        BulkLoader loader = new BulkLoader(pool, stage, "ORDERS", "@%ORDERS", Collections.emptyList(), 1024, 1,
+                "ABORT_STATEMENT");
+        BulkLoadResult result = loader.load(json("[]"));
+        Assert.assertEquals(result.getRecordCount(), 0);
+        Assert.assertTrue(database.getExecutedStatements().isEmpty());
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for {@link ResultCache}.
+ */
+public class ResultCacheTest {
+
+    private static final String SELECT_ORDERS = "SELECT ID, STATUS FROM ORDERS WHERE CUSTOMER_ID = ?";
+    private static final String SELECT_CUSTOMERS = "SELECT ID, NAME FROM CUSTOMERS";
+
+    private static JsonArray parameters(String json) {
+
+        return JsonParser.parseString(json).getAsJsonArray();
+    }
+
+    private static byte[] content(String text) {
+
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String read(CachedResult result) throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = result.getInputStream()) {
+            byte[] buffer = new byte[64];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testKeyCoversNormalizedSqlParametersAndFormat() {
+
+        String key = ResultCache.key(SELECT_ORDERS, parameters("[1001]"), "json", 0, SessionState.NONE);
+        Assert.assertEquals(ResultCache.key("select id, status\nfrom orders where customer_id = ?;",
+                parameters("[ 1001 ]"), "json", 0, SessionState.NONE), key);
+        Assert.assertNotEquals(ResultCache.key(SELECT_ORDERS, parameters("[1002]"), "json", 0, SessionState.NONE),
+                key);
+        Assert.assertNotEquals(ResultCache.key(SELECT_ORDERS, parameters("[1001]"), "csv", 0, SessionState.NONE),
+                key);
+        Assert.assertNotEquals(ResultCache.key(SELECT_ORDERS, parameters("[1001]"), "json", 10, SessionState.NONE),
+                key);
+        Assert.assertNotEquals(ResultCache.key(SELECT_ORDERS, parameters("[1001]"), "json", 0,
+                new SessionState(null, null, "SALES_DEV", null, null)), key);
+    }
+
+    @Test
+    public void testHitAndMissAreCounted() throws IOException {
+
+        ResultCache cache = new ResultCache(1024, 60000);
+        String key = ResultCache.key(SELECT_ORDERS, parameters("[1001]"), "json", 0, SessionState.NONE);
+        Assert.assertNull(cache.get(key));
+        Assert.assertTrue(cache.put(key, SELECT_ORDERS, content("[{\"ID\":1}]"), 1, 60000, cache.getVersion()));
+
+        CachedResult result = cache.get(key);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(read(result), "[{\"ID\":1}]");
+        Assert.assertEquals(result.getRowCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitRatio(), 0.5);
+    }
+
+    @Test
+    public void testExpiredResultIsNotServed() throws InterruptedException {
+
+        ResultCache cache = new ResultCache(1024, 60000);
+        String key = ResultCache.key(SELECT_ORDERS, null, "json", 0, SessionState.NONE);
+        cache.put(key, SELECT_ORDERS, content("[]"), 0, 20, cache.getVersion());
+        Thread.sleep(40);
+
+        Assert.assertNull(cache.get(key));
+        Assert.assertEquals(cache.getEntryCount(), 0);
+        Assert.assertEquals(cache.getSize(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultsAreEvictedBeyondMaxBytes() {
+
+        ResultCache cache = new ResultCache(400, 60000);
+        byte[] hundredBytes = new byte[100];
+        for (int i = 0; i < 4; i++) {
+            cache.put("key" + i, SELECT_ORDERS, hundredBytes, 1, 60000, cache.getVersion());
+        }
+        Assert.assertNotNull(cache.get("key0"));
+        cache.put("key4", SELECT_ORDERS, hundredBytes, 1, 60000, cache.getVersion());
+
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        Assert.assertEquals(cache.getSize(), 400);
+        Assert.assertNotNull(cache.get("key0"));
+        Assert.assertNull(cache.get("key1"));
+        Assert.assertFalse(cache.put("key5", SELECT_ORDERS, new byte[101], 1, 60000, cache.getVersion()),
+                "Results over a quarter of the cache must not be cached");
+    }
+
+    @Test
+    public void testDmlOnReferencedTableInvalidates() {
+
+        ResultCache cache = new ResultCache(1024, 60000);
+        cache.put("orders", SELECT_ORDERS, content("[]"), 0, 60000, cache.getVersion());
+        cache.put("customers", SELECT_CUSTOMERS, content("[]"), 0, 60000, cache.getVersion());
+
+        cache.invalidate("SELECT * FROM ORDERS");
+        Assert.assertEquals(cache.getEntryCount(), 2, "Queries must not invalidate");
+
+        cache.invalidate("UPDATE sales.public.orders SET STATUS = 'SHIPPED' WHERE ID = ?");
+        Assert.assertNull(cache.get("orders"));
+        Assert.assertNotNull(cache.get("customers"));
+        Assert.assertEquals(cache.getInvalidationCount(), 1);
+
+        cache.invalidate("CALL REFRESH_ALL()");
+        Assert.assertEquals(cache.getEntryCount(), 0);
+    }
+
+    @Test
+    public void testResultReadBeforeInvalidationIsNotCached() {
+
+        ResultCache cache = new ResultCache(1024, 60000);
+        long version = cache.getVersion();
+        cache.invalidate("DELETE FROM ORDERS WHERE ID = 1");
+
+        Assert.assertFalse(cache.put("orders", SELECT_ORDERS, content("[]"), 0, 60000, version));
+        Assert.assertNull(cache.get("orders"));
+    }
+}
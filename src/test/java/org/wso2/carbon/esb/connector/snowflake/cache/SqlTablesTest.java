@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Tests for {@link SqlTables}.
+ */
+public class SqlTablesTest {
+
+    @Test
+    public void testNormalizeIgnoresLayoutButKeepsLiterals() {
+
+        String normalized = SqlTables.normalize("select id,\n\tname -- customer name\n  from /* hint */ customers"
+                + " where name = 'O''Brien  x' and \"Mixed Case\" = 1 ;");
+        Assert.assertEquals(normalized,
+                "SELECT ID, NAME FROM CUSTOMERS WHERE NAME = 'O''Brien  x' AND \"Mixed Case\" = 1");
+        Assert.assertEquals(SqlTables.normalize("SELECT ID, NAME FROM CUSTOMERS"),
+                SqlTables.normalize("select   id, name\nfrom customers;"));
+    }
+
+    @Test
+    public void testNormalizeKeepsDollarQuotedConstants() {
+
+        Assert.assertEquals(SqlTables.normalize("select $$abc -- not a comment$$ // trailing comment\n from dual"),
+                "SELECT $$abc -- not a comment$$ FROM DUAL");
+        Assert.assertNotEquals(SqlTables.normalize("SELECT $$abc$$"), SqlTables.normalize("SELECT $$ABC$$"));
+        Assert.assertEquals(SqlTables.writtenTables(SqlTables.normalize(
+                "SELECT * FROM orders WHERE note = $$delete from orders$$")), Collections.emptySet());
+    }
+
+    @Test
+    public void testReadTables() {
+
+        Assert.assertEquals(SqlTables.readTables(SqlTables.normalize("SELECT * FROM sales.public.orders o, regions r, "
+                + "TABLE(FLATTEN(o.items)) JOIN \"Customers\" c ON o.customer_id = c.id "
+                + "WHERE o.note <> 'from audit'")),
+                new HashSet<>(Arrays.asList("ORDERS", "Customers", "REGIONS")));
+        Assert.assertEquals(SqlTables.readTables(SqlTables.normalize("SELECT CURRENT_TIMESTAMP()")),
+                Collections.emptySet());
+    }
+
+    @Test
+    public void testWrittenTables() {
+
+        Assert.assertEquals(SqlTables.writtenTables(SqlTables.normalize(
+                "update public.orders set status = ? where id = ?")), Collections.singleton("ORDERS"));
+        Assert.assertEquals(SqlTables.writtenTables(SqlTables.normalize(
+                "INSERT INTO audit SELECT * FROM orders")), Collections.singleton("AUDIT"));
+        Assert.assertEquals(SqlTables.writtenTables(SqlTables.normalize(
+                "MERGE INTO orders t USING staged s ON t.id = s.id WHEN MATCHED THEN DELETE")),
+                Collections.singleton("ORDERS"));
+        Assert.assertEquals(SqlTables.writtenTables(SqlTables.normalize("truncate table if exists orders")),
+                Collections.singleton("ORDERS"));
+        Assert.assertEquals(SqlTables.writtenTables(SqlTables.normalize(
+                "SELECT * FROM orders WHERE note = 'delete from orders'")), Collections.emptySet());
+        Assert.assertNull(SqlTables.writtenTables(SqlTables.normalize("CALL refresh_everything()")));
+    }
+
+    @Test
+    public void testRedefinedTables() {
+
+        Assert.assertEquals(SqlTables.redefinedTables(SqlTables.normalize(
+                "alter table sales.public.orders add column note varchar")), Collections.singleton("ORDERS"));
+        Assert.assertEquals(SqlTables.redefinedTables(SqlTables.normalize("ALTER TABLE orders SWAP WITH orders_new")),
+                new HashSet<>(Arrays.asList("ORDERS", "ORDERS_NEW")));
+        Assert.assertEquals(SqlTables.redefinedTables(SqlTables.normalize(
+                "create or replace transient table \"Events\" (id number)")), Collections.singleton("Events"));
+        Assert.assertEquals(SqlTables.redefinedTables(SqlTables.normalize(
+                "INSERT INTO orders VALUES ('drop table audit')")), Collections.emptySet());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tests for {@link TableSchemaCache}.
+ */
+public class TableSchemaCacheTest {
+
+    private static final List<StubColumn> DESCRIBE_COLUMNS = Arrays.asList(StubColumn.of("name", Types.VARCHAR),
+            StubColumn.of("type", Types.VARCHAR), StubColumn.of("kind", Types.VARCHAR),
+            StubColumn.of("null?", Types.VARCHAR), StubColumn.of("default", Types.VARCHAR));
+
+    private final Map<String, List<Object[]>> tables = new ConcurrentHashMap<>();
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+
+    @BeforeMethod
+    public void setUp() {
+
+        tables.clear();
+        tables.put("ORDERS", Arrays.asList(new Object[]{"ID", "NUMBER(38,0)", "COLUMN", "N", null},
+                new Object[]{"STATUS", "VARCHAR(16)", "COLUMN", "Y", "'OPEN'"},
+                new Object[]{"TOTAL", "NUMBER(12,2)", "VIRTUAL", "Y", null}));
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            List<Object[]> rows = tables.get(sql.substring("DESCRIBE TABLE ".length()));
+            if (rows == null && sql.startsWith("DESCRIBE TABLE SALES.PUBLIC.")) {
+                rows = tables.get(sql.substring("DESCRIBE TABLE SALES.PUBLIC.".length()));
+            }
+            if (rows == null) {
+                throw new SQLException("Table does not exist or not authorized.", "42S02", 2003);
+            }
+            return StubResult.rows(DESCRIBE_COLUMNS, rows);
+        });
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("schemas");
+        configuration.setAccountIdentifier("stub");
+        configuration.setDatabase("SALES");
+        configuration.setSchema("PUBLIC");
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        pool.close();
+    }
+
+    @Test
+    public void testReadsColumnsOnceWithinTtl() throws Exception {
+
+        TableSchemaCache cache = new TableSchemaCache(pool, 60000, 10);
+        TableSchema schema = cache.get("ORDERS");
+
+        Assert.assertEquals(schema.getColumns().size(), 2);
+        ColumnSchema id = schema.getColumn("id");
+        Assert.assertEquals(id.getType(), "NUMBER(38,0)");
+        Assert.assertEquals(id.getDataType(), "NUMBER");
+        Assert.assertFalse(id.isNullable());
+        Assert.assertEquals(schema.getColumn("STATUS").getDefaultValue(), "'OPEN'");
+        Assert.assertNull(schema.getColumn("TOTAL"));
+
+        Assert.assertSame(cache.get("orders"), schema);
+        Assert.assertEquals(cache.getLoadCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(database.getExecutedStatements().size(), 1);
+    }
+
+    @Test
+    public void testRefreshAndInvalidationReadTheSchemaAgain() throws Exception {
+
+        TableSchemaCache cache = new TableSchemaCache(pool, 60000, 10);
+        TableSchema first = cache.get("ORDERS");
+        Assert.assertNotSame(cache.refresh("ORDERS"), first);
+        Assert.assertEquals(cache.getLoadCount(), 2);
+
+        cache.invalidate("INSERT INTO orders VALUES (1, 'OPEN')");
+        cache.get("ORDERS");
+        Assert.assertEquals(cache.getLoadCount(), 2);
+
+        cache.invalidate("ALTER TABLE public.orders ADD COLUMN note VARCHAR");
+        Assert.assertEquals(cache.size(), 0);
+        cache.get("ORDERS");
+        Assert.assertEquals(cache.getLoadCount(), 3);
+    }
+
+    @Test
+    public void testZeroTtlReadsEveryTime() throws Exception {
+
+        TableSchemaCache cache = new TableSchemaCache(pool, 0, 10);
+        cache.get("ORDERS");
+        cache.get("ORDERS");
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertEquals(cache.getLoadCount(), 2);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testRequireColumnsRereadsStaleSchemaBeforeFailing() throws Exception {
+
+        TableSchemaCache cache = new TableSchemaCache(pool, 60000, 10);
+        cache.get("ORDERS");
+        List<Object[]> altered = new ArrayList<>(tables.get("ORDERS"));
+        altered.add(new Object[]{"NOTE", "VARCHAR(16777216)", "COLUMN", "Y", null});
+        tables.put("ORDERS", altered);
+
+        cache.requireColumns("ORDERS", new String[]{"id", "note"});
+        Assert.assertEquals(cache.getLoadCount(), 2);
+
+        SQLException missing = Assert.expectThrows(SQLException.class,
+                () -> cache.requireColumns("ORDERS", new String[]{"ID", "CUSTOMER", "TOTAL"}));
+        Assert.assertEquals(missing.getMessage(), "Table ORDERS has no column(s) CUSTOMER, TOTAL.");
+    }
+
+    @Test
+    public void testPrefetchSkipsTablesThatCannotBeDescribed() {
+
+        TableSchemaCache cache = new TableSchemaCache(pool, 60000, 10);
+        Assert.assertEquals(cache.prefetch(Arrays.asList("ORDERS", "MISSING")), 1);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testUnqualifiedNamesAreResolvedInTheSessionSchema() throws Exception {
+
+        tables.put("SALES.ARCHIVE.ORDERS", Collections.singletonList(
+                new Object[]{"ID", "NUMBER(38,0)", "COLUMN", "N", null}));
+        TableSchemaCache cache = new TableSchemaCache(pool, 60000, 10);
+        TableSchema current = cache.get("ORDERS");
+        TableSchema archived = cache.get("ORDERS", new SessionState(null, null, null, "ARCHIVE", null));
+
+        Assert.assertEquals(current.getTable(), "SALES.PUBLIC.ORDERS");
+        Assert.assertEquals(archived.getTable(), "SALES.ARCHIVE.ORDERS");
+        Assert.assertEquals(archived.getColumns().size(), 1);
+        Assert.assertSame(cache.get("SALES.PUBLIC.ORDERS"), current);
+        Assert.assertSame(cache.get("archive.orders"), archived);
+        Assert.assertEquals(cache.getLoadCount(), 2);
+        Assert.assertEquals(database.getExecutedStatements(),
+                Arrays.asList("DESCRIBE TABLE SALES.PUBLIC.ORDERS", "DESCRIBE TABLE SALES.ARCHIVE.ORDERS"));
+
+        SQLException unresolved = Assert.expectThrows(SQLException.class,
+                () -> cache.get("ORDERS", new SessionState(null, null, "REPORTING", null, null)));
+        Assert.assertEquals(unresolved.getSQLState(), "42602");
+    }
+
+    @Test
+    public void testRejectsInvalidTableNameWithoutDescribing() {
+
+        TableSchemaCache cache = new TableSchemaCache(pool, 60000, 10);
+        SQLException error = Assert.expectThrows(SQLException.class,
+                () -> cache.get("ORDERS; DROP TABLE ORDERS"));
+        Assert.assertEquals(error.getSQLState(), "42602");
+        Assert.assertEquals(cache.prefetch(Arrays.asList("ORDERS; DROP TABLE ORDERS", "ORDERS")), 1);
+        Assert.assertEquals(database.getExecutedStatements().size(), 1);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests for session state tracking and state-aware routing of {@link SnowflakeConnectionPool}.
+ */
+public class SessionStateTest {
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setWarehouse("integration_wh");
+        configuration.setDatabase("SALES");
+        configuration.setMaxActiveConnections(4);
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        pool.close();
+    }
+
+    @Test
+    public void testOnlyDifferingFieldsAreSent() {
+
+        SessionState current = new SessionState("ANALYST", "INTEGRATION_WH", "SALES", "PUBLIC", null);
+
+        Assert.assertEquals(current.statementsToReach(new SessionState("analyst", "integration_wh", null, null,
+                null)), Collections.emptyList());
+        Assert.assertEquals(current.statementsToReach(new SessionState("LOADER", "INTEGRATION_WH", null, "PUBLIC",
+                "flow's tag")), Arrays.asList("USE ROLE LOADER", "ALTER SESSION SET QUERY_TAG = 'flow\\'s tag'"));
+        Assert.assertEquals(current.statementsToReach(new SessionState(null, null, "FINANCE", "PUBLIC", null)),
+                Arrays.asList("USE DATABASE FINANCE", "USE SCHEMA PUBLIC"),
+                "Changing the database resets the schema");
+        Assert.assertNull(current.apply(new SessionState(null, null, "FINANCE", null, null)).getSchema());
+    }
+
+    @Test
+    public void testSessionStatementsAreFoundPastCommentsAndLiterals() {
+
+        Assert.assertTrue(SessionState.isSessionStatement("-- switch role\nUSE ROLE LOADER"));
+        Assert.assertTrue(SessionState.isSessionStatement("/* reset */ alter /* the */ session set QUERY_TAG = 'x'"));
+        Assert.assertTrue(SessionState.isSessionStatement("INSERT INTO AUDIT VALUES ('a;b'); // reset\nuse role x"));
+        Assert.assertTrue(SessionState.isSessionStatement("SELECT 1; -- reset\nUSE ROLE LOADER;\nSELECT 2"));
+        Assert.assertTrue(SessionState.isSessionStatement("CALL REFRESH_ORDERS()"));
+        Assert.assertTrue(SessionState.isSessionStatement("execute immediate $$USE ROLE LOADER$$"));
+        Assert.assertTrue(SessionState.isSessionStatement("BEGIN USE ROLE LOADER; END"));
+        Assert.assertFalse(SessionState.isSessionStatement("SELECT 'x; USE ROLE LOADER' FROM USERS -- ; USE ROLE y"));
+        Assert.assertFalse(SessionState.isSessionStatement("SELECT $$; CALL x()$$ AS USE_COUNT, USED FROM T"));
+        Assert.assertFalse(SessionState.isSessionStatement("ALTER TABLE ORDERS ADD COLUMN NOTE VARCHAR"));
+        Assert.assertFalse(SessionState.isSessionStatement(""));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidIdentifierIsRejected() {
+
+        new SessionState("ANALYST; DROP TABLE ORDERS", null, null, null, null);
+    }
+
+    @Test
+    public void testStatementsAreSentOnlyWhenTheStateChanges() throws SQLException {
+
+        SessionState analyst = new SessionState("ANALYST", "INTEGRATION_WH", "SALES", null, null);
+        pool.borrow(analyst).close();
+        Assert.assertEquals(database.getExecutedStatements(), Collections.singletonList("USE ROLE ANALYST"),
+                "The configured warehouse and database must not be set again");
+
+        pool.borrow(analyst).close();
+        pool.borrow(new SessionState("ANALYST", null, null, null, null)).close();
+        Assert.assertEquals(database.getExecutedStatements().size(), 1);
+        Assert.assertEquals(pool.getSessionStatementsSent(), 1);
+        Assert.assertEquals(pool.getSessionStatementsSkipped(), 6);
+
+        pool.borrow(new SessionState("LOADER", "LOAD_WH", null, null, null)).close();
+        Assert.assertEquals(database.getExecutedStatements().get(1), "USE ROLE LOADER;\nUSE WAREHOUSE LOAD_WH",
+                "Several statements must be sent in one request");
+    }
+
+    @Test
+    public void testBorrowPrefersSessionsInTheRequestedState() throws SQLException {
+
+        SessionState analyst = new SessionState("ANALYST", null, null, null, null);
+        SessionState loader = new SessionState("LOADER", null, null, null, null);
+        PooledConnection first = pool.borrow(analyst);
+        PooledConnection second = pool.borrow(loader);
+        first.close();
+        second.close();
+        int sent = database.getExecutedStatements().size();
+
+        try (PooledConnection connection = pool.borrow(analyst)) {
+            Assert.assertSame(connection, first);
+        }
+        try (PooledConnection connection = pool.borrow(loader)) {
+            Assert.assertSame(connection, second);
+        }
+        Assert.assertEquals(database.getExecutedStatements().size(), sent);
+        Assert.assertEquals(database.getConnectionsOpened(), 2);
+    }
+
+    @Test
+    public void testUnknownStateIsSetAgain() throws SQLException {
+
+        SessionState analyst = new SessionState("ANALYST", null, null, null, null);
+        try (PooledConnection connection = pool.borrow(analyst)) {
+            connection.forgetSessionState();
+        }
+        pool.borrow(analyst).close();
+        Assert.assertEquals(database.getExecutedStatements(), Arrays.asList("USE ROLE ANALYST", "USE ROLE ANALYST"));
+    }
+
+    @Test
+    public void testPreparingFlowSqlThatMayChangeTheSessionForgetsItsState() throws SQLException {
+
+        SessionState analyst = new SessionState("ANALYST", null, null, null, null);
+        try (PooledConnection connection = pool.borrow(analyst)) {
+            connection.prepareStatement("SELECT ID FROM ORDERS").close();
+            Assert.assertEquals(connection.getSessionState().getRole(), "ANALYST");
+            connection.prepareStatement("/* nightly */ CALL SWITCH_ROLE_AND_LOAD()").close();
+            Assert.assertSame(connection.getSessionState(), SessionState.NONE);
+        }
+        pool.borrow(analyst).close();
+        Assert.assertEquals(database.getExecutedStatements(), Arrays.asList("USE ROLE ANALYST", "USE ROLE ANALYST"));
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link SnowflakeConnectionPool} against the in-process stub driver.
+ */
+public class SnowflakeConnectionPoolTest {
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static ConnectionConfiguration configuration() {
+
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(2);
+        configuration.setMaxIdleConnections(2);
+        configuration.setMaxWaitTime(200);
+        configuration.setEvictionInterval(0);
+        return configuration;
+    }
+
+    private SnowflakeConnectionPool createPool(ConnectionConfiguration configuration) {
+
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        return pool;
+    }
+
+    @Test
+    public void testSessionsAreReused() throws SQLException {
+
+        createPool(configuration());
+        for (int i = 0; i < 5; i++) {
+            try (PooledConnection connection = pool.borrow()) {
+                Assert.assertFalse(connection.getConnection().isClosed());
+            }
+        }
+        Assert.assertEquals(database.getConnectionsOpened(), 1);
+        Assert.assertEquals(pool.getIdleCount(), 1);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testBorrowTimesOutWhenExhausted() throws SQLException {
+
+        createPool(configuration());
+        try (PooledConnection first = pool.borrow(); PooledConnection second = pool.borrow()) {
+            long start = System.nanoTime();
+            Assert.assertThrows(SQLTransientConnectionException.class, pool::borrow);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+            Assert.assertEquals(pool.getTotalCount(), 2);
+        }
+        Assert.assertEquals(database.getConnectionsOpened(), 2);
+    }
+
+    @Test
+    public void testWaitingBorrowerReceivesReturnedSession() throws Exception {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMaxActiveConnections(1);
+        configuration.setMaxWaitTime(5000);
+        createPool(configuration);
+        PooledConnection held = pool.borrow();
+        CompletableFuture<PooledConnection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.borrow();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(50);
+        Assert.assertFalse(waiter.isDone());
+        held.close();
+        PooledConnection handedOver = waiter.get(5, TimeUnit.SECONDS);
+        Assert.assertSame(handedOver.getConnection(), held.getConnection());
+        handedOver.close();
+        Assert.assertEquals(database.getConnectionsOpened(), 1);
+    }
+
+    @Test
+    public void testInvalidSessionIsReplacedOnBorrow() throws SQLException {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setValidationInterval(0);
+        createPool(configuration);
+        pool.borrow().close();
+        database.setConnectionsValid(false);
+        try (PooledConnection connection = pool.borrow()) {
+            Assert.assertFalse(connection.getConnection().isClosed());
+        }
+        Assert.assertEquals(database.getConnectionsOpened(), 2);
+        Assert.assertEquals(database.getConnectionsClosed(), 1);
+        Assert.assertEquals(pool.getTotalCount(), 1);
+    }
+
+    @Test
+    public void testRecentlyUsedSessionSkipsValidation() throws SQLException {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setValidationInterval(60000);
+        createPool(configuration);
+        pool.borrow().close();
+        pool.borrow().close();
+        Assert.assertEquals(database.getValidations(), 0);
+    }
+
+    @Test
+    public void testInvalidatedSessionIsDiscarded() throws SQLException {
+
+        createPool(configuration());
+        PooledConnection connection = pool.borrow();
+        connection.invalidate();
+        connection.close();
+        connection.close();
+        Assert.assertEquals(pool.getTotalCount(), 0);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+        Assert.assertEquals(database.getOpenConnections(), 0);
+    }
+
+    @Test
+    public void testSessionsBeyondMaxIdleAreClosed() throws SQLException {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMaxIdleConnections(1);
+        createPool(configuration);
+        PooledConnection first = pool.borrow();
+        PooledConnection second = pool.borrow();
+        first.close();
+        second.close();
+        Assert.assertEquals(pool.getIdleCount(), 1);
+        Assert.assertEquals(database.getOpenConnections(), 1);
+    }
+
+    @Test
+    public void testFailedLoginReleasesSlot() {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMaxActiveConnections(1);
+        createPool(configuration);
+        database.setAvailable(false);
+        Assert.assertThrows(SQLTransientConnectionException.class, pool::borrow);
+        Assert.assertEquals(pool.getTotalCount(), 0);
+        database.setAvailable(true);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testEvictionKeepsMinimumIdle() throws SQLException {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMaxActiveConnections(3);
+        configuration.setMaxIdleConnections(3);
+        configuration.setMinIdleConnections(1);
+        configuration.setMinEvictableIdleTime(0);
+        createPool(configuration);
+        PooledConnection first = pool.borrow();
+        PooledConnection second = pool.borrow();
+        PooledConnection third = pool.borrow();
+        first.close();
+        second.close();
+        third.close();
+        Assert.assertEquals(pool.getIdleCount(), 3);
+
+        pool.evict();
+        Assert.assertEquals(pool.getIdleCount(), 1);
+        Assert.assertEquals(database.getOpenConnections(), 1);
+    }
+
+    @Test
+    public void testEvictionReplenishesMinimumIdle() {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMinIdleConnections(2);
+        createPool(configuration);
+        pool.evict();
+        Assert.assertEquals(pool.getIdleCount(), 2);
+        Assert.assertEquals(database.getConnectionsOpened(), 2);
+    }
+
+    @Test
+    public void testCloseLogsOutIdleAndReturnedSessions() throws SQLException {
+
+        createPool(configuration());
+        PooledConnection borrowed = pool.borrow();
+        pool.borrow().close();
+        pool.close();
+        Assert.assertEquals(database.getOpenConnections(), 1);
+        borrowed.close();
+        Assert.assertEquals(database.getOpenConnections(), 0);
+        Assert.assertThrows(SQLException.class, pool::borrow);
+    }
+
+    @Test
+    public void testThreadGetsBackTheSessionItReturned() throws Exception {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMaxWaitTime(1000);
+        createPool(configuration);
+        PooledConnection other = CompletableFuture.supplyAsync(this::borrowUnchecked).get();
+        PooledConnection mine = pool.borrow();
+        mine.close();
+        CompletableFuture.runAsync(other::close).get();
+
+        try (PooledConnection again = pool.borrow()) {
+            Assert.assertSame(again.getConnection(), mine.getConnection());
+        }
+        Assert.assertEquals(pool.getThreadAffineBorrows(), 1);
+    }
+
+    @Test
+    public void testConcurrentBorrowersNeverExceedTheLimit() throws Exception {
+
+        ConnectionConfiguration configuration = configuration();
+        configuration.setMaxActiveConnections(4);
+        configuration.setMaxIdleConnections(4);
+        configuration.setMaxWaitTime(10000);
+        createPool(configuration);
+        int threads = 32;
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                        for (int round = 0; round < 200; round++) {
+                            try (PooledConnection connection = pool.borrow()) {
+                                maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                                Assert.assertNotNull(connection.getConnection());
+                                inUse.decrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException | SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(maxInUse.get() <= 4, "At most 4 sessions in use but saw " + maxInUse.get());
+        Assert.assertEquals(pool.getActiveCount(), 0);
+        Assert.assertEquals(pool.getTotalCount(), database.getOpenConnections());
+        Assert.assertEquals(pool.getIdleCount(), pool.getTotalCount());
+        Assert.assertTrue(database.getConnectionsOpened() <= 4);
+    }
+
+    private PooledConnection borrowUnchecked() {
+
+        try {
+            return pool.borrow();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
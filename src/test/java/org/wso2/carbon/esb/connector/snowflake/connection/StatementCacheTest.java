@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.connection;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Tests for the prepared statement cache of {@link PooledConnection}.
+ */
+public class StatementCacheTest {
+
+    private static final String SELECT = "SELECT STATUS FROM ORDERS WHERE ID = ?";
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> StubResult.singleValue("STATUS", Types.INTEGER,
+                parameters.isEmpty() ? null : parameters.get(0)));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private SnowflakeConnectionPool createPool(int statementCacheSize) {
+
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(1);
+        configuration.setEvictionInterval(0);
+        configuration.setStatementCacheSize(statementCacheSize);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        return pool;
+    }
+
+    private Object query(String sql, Object id) throws SQLException {
+
+        try (PooledConnection connection = pool.borrow();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getObject(1);
+            }
+        }
+    }
+
+    @Test
+    public void testStatementIsPreparedOncePerSession() throws SQLException {
+
+        createPool(10);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(query(SELECT, i), i);
+        }
+        Assert.assertEquals(database.getPreparedStatements(), 1);
+        Assert.assertEquals(database.getClosedStatements(), 0);
+        Assert.assertEquals(pool.getStatementCacheStatistics().getHitCount(), 4);
+        Assert.assertEquals(pool.getStatementCacheStatistics().getMissCount(), 1);
+        Assert.assertEquals(pool.getStatementCacheStatistics().getHitRatio(), 0.8, 0.0001);
+    }
+
+    @Test
+    public void testParametersAreClearedOnReturn() throws SQLException {
+
+        createPool(10);
+        query(SELECT, 1);
+        try (PooledConnection connection = pool.borrow();
+             PreparedStatement statement = connection.prepareStatement(SELECT)) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertNull(resultSet.getObject(1));
+            }
+        }
+        Assert.assertEquals(database.getPreparedStatements(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+
+        createPool(2);
+        query("SELECT 1 WHERE ? = ?", 1);
+        query("SELECT 2 WHERE ? = ?", 1);
+        query("SELECT 1 WHERE ? = ?", 1);
+        query("SELECT 3 WHERE ? = ?", 1);
+        Assert.assertEquals(database.getClosedStatements(), 1);
+        query("SELECT 1 WHERE ? = ?", 1);
+        query("SELECT 2 WHERE ? = ?", 1);
+
+        StatementCacheStatistics statistics = pool.getStatementCacheStatistics();
+        Assert.assertEquals(statistics.getHitCount(), 2);
+        Assert.assertEquals(statistics.getMissCount(), 4);
+        Assert.assertEquals(statistics.getEvictionCount(), 2);
+        Assert.assertEquals(database.getPreparedStatements(), 4);
+    }
+
+    @Test
+    public void testSameTextInUseIsPreparedSeparately() throws SQLException {
+
+        createPool(10);
+        try (PooledConnection connection = pool.borrow()) {
+            try (PreparedStatement first = connection.prepareStatement(SELECT);
+                 PreparedStatement second = connection.prepareStatement(SELECT)) {
+                Assert.assertNotSame(first, second);
+            }
+            Assert.assertEquals(database.getClosedStatements(), 1);
+            Assert.assertEquals(connection.getCachedStatementCount(), 1);
+        }
+    }
+
+    @Test
+    public void testCachedStatementsAreClosedWithSession() throws SQLException {
+
+        createPool(10);
+        query(SELECT, 1);
+        query("SELECT 2 WHERE ? = ?", 1);
+        pool.close();
+        Assert.assertEquals(database.getClosedStatements(), 2);
+        Assert.assertEquals(database.getOpenConnections(), 0);
+    }
+
+    @Test
+    public void testCacheCanBeDisabled() throws SQLException {
+
+        createPool(0);
+        for (int i = 0; i < 3; i++) {
+            query(SELECT, i);
+        }
+        Assert.assertEquals(database.getPreparedStatements(), 3);
+        Assert.assertEquals(database.getClosedStatements(), 3);
+        Assert.assertEquals(pool.getStatementCacheStatistics().getHitCount(), 0);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.deadline;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link Deadline}.
+ */
+public class DeadlineTest {
+
+    @Test
+    public void testNoDeadlineKeepsConfiguredTimeouts() throws Exception {
+
+        Assert.assertFalse(Deadline.NONE.isSet());
+        Assert.assertEquals(Deadline.NONE.queryTimeout(0), 0);
+        Assert.assertEquals(Deadline.NONE.queryTimeout(30), 30);
+        Assert.assertEquals(Deadline.NONE.timeoutMillis(500), 500);
+        Assert.assertSame(Deadline.after(0), Deadline.NONE);
+    }
+
+    @Test
+    public void testQueryTimeoutIsCappedToRemainingSeconds() throws Exception {
+
+        Deadline deadline = Deadline.after(2500);
+        Assert.assertEquals(deadline.queryTimeout(0), 3);
+        Assert.assertEquals(deadline.queryTimeout(60), 3);
+        Assert.assertEquals(deadline.queryTimeout(1), 1);
+        Assert.assertTrue(deadline.timeoutMillis(0) <= 2500);
+        Assert.assertEquals(deadline.timeoutMillis(100), 100);
+    }
+
+    @Test
+    public void testLastMillisecondsStillGetOneSecond() throws Exception {
+
+        Assert.assertEquals(Deadline.after(20).queryTimeout(0), 1);
+    }
+
+    @Test(expectedExceptions = DeadlineExceededException.class)
+    public void testPassedDeadlineIsRejected() throws Exception {
+
+        Deadline.at(System.currentTimeMillis() - 10).queryTimeout(30);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.deadline;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.concurrent.Executors;
+
+/**
+ * Tests for {@link QueryCanceller} against the in-process stub driver.
+ */
+public class QueryCancellerTest {
+
+    private static final String QUERY = "SELECT ID FROM ORDERS";
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+    private QueryCanceller canceller;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> StubResult.rows(
+                Collections.singletonList(StubColumn.of("ID", Types.BIGINT)), 1, row -> new Object[]{1L}));
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(2);
+        configuration.setMaxIdleConnections(2);
+        configuration.setMaxWaitTime(1000);
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        canceller = new QueryCanceller(Executors.defaultThreadFactory());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        canceller.close();
+        pool.close();
+    }
+
+    private String submit(PooledConnection connection) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(QUERY)) {
+            return AsyncQueryClient.submit(statement);
+        }
+    }
+
+    @Test
+    public void testQueryRunningAtDeadlineIsCancelled() throws Exception {
+
+        database.setHoldAsyncQueries(true);
+        long start = System.currentTimeMillis();
+        try (PooledConnection connection = pool.borrow()) {
+            String queryId = submit(connection);
+            try (QueryCanceller.Watch watch = canceller.watch(queryId, connection.getConnection(),
+                    Deadline.after(100))) {
+                AsyncQueryClient.await(connection.getConnection(), queryId).close();
+                Assert.fail("The query should have been cancelled.");
+            } catch (SQLException e) {
+                Assert.assertTrue(database.getQuery(queryId).isCancelled());
+            }
+        }
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+        Assert.assertEquals(canceller.getCancellationFailureCount(), 0);
+    }
+
+    @Test
+    public void testCancellationDoesNotWaitForAnExhaustedPool() throws Exception {
+
+        database.setHoldAsyncQueries(true);
+        long start = System.currentTimeMillis();
+        try (PooledConnection connection = pool.borrow(); PooledConnection other = pool.borrow()) {
+            String queryId = submit(connection);
+            try (QueryCanceller.Watch watch = canceller.watch(queryId, connection.getConnection(),
+                    Deadline.after(100))) {
+                AsyncQueryClient.await(connection.getConnection(), queryId).close();
+                Assert.fail("The query should have been cancelled.");
+            } catch (SQLException e) {
+                Assert.assertTrue(database.getQuery(queryId).isCancelled());
+            }
+        }
+        Assert.assertTrue(System.currentTimeMillis() - start < 1000);
+        Assert.assertEquals(canceller.getCancellationCount(), 1);
+        Assert.assertEquals(canceller.getCancellationFailureCount(), 0);
+    }
+
+    @Test
+    public void testClosedWatchDoesNotCancel() throws Exception {
+
+        String queryId;
+        try (PooledConnection connection = pool.borrow()) {
+            queryId = submit(connection);
+            try (QueryCanceller.Watch watch = canceller.watch(queryId, connection.getConnection(),
+                    Deadline.after(50));
+                 ResultSet resultSet = AsyncQueryClient.await(connection.getConnection(), queryId)) {
+                Assert.assertTrue(resultSet.next());
+            }
+        }
+        Thread.sleep(150);
+        Assert.assertEquals(canceller.getCancellationCount(), 0);
+        Assert.assertFalse(database.getExecutedStatements().stream().anyMatch(sql -> sql.contains("CANCEL_QUERY")));
+    }
+
+    @Test
+    public void testNoWatchWithoutDeadline() {
+
+        Assert.assertSame(canceller.watch("01b0a1c2-0000-4000-8000-000000000001", null, Deadline.NONE),
+                QueryCanceller.Watch.NONE);
+    }
+}
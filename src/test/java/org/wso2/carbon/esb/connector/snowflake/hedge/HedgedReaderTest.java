@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.hedge;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.async.AsyncQueryClient;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link HedgedReader} against the in-process stub driver.
+ */
+public class HedgedReaderTest {
+
+    private static final String QUERY = "SELECT ID FROM ORDERS";
+
+    private final List<String> submitted = new CopyOnWriteArrayList<>();
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+    private HedgedReader reader;
+
+    @BeforeMethod
+    public void setUp() {
+
+        submitted.clear();
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> StubResult.rows(
+                Collections.singletonList(StubColumn.of("ID", Types.BIGINT)), 1, row -> new Object[]{1L}));
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(4);
+        configuration.setMaxIdleConnections(4);
+        configuration.setMaxWaitTime(1000);
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (reader != null) {
+            reader.close();
+        }
+        pool.close();
+    }
+
+    private String read() throws Exception {
+
+        return reader.read(QUERY, queryIds -> {
+            try (PooledConnection connection = pool.borrow();
+                 PreparedStatement statement = connection.prepareStatement(QUERY)) {
+                String queryId = AsyncQueryClient.submit(statement);
+                submitted.add(queryId);
+                queryIds.accept(queryId);
+                try (ResultSet resultSet = AsyncQueryClient.await(connection.getConnection(), queryId)) {
+                    Assert.assertTrue(resultSet.next());
+                    return queryId;
+                }
+            }
+        }, queryId -> { });
+    }
+
+    private void warmUp() throws Exception {
+
+        for (int i = 0; i < HedgedReader.MIN_SAMPLES; i++) {
+            read();
+        }
+        Assert.assertEquals(reader.getHedgeCount(), 0);
+    }
+
+    @Test
+    public void testSlowReadIsHedgedAndLoserCancelled() throws Exception {
+
+        int slow = HedgedReader.MIN_SAMPLES + 1;
+        database.setAsyncLatency(submission -> submission == slow ? 5000 : 5);
+        reader = new HedgedReader(pool, Executors.defaultThreadFactory(), 8, 95, 20, 100);
+        warmUp();
+
+        long start = System.nanoTime();
+        String winner = read();
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        Assert.assertEquals(winner, submitted.get(slow));
+        Assert.assertEquals(reader.getHedgeCount(), 1);
+        Assert.assertEquals(reader.getHedgeWinCount(), 1);
+
+        String loser = submitted.get(slow - 1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!database.getQuery(loser).isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(database.getQuery(loser).isCancelled());
+        Assert.assertEquals(reader.getCancellationCount(), 1);
+    }
+
+    @Test
+    public void testHedgeRateIsCapped() throws Exception {
+
+        database.setAsyncLatency(submission -> submission > HedgedReader.MIN_SAMPLES ? 150 : 5);
+        reader = new HedgedReader(pool, Executors.defaultThreadFactory(), 8, 50, 10, 10);
+        warmUp();
+
+        for (int i = 0; i < 10; i++) {
+            read();
+        }
+        Assert.assertEquals(reader.getReadCount(), HedgedReader.MIN_SAMPLES + 10);
+        Assert.assertTrue(reader.getHedgeCount() > 0);
+        Assert.assertTrue(reader.getHedgeCount() * 100 <= reader.getReadCount() * 10,
+                "hedges: " + reader.getHedgeCount());
+        Assert.assertEquals(reader.getHedgeCount() + reader.getRateLimitedCount(), 10);
+    }
+
+    @Test
+    public void testReadIsNotHedgedWithoutLatencySamples() throws Exception {
+
+        database.setAsyncLatency(submission -> 200);
+        reader = new HedgedReader(pool, Executors.defaultThreadFactory(), 8, 95, 0, 100);
+
+        read();
+        Assert.assertEquals(submitted.size(), 1);
+        Assert.assertEquals(reader.getHedgeCount(), 0);
+        Assert.assertEquals(reader.getRateLimitedCount(), 0);
+    }
+
+    @Test
+    public void testLoserSubmittedAfterTheWinIsCancelled() throws Exception {
+
+        database.setAsyncLatency(submission -> 5);
+        reader = new HedgedReader(pool, Executors.defaultThreadFactory(), 8, 95, 20, 100);
+        warmUp();
+
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> lateQueryIds = new CopyOnWriteArrayList<>();
+        String winner = reader.read(QUERY, queryIds -> {
+            boolean primary = attempts.incrementAndGet() == 1;
+            if (primary) {
+                // keeps going when interrupted, like a driver call that does not react to interrupts
+                long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+                while (System.nanoTime() < until) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException ignored) {
+                        // checked again by the loop
+                    }
+                }
+            }
+            try (PooledConnection connection = pool.borrow();
+                 PreparedStatement statement = connection.prepareStatement(QUERY)) {
+                String queryId = AsyncQueryClient.submit(statement);
+                if (primary) {
+                    lateQueryIds.add(queryId);
+                }
+                queryIds.accept(queryId);
+                try (ResultSet resultSet = AsyncQueryClient.await(connection.getConnection(), queryId)) {
+                    return queryId;
+                }
+            }
+        }, queryId -> { });
+        Assert.assertEquals(reader.getHedgeWinCount(), 1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((lateQueryIds.isEmpty() || reader.getCancellationCount() == 0) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(lateQueryIds.size(), 1);
+        Assert.assertNotEquals(lateQueryIds.get(0), winner);
+        Assert.assertTrue(database.getQuery(lateQueryIds.get(0)).isCancelled());
+        Assert.assertEquals(reader.getCancellationCount(), 1);
+    }
+
+    @Test
+    public void testFailureOfBothAttemptsIsReported() throws Exception {
+
+        reader = new HedgedReader(pool, Executors.defaultThreadFactory(), 8, 95, 0, 100);
+        SQLException failure = new SQLException("Object does not exist", "42S02", 2003);
+
+        try {
+            reader.read(QUERY, queryIds -> {
+                throw failure;
+            }, result -> { });
+            Assert.fail("The failure of the read was not reported");
+        } catch (SQLException e) {
+            Assert.assertSame(e, failure);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.paging;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.StringWriter;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests for {@link QueryPager} and {@link CursorRegistry}.
+ */
+public class QueryPagerTest {
+
+    private static final String QUERY = "SELECT ID FROM ORDERS ORDER BY ID";
+    private static final Pattern RESULT_SCAN =
+            Pattern.compile("SELECT \\* FROM TABLE\\(RESULT_SCAN\\('[0-9a-f-]+'\\)\\) LIMIT NULL OFFSET (\\d+)");
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+    private CursorRegistry registry;
+    private QueryPager pager;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            Matcher resultScan = RESULT_SCAN.matcher(sql);
+            int offset = resultScan.matches() ? Integer.parseInt(resultScan.group(1)) : 0;
+            return StubResult.rows(Collections.singletonList(StubColumn.of("ID", Types.BIGINT)), 25 - offset,
+                    row -> new Object[]{(long) (row + offset)});
+        });
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        registry = new CursorRegistry("test", 2, 0);
+        pager = new QueryPager(pool, registry);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        registry.close();
+        pool.close();
+    }
+
+    private static long firstId(StringWriter writer) {
+
+        JsonArray rows = JsonParser.parseString(writer.toString()).getAsJsonArray();
+        return rows.size() == 0 ? -1 : rows.get(0).getAsJsonObject().get("ID").getAsLong();
+    }
+
+    @Test
+    public void testPagesAreServedFromOpenCursor() throws Exception {
+
+        StringWriter writer = new StringWriter();
+        Page page = pager.firstPage(QUERY, null, 10, 60000, writer);
+        Assert.assertEquals(page.getRowCount(), 10);
+        Assert.assertTrue(page.hasMoreRows());
+        Assert.assertEquals(firstId(writer), 0);
+        Assert.assertEquals(registry.size(), 1);
+
+        writer = new StringWriter();
+        page = pager.nextPage(page.getNextCursor(), 10, 60000, writer);
+        Assert.assertEquals(page.getOffset(), 10);
+        Assert.assertEquals(firstId(writer), 10);
+        Assert.assertTrue(page.hasMoreRows());
+
+        writer = new StringWriter();
+        page = pager.nextPage(page.getNextCursor(), 10, 60000, writer);
+        Assert.assertEquals(page.getRowCount(), 5);
+        Assert.assertEquals(firstId(writer), 20);
+        Assert.assertFalse(page.hasMoreRows());
+        Assert.assertNull(page.getNextCursor());
+
+        Assert.assertEquals(database.getExecutedStatements().size(), 1);
+        Assert.assertEquals(database.getResultLookups(), 1);
+        Assert.assertEquals(registry.size(), 0);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testOpenCursorKeepsItsSessionBorrowed() throws Exception {
+
+        Page page = pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        Assert.assertEquals(pool.getActiveCount(), 1);
+        pager.nextPage(page.getNextCursor(), 20, 60000, new StringWriter());
+        Assert.assertEquals(pool.getActiveCount(), 0);
+
+        pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        registry.close();
+        Assert.assertEquals(pool.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testLastPageEndingOnBoundaryHasNoMoreRows() throws Exception {
+
+        Page page = pager.firstPage(QUERY, null, 25, 60000, new StringWriter());
+        Assert.assertEquals(page.getRowCount(), 25);
+        Assert.assertFalse(page.hasMoreRows());
+        Assert.assertEquals(registry.size(), 0);
+    }
+
+    @Test
+    public void testOutOfOrderPageReopensResult() throws Exception {
+
+        Page first = pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        pager.nextPage(first.getNextCursor(), 10, 60000, new StringWriter());
+
+        StringWriter writer = new StringWriter();
+        Page again = pager.nextPage(first.getNextCursor(), 10, 60000, writer);
+        Assert.assertEquals(firstId(writer), 10);
+        Assert.assertTrue(again.hasMoreRows());
+        Assert.assertEquals(database.getResultLookups(), 1);
+        Assert.assertEquals(database.getExecutedStatements().size(), 2);
+        Assert.assertTrue(RESULT_SCAN.matcher(database.getExecutedStatements().get(1)).matches());
+
+        writer = new StringWriter();
+        Page last = pager.nextPage(again.getNextCursor(), 10, 60000, writer);
+        Assert.assertEquals(firstId(writer), 20);
+        Assert.assertEquals(last.getRowCount(), 5);
+        Assert.assertEquals(database.getExecutedStatements().size(), 2);
+    }
+
+    @Test
+    public void testExpiredCursorIsReopened() throws Exception {
+
+        Page first = pager.firstPage(QUERY, null, 10, 0, new StringWriter());
+        StringWriter writer = new StringWriter();
+        pager.nextPage(first.getNextCursor(), 10, 60000, writer);
+        Assert.assertEquals(firstId(writer), 10);
+        Assert.assertEquals(database.getExecutedStatements().size(), 2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedCursorIsClosedWhenFull() throws Exception {
+
+        Page first = pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        Page second = pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        Assert.assertEquals(registry.size(), 2);
+
+        pager.nextPage(second.getNextCursor(), 10, 60000, new StringWriter());
+        Assert.assertEquals(database.getExecutedStatements().size(), 3);
+        pager.nextPage(first.getNextCursor(), 10, 60000, new StringWriter());
+        Assert.assertEquals(database.getExecutedStatements().size(), 4);
+    }
+
+    @Test
+    public void testSweepClosesExpiredCursors() throws Exception {
+
+        pager.firstPage(QUERY, null, 10, 0, new StringWriter());
+        Assert.assertEquals(registry.size(), 1);
+        registry.evictExpired();
+        Assert.assertEquals(registry.size(), 0);
+    }
+
+    @Test
+    public void testAbandonedCursorsAreClosedOnAccessWithoutSweepInterval() throws Exception {
+
+        pager.firstPage(QUERY, null, 10, 50, new StringWriter());
+        Page second = pager.firstPage(QUERY, null, 10, 50, new StringWriter());
+        Assert.assertEquals(pool.getActiveCount(), 2);
+        Thread.sleep(100);
+
+        pager.firstPage(QUERY, null, 10, 60000, new StringWriter());
+        Assert.assertEquals(registry.size(), 1);
+        Assert.assertEquals(pool.getActiveCount(), 1);
+
+        pager.nextPage(second.getNextCursor(), 10, 60000, new StringWriter());
+        Assert.assertEquals(database.getExecutedStatements().size(), 4);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsMalformedCursor() throws Exception {
+
+        pager.nextPage("not-a-cursor", 10, 60000, new StringWriter());
+    }
+}
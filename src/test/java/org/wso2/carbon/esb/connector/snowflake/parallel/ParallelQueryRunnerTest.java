@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.parallel;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ParallelQueryRunner} and {@link NamedQuery}.
+ */
+public class ParallelQueryRunnerTest {
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+    private ParallelQueryRunner runner;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            if (sql.contains("MISSING")) {
+                throw new SQLException("Object 'MISSING' does not exist", "42S02", 2003);
+            }
+            pause(sql.contains("SLOW") ? 5000 : 200);
+            int rows = parameters.isEmpty() ? 3 : ((Number) parameters.get(0)).intValue();
+            return StubResult.rows(Collections.singletonList(StubColumn.of("ID", Types.BIGINT)), rows,
+                    row -> new Object[]{(long) row});
+        });
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(4);
+        configuration.setMaxIdleConnections(4);
+        configuration.setMaxWaitTime(1000);
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        runner = new ParallelQueryRunner(pool, Executors.defaultThreadFactory());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        runner.close();
+        pool.close();
+    }
+
+    private static void pause(long millis) throws SQLException {
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Statement cancelled", "57014", 604);
+        }
+    }
+
+    private static JsonArray rows(QueryOutcome outcome) throws Exception {
+
+        try (InputStream rows = outcome.getRows().getInputStream()) {
+            return JsonParser.parseReader(new InputStreamReader(rows, StandardCharsets.UTF_8)).getAsJsonArray();
+        }
+    }
+
+    @Test
+    public void testQueriesRunConcurrentlyAndKeepTheirOrder() throws Exception {
+
+        List<NamedQuery> queries = NamedQuery.parse("{\"orders\": \"SELECT ID FROM ORDERS\", "
+                + "\"customers\": {\"query\": \"SELECT ID FROM CUSTOMERS WHERE ID < ?\", \"parameters\": [5]}, "
+                + "\"items\": {\"query\": \"SELECT ID FROM ITEMS\", \"maxRows\": 2}}", 0);
+
+        long start = System.nanoTime();
+        List<QueryOutcome> outcomes = runner.run(queries, SessionState.NONE, 0, true);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assert.assertTrue(elapsed < 550, "queries of 200 ms each took " + elapsed + " ms together");
+        Assert.assertEquals(outcomes.size(), 3);
+        Assert.assertEquals(outcomes.get(0).getQuery().getName(), "orders");
+        Assert.assertEquals(outcomes.get(1).getQuery().getName(), "customers");
+        Assert.assertEquals(outcomes.get(1).getRowCount(), 5);
+        Assert.assertEquals(rows(outcomes.get(1)).size(), 5);
+        Assert.assertEquals(outcomes.get(2).getRowCount(), 2);
+        Assert.assertEquals(rows(outcomes.get(0)).get(2).getAsJsonObject().get("ID").getAsLong(), 2);
+        Assert.assertEquals(database.getOpenConnections(), 3);
+    }
+
+    @Test
+    public void testDeadlineCancelsSlowQueries() throws Exception {
+
+        List<NamedQuery> queries = NamedQuery.parse("{\"fast\": \"SELECT ID FROM ORDERS\", "
+                + "\"slow\": \"SELECT ID FROM SLOW_VIEW\"}", 0);
+
+        long start = System.nanoTime();
+        List<QueryOutcome> outcomes = runner.run(queries, SessionState.NONE, 500, false);
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        Assert.assertFalse(outcomes.get(0).isFailed());
+        Assert.assertEquals(outcomes.get(0).getRowCount(), 3);
+        outcomes.get(0).release();
+        Assert.assertTrue(outcomes.get(1).isFailed());
+        Assert.assertTrue(outcomes.get(1).getFailure() instanceof SQLTimeoutException);
+        Assert.assertFalse(outcomes.get(1).isCancelled());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (pool.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(pool.getActiveCount(), 0, "the cancelled query still holds its session");
+    }
+
+    @Test
+    public void testFailureCancelsOtherQueriesWhenFailingFast() throws Exception {
+
+        List<NamedQuery> queries = NamedQuery.parse("{\"slow\": \"SELECT ID FROM SLOW_VIEW\", "
+                + "\"missing\": \"SELECT ID FROM MISSING\"}", 0);
+
+        long start = System.nanoTime();
+        List<QueryOutcome> outcomes = runner.run(queries, SessionState.NONE, 0, true);
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        Assert.assertTrue(outcomes.get(0).isCancelled());
+        Assert.assertTrue(outcomes.get(1).isFailed());
+        Assert.assertFalse(outcomes.get(1).isCancelled());
+        Assert.assertEquals(((SQLException) outcomes.get(1).getFailure()).getSQLState(), "42S02");
+    }
+
+    @Test
+    public void testFailureDoesNotStopOtherQueriesWithoutFailingFast() throws Exception {
+
+        List<NamedQuery> queries = NamedQuery.parse("{\"missing\": \"SELECT ID FROM MISSING\", "
+                + "\"orders\": \"SELECT ID FROM ORDERS\"}", 0);
+
+        List<QueryOutcome> outcomes = runner.run(queries, SessionState.NONE, 0, false);
+
+        Assert.assertTrue(outcomes.get(0).isFailed());
+        Assert.assertFalse(outcomes.get(1).isFailed());
+        Assert.assertEquals(rows(outcomes.get(1)).size(), 3);
+    }
+
+    @Test
+    public void testMalformedQueriesAreRejected() {
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> NamedQuery.parse("[\"SELECT 1\"]", 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> NamedQuery.parse("{}", 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> NamedQuery.parse("{\"a\": {\"sql\": \"x\"}}", 0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> NamedQuery.parse("{\"a\": {\"query\": \"x\", \"parameters\": 1}}", 0));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> NamedQuery.parse("{\"a\": {\"query\": \"x\", \"maxRows\": \"many\"}}", 0));
+        Assert.assertEquals(NamedQuery.parse("{\"a\": \"x\"}", 7).get(0).getMaxRows(), 7);
+    }
+}
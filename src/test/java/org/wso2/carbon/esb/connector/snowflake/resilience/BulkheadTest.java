@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link Bulkhead}.
+ */
+public class BulkheadTest {
+
+    @Test
+    public void testOperationBeyondQueueIsRejectedImmediately() throws Exception {
+
+        Bulkhead bulkhead = new Bulkhead(1, 0, 5000);
+        Assert.assertTrue(bulkhead.acquire());
+
+        long start = System.nanoTime();
+        Assert.assertFalse(bulkhead.acquire());
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        Assert.assertEquals(bulkhead.getQueueRejectionCount(), 1);
+
+        bulkhead.release();
+        Assert.assertTrue(bulkhead.acquire());
+        Assert.assertEquals(bulkhead.getAdmittedCount(), 2);
+    }
+
+    @Test
+    public void testQueuedOperationGetsReleasedSlot() throws Exception {
+
+        Bulkhead bulkhead = new Bulkhead(1, 1, 5000);
+        Assert.assertTrue(bulkhead.acquire());
+        CountDownLatch waiting = new CountDownLatch(1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            waiting.countDown();
+            try {
+                return bulkhead.acquire();
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        waiting.await();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.getQueuedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(bulkhead.getQueuedCount(), 1);
+        Assert.assertFalse(bulkhead.acquire(), "the queue holds one operation only");
+
+        bulkhead.release();
+        Assert.assertTrue(queued.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(bulkhead.getActiveCount(), 1);
+        Assert.assertEquals(bulkhead.getQueuedCount(), 0);
+    }
+
+    @Test
+    public void testQueuedOperationTimesOut() throws Exception {
+
+        Bulkhead bulkhead = new Bulkhead(1, 1, 50);
+        Assert.assertTrue(bulkhead.acquire());
+
+        long start = System.nanoTime();
+        Assert.assertFalse(bulkhead.acquire());
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40);
+        Assert.assertEquals(bulkhead.getTimeoutCount(), 1);
+        Assert.assertEquals(bulkhead.getQueuedCount(), 0);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link CircuitBreaker}.
+ */
+public class CircuitBreakerTest {
+
+    private static void run(CircuitBreaker breaker, boolean failure, long elapsed) {
+
+        long ticket = breaker.tryAcquire();
+        Assert.assertTrue(ticket >= 0, "operation was rejected");
+        breaker.record(ticket, failure, elapsed);
+    }
+
+    @Test
+    public void testOpensOnFailureRate() {
+
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 10, 60000, 1);
+        for (int i = 0; i < 4; i++) {
+            run(breaker, i % 2 == 0, 1);
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, "the window is not half filled yet");
+
+        run(breaker, true, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.tryAcquire(), -1);
+        Assert.assertEquals(breaker.getRejectionCount(), 1);
+        Assert.assertEquals(breaker.getOpenCount(), 1);
+    }
+
+    @Test
+    public void testOpensOnSlowCallRate() {
+
+        CircuitBreaker breaker = new CircuitBreaker(0, 100, 60, 5, 60000, 1);
+        run(breaker, false, 10);
+        run(breaker, false, 150);
+        run(breaker, false, 200);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.getSlowCallCount(), 2);
+        Assert.assertEquals(breaker.getFailureCount(), 0);
+    }
+
+    @Test
+    public void testHalfOpenProbesCloseTheBreaker() throws Exception {
+
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 2, 50, 2);
+        run(breaker, true, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+
+        Thread.sleep(80);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        Assert.assertTrue(first >= 0 && second >= 0);
+        Assert.assertEquals(breaker.tryAcquire(), -1, "only two probes are let through");
+
+        breaker.record(first, false, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        breaker.record(second, false, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertEquals(breaker.getFailureRate(), 0f);
+    }
+
+    @Test
+    public void testFailedProbeReopensTheBreaker() throws Exception {
+
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 2, 50, 1);
+        long admittedWhileClosed = breaker.tryAcquire();
+        run(breaker, true, 1);
+        Thread.sleep(80);
+
+        long probe = breaker.tryAcquire();
+        Assert.assertTrue(probe >= 0);
+        breaker.record(admittedWhileClosed, false, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN,
+                "an operation admitted before the breaker opened is not a probe");
+
+        breaker.record(probe, true, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.getOpenCount(), 2);
+    }
+
+    @Test
+    public void testCancelledProbeIsGivenBack() throws Exception {
+
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 2, 50, 1);
+        run(breaker, true, 1);
+        Thread.sleep(80);
+
+        long probe = breaker.tryAcquire();
+        Assert.assertEquals(breaker.tryAcquire(), -1);
+        breaker.cancel(probe);
+        Assert.assertTrue(breaker.tryAcquire() >= 0);
+    }
+}
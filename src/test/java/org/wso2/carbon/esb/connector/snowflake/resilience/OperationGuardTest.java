@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.resilience;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
+
+/**
+ * Tests for {@link OperationGuard}.
+ */
+public class OperationGuardTest {
+
+    @Test
+    public void testOnlyServiceFailuresOpenTheBreaker() throws SQLException {
+
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 2, 60000, 1);
+        OperationGuard guard = new OperationGuard("test", null, breaker);
+        for (int i = 0; i < 4; i++) {
+            try (OperationGuard.Permit permit = guard.acquire()) {
+                permit.failed(new SQLSyntaxErrorException("SQL compilation error", "42000", 1003));
+            }
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+
+        try (OperationGuard.Permit permit = guard.acquire()) {
+            permit.failed(new RuntimeException("Error while executing Snowflake query",
+                    new SQLNonTransientConnectionException("JDBC driver encountered communication error", "08001")));
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+
+        OperationRejectedException rejected = Assert.expectThrows(OperationRejectedException.class, guard::acquire);
+        Assert.assertTrue(rejected.getMessage().contains("'test'"));
+        Assert.assertFalse(OperationGuard.isServiceFailure(rejected));
+        Assert.assertFalse(OperationGuard.isServiceFailure(new IOException("No space left on device")));
+        Assert.assertTrue(OperationGuard.isServiceFailure(new SQLException("SQL execution canceled", "57014", 604)));
+        Assert.assertTrue(OperationGuard.isServiceFailure(new SQLTimeoutException("Statement reached its timeout")));
+    }
+
+    @Test
+    public void testTimeoutsFromTheCallersDeadlineAreNotServiceFailures() throws SQLException {
+
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 2, 60000, 1);
+        OperationGuard guard = new OperationGuard("test", null, breaker);
+        for (int i = 0; i < 4; i++) {
+            try (OperationGuard.Permit permit = guard.acquire()) {
+                permit.failed(new SQLTimeoutException("Statement reached its timeout"), true);
+            }
+            try (OperationGuard.Permit permit = guard.acquire()) {
+                permit.failed(new SQLException("SQL execution canceled", "57014", 604), true);
+            }
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+
+        try (OperationGuard.Permit permit = guard.acquire()) {
+            permit.failed(new SQLNonTransientConnectionException("communication error", "08001"), true);
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertTrue(OperationGuard.isTimeout(new RuntimeException(new SQLTimeoutException("timeout"))));
+        Assert.assertFalse(OperationGuard.isTimeout(new SQLException("SQL compilation error", "42000", 1003)));
+    }
+
+    @Test
+    public void testBulkheadRejectionGivesBackTheProbe() throws Exception {
+
+        Bulkhead bulkhead = new Bulkhead(1, 0, 0);
+        CircuitBreaker breaker = new CircuitBreaker(50, 0, 50, 2, 50, 1);
+        OperationGuard guard = new OperationGuard("test", bulkhead, breaker);
+        try (OperationGuard.Permit permit = guard.acquire()) {
+            permit.failed(new SQLTimeoutException("timeout"));
+        }
+        Thread.sleep(80);
+
+        Assert.assertTrue(bulkhead.acquire());
+        Assert.assertThrows(OperationRejectedException.class, guard::acquire);
+        bulkhead.release();
+        try (OperationGuard.Permit permit = guard.acquire()) {
+            Assert.assertEquals(bulkhead.getActiveCount(), 1);
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertEquals(bulkhead.getActiveCount(), 0);
+    }
+
+    @Test
+    public void testPermitIsReleasedOnce() throws Exception {
+
+        Bulkhead bulkhead = new Bulkhead(2, 0, 0);
+        OperationGuard guard = new OperationGuard("test", bulkhead, null);
+        OperationGuard.Permit permit = guard.acquire();
+        permit.close();
+        permit.close();
+        Assert.assertEquals(bulkhead.getActiveCount(), 0);
+        Assert.assertTrue(bulkhead.acquire() && bulkhead.acquire());
+        Assert.assertFalse(bulkhead.acquire());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import com.google.gson.stream.JsonWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Tests for {@link ColumnReader}.
+ */
+public class ColumnReaderTest {
+
+    private static final List<StubColumn> COLUMNS = Arrays.asList(
+            new StubColumn("SMALL", Types.BIGINT, "NUMBER", 10, 0),
+            new StubColumn("WIDE", Types.BIGINT, "NUMBER", 38, 0),
+            new StubColumn("COUNT", Types.INTEGER, "NUMBER", 38, 0),
+            new StubColumn("PRICE", Types.DECIMAL, "NUMBER", 12, 2),
+            new StubColumn("UNITS", Types.DECIMAL, "NUMBER", 9, 0),
+            StubColumn.of("RATIO", Types.DOUBLE),
+            StubColumn.of("ACTIVE", Types.BOOLEAN),
+            StubColumn.of("NAME", Types.VARCHAR),
+            StubColumn.of("CREATED", Types.TIMESTAMP),
+            StubColumn.of("DUE", Types.DATE),
+            new StubColumn("AT", Types.TIME, "TIME", 0, 9),
+            StubColumn.of("PAYLOAD", Types.BINARY),
+            new StubColumn("ZONED", Types.TIMESTAMP_WITH_TIMEZONE, "TIMESTAMP_TZ", 0, 9));
+
+    @Test
+    public void testReaderFollowsColumnTypeAndScale() throws Exception {
+
+        try (ResultSet resultSet = query(Arrays.<Object[]>asList())) {
+            Assert.assertEquals(ColumnReader.forColumns(resultSet.getMetaData()), new ColumnReader[]{
+                    ColumnReader.LONG, ColumnReader.WIDE_INTEGER, ColumnReader.LONG, ColumnReader.DECIMAL,
+                    ColumnReader.LONG, ColumnReader.DOUBLE, ColumnReader.BOOLEAN, ColumnReader.STRING,
+                    ColumnReader.TIMESTAMP, ColumnReader.DATE, ColumnReader.TIME, ColumnReader.BINARY,
+                    ColumnReader.OBJECT});
+        }
+    }
+
+    @Test
+    public void testWritesWhatGetObjectWouldHaveWritten() throws Exception {
+
+        Object[] values = {7L, new BigDecimal("123456789012345678901234567890"), 3, new BigDecimal("19.90"),
+                new BigDecimal("500"), Double.NaN, false, "tab\there", Timestamp.valueOf("2024-03-01 10:15:30"),
+                Date.valueOf("2024-03-31"), Time.valueOf("23:59:01"), new byte[]{(byte) 0xff},
+                Timestamp.valueOf("2024-03-01 00:00:00")};
+        Object[] wideThatFits = values.clone();
+        wideThatFits[1] = new BigDecimal("-9223372036854775808");
+        Object[] nulls = new Object[COLUMNS.size()];
+
+        try (ResultSet resultSet = query(Arrays.asList(values, wideThatFits, nulls))) {
+            ColumnReader[] readers = ColumnReader.forColumns(resultSet.getMetaData());
+            while (resultSet.next()) {
+                for (int i = 0; i < readers.length; i++) {
+                    StringWriter typed = new StringWriter();
+                    readers[i].write(resultSet, i + 1, lenient(typed));
+                    StringWriter generic = new StringWriter();
+                    ResultSetJsonWriter.writeValue(lenient(generic), resultSet.getObject(i + 1));
+                    Assert.assertEquals(typed.toString(), generic.toString(), COLUMNS.get(i).getName());
+                }
+            }
+        }
+    }
+
+    private static JsonWriter lenient(StringWriter writer) {
+
+        JsonWriter json = new JsonWriter(writer);
+        json.setLenient(true);
+        return json;
+    }
+
+    private static ResultSet query(List<Object[]> rows) throws Exception {
+
+        StubDatabase database = new StubDatabase();
+        database.setResponder((sql, parameters) -> StubResult.rows(COLUMNS, rows));
+        Connection connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+        return connection.createStatement().executeQuery("SELECT * FROM T");
+    }
+}
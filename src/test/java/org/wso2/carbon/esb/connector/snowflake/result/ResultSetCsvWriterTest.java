@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Tests for {@link ResultSetCsvWriter}.
+ */
+public class ResultSetCsvWriterTest {
+
+    private StubDatabase database;
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+
+        database = new StubDatabase();
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+    }
+
+    private ResultSet query(StubResult result) throws SQLException {
+
+        database.setResponder((sql, parameters) -> result);
+        return connection.createStatement().executeQuery("SELECT * FROM T");
+    }
+
+    @Test
+    public void testWritesHeaderAndQuotesOnlyWhenNeeded() throws Exception {
+
+        StubResult result = StubResult.rows(
+                Arrays.asList(StubColumn.of("ID", Types.BIGINT), StubColumn.of("NOTE", Types.VARCHAR),
+                        StubColumn.of("AMOUNT", Types.DECIMAL)),
+                Arrays.asList(
+                        new Object[]{1L, "plain", new BigDecimal("10.50")},
+                        new Object[]{2L, "a, b", null},
+                        new Object[]{3L, "say \"hi\"\nbye", new BigDecimal("-1")},
+                        new Object[]{4L, "", new BigDecimal("0")}));
+        StringWriter writer = new StringWriter();
+        long rows = ResultSetCsvWriter.write(query(result), writer, 0);
+
+        Assert.assertEquals(rows, 4);
+        Assert.assertEquals(writer.toString(), "ID,NOTE,AMOUNT\r\n"
+                + "1,plain,10.50\r\n"
+                + "2,\"a, b\",\r\n"
+                + "3,\"say \"\"hi\"\"\nbye\",-1\r\n"
+                + "4,\"\",0\r\n");
+    }
+
+    @Test
+    public void testStopsAtMaxRows() throws Exception {
+
+        StubResult result = StubResult.rows(Arrays.asList(StubColumn.of("ID", Types.BIGINT)), 1000,
+                row -> new Object[]{(long) row});
+        StringWriter writer = new StringWriter();
+        ResultSet resultSet = query(result);
+
+        Assert.assertEquals(ResultSetCsvWriter.write(resultSet, writer, 3), 3);
+        Assert.assertEquals(writer.toString(), "ID\r\n0\r\n1\r\n2\r\n");
+        Assert.assertTrue(resultSet.next());
+        Assert.assertEquals(resultSet.getLong(1), 3);
+    }
+
+    @Test
+    public void testEmptyResultWritesHeaderOnly() throws Exception {
+
+        StringWriter writer = new StringWriter();
+        Assert.assertEquals(ResultSetCsvWriter.write(query(StubResult.empty(StubColumn.of("ID", Types.BIGINT),
+                StubColumn.of("NAME", Types.VARCHAR))), writer, 0), 0);
+        Assert.assertEquals(writer.toString(), "ID,NAME\r\n");
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+import org.wso2.carbon.esb.connector.snowflake.utils.PayloadBuffer;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Tests for {@link ResultSetJsonWriter}.
+ */
+public class ResultSetJsonWriterTest {
+
+    private static final List<StubColumn> COLUMNS = Arrays.asList(
+            StubColumn.of("ID", Types.BIGINT),
+            StubColumn.of("NAME", Types.VARCHAR),
+            StubColumn.of("AMOUNT", Types.DECIMAL),
+            StubColumn.of("RATIO", Types.DOUBLE),
+            StubColumn.of("ACTIVE", Types.BOOLEAN),
+            StubColumn.of("CREATED", Types.TIMESTAMP),
+            StubColumn.of("PAYLOAD", Types.BINARY));
+
+    private StubDatabase database;
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+
+        database = new StubDatabase();
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+    }
+
+    private ResultSet query(StubResult result) throws SQLException {
+
+        database.setResponder((sql, parameters) -> result);
+        return connection.createStatement().executeQuery("SELECT * FROM T");
+    }
+
+    @Test
+    public void testWritesRowsAsObjects() throws Exception {
+
+        Object[] row = {42L, "quote \" and \\ slash", new BigDecimal("12.50"), 0.25, true,
+                Timestamp.valueOf("2024-03-01 10:15:30.5"), new byte[]{1, 2, 3}};
+        Object[] nulls = new Object[COLUMNS.size()];
+        StringWriter writer = new StringWriter();
+
+        long rows = ResultSetJsonWriter.write(query(StubResult.rows(COLUMNS, Arrays.asList(row, nulls))), writer);
+
+        Assert.assertEquals(rows, 2);
+        JsonArray array = JsonParser.parseString(writer.toString()).getAsJsonArray();
+        JsonObject first = array.get(0).getAsJsonObject();
+        Assert.assertEquals(first.get("ID").getAsLong(), 42L);
+        Assert.assertEquals(first.get("NAME").getAsString(), "quote \" and \\ slash");
+        Assert.assertEquals(first.get("AMOUNT").getAsBigDecimal(), new BigDecimal("12.50"));
+        Assert.assertEquals(first.get("RATIO").getAsDouble(), 0.25);
+        Assert.assertTrue(first.get("ACTIVE").getAsBoolean());
+        Assert.assertEquals(first.get("CREATED").getAsString(), "2024-03-01T10:15:30.500");
+        Assert.assertEquals(first.get("PAYLOAD").getAsString(), "AQID");
+        JsonObject second = array.get(1).getAsJsonObject();
+        Assert.assertEquals(second.size(), COLUMNS.size());
+        Assert.assertTrue(second.get("NAME").isJsonNull());
+    }
+
+    @Test
+    public void testEmptyResultIsEmptyArray() throws Exception {
+
+        StringWriter writer = new StringWriter();
+        long rows = ResultSetJsonWriter.write(query(StubResult.rows(COLUMNS, Collections.emptyList())), writer);
+        Assert.assertEquals(rows, 0);
+        Assert.assertEquals(writer.toString(), "[]");
+    }
+
+    @Test
+    public void testLargeResultSpillsToBuffer() throws Exception {
+
+        int rowCount = 200000;
+        StubResult result = StubResult.rows(COLUMNS, rowCount, index -> new Object[]{(long) index,
+                "customer-" + index, BigDecimal.valueOf(index, 2), index / 3.0, index % 2 == 0,
+                new Timestamp(1700000000000L + index), null});
+        PayloadBuffer buffer = new PayloadBuffer(".json");
+        long rows;
+        try (Writer writer = buffer.getWriter()) {
+            rows = ResultSetJsonWriter.write(query(result), writer);
+        }
+        Assert.assertEquals(rows, rowCount);
+        Assert.assertTrue(buffer.getLength() > 1024 * 1024, "Expected the payload to spill to disk");
+
+        try (InputStream in = buffer.getInputStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            JsonReader json = new JsonReader(reader);
+            json.beginArray();
+            long read = 0;
+            while (json.hasNext()) {
+                json.skipValue();
+                read++;
+            }
+            json.endArray();
+            Assert.assertEquals(read, rowCount);
+        }
+    }
+}
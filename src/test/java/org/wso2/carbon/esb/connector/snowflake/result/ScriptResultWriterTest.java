@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.result;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.snowflake.client.jdbc.SnowflakeStatement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubColumn;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests for {@link ScriptResultWriter} against multi-statement requests of the stub driver.
+ */
+public class ScriptResultWriterTest {
+
+    private static final String SCRIPT = "CREATE TEMPORARY TABLE STAGED (ID NUMBER);\n"
+            + "INSERT INTO STAGED VALUES (?), (?);\n"
+            + "MERGE INTO ORDERS USING STAGED ON ORDERS.ID = STAGED.ID WHEN NOT MATCHED THEN INSERT (ID) "
+            + "VALUES (STAGED.ID);\n"
+            + "SELECT ID FROM ORDERS WHERE ID > ?";
+
+    private final List<List<Object>> bound = new CopyOnWriteArrayList<>();
+    private StubDatabase database;
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp() throws SQLException {
+
+        bound.clear();
+        database = new StubDatabase();
+        database.setResponder((sql, parameters) -> {
+            bound.add(parameters);
+            if (sql.startsWith("SELECT")) {
+                return StubResult.rows(Collections.singletonList(StubColumn.of("ID", Types.BIGINT)), 3,
+                        row -> new Object[]{(long) row + 10});
+            }
+            return StubResult.updateCount(sql.startsWith("CREATE") ? 0 : 2);
+        });
+        connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+    }
+
+    private PreparedStatement prepare(int statementCount) throws SQLException {
+
+        PreparedStatement statement = connection.prepareStatement(SCRIPT);
+        statement.unwrap(SnowflakeStatement.class).setParameter("MULTI_STATEMENT_COUNT", statementCount);
+        statement.setLong(1, 1);
+        statement.setLong(2, 2);
+        statement.setLong(3, 10);
+        return statement;
+    }
+
+    @Test
+    public void testEveryResultIsWrittenFromOneRequest() throws Exception {
+
+        StringWriter writer = new StringWriter();
+        ScriptResultWriter.Summary summary;
+        try (PreparedStatement statement = prepare(4)) {
+            summary = ScriptResultWriter.write(statement, statement.execute(), writer, 0);
+        }
+
+        Assert.assertEquals(database.getExecutedStatements(), Collections.singletonList(SCRIPT));
+        Assert.assertEquals(bound, Arrays.asList(Collections.emptyList(), Arrays.asList(1L, 2L),
+                Collections.emptyList(), Collections.singletonList(10L)));
+        Assert.assertEquals(summary.getStatements(), 4);
+        Assert.assertEquals(summary.getRowsAffected(), 4);
+
+        JsonArray results = JsonParser.parseString(writer.toString()).getAsJsonObject().getAsJsonArray("results");
+        Assert.assertEquals(results.size(), 4);
+        Assert.assertEquals(results.get(0).getAsJsonObject().get("rowsAffected").getAsInt(), 0);
+        Assert.assertEquals(results.get(1).getAsJsonObject().get("rowsAffected").getAsInt(), 2);
+        JsonObject select = results.get(3).getAsJsonObject();
+        Assert.assertEquals(select.get("statement").getAsInt(), 4);
+        Assert.assertEquals(select.get("rowCount").getAsLong(), 3);
+        Assert.assertEquals(select.getAsJsonArray("rows").get(2).getAsJsonObject().get("ID").getAsLong(), 12);
+    }
+
+    @Test
+    public void testRowsArePerResultSetLimited() throws Exception {
+
+        StringWriter writer = new StringWriter();
+        try (PreparedStatement statement = prepare(0)) {
+            ScriptResultWriter.write(statement, statement.execute(), writer, 2);
+        }
+
+        JsonObject select = JsonParser.parseString(writer.toString()).getAsJsonObject().getAsJsonArray("results")
+                .get(3).getAsJsonObject();
+        Assert.assertEquals(select.get("rowCount").getAsLong(), 2);
+        Assert.assertEquals(select.getAsJsonArray("rows").size(), 2);
+    }
+
+    @Test
+    public void testStatementCountMismatchIsRejected() throws Exception {
+
+        try (PreparedStatement statement = prepare(3)) {
+            SQLException e = Assert.expectThrows(SQLException.class, statement::execute);
+            Assert.assertTrue(e.getMessage().contains("statement count"), e.getMessage());
+        }
+        Assert.assertTrue(bound.isEmpty());
+    }
+
+    @Test
+    public void testSingleStatementHasOneResult() throws Exception {
+
+        StringWriter writer = new StringWriter();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ID FROM ORDERS")) {
+            ScriptResultWriter.Summary summary = ScriptResultWriter.write(statement, statement.execute(), writer, 0);
+            Assert.assertEquals(summary.getStatements(), 1);
+            Assert.assertEquals(summary.getRowsAffected(), 0);
+        }
+        Assert.assertEquals(JsonParser.parseString(writer.toString()).getAsJsonObject().getAsJsonArray("results")
+                .size(), 1);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.routing;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SessionState;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests for {@link WarehouseRouter} and routing of pooled sessions.
+ */
+public class WarehouseRouterTest {
+
+    @Test
+    public void testLeastInFlightSpreadsConcurrentStatements() {
+
+        WarehouseRouter router = new WarehouseRouter(Arrays.asList("WH_A", "WH_B", "WH_C"),
+                WarehouseRouter.Strategy.LEAST_IN_FLIGHT);
+        Set<String> chosen = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            chosen.add(router.route().getWarehouse());
+        }
+        Assert.assertEquals(chosen.size(), 3, "Every warehouse gets one of three concurrent statements");
+
+        WarehouseRouter.Route fourth = router.route();
+        for (WarehouseStatistics statistics : router.getStatistics()) {
+            Assert.assertEquals(statistics.getInFlight(), statistics.getWarehouse().equals(fourth.getWarehouse())
+                    ? 2 : 1);
+        }
+        fourth.close();
+        fourth.close();
+        long inFlight = router.getStatistics().stream().mapToInt(WarehouseStatistics::getInFlight).sum();
+        Assert.assertEquals(inFlight, 3, "Closing a route twice completes it once");
+    }
+
+    @Test
+    public void testLowestLatencyPrefersTheFasterWarehouse() throws InterruptedException {
+
+        WarehouseRouter router = new WarehouseRouter(Arrays.asList("FAST_WH", "SLOW_WH"),
+                WarehouseRouter.Strategy.LOWEST_LATENCY);
+        WarehouseRouter.Route first = router.route();
+        WarehouseRouter.Route second = router.route();
+        Assert.assertNotEquals(first.getWarehouse(), second.getWarehouse(), "Warehouses without samples come first");
+        WarehouseRouter.Route fast = first.getWarehouse().equals("FAST_WH") ? first : second;
+        WarehouseRouter.Route slow = fast == first ? second : first;
+        fast.close();
+        Thread.sleep(50);
+        slow.close();
+
+        Assert.assertEquals(router.route().getWarehouse(), "FAST_WH");
+        WarehouseStatistics slowStatistics = router.getStatistics().get(1);
+        Assert.assertTrue(slowStatistics.getAverageLatency() >= 50, slowStatistics.toString());
+        Assert.assertEquals(slowStatistics.getCompletedCount(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownStrategyIsRejected() {
+
+        WarehouseRouter.Strategy.fromParameter("random");
+    }
+
+    @Test
+    public void testPoolRoutesSessionsThatDoNotRequestAWarehouse() throws SQLException {
+
+        StubDatabase database = new StubDatabase();
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setWarehouse("wh_a");
+        configuration.setWarehouses(Arrays.asList("wh_a", "wh_b"));
+        configuration.setMaxActiveConnections(4);
+        configuration.setEvictionInterval(0);
+        SnowflakeConnectionPool pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        try {
+            WarehouseRouter router = pool.getWarehouseRouter();
+            PooledConnection first = pool.borrow();
+            PooledConnection second = pool.borrow(new SessionState(null, null, null, null, "nightly"));
+            Assert.assertNotEquals(first.getSessionState().getWarehouse(), second.getSessionState().getWarehouse());
+            Assert.assertTrue(database.getExecutedStatements().stream().anyMatch(sql -> sql.contains("WH_B")),
+                    database.getExecutedStatements().toString());
+
+            PooledConnection pinned = pool.borrow(new SessionState(null, "WH_B", null, null, null));
+            List<WarehouseStatistics> statistics = router.getStatistics();
+            Assert.assertEquals(statistics.get(0).getInFlight() + statistics.get(1).getInFlight(), 3);
+            Assert.assertEquals(statistics.get(1).getRoutedCount(), 2, "Pinned statements count towards the load");
+
+            first.close();
+            second.close();
+            pinned.close();
+            Assert.assertEquals(statistics.get(0).getInFlight() + statistics.get(1).getInFlight(), 0);
+            Assert.assertEquals(statistics.get(0).getCompletedCount() + statistics.get(1).getCompletedCount(), 3);
+        } finally {
+            pool.close();
+        }
+    }
+}
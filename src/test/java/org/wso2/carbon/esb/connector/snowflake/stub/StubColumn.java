@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import java.sql.Types;
+
+/**
+ * Describes a column of a {@link StubResult}.
+ */
+public final class StubColumn {
+
+    private final String name;
+    private final int sqlType;
+    private final String typeName;
+    private final int precision;
+    private final int scale;
+
+    public StubColumn(String name, int sqlType, String typeName, int precision, int scale) {
+
+        this.name = name;
+        this.sqlType = sqlType;
+        this.typeName = typeName;
+        this.precision = precision;
+        this.scale = scale;
+    }
+
+    public static StubColumn of(String name, int sqlType) {
+
+        switch (sqlType) {
+            case Types.BIGINT:
+            case Types.INTEGER:
+                return new StubColumn(name, sqlType, "NUMBER", 38, 0);
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return new StubColumn(name, sqlType, "NUMBER", 38, 2);
+            case Types.DOUBLE:
+            case Types.FLOAT:
+                return new StubColumn(name, sqlType, "FLOAT", 38, 0);
+            case Types.BOOLEAN:
+                return new StubColumn(name, sqlType, "BOOLEAN", 1, 0);
+            case Types.TIMESTAMP:
+                return new StubColumn(name, sqlType, "TIMESTAMP_NTZ", 0, 9);
+            case Types.DATE:
+                return new StubColumn(name, sqlType, "DATE", 0, 0);
+            case Types.BINARY:
+                return new StubColumn(name, sqlType, "BINARY", 8388608, 0);
+            default:
+                return new StubColumn(name, sqlType, "VARCHAR", 16777216, 0);
+        }
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public int getSqlType() {
+
+        return sqlType;
+    }
+
+    public String getTypeName() {
+
+        return typeName;
+    }
+
+    public int getPrecision() {
+
+        return precision;
+    }
+
+    public int getScale() {
+
+        return scale;
+    }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import net.snowflake.client.jdbc.SFConnectionHandler;
+import net.snowflake.client.jdbc.SnowflakeConnection;
+
+import java.io.InputStream;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection to the {@link StubDatabase}. Only the parts of {@link Connection} used by the connector are supported.
+ */
+public class StubConnection implements Connection, SnowflakeConnection {
+
+    private final StubDatabase database;
+    private volatile boolean closed;
+    private boolean autoCommit = true;
+    private String schema;
+
+    StubConnection(StubDatabase database) {
+
+        this.database = database;
+    }
+
+    StubDatabase getDatabase() {
+
+        return database;
+    }
+
+    void ensureOpen() throws SQLException {
+
+        if (closed) {
+            throw new SQLNonTransientConnectionException("Connection is closed");
+        }
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+
+        ensureOpen();
+        return new StubStatement(this);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+
+        return createStatement();
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+
+        return createStatement();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+
+        ensureOpen();
+        database.statementPrepared();
+        return new StubPreparedStatement(this, sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+
+        return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+
+        return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+
+        return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+
+        return prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+                                              int resultSetHoldability) throws SQLException {
+
+        return prepareStatement(sql);
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+
+        ensureOpen();
+        return autoCommit;
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+
+        ensureOpen();
+        this.autoCommit = autoCommit;
+    }
+
+    @Override
+    public void commit() throws SQLException {
+
+        ensureOpen();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+
+        ensureOpen();
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+
+        ensureOpen();
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+
+        ensureOpen();
+        return schema;
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+
+        ensureOpen();
+        this.schema = schema;
+    }
+
+    @Override
+    public boolean isValid(int timeout) {
+
+        return !closed && database.validate();
+    }
+
+    @Override
+    public boolean isClosed() {
+
+        return closed;
+    }
+
+    @Override
+    public void close() {
+
+        if (!closed) {
+            closed = true;
+            database.connectionClosed();
+        }
+    }
+
+    @Override
+    public void abort(Executor executor) {
+
+        close();
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() {
+        // no warnings are ever recorded
+    }
+
+    @Override
+    public ResultSet createResultSet(String queryId) throws SQLException {
+
+        ensureOpen();
+        StubQuery query = database.lookupQuery(queryId);
+        if (query == null) {
+            throw new SQLException("Query ID " + queryId + " is not valid");
+        }
+        return new StubResultSet(null, query);
+    }
+
+    @Override
+    public String getSessionID() {
+
+        return "stub-session-" + System.identityHashCode(this);
+    }
+
+    @Override
+    public void uploadStream(String stageName, String destPrefix, InputStream inputStream, String destFileName,
+                             boolean compressData) throws SQLException {
+
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public InputStream downloadStream(String stageName, String sourceFileName, boolean decompress)
+            throws SQLException {
+
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public SFConnectionHandler getHandler() {
+
+        return null;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + type.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) {
+
+        return type.isInstance(this);
+    }
+
+    @Override
+    public Array createArrayOf(String name, Object[] elements) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Struct createStruct(String name, Object[] elements) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int value, int value2, int value3) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int value, int value2) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setCatalog(String name) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+
+        throw new SQLClientInfoException();
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+
+        throw new SQLClientInfoException();
+    }
+
+    @Override
+    public void setHoldability(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setReadOnly(boolean enabled) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setTransactionIsolation(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+
+        throw unsupported();
+    }
+
+    private static SQLFeatureNotSupportedException unsupported() {
+
+        return new SQLFeatureNotSupportedException("Not supported by the stub driver");
+    }
+}
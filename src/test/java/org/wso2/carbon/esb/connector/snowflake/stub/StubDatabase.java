@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * In-process stand-in for a Snowflake account. Tests configure how statements are answered and inspect what the
+ * connector sent to the "server".
+ */
+public class StubDatabase {
+
+    private static final String CANCEL_QUERY = "SELECT SYSTEM$CANCEL_QUERY(";
+
+    /**
+     * Produces the result of a statement from its SQL text and bound parameters.
+     */
+    @FunctionalInterface
+    public interface Responder {
+
+        StubResult respond(String sql, List<Object> parameters) throws SQLException;
+    }
+
+    private final AtomicInteger connectionsOpened = new AtomicInteger();
+    private final AtomicInteger connectionsClosed = new AtomicInteger();
+    private final AtomicInteger validations = new AtomicInteger();
+    private final AtomicInteger preparedStatements = new AtomicInteger();
+    private final AtomicInteger closedStatements = new AtomicInteger();
+    private final AtomicInteger resultLookups = new AtomicInteger();
+    private final List<String> executedStatements = new CopyOnWriteArrayList<>();
+    private final AtomicLong queryIds = new AtomicLong();
+    private final Map<String, StubQuery> queries = new ConcurrentHashMap<>();
+    private volatile Responder responder = (sql, parameters) -> StubResult.updateCount(0);
+    private volatile long connectLatencyMillis;
+    private volatile long executeLatencyMillis;
+    private volatile boolean available = true;
+    private volatile boolean connectionsValid = true;
+    private volatile boolean holdAsyncQueries;
+    private volatile LongUnaryOperator asyncLatency = submission -> 0;
+    private final AtomicLong submissions = new AtomicLong();
+    private volatile Properties lastLoginProperties;
+
+    public void setResponder(Responder responder) {
+
+        this.responder = responder;
+    }
+
+    public void setConnectLatencyMillis(long connectLatencyMillis) {
+
+        this.connectLatencyMillis = connectLatencyMillis;
+    }
+
+    public void setExecuteLatencyMillis(long executeLatencyMillis) {
+
+        this.executeLatencyMillis = executeLatencyMillis;
+    }
+
+    /**
+     * When set to {@code false} new logins are refused.
+     */
+    public void setAvailable(boolean available) {
+
+        this.available = available;
+    }
+
+    /**
+     * When set to {@code false} every open connection reports itself as invalid.
+     */
+    public void setConnectionsValid(boolean connectionsValid) {
+
+        this.connectionsValid = connectionsValid;
+    }
+
+    /**
+     * When set to {@code true} asynchronous queries stay in the running state until {@link #completeAsyncQueries()}.
+     */
+    public void setHoldAsyncQueries(boolean holdAsyncQueries) {
+
+        this.holdAsyncQueries = holdAsyncQueries;
+    }
+
+    /**
+     * Sets how long asynchronous queries run, as a function of the number of the submission starting at 1.
+     */
+    public void setAsyncLatency(LongUnaryOperator asyncLatency) {
+
+        this.asyncLatency = asyncLatency;
+    }
+
+    public void completeAsyncQueries() {
+
+        for (StubQuery query : queries.values()) {
+            query.complete();
+        }
+    }
+
+    public StubQuery getQuery(String queryId) {
+
+        return queries.get(queryId);
+    }
+
+    /**
+     * @return the number of times a query result was opened by query ID
+     */
+    public int getResultLookups() {
+
+        return resultLookups.get();
+    }
+
+    StubQuery lookupQuery(String queryId) {
+
+        resultLookups.incrementAndGet();
+        return queries.get(queryId);
+    }
+
+    public int getConnectionsOpened() {
+
+        return connectionsOpened.get();
+    }
+
+    public int getConnectionsClosed() {
+
+        return connectionsClosed.get();
+    }
+
+    public int getOpenConnections() {
+
+        return connectionsOpened.get() - connectionsClosed.get();
+    }
+
+    public int getValidations() {
+
+        return validations.get();
+    }
+
+    public int getPreparedStatements() {
+
+        return preparedStatements.get();
+    }
+
+    public int getClosedStatements() {
+
+        return closedStatements.get();
+    }
+
+    /**
+     * @return the driver properties of the most recent login
+     */
+    public Properties getLastLoginProperties() {
+
+        return lastLoginProperties;
+    }
+
+    public List<String> getExecutedStatements() {
+
+        return executedStatements;
+    }
+
+    StubConnection connect(Properties properties) throws SQLException {
+
+        if (!available) {
+            throw new SQLTransientConnectionException("Stub database is not available");
+        }
+        lastLoginProperties = properties;
+        pause(connectLatencyMillis);
+        connectionsOpened.incrementAndGet();
+        return new StubConnection(this);
+    }
+
+    void connectionClosed() {
+
+        connectionsClosed.incrementAndGet();
+    }
+
+    boolean validate() {
+
+        validations.incrementAndGet();
+        return connectionsValid;
+    }
+
+    void statementPrepared() {
+
+        preparedStatements.incrementAndGet();
+    }
+
+    void statementClosed() {
+
+        closedStatements.incrementAndGet();
+    }
+
+    StubResult execute(String sql, List<Object> parameters) throws SQLException {
+
+        executedStatements.add(sql);
+        if (sql.startsWith(CANCEL_QUERY) && parameters.size() == 1) {
+            StubQuery query = queries.get(String.valueOf(parameters.get(0)));
+            if (query != null) {
+                query.cancel();
+            }
+            return StubResult.singleValue("STATUS", Types.VARCHAR, "query [" + parameters.get(0) + "] terminated.");
+        }
+        pause(executeLatencyMillis);
+        return responder.respond(sql, parameters);
+    }
+
+    /**
+     * Executes a script of statements separated by semicolons in one request, as Snowflake does when
+     * {@code MULTI_STATEMENT_COUNT} is set. Parameters are bound to the statements in the order of their markers.
+     */
+    List<StubResult> executeScript(String sql, List<Object> parameters, int expectedCount) throws SQLException {
+
+        executedStatements.add(sql);
+        pause(executeLatencyMillis);
+        List<String> statements = new ArrayList<>();
+        for (String statement : sql.split(";")) {
+            if (!statement.trim().isEmpty()) {
+                statements.add(statement.trim());
+            }
+        }
+        if (expectedCount > 0 && statements.size() != expectedCount) {
+            throw new SQLException("Actual statement count " + statements.size() + " did not match the desired "
+                    + "statement count " + expectedCount + ".", "0A000", 8);
+        }
+        List<StubResult> results = new ArrayList<>();
+        int next = 0;
+        for (String statement : statements) {
+            int markers = (int) statement.chars().filter(c -> c == '?').count();
+            results.add(responder.respond(statement, parameters.subList(Math.min(next, parameters.size()),
+                    Math.min(next + markers, parameters.size()))));
+            next += markers;
+        }
+        return results;
+    }
+
+    StubQuery submit(String sql, List<Object> parameters) {
+
+        executedStatements.add(sql);
+        StubResult result = null;
+        SQLException error = null;
+        try {
+            result = responder.respond(sql, parameters);
+        } catch (SQLException e) {
+            error = e;
+        }
+        String queryId = String.format("01b0a1c2-0000-4000-8000-%012d", queryIds.incrementAndGet());
+        StubQuery query = new StubQuery(queryId, sql, result, error, holdAsyncQueries,
+                asyncLatency.applyAsLong(submissions.incrementAndGet()));
+        queries.put(queryId, query);
+        return query;
+    }
+
+    int[] executeBatch(String sql, List<List<Object>> parameterSets) throws SQLException {
+
+        executedStatements.add(sql);
+        pause(executeLatencyMillis);
+        int[] counts = new int[parameterSets.size()];
+        for (int i = 0; i < counts.length; i++) {
+            try {
+                counts[i] = responder.respond(sql, parameterSets.get(i)).getUpdateCount();
+            } catch (SQLException e) {
+                throw new BatchUpdateException(e.getMessage(), e.getSQLState(), e.getErrorCode(),
+                        Arrays.copyOf(counts, i), e);
+            }
+        }
+        return counts;
+    }
+
+    private static void pause(long millis) throws SQLException {
+
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting on the stub database", e);
+        }
+    }
+}
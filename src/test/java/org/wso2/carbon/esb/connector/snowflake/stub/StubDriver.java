@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver that serves connections to an in-process {@link StubDatabase}.
+ */
+public class StubDriver implements Driver {
+
+    public static final String URL_PREFIX = "jdbc:snowflake:";
+
+    private final StubDatabase database;
+
+    public StubDriver(StubDatabase database) {
+
+        this.database = database;
+    }
+
+    public StubDatabase getDatabase() {
+
+        return database;
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        return database.connect(info);
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+
+        throw new SQLFeatureNotSupportedException("Logging is not supported by the stub driver");
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import net.snowflake.client.jdbc.SnowflakePreparedStatement;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Prepared statement that records bound parameters and hands them to the {@link StubDatabase} responder.
+ */
+public class StubPreparedStatement extends StubStatement implements PreparedStatement, SnowflakePreparedStatement {
+
+    private final String sql;
+    private final List<List<Object>> batches = new ArrayList<>();
+    private Object[] parameters = new Object[0];
+
+    StubPreparedStatement(StubConnection connection, String sql) {
+
+        super(connection);
+        this.sql = sql;
+    }
+
+    public String getSql() {
+
+        return sql;
+    }
+
+    private void bind(int parameterIndex, Object value) throws SQLException {
+
+        ensureOpen();
+        if (parameterIndex < 1) {
+            throw new SQLException("Invalid parameter index " + parameterIndex);
+        }
+        if (parameterIndex > parameters.length) {
+            parameters = Arrays.copyOf(parameters, parameterIndex);
+        }
+        parameters[parameterIndex - 1] = value;
+    }
+
+    private List<Object> boundParameters() {
+
+        return new ArrayList<>(Arrays.asList(parameters));
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+
+        return runQuery(sql, boundParameters());
+    }
+
+    @Override
+    public ResultSet executeAsyncQuery() throws SQLException {
+
+        return submit(sql, boundParameters());
+    }
+
+    @Override
+    public void setBigInteger(int parameterIndex, BigInteger x) throws SQLException {
+
+        bind(parameterIndex, x == null ? null : new BigDecimal(x));
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+
+        return runUpdate(sql, boundParameters());
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+
+        return runUpdate(sql, boundParameters());
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+
+        return run(sql, boundParameters());
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+
+        ensureOpen();
+        batches.add(boundParameters());
+    }
+
+    @Override
+    public void clearBatch() {
+
+        batches.clear();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+
+        ensureOpen();
+        try {
+            return getDatabase().executeBatch(sql, batches);
+        } finally {
+            batches.clear();
+        }
+    }
+
+    @Override
+    public void clearParameters() {
+
+        Arrays.fill(parameters, null);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+
+        bind(parameterIndex, null);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+
+        bind(parameterIndex, null);
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar calendar) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar calendar) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar calendar) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+
+        bind(parameterIndex, x);
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x, int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader x, long length) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setUnicodeStream(int parameterIndex, InputStream x, int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    private static SQLFeatureNotSupportedException unsupported() {
+
+        return new SQLFeatureNotSupportedException("Not supported by the stub driver");
+    }
+}
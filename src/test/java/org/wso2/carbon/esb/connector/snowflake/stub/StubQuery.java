@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import net.snowflake.client.core.QueryStatus;
+
+import java.sql.SQLException;
+
+/**
+ * A query submitted to the {@link StubDatabase} for asynchronous execution.
+ */
+public class StubQuery {
+
+    private static final int CANCELLED_ERROR_CODE = 604;
+
+    private final String id;
+    private final String sql;
+    private final StubResult result;
+    private volatile SQLException error;
+    private volatile boolean running;
+    private final long completionTime;
+
+    StubQuery(String id, String sql, StubResult result, SQLException error, boolean running, long latencyMillis) {
+
+        this.id = id;
+        this.sql = sql;
+        this.result = result;
+        this.error = error;
+        this.running = running;
+        this.completionTime = System.currentTimeMillis() + latencyMillis;
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public String getSql() {
+
+        return sql;
+    }
+
+    public boolean isRunning() {
+
+        return running || System.currentTimeMillis() < completionTime;
+    }
+
+    public boolean isCancelled() {
+
+        return error != null && error.getErrorCode() == CANCELLED_ERROR_CODE;
+    }
+
+    void complete() {
+
+        running = false;
+    }
+
+    void cancel() {
+
+        if (isRunning()) {
+            error = new SQLException("SQL execution canceled", "57014", CANCELLED_ERROR_CODE);
+            running = false;
+        }
+    }
+
+    public QueryStatus getStatus() {
+
+        if (isCancelled()) {
+            return QueryStatus.ABORTED;
+        }
+        if (isRunning()) {
+            return QueryStatus.RUNNING;
+        }
+        return error != null ? QueryStatus.FAILED_WITH_ERROR : QueryStatus.SUCCESS;
+    }
+
+    StubResult getResult() {
+
+        return isRunning() || result == null ? StubResult.empty() : result;
+    }
+
+    String getErrorMessage() {
+
+        return error != null ? error.getMessage() : "No error reported";
+    }
+}
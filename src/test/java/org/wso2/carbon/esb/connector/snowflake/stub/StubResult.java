@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * The outcome of a statement executed against the {@link StubDatabase}: either a tabular result or an update count.
+ * Rows are produced on demand so that very large results do not have to be held in memory.
+ */
+public final class StubResult {
+
+    private final List<StubColumn> columns;
+    private final long rowCount;
+    private final IntFunction<Object[]> rows;
+    private final int updateCount;
+
+    private StubResult(List<StubColumn> columns, long rowCount, IntFunction<Object[]> rows, int updateCount) {
+
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.rows = rows;
+        this.updateCount = updateCount;
+    }
+
+    public static StubResult rows(List<StubColumn> columns, List<Object[]> rows) {
+
+        return new StubResult(columns, rows.size(), rows::get, -1);
+    }
+
+    public static StubResult rows(List<StubColumn> columns, long rowCount, IntFunction<Object[]> rowGenerator) {
+
+        return new StubResult(columns, rowCount, rowGenerator, -1);
+    }
+
+    public static StubResult singleValue(String column, int sqlType, Object value) {
+
+        return rows(Collections.singletonList(StubColumn.of(column, sqlType)),
+                Collections.singletonList(new Object[]{value}));
+    }
+
+    public static StubResult updateCount(int updateCount) {
+
+        return new StubResult(Collections.emptyList(), 0, null, updateCount);
+    }
+
+    public static StubResult empty(StubColumn... columns) {
+
+        return rows(Arrays.asList(columns), Collections.emptyList());
+    }
+
+    public boolean isResultSet() {
+
+        return rows != null;
+    }
+
+    public List<StubColumn> getColumns() {
+
+        return columns;
+    }
+
+    public long getRowCount() {
+
+        return rowCount;
+    }
+
+    public Object[] getRow(int index) {
+
+        return rows.apply(index);
+    }
+
+    public int getUpdateCount() {
+
+        return updateCount;
+    }
+}
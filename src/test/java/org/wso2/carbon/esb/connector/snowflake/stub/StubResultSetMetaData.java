@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+/**
+ * Metadata describing the columns of a {@link StubResult}.
+ */
+public class StubResultSetMetaData implements ResultSetMetaData {
+
+    private final List<StubColumn> columns;
+
+    StubResultSetMetaData(List<StubColumn> columns) {
+
+        this.columns = columns;
+    }
+
+    private StubColumn column(int column) throws SQLException {
+
+        if (column < 1 || column > columns.size()) {
+            throw new SQLException("Invalid column index " + column);
+        }
+        return columns.get(column - 1);
+    }
+
+    @Override
+    public int getColumnCount() {
+
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+
+        return column(column).getName();
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+
+        return column(column).getName();
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+
+        return column(column).getSqlType();
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+
+        return column(column).getTypeName();
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+
+        return column(column).getPrecision();
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+
+        return column(column).getScale();
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+
+        column(column);
+        return columnNullable;
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+
+        return Object.class.getName();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + type.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) {
+
+        return type.isInstance(this);
+    }
+
+    @Override
+    public String getCatalogName(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getColumnDisplaySize(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public String getSchemaName(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public String getTableName(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isAutoIncrement(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isCaseSensitive(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isCurrency(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isReadOnly(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isSearchable(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isSigned(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isWritable(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    private static SQLFeatureNotSupportedException unsupported() {
+
+        return new SQLFeatureNotSupportedException("Not supported by the stub driver");
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import net.snowflake.client.jdbc.SnowflakeStatement;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Statement that executes against the {@link StubDatabase} of its connection.
+ */
+public class StubStatement implements Statement, SnowflakeStatement {
+
+    private static final String MULTI_STATEMENT_COUNT = "MULTI_STATEMENT_COUNT";
+
+    private final StubConnection connection;
+    private final List<String> batch = new ArrayList<>();
+    private final Deque<StubResult> pendingResults = new ArrayDeque<>();
+    private int multiStatementCount = 1;
+    private StubResultSet resultSet;
+    private int updateCount = -1;
+    private int queryTimeout;
+    private int fetchSize;
+    private int maxRows;
+    private boolean poolable;
+    private volatile boolean closed;
+    private String queryId;
+
+    StubStatement(StubConnection connection) {
+
+        this.connection = connection;
+    }
+
+    StubDatabase getDatabase() {
+
+        return connection.getDatabase();
+    }
+
+    void ensureOpen() throws SQLException {
+
+        if (closed) {
+            throw new SQLException("Statement is closed");
+        }
+        connection.ensureOpen();
+    }
+
+    boolean run(String sql, List<Object> parameters) throws SQLException {
+
+        ensureOpen();
+        closeResultSet();
+        pendingResults.clear();
+        if (multiStatementCount != 1) {
+            pendingResults.addAll(getDatabase().executeScript(sql, parameters, multiStatementCount));
+            return show(pendingResults.poll());
+        }
+        return show(getDatabase().execute(sql, parameters));
+    }
+
+    private boolean show(StubResult result) {
+
+        if (result.isResultSet()) {
+            resultSet = new StubResultSet(this, result, maxRows);
+            updateCount = -1;
+            return true;
+        }
+        updateCount = result.getUpdateCount();
+        return false;
+    }
+
+    ResultSet runQuery(String sql, List<Object> parameters) throws SQLException {
+
+        if (!run(sql, parameters)) {
+            throw new SQLException("Statement did not return a result set: " + sql);
+        }
+        return resultSet;
+    }
+
+    int runUpdate(String sql, List<Object> parameters) throws SQLException {
+
+        if (run(sql, parameters)) {
+            throw new SQLException("Statement returned a result set: " + sql);
+        }
+        return updateCount;
+    }
+
+    ResultSet submit(String sql, List<Object> parameters) throws SQLException {
+
+        ensureOpen();
+        closeResultSet();
+        StubQuery query = getDatabase().submit(sql, parameters);
+        queryId = query.getId();
+        return new StubResultSet(this, query);
+    }
+
+    @Override
+    public ResultSet executeAsyncQuery(String sql) throws SQLException {
+
+        return submit(sql, Collections.emptyList());
+    }
+
+    @Override
+    public String getQueryID() {
+
+        return queryId;
+    }
+
+    @Override
+    public List<String> getBatchQueryIDs() {
+
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void setParameter(String name, Object value) {
+
+        if (MULTI_STATEMENT_COUNT.equals(name)) {
+            multiStatementCount = ((Number) value).intValue();
+        }
+    }
+
+    private void closeResultSet() {
+
+        if (resultSet != null) {
+            resultSet.close();
+            resultSet = null;
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+
+        return runQuery(sql, Collections.emptyList());
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+
+        return runUpdate(sql, Collections.emptyList());
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+
+        return executeUpdate(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+
+        return executeUpdate(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+
+        return executeUpdate(sql);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+
+        return run(sql, Collections.emptyList());
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+
+        return execute(sql);
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+
+        return execute(sql);
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+
+        return execute(sql);
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+
+        ensureOpen();
+        batch.add(sql);
+    }
+
+    @Override
+    public void clearBatch() {
+
+        batch.clear();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+
+        int[] counts = new int[batch.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = runUpdate(batch.get(i), Collections.emptyList());
+        }
+        batch.clear();
+        return counts;
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+
+        return resultSet;
+    }
+
+    @Override
+    public int getUpdateCount() {
+
+        return updateCount;
+    }
+
+    @Override
+    public boolean getMoreResults() {
+
+        closeResultSet();
+        updateCount = -1;
+        StubResult next = pendingResults.poll();
+        return next != null && show(next);
+    }
+
+    @Override
+    public boolean getMoreResults(int current) {
+
+        return getMoreResults();
+    }
+
+    @Override
+    public Connection getConnection() {
+
+        return connection;
+    }
+
+    @Override
+    public int getQueryTimeout() {
+
+        return queryTimeout;
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) {
+
+        this.queryTimeout = seconds;
+    }
+
+    @Override
+    public int getFetchSize() {
+
+        return fetchSize;
+    }
+
+    @Override
+    public void setFetchSize(int rows) {
+
+        this.fetchSize = rows;
+    }
+
+    @Override
+    public int getMaxRows() {
+
+        return maxRows;
+    }
+
+    @Override
+    public void setMaxRows(int max) {
+
+        this.maxRows = max;
+    }
+
+    @Override
+    public boolean isPoolable() {
+
+        return poolable;
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) {
+
+        this.poolable = poolable;
+    }
+
+    @Override
+    public void cancel() {
+        // statements complete synchronously, there is nothing to cancel
+    }
+
+    @Override
+    public boolean isClosed() {
+
+        return closed;
+    }
+
+    @Override
+    public void close() {
+
+        closeResultSet();
+        if (!closed) {
+            closed = true;
+            getDatabase().statementClosed();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() {
+        // no warnings are ever recorded
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + type.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) {
+
+        return type.isInstance(this);
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enabled) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchDirection(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    @Override
+    public void setMaxFieldSize(int value) throws SQLException {
+
+        throw unsupported();
+    }
+
+    private static SQLFeatureNotSupportedException unsupported() {
+
+        return new SQLFeatureNotSupportedException("Not supported by the stub driver");
+    }
+}
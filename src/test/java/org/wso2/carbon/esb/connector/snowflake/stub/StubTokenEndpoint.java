@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth token endpoint on a local port. Every successful request issues the next token of the sequence
+ * {@code token-1}, {@code token-2}, ... and tests inspect the form fields that were posted.
+ */
+public class StubTokenEndpoint implements AutoCloseable {
+
+    private static final String PATH = "/oauth2/token";
+
+    private final HttpServer server;
+    private final AtomicInteger issued = new AtomicInteger();
+    private final List<Map<String, String>> requests = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private volatile long expiresIn = 3600;
+    private volatile int status = 200;
+
+    public StubTokenEndpoint() throws IOException {
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    public String getUrl() {
+
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + PATH;
+    }
+
+    /**
+     * @param expiresIn lifetime in seconds of the issued tokens
+     */
+    public void setExpiresIn(long expiresIn) {
+
+        this.expiresIn = expiresIn;
+    }
+
+    /**
+     * @param status HTTP status of the following responses. Tokens are only issued with status 200.
+     */
+    public void setStatus(int status) {
+
+        this.status = status;
+    }
+
+    public List<Map<String, String>> getRequests() {
+
+        return requests;
+    }
+
+    public List<String> getAuthorizations() {
+
+        return authorizations;
+    }
+
+    public int getIssuedCount() {
+
+        return issued.get();
+    }
+
+    @Override
+    public void close() {
+
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        try {
+            requests.add(parseForm(exchange.getRequestBody()));
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization != null) {
+                authorizations.add(authorization);
+            }
+            String body;
+            int responseStatus = status;
+            if (responseStatus == 200) {
+                body = "{\"access_token\":\"token-" + issued.incrementAndGet()
+                        + "\",\"token_type\":\"Bearer\",\"expires_in\":" + expiresIn + "}";
+            } else {
+                body = "{\"error\":\"temporarily_unavailable\"}";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Map<String, String> parseForm(InputStream in) throws IOException {
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            content.write(buffer, 0, read);
+        }
+        Map<String, String> form = new HashMap<>();
+        for (String field : new String(content.toByteArray(), StandardCharsets.UTF_8).split("&")) {
+            int separator = field.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(field.substring(0, separator), "UTF-8"),
+                        URLDecoder.decode(field.substring(separator + 1), "UTF-8"));
+            }
+        }
+        return form;
+    }
+}
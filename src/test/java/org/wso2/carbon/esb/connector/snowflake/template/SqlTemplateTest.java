@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.esb.connector.snowflake.template;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link SqlTemplate} and {@link TemplateCache}.
+ */
+public class SqlTemplateTest {
+
+    @Test
+    public void testNamedParametersBecomePositionalMarkers() {
+
+        SqlTemplate template = SqlTemplate.compile("SELECT * FROM ORDERS WHERE ID = :orderId AND (STATUS = :status "
+                + "OR PREVIOUS_STATUS = :status)", null);
+
+        Assert.assertTrue(template.isNamed());
+        Assert.assertEquals(template.getSql(),
+                "SELECT * FROM ORDERS WHERE ID = ? AND (STATUS = ? OR PREVIOUS_STATUS = ?)");
+        Assert.assertEquals(template.getParameterNames(), Arrays.asList("orderId", "status"));
+    }
+
+    @Test
+    public void testColonsThatAreNotParametersAreKept() {
+
+        String sql = "SELECT src:customer.name::VARCHAR, \"Src\":id, arr[0]:sku, ':literal', \"col:name\" "
+                + "/* :comment */ FROM T -- :line\nWHERE X = $$ :body $$ AND Y = :y";
+        SqlTemplate template = SqlTemplate.compile(sql, null);
+
+        Assert.assertEquals(template.getParameterNames(), Collections.singletonList("y"));
+        Assert.assertEquals(template.getSql(), sql.replace(":y", "?"));
+    }
+
+    @Test
+    public void testStatementWithoutNamedParametersIsUsedAsIs() {
+
+        SqlTemplate template = SqlTemplate.compile("SELECT * FROM T WHERE ID = ?", null);
+
+        Assert.assertFalse(template.isNamed());
+        Assert.assertEquals(template.getSql(), "SELECT * FROM T WHERE ID = ?");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMixedParametersAreRejected() {
+
+        SqlTemplate.compile("SELECT * FROM T WHERE ID = ? AND STATUS = :status", null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testSourceOfUnknownParameterIsRejected() {
+
+        SqlTemplate.compile("SELECT * FROM T WHERE ID = :id", "{\"status\": \"$.status\"}");
+    }
+
+    @Test
+    public void testValuesAreResolvedFromEverySourceAndBoundWithTheirTypes() throws Exception {
+
+        SqlTemplate template = SqlTemplate.compile("INSERT INTO ORDERS VALUES (:id, :status, :amount, :day, :at, "
+                + ":open, :attributes, :note, :id)", "{\"id\": {\"source\": \"$.order.id\", \"type\": \"INTEGER\"}, "
+                + "\"status\": \"$ctx:orderStatus\", \"amount\": {\"type\": \"NUMBER\"}, "
+                + "\"day\": {\"source\": \"$.order['created day']\", \"type\": \"DATE\"}, "
+                + "\"at\": {\"source\": \"$.order.events[1]\", \"type\": \"TIMESTAMP\"}, "
+                + "\"open\": {\"source\": \"$ctx:open\", \"type\": \"BOOLEAN\"}, "
+                + "\"attributes\": {\"source\": \"$.order.attributes\", \"type\": \"VARIANT\"}, "
+                + "\"note\": \"$.order.missing\"}");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("orderStatus", "OPEN");
+        properties.put("open", "true");
+        TestContext context = new TestContext("{\"amount\": \"249.99\"}", "{\"order\": {\"id\": \"1001\", "
+                + "\"created day\": \"2024-03-01\", \"events\": [\"x\", \"2024-03-01T10:15:30\"], "
+                + "\"attributes\": {\"tier\": \"gold\"}}}", properties);
+
+        JsonArray values = template.resolve(context);
+        List<Object> bound = bind(template, values);
+
+        Assert.assertEquals(bound, Arrays.asList(1001L, "OPEN", new BigDecimal("249.99"), Date.valueOf("2024-03-01"),
+                Timestamp.valueOf("2024-03-01 10:15:30"), true, "{\"tier\":\"gold\"}", null, 1001L));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = ".*':id'.*")
+    public void testValueOfWrongTypeIsRejected() throws Exception {
+
+        SqlTemplate template = SqlTemplate.compile("SELECT * FROM T WHERE ID = :id",
+                "{\"id\": {\"type\": \"INTEGER\"}}");
+        bind(template, template.resolve(new TestContext("{\"id\": \"abc\"}", null, Collections.emptyMap())));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMissingValueIsRejected() {
+
+        SqlTemplate template = SqlTemplate.compile("SELECT * FROM T WHERE ID = :id", null);
+        template.resolve(new TestContext("{}", null, Collections.emptyMap()));
+    }
+
+    @Test
+    public void testCacheCompilesEachTemplateOnce() {
+
+        TemplateCache cache = new TemplateCache(2);
+        SqlTemplate first = cache.get("SELECT :a", null);
+
+        Assert.assertSame(cache.get("SELECT :a", null), first);
+        Assert.assertNotSame(cache.get("SELECT :a", "{\"a\": \"$.a\"}"), first);
+        cache.get("SELECT :b", null);
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 3);
+    }
+
+    private static List<Object> bind(SqlTemplate template, JsonArray values) throws Exception {
+
+        StubDatabase database = new StubDatabase();
+        AtomicReference<List<Object>> bound = new AtomicReference<>();
+        database.setResponder((sql, parameters) -> {
+            bound.set(parameters);
+            return StubResult.updateCount(1);
+        });
+        try (Connection connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/",
+                new Properties()); PreparedStatement statement = connection.prepareStatement(template.getSql())) {
+            template.bind(statement, values);
+            statement.executeUpdate();
+        }
+        return bound.get();
+    }
+
+    private static final class TestContext implements ParameterContext {
+
+        private final JsonObject values;
+        private final String payload;
+        private final Map<String, Object> properties;
+
+        TestContext(String values, String payload, Map<String, Object> properties) {
+
+            this.values = JsonParser.parseString(values).getAsJsonObject();
+            this.payload = payload;
+            this.properties = properties;
+        }
+
+        @Override
+        public JsonElement getValue(String name) {
+
+            return values.get(name);
+        }
+
+        @Override
+        public JsonElement getPayload() {
+
+            return JsonParser.parseString(payload);
+        }
+
+        @Override
+        public Object getProperty(String name) {
+
+            return properties.get(name);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link ParameterBinder}.
+ */
+public class ParameterBinderTest {
+
+    @Test
+    public void testBindsJsonValuesByPosition() throws Exception {
+
+        StubDatabase database = new StubDatabase();
+        AtomicReference<List<Object>> bound = new AtomicReference<>();
+        database.setResponder((sql, parameters) -> {
+            bound.set(parameters);
+            return StubResult.updateCount(1);
+        });
+        Connection connection = new StubDriver(database).connect(StubDriver.URL_PREFIX + "//stub/", new Properties());
+
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO T VALUES (?, ?, ?, ?, ?, ?)")) {
+            ParameterBinder.bind(statement, ParameterBinder.parseParameters(
+                    "[42, 12.5, 99999999999999999999, \"OPEN\", true, null]"));
+            statement.executeUpdate();
+        }
+        Assert.assertEquals(bound.get(), Arrays.asList(42L, new BigDecimal("12.5"),
+                new BigDecimal("99999999999999999999"), "OPEN", true, null));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRejectsNonArrayParameters() {
+
+        ParameterBinder.parseParameters("{\"id\": 1}");
+    }
+}
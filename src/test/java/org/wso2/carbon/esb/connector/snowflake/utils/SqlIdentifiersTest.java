@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SqlIdentifiersTest {
+
+    @Test
+    public void testQualifiedNames() {
+
+        Assert.assertEquals(SqlIdentifiers.requireQualifiedName("table", "SALES.PUBLIC.ORDERS"), "SALES.PUBLIC.ORDERS");
+        Assert.assertEquals(SqlIdentifiers.requireQualifiedName("table", "\"My \"\"Db\"\".x\".T"),
+                "\"My \"\"Db\"\".x\".T");
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> SqlIdentifiers.requireQualifiedName("table", "A.B.C.D"));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> SqlIdentifiers.requireQualifiedName("table", "ORDERS; DROP TABLE ORDERS"));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> SqlIdentifiers.requireQualifiedName("table", "\"ORDERS\" \""));
+    }
+
+    @Test
+    public void testStages() {
+
+        Assert.assertEquals(SqlIdentifiers.requireStage("@~"), "@~");
+        Assert.assertEquals(SqlIdentifiers.requireStage("@SALES.PUBLIC.%ORDERS"), "@SALES.PUBLIC.%ORDERS");
+        Assert.assertEquals(SqlIdentifiers.requireStage("@LOAD_STAGE/daily/2026"), "@LOAD_STAGE/daily/2026");
+        Assert.assertThrows(IllegalArgumentException.class, () -> SqlIdentifiers.requireStage("@%ORDERS FORCE"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> SqlIdentifiers.requireStage("ORDERS"));
+    }
+
+    @Test
+    public void testTableStage() {
+
+        Assert.assertEquals(SqlIdentifiers.tableStage("ORDERS"), "@%ORDERS");
+        Assert.assertEquals(SqlIdentifiers.tableStage("SALES.PUBLIC.ORDERS"), "@SALES.PUBLIC.%ORDERS");
+        Assert.assertEquals(SqlIdentifiers.tableStage("PUBLIC.\"a.b\""), "@PUBLIC.%\"a.b\"");
+    }
+
+    @Test
+    public void testOnError() {
+
+        Assert.assertEquals(SqlIdentifiers.requireOnError("continue"), "CONTINUE");
+        Assert.assertEquals(SqlIdentifiers.requireOnError("SKIP_FILE_10"), "SKIP_FILE_10");
+        Assert.assertEquals(SqlIdentifiers.requireOnError("skip_file_5%"), "SKIP_FILE_5%");
+        Assert.assertThrows(IllegalArgumentException.class, () -> SqlIdentifiers.requireOnError("SKIP_FILE_X"));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> SqlIdentifiers.requireOnError("CONTINUE PURGE = FALSE"));
+    }
+}
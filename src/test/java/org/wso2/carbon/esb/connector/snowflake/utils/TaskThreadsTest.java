@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.utils;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubResult;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link TaskThreads}, including a load test of 1,000 concurrent slow queries.
+ */
+public class TaskThreadsTest {
+
+    private static final int QUERIES = 1000;
+    private static final long QUERY_LATENCY = 200;
+
+    @Test
+    public void testPlatformThreadsAreNamedDaemonThreads() {
+
+        Thread thread = TaskThreads.factory("snowflake-test", false).newThread(() -> { });
+        Assert.assertEquals(thread.getName(), "snowflake-test-1");
+        Assert.assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    public void testVirtualThreadsWhenSupported() throws Exception {
+
+        Thread thread = TaskThreads.factory("snowflake-test", true).newThread(() -> { });
+        Assert.assertEquals(thread.getName(), "snowflake-test-1");
+        if (TaskThreads.isVirtualThreadSupported()) {
+            Assert.assertTrue((boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        } else {
+            Assert.assertTrue(thread.isDaemon());
+        }
+    }
+
+    @Test
+    public void testThousandConcurrentSlowQueriesOnVirtualThreads() throws Exception {
+
+        if (!TaskThreads.isVirtualThreadSupported()) {
+            throw new SkipException("Virtual threads need Java 21 or later");
+        }
+        runSlowQueries(TaskThreads.factory("snowflake-load", true));
+    }
+
+    @Test
+    public void testThousandConcurrentSlowQueriesOnPlatformThreads() throws Exception {
+
+        runSlowQueries(TaskThreads.factory("snowflake-load", false));
+    }
+
+    /**
+     * Runs {@value #QUERIES} queries that each take {@value #QUERY_LATENCY} ms at the same time. Run one after another
+     * they would take 200 seconds, so finishing within a few latencies shows that they all ran concurrently.
+     */
+    private static void runSlowQueries(ThreadFactory threadFactory) throws Exception {
+
+        StubDatabase database = new StubDatabase();
+        database.setExecuteLatencyMillis(QUERY_LATENCY);
+        database.setResponder((sql, parameters) -> StubResult.singleValue("ID", Types.INTEGER, 1));
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("load");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(QUERIES);
+        configuration.setMaxIdleConnections(QUERIES);
+        configuration.setMaxWaitTime(60000);
+        configuration.setEvictionInterval(0);
+        SnowflakeConnectionPool pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+        ExecutorService executor = Executors.newFixedThreadPool(QUERIES, threadFactory);
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < QUERIES; i++) {
+                results.add(executor.submit(() -> {
+                    try (PooledConnection connection = pool.borrow();
+                         PreparedStatement statement = connection.prepareStatement("SELECT 1 AS ID");
+                         ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        return resultSet.getInt(1);
+                    }
+                }));
+            }
+            int sum = 0;
+            for (Future<Integer> result : results) {
+                sum += result.get(60, TimeUnit.SECONDS);
+            }
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Assert.assertEquals(sum, QUERIES);
+            Assert.assertTrue(elapsed < 20 * QUERY_LATENCY, QUERIES + " queries took " + elapsed + " ms");
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+    }
+}
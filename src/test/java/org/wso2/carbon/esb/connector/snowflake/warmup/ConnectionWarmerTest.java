@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.esb.connector.snowflake.warmup;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.esb.connector.snowflake.connection.ConnectionConfiguration;
+import org.wso2.carbon.esb.connector.snowflake.connection.PooledConnection;
+import org.wso2.carbon.esb.connector.snowflake.connection.SnowflakeConnectionPool;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetCsvWriter;
+import org.wso2.carbon.esb.connector.snowflake.result.ResultSetJsonWriter;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDatabase;
+import org.wso2.carbon.esb.connector.snowflake.stub.StubDriver;
+
+import java.io.StringWriter;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests for {@link ConnectionWarmer}.
+ */
+public class ConnectionWarmerTest {
+
+    private static final String SELECT = "SELECT STATUS FROM ORDERS WHERE ID = ?";
+    private static final String UPDATE = "UPDATE ORDERS SET STATUS = ? WHERE ID = ?";
+
+    private StubDatabase database;
+    private SnowflakeConnectionPool pool;
+
+    @BeforeMethod
+    public void setUp() {
+
+        database = new StubDatabase();
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setConnectionName("test");
+        configuration.setAccountIdentifier("stub");
+        configuration.setUser("tester");
+        configuration.setMaxActiveConnections(8);
+        configuration.setEvictionInterval(0);
+        pool = new SnowflakeConnectionPool(configuration, new StubDriver(database));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        pool.close();
+    }
+
+    @Test
+    public void testSessionsAreOpenedInParallelWithCachedStatements() throws Exception {
+
+        database.setConnectLatencyMillis(300);
+        WarmUpReport report = new ConnectionWarmer(pool, 4, Arrays.asList(SELECT, UPDATE), 10000).warmUp();
+
+        Assert.assertFalse(report.isTimedOut());
+        Assert.assertEquals(report.getSessionsOpened(), 4);
+        Assert.assertEquals(report.getStatementsPrepared(), 8);
+        Assert.assertTrue(report.getSessionMillis() < 4 * 300, "Logins must overlap: " + report);
+        Assert.assertTrue(report.getPrimedRows() > 0);
+        Assert.assertEquals(database.getConnectionsOpened(), 4);
+        Assert.assertEquals(pool.getIdleCount(), 4);
+
+        try (PooledConnection connection = pool.borrow();
+             PreparedStatement statement = connection.prepareStatement(SELECT)) {
+            Assert.assertNotNull(statement);
+        }
+        Assert.assertEquals(database.getPreparedStatements(), 8, "Warmed statements must be served from the cache");
+        Assert.assertEquals(pool.getStatementCacheStatistics().getHitCount(), 1);
+    }
+
+    @Test
+    public void testFailedLoginsDoNotBlockTheWarmUp() {
+
+        database.setAvailable(false);
+        WarmUpReport report = new ConnectionWarmer(pool, 2, Collections.singletonList(SELECT), 10000).warmUp();
+
+        Assert.assertEquals(report.getSessionsOpened(), 0);
+        Assert.assertEquals(report.getStatementsPrepared(), 0);
+        Assert.assertFalse(report.isTimedOut());
+        Assert.assertEquals(pool.getTotalCount(), 0);
+    }
+
+    @Test
+    public void testSyntheticRowsCoverTheWriters() throws Exception {
+
+        StringWriter json = new StringWriter();
+        try (ResultSet resultSet = SyntheticResultSet.create(3)) {
+            Assert.assertEquals(ResultSetJsonWriter.write(resultSet, json), 3);
+        }
+        Assert.assertTrue(json.toString().startsWith("[{\"ID\":1,\"NAME\":\"Customer \\\"1\\\"\",\"AMOUNT\":12.34,"),
+                json.toString());
+        Assert.assertTrue(json.toString().contains("\"NOTE\":null"), json.toString());
+
+        StringWriter csv = new StringWriter();
+        try (ResultSet resultSet = SyntheticResultSet.create(3)) {
+            Assert.assertEquals(ResultSetCsvWriter.write(resultSet, csv, 0), 3);
+        }
+        Assert.assertTrue(csv.toString().startsWith("ID,NAME,AMOUNT,RATIO,ACTIVE,CREATED_AT,DUE_ON,NOTE\r\n"));
+    }
+}